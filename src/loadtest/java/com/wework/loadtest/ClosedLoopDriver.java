@@ -0,0 +1,86 @@
+package com.wework.loadtest;
+
+import com.wework.loadtest.scenario.Scenario;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 동시 접속 수를 유지하는 Closed-Loop 드라이버
+ *
+ * <p>가상 사용자(VU) N 명이 각자 "요청 → 응답 → 즉시 다음 요청"을 반복한다.
+ * <p>서버가 동시에 붙잡고 있어야 하는 커넥션 수가 N 으로 고정되므로,
+ * 플랫폼 스레드 / 가상 스레드 실행 모드의 동시 접속 처리 능력을 비교할 때 사용한다.
+ * <p>VU 는 스레드가 아니라 CompletableFuture 콜백 체인이므로 N=5000 도 클라이언트 스레드를 점유하지 않는다.
+ * */
+public class ClosedLoopDriver {
+
+    // 기록 가능한 최대 지연 (60초, 마이크로초 단위)
+    private static final long MAX_LATENCY_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final LoadClient client;
+
+    public ClosedLoopDriver(LoadClient client) {
+        this.client = client;
+    } // func end
+
+    /**
+     * 시나리오를 동시 접속 수 concurrency 로 warmup + duration 동안 실행
+     * */
+    public ScenarioResult run(Scenario scenario, int concurrency, Duration warmup, Duration duration)
+            throws InterruptedException {
+        // [1] 결과 집계 객체
+        Histogram histogram = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        LongAdder errors = new LongAdder();
+        LongAdder clientErrors = new LongAdder();
+        CountDownLatch finished = new CountDownLatch(concurrency);
+
+        // [2] 측정 구간
+        long measureFromNanos = System.nanoTime() + warmup.toNanos();
+        long endNanos = measureFromNanos + duration.toNanos();
+        Window window = new Window(measureFromNanos, endNanos, histogram, errors, clientErrors, finished);
+
+        // [3] VU 시작
+        for (int i = 0; i < concurrency; i++) {
+            loop(scenario, window);
+        }
+
+        // [4] 모든 VU 종료 대기 (마지막 요청 타임아웃 여유 포함)
+        finished.await(duration.toSeconds() + warmup.toSeconds() + 60, TimeUnit.SECONDS);
+        long elapsedNanos = System.nanoTime() - measureFromNanos;
+        return new ScenarioResult(scenario.name(), concurrency, "vus", histogram,
+                errors.sum(), clientErrors.sum(), elapsedNanos);
+    } // func end
+
+    /**
+     * VU 1명의 요청 반복 (응답 콜백에서 다음 요청을 발송)
+     * */
+    private void loop(Scenario scenario, Window window) {
+        long sentAt = System.nanoTime();
+        if (sentAt >= window.endNanos()) {
+            window.finished().countDown();
+            return;
+        }
+        // 즉시 완료되는 Future 에서 재귀 호출이 쌓이지 않도록 Async 콜백 사용
+        scenario.execute(client).whenCompleteAsync((status, ex) -> {
+            if (sentAt >= window.measureFromNanos()) {
+                long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sentAt);
+                window.histogram().recordValue(Math.min(latencyMicros, MAX_LATENCY_MICROS));
+                if (ex != null || status == null || status < 0) window.clientErrors().increment();
+                else if (status >= 400) window.errors().increment();
+            }
+            loop(scenario, window);
+        });
+    } // func end
+
+    /**
+     * 측정 구간 + 집계 객체 묶음
+     * */
+    private record Window(long measureFromNanos, long endNanos, Histogram histogram,
+                          LongAdder errors, LongAdder clientErrors, CountDownLatch finished) { }
+
+} // class end
@@ -0,0 +1,105 @@
+package com.wework.loadtest;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.cluster.SlotHash;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 부하 테스트용 Redis Cluster (-Dloadtest.redis=cluster)
+ *
+ * <p>내장 Redis 를 cluster 모드로 여러 프로세스 띄우고 slot 을 고르게 나눈 master 만으로 구성한다.
+ * <p>내장 Redis(6.2)에는 redis-cli --cluster 가 없어 CLUSTER ADDSLOTS / MEET 으로 직접 구성
+ * <P>1) 포트별 redis-server 기동 (cluster-enabled, 노드 설정 파일은 임시 디렉터리)</P>
+ * <P>2) 노드마다 slot 구간 할당</P>
+ * <P>3) 첫 노드에서 나머지 노드 MEET → 모든 노드가 cluster_state:ok 가 될 때까지 대기</P>
+ * */
+public class EmbeddedRedisCluster {
+
+    private static final String HOST = "127.0.0.1";
+    private static final long READY_TIMEOUT_MS = 30_000;
+
+    private final List<Integer> ports;
+    private final List<RedisServer> servers = new ArrayList<>();
+
+    public EmbeddedRedisCluster(List<Integer> ports) {
+        this.ports = List.copyOf(ports);
+    } // func end
+
+    public void start() throws IOException, InterruptedException {
+        // [1] 노드 기동
+        Path dir = Files.createTempDirectory("redis-cluster");
+        for (int port : ports) {
+            RedisServer server = RedisServer.newRedisServer()
+                    .port(port)
+                    .bind(HOST)
+                    .setting("cluster-enabled yes")
+                    .setting("cluster-config-file " + dir.resolve("nodes-" + port + ".conf"))
+                    .setting("cluster-node-timeout 5000")
+                    .setting("appendonly no")
+                    .build();
+            server.start();
+            servers.add(server);
+        }
+
+        RedisClient client = RedisClient.create();
+        try {
+            // [2] slot 구간 할당 (마지막 노드가 나머지)
+            int perNode = SlotHash.SLOT_COUNT / ports.size();
+            for (int i = 0; i < ports.size(); i++) {
+                int from = i * perNode;
+                int to = i == ports.size() - 1 ? SlotHash.SLOT_COUNT : from + perNode;
+                try (StatefulRedisConnection<String, String> connection = connect(client, ports.get(i))) {
+                    connection.sync().clusterAddSlots(IntStream.range(from, to).toArray());
+                }
+            }
+
+            // [3] MEET 후 모든 노드 준비 대기
+            try (StatefulRedisConnection<String, String> connection = connect(client, ports.get(0))) {
+                for (int port : ports.subList(1, ports.size())) {
+                    connection.sync().clusterMeet(HOST, port);
+                }
+            }
+            long deadline = System.currentTimeMillis() + READY_TIMEOUT_MS;
+            for (int port : ports) {
+                try (StatefulRedisConnection<String, String> connection = connect(client, port)) {
+                    RedisCommands<String, String> commands = connection.sync();
+                    while (!commands.clusterInfo().contains("cluster_state:ok")) {
+                        if (System.currentTimeMillis() > deadline) {
+                            throw new IllegalStateException("Redis cluster not ready : port=" + port);
+                        }
+                        Thread.sleep(200);
+                    }
+                }
+            }
+        } finally {
+            client.shutdown();
+        }
+        System.out.println("[LOADTEST] redis cluster ready. nodes=" + nodes());
+    } // func end
+
+    public void stop() throws IOException {
+        for (RedisServer server : servers) server.stop();
+    } // func end
+
+    /**
+     * spring.data.redis.cluster.nodes 형식 (host:port,...)
+     * */
+    public String nodes() {
+        return String.join(",", ports.stream().map(port -> HOST + ":" + port).toList());
+    } // func end
+
+    private static StatefulRedisConnection<String, String> connect(RedisClient client, int port) {
+        return client.connect(RedisURI.create(HOST, port));
+    } // func end
+
+} // class end
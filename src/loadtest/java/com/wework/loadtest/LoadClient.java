@@ -0,0 +1,335 @@
+package com.wework.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 부하 테스트용 HTTP 클라이언트
+ *
+ * <p>java.net.http.HttpClient 의 비동기 API(sendAsync)를 사용하여
+ * 요청마다 스레드를 점유하지 않고 목표 RPS 를 유지한다.
+ * */
+public class LoadClient {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+
+    /**
+     * 로그인 결과 (AccessToken + RefreshToken 쿠키 값)
+     * */
+    public record Session(String accessToken, String refreshToken) { }
+
+    public LoadClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    } // func end
+
+    /**
+     * [AUTH_010] 로그인 요청 (비동기)
+     * */
+    public CompletableFuture<HttpResponse<String>> loginAsync(String loginId, String password) {
+        String body = "{\"loginId\":\"" + loginId + "\",\"password\":\"" + password + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    } // func end
+
+    /**
+     * [AUTH_010] 로그인 (동기) – 시나리오 준비 단계에서 사용
+     * */
+    public Session login(String loginId, String password) {
+        HttpResponse<String> response = loginAsync(loginId, password).join();
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed : " + loginId + " status=" + response.statusCode());
+        }
+        String refreshToken = extractRefreshCookie(response)
+                .orElseThrow(() -> new IllegalStateException("Refresh cookie not found"));
+        return new Session(readAccessToken(response.body()), refreshToken);
+    } // func end
+
+    /**
+     * [ACCOUNT_001] 내 정보 조회
+     * */
+    public CompletableFuture<HttpResponse<String>> getMyProfileAsync(String accessToken) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/account/me"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + accessToken)
+                .GET()
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    } // func end
+
+    /**
+     * [AUTH_012] 토큰 재발급
+     * */
+    public CompletableFuture<HttpResponse<String>> reissueAsync(String refreshToken) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/token"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Cookie", "refreshToken=" + refreshToken)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    } // func end
+
+    /**
+     * [AUTH_013] 강제 로그아웃 (관리자)
+     * */
+    public CompletableFuture<HttpResponse<String>> forceLogoutAsync(String adminAccessToken, long empId) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/admin/auth/force-logout"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + adminAccessToken)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"empId\":" + empId + "}"))
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    } // func end
+
+    /**
+     * [ATTENDANCE_001] 출근
+     * */
+    public CompletableFuture<HttpResponse<String>> checkInAsync(String accessToken) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/attendance/check-in"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + accessToken)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    } // func end
+
+    /**
+     * [DOCUMENT_001] 결재 문서 작성 (동기) → docId
+     * */
+    public long createDocument(String accessToken, String title, long approverEmpId) {
+        String body = "{\"title\":\"" + title + "\",\"approverEmpIds\":[" + approverEmpId + "]}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/documents"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + accessToken)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return readLong(send(request), "docId");
+    } // func end
+
+    /**
+     * [DOCUMENT_012] 첨부파일 업로드 (동기) → attachId
+     * - 본문은 size 바이트의 의사 난수를 스트리밍으로 생성 (클라이언트도 메모리에 올리지 않음)
+     * */
+    public long uploadAttachment(String accessToken, long docId, String fileName, long size) {
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create(baseUrl + "/api/documents/" + docId + "/attachments?fileName=" + fileName))
+                .timeout(Duration.ofMinutes(5))
+                .header("Authorization", "Bearer " + accessToken)
+                .header("Content-Type", "application/octet-stream")
+                .PUT(HttpRequest.BodyPublishers.fromPublisher(
+                        HttpRequest.BodyPublishers.ofInputStream(() -> new RandomInputStream(size)), size))
+                .build();
+        return readLong(send(request), "attachId");
+    } // func end
+
+    /**
+     * [DOCUMENT_014] 첨부파일 다운로드 (본문은 받으면서 버림)
+     * */
+    public CompletableFuture<HttpResponse<Void>> downloadAttachmentAsync(String accessToken, long docId, long attachId) {
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create(baseUrl + "/api/documents/" + docId + "/attachments/" + attachId))
+                .timeout(Duration.ofMinutes(5))
+                .header("Authorization", "Bearer " + accessToken)
+                .GET()
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+    } // func end
+
+    /**
+     * [RESOURCE_004] 설비 예약
+     * */
+    public CompletableFuture<HttpResponse<String>> reserveAsync(String accessToken, long resourceId, String title,
+                                                                String startAt, String endAt) {
+        String body = "{\"resourceId\":" + resourceId + ",\"title\":\"" + title
+                + "\",\"startAt\":\"" + startAt + "\",\"endAt\":\"" + endAt + "\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/reservations"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + accessToken)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    } // func end
+
+    /**
+     * [RESOURCE_005] 예약 취소
+     * */
+    public CompletableFuture<HttpResponse<String>> cancelReservationAsync(String accessToken, long reservationId) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/reservations/" + reservationId))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + accessToken)
+                .DELETE()
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+    } // func end
+
+    /**
+     * [RESOURCE_003] 설비의 기간 내 예약 (동기) → 예약 배열
+     * */
+    public JsonNode getReservations(String accessToken, long resourceId, String from, String to) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/resources/" + resourceId
+                        + "/reservations?from=" + from + "&to=" + to))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + accessToken)
+                .GET()
+                .build();
+        try {
+            return MAPPER.readTree(send(request).body());
+        } catch (IOException e) {
+            throw new IllegalStateException("Invalid response", e);
+        }
+    } // func end
+
+    /**
+     * [AUTH_038] 활동 기록 반영 통계 (동기)
+     * */
+    public JsonNode getActivityStats(String adminAccessToken) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/admin/auth/activity/stats"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + adminAccessToken)
+                .GET()
+                .build();
+        try {
+            return MAPPER.readTree(send(request).body());
+        } catch (IOException e) {
+            throw new IllegalStateException("Invalid response", e);
+        }
+    } // func end
+
+    /**
+     * [AUTH_040] 토큰 저장소(Redis) 차단기 상태 (동기)
+     * */
+    public JsonNode getRedisStatus(String adminAccessToken) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/admin/auth/redis"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + adminAccessToken)
+                .GET()
+                .build();
+        try {
+            return MAPPER.readTree(send(request).body());
+        } catch (IOException e) {
+            throw new IllegalStateException("Invalid response", e);
+        }
+    } // func end
+
+    /**
+     * [AUTH_041] 토큰 키 이전 (관리자, 동기)
+     * */
+    public JsonNode migrateTokenKeys(String adminAccessToken) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/admin/auth/redis/migrate-keys"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + adminAccessToken)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        try {
+            return MAPPER.readTree(send(request).body());
+        } catch (IOException e) {
+            throw new IllegalStateException("Invalid response", e);
+        }
+    } // func end
+
+    /**
+     * 응답 JSON 의 숫자 필드
+     * */
+    public static long readLong(String body, String field) {
+        try {
+            return MAPPER.readTree(body).get(field).asLong();
+        } catch (IOException e) {
+            throw new IllegalStateException("Invalid response", e);
+        }
+    } // func end
+
+    /**
+     * Set-Cookie 헤더에서 refreshToken 값 추출
+     * */
+    public static Optional<String> extractRefreshCookie(HttpResponse<?> response) {
+        return response.headers().allValues("Set-Cookie").stream()
+                .filter(c -> c.startsWith("refreshToken="))
+                .map(c -> {
+                    int end = c.indexOf(';');
+                    return c.substring("refreshToken=".length(), end < 0 ? c.length() : end);
+                })
+                .filter(v -> !v.isBlank())
+                .findFirst();
+    } // func end
+
+    private HttpResponse<String> send(HttpRequest request) {
+        HttpResponse<String> response = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()).join();
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(request.uri() + " status=" + response.statusCode() + " body=" + response.body());
+        }
+        return response;
+    } // func end
+
+    private static long readLong(HttpResponse<String> response, String field) {
+        return readLong(response.body(), field);
+    } // func end
+
+    /**
+     * 지정 크기의 의사 난수 스트림 (업로드 본문 생성용)
+     * */
+    private static final class RandomInputStream extends InputStream {
+
+        private final Random random = new Random();
+        private long remaining;
+
+        RandomInputStream(long size) {
+            this.remaining = size;
+        } // func end
+
+        @Override
+        public int read() {
+            if (remaining <= 0) return -1;
+            remaining--;
+            return random.nextInt(256);
+        } // func end
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (remaining <= 0) return -1;
+            int n = (int) Math.min(len, remaining);
+            byte[] chunk = new byte[n];
+            random.nextBytes(chunk);
+            System.arraycopy(chunk, 0, b, off, n);
+            remaining -= n;
+            return n;
+        } // func end
+
+    } // class end
+
+    /**
+     * 응답 JSON 에서 accessToken 추출
+     * */
+    static String readAccessToken(String body) {
+        try {
+            JsonNode node = MAPPER.readTree(body);
+            return node.get("accessToken").asText();
+        } catch (IOException e) {
+            throw new IllegalStateException("Invalid login response", e);
+        }
+    } // func end
+
+} // class end
@@ -0,0 +1,71 @@
+package com.wework.loadtest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 record
+ *
+ * <p>모든 값은 System Property(-Dloadtest.xxx)로 전달한다.
+ * <ul>
+ *   <li><code>loadtest.baseUrl</code> – 지정 시 앱을 기동하지 않고 해당 노드에 부하 (기본: 내장 기동)</li>
+ *   <li><code>loadtest.redis</code> – embedded / local / cluster (기본: embedded)
+ *       – cluster : 내장 Redis 3개 프로세스로 master 3개 Redis Cluster 구성 (redisPort ~ redisPort+2)</li>
+ *   <li><code>loadtest.redisPort</code> – Redis 포트, cluster 는 첫 노드 포트 (기본: 16379)</li>
+ *   <li><code>loadtest.profiles</code> – 내장 기동 시 loadtest 에 추가할 프로필 (예: vthreads)</li>
+ *   <li><code>loadtest.mode</code> – open(목표 RPS) / closed(동시 접속 수 유지) (기본: open)</li>
+ *   <li><code>loadtest.scenarios</code> – 시나리오:RPS 목록, closed 모드에서는 시나리오:동시접속수 (기본: login:20,me:200,refresh:50,forceLogout:2)</li>
+ *   <li><code>loadtest.durationSeconds</code> – 측정 시간 (기본: 30)</li>
+ *   <li><code>loadtest.warmupSeconds</code> – 측정 전 워밍업 시간, 결과에서 제외 (기본: 5)</li>
+ *   <li><code>loadtest.refreshPool</code> – 토큰 재발급 시나리오에 사용할 세션 수 (기본: 200)</li>
+ *   <li><code>loadtest.downloadSizeMb</code> – 첨부 다운로드 시나리오 파일 크기 (기본: 50)</li>
+ *   <li><code>loadtest.redisOutageSlackMs</code> – Redis 장애 시나리오에서 허용하는 p99 증가폭 (기본: 1000)</li>
+ *   <li><code>loadtest.reportDir</code> – HDR Histogram(.hgrm) 출력 경로</li>
+ * </ul>
+ * */
+public record LoadTestConfig(
+        String baseUrl,                     // null 이면 내장 기동
+        String redisMode,                   // embedded / local / cluster
+        int redisPort,                      // Redis 포트
+        String profiles,                    // 추가 프로필 (콤마 구분)
+        String mode,                        // open / closed
+        Map<String, Integer> scenarioRps,   // 시나리오명 -> 목표 RPS (closed : 동시 접속 수)
+        Duration duration,                  // 측정 시간
+        Duration warmup,                    // 워밍업 시간
+        int refreshPool,                    // 재발급 세션 수
+        int downloadSizeMb,                 // 첨부 다운로드 파일 크기 (MB)
+        long redisOutageSlackMs,            // Redis 장애 구간 p99 허용 증가폭 (ms)
+        String reportDir                    // 리포트 출력 경로
+) {
+
+    /**
+     * System Property 로부터 설정 생성
+     * */
+    public static LoadTestConfig fromSystemProperties(){
+        // [1] 시나리오:RPS 파싱 (입력 순서 유지)
+        Map<String, Integer> scenarioRps = new LinkedHashMap<>();
+        String scenarios = System.getProperty("loadtest.scenarios", "login:20,me:200,refresh:50,forceLogout:2");
+        for (String token : scenarios.split(",")) {
+            String[] kv = token.trim().split(":");
+            if (kv.length != 2) throw new IllegalArgumentException("Invalid scenario spec: " + token);
+            scenarioRps.put(kv[0].trim(), Integer.parseInt(kv[1].trim()));
+        }
+        // [2] 나머지 설정
+        return new LoadTestConfig(
+                System.getProperty("loadtest.baseUrl"),
+                System.getProperty("loadtest.redis", "embedded"),
+                Integer.getInteger("loadtest.redisPort", 16379),
+                System.getProperty("loadtest.profiles", ""),
+                System.getProperty("loadtest.mode", "open"),
+                scenarioRps,
+                Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 30L)),
+                Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 5L)),
+                Integer.getInteger("loadtest.refreshPool", 200),
+                Integer.getInteger("loadtest.downloadSizeMb", 50),
+                Long.getLong("loadtest.redisOutageSlackMs", 1000L),
+                System.getProperty("loadtest.reportDir", "build/loadtest")
+        );
+    } // func end
+
+} // record end
@@ -0,0 +1,180 @@
+package com.wework.loadtest;
+
+import com.wework.AppStart;
+import com.wework.loadtest.scenario.AccountMeScenario;
+import com.wework.loadtest.scenario.ActivityCoalescingScenario;
+import com.wework.loadtest.scenario.AttachmentDownloadScenario;
+import com.wework.loadtest.scenario.CheckInScenario;
+import com.wework.loadtest.scenario.ForceLogoutScenario;
+import com.wework.loadtest.scenario.LoginStormScenario;
+import com.wework.loadtest.scenario.RedisOutageScenario;
+import com.wework.loadtest.scenario.ReservationContentionScenario;
+import com.wework.loadtest.scenario.Scenario;
+import com.wework.loadtest.scenario.TokenClusterScenario;
+import com.wework.loadtest.scenario.TokenRefreshScenario;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import redis.embedded.RedisServer;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 인증 흐름 End-to-End 부하 테스트 진입점 (gradle loadTest)
+ *
+ * <p>처리 흐름</p>
+ * <P>1) (embedded) 내장 Redis 기동 / (cluster) 내장 Redis 3개로 Redis Cluster 구성</P>
+ * <P>2) (baseUrl 미지정) loadtest 프로필로 앱 기동 – H2 인메모리 DB 에 schema.sql / data.sql 적재</P>
+ * <P>3) 시나리오별 준비(로그인 세션 생성)</P>
+ * <P>4) 모든 시나리오를 동시에 목표 RPS 로 실행</P>
+ * <P>5) 지연 백분위·처리량·에러율 출력 및 .hgrm 저장</P>
+ * <P>6) 시나리오별 결과 검증</P>
+ * */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        RedisServer redisServer = null;
+        EmbeddedRedisCluster redisCluster = null;
+        ConfigurableApplicationContext context = null;
+        try {
+            // [1] 내장 Redis 기동
+            String baseUrl = config.baseUrl();
+            if (baseUrl == null && "embedded".equals(config.redisMode())) {
+                redisServer = new RedisServer(config.redisPort());
+                redisServer.start();
+            }
+            if (baseUrl == null && "cluster".equals(config.redisMode())) {
+                redisCluster = new EmbeddedRedisCluster(List.of(
+                        config.redisPort(), config.redisPort() + 1, config.redisPort() + 2));
+                redisCluster.start();
+            }
+
+            // [2] 앱 기동 (baseUrl 지정 시 외부 노드 사용)
+            if (baseUrl == null) {
+                context = new SpringApplicationBuilder(AppStart.class)
+                        .profiles(profiles(config))
+                        .properties(redisProperties(redisCluster, config))
+                        .run(args);
+                Integer port = context.getEnvironment().getProperty("local.server.port", Integer.class);
+                baseUrl = "http://localhost:" + port;
+            }
+            System.out.println("[LOADTEST] target=" + baseUrl + " mode=" + config.mode()
+                    + " scenarios=" + config.scenarioRps() + " java=" + Runtime.version());
+
+            // [3] 시나리오 준비
+            LoadClient client = new LoadClient(baseUrl);
+            List<Scenario> scenarios = new ArrayList<>();
+            for (String name : config.scenarioRps().keySet()) {
+                Scenario scenario = createScenario(name, config, redisServer);
+                scenario.prepare(client);
+                scenarios.add(scenario);
+            }
+
+            // [4] 시나리오 동시 실행 (시나리오당 발송 스레드 1개)
+            // - open   : 목표 RPS 유지
+            // - closed : 동시 접속 수 유지
+            OpenLoopDriver openDriver = new OpenLoopDriver(client);
+            ClosedLoopDriver closedDriver = new ClosedLoopDriver(client);
+            boolean closed = "closed".equals(config.mode());
+            ExecutorService executor = Executors.newFixedThreadPool(scenarios.size());
+            List<CompletableFuture<ScenarioResult>> futures = new ArrayList<>();
+            for (Scenario scenario : scenarios) {
+                int target = config.scenarioRps().get(scenario.name());
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    if (!closed) return openDriver.run(scenario, target, config.warmup(), config.duration());
+                    try {
+                        return closedDriver.run(scenario, target, config.warmup(), config.duration());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException(e);
+                    }
+                }, executor));
+            }
+            List<ScenarioResult> results = futures.stream().map(CompletableFuture::join).toList();
+            executor.shutdown();
+
+            // [5] 리포트 출력
+            report(results, Path.of(config.reportDir()));
+
+            // [6] 결과 검증
+            for (Scenario scenario : scenarios) {
+                scenario.verify(client);
+            }
+        } finally {
+            if (context != null) context.close();
+            if (redisServer != null) redisServer.stop();
+            if (redisCluster != null) redisCluster.stop();
+        }
+    } // func end
+
+    /**
+     * loadtest + 추가 프로필 (예: vthreads)
+     * */
+    private static String[] profiles(LoadTestConfig config) {
+        List<String> profiles = new ArrayList<>(List.of("loadtest"));
+        for (String p : config.profiles().split(",")) {
+            if (!p.isBlank()) profiles.add(p.trim());
+        }
+        return profiles.toArray(String[]::new);
+    } // func end
+
+    /**
+     * cluster : 시드 노드 목록 / 그 외 : 단일 Redis 포트
+     * */
+    private static String[] redisProperties(EmbeddedRedisCluster redisCluster, LoadTestConfig config) {
+        if (redisCluster == null) return new String[]{"server.port=0", "spring.data.redis.port=" + config.redisPort()};
+        return new String[]{"server.port=0", "spring.data.redis.cluster.nodes=" + redisCluster.nodes()};
+    } // func end
+
+    /**
+     * 시나리오 이름 → 구현체
+     * */
+    private static Scenario createScenario(String name, LoadTestConfig config, RedisServer redisServer) {
+        return switch (name) {
+            case "login" -> new LoginStormScenario();
+            case "me" -> new AccountMeScenario();
+            case "refresh" -> new TokenRefreshScenario(config.refreshPool());
+            case "forceLogout" -> new ForceLogoutScenario();
+            case "checkIn" -> new CheckInScenario();
+            case "download" -> new AttachmentDownloadScenario(config.downloadSizeMb());
+            case "reserve" -> new ReservationContentionScenario();
+            case "activity" -> new ActivityCoalescingScenario();
+            case "redisOutage" -> new RedisOutageScenario(redisServer, config.warmup(), config.duration(),
+                    config.redisOutageSlackMs());
+            case "tokenCluster" -> new TokenClusterScenario(config.redisPort());
+            default -> throw new IllegalArgumentException("Unknown scenario: " + name
+                    + " (login, me, refresh, forceLogout, checkIn, download, reserve, activity, redisOutage, tokenCluster)");
+        };
+    } // func end
+
+    /**
+     * 콘솔 요약 + 시나리오별 .hgrm 파일 저장
+     * */
+    private static void report(List<ScenarioResult> results, Path reportDir) throws Exception {
+        System.out.println();
+        System.out.println("=============================== LOAD TEST REPORT ===============================");
+        long total = 0;
+        double throughput = 0;
+        for (ScenarioResult result : results) {
+            System.out.println(result.summaryLine());
+            Path file = result.writeHgrm(reportDir);
+            System.out.println("             histogram -> " + file);
+            total += result.total();
+            throughput += result.throughput();
+        }
+        System.out.printf("%-12s total=%d  throughput=%.1f rps%n", "ALL", total, throughput);
+        // 플랫폼 스레드 수 (가상 스레드는 포함되지 않음, 내장 기동 시 앱 + 부하 클라이언트 합계)
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        System.out.printf("%-12s live=%d  peak=%d%n", "THREADS", threads.getThreadCount(), threads.getPeakThreadCount());
+        System.out.println("================================================================================");
+    } // func end
+
+} // class end
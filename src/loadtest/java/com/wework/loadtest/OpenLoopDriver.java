@@ -0,0 +1,82 @@
+package com.wework.loadtest;
+
+import com.wework.loadtest.scenario.Scenario;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 목표 RPS 로 요청을 발생시키는 Open-Loop 드라이버
+ *
+ * <p>응답을 기다리지 않고 "예정 시각"마다 요청을 보내므로, 서버가 느려져도 부하가 줄지 않는다.
+ * <p>지연시간은 실제 전송 시각이 아니라 예정 시각부터 측정하여
+ * Coordinated Omission(느린 응답이 측정에서 빠지는 현상)을 방지한다.
+ * */
+public class OpenLoopDriver {
+
+    // 기록 가능한 최대 지연 (60초, 마이크로초 단위)
+    private static final long MAX_LATENCY_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final LoadClient client;
+
+    public OpenLoopDriver(LoadClient client) {
+        this.client = client;
+    } // func end
+
+    /**
+     * 시나리오를 warmup + duration 동안 목표 RPS 로 실행
+     * - warmup 구간의 결과는 기록하지 않는다
+     * */
+    public ScenarioResult run(Scenario scenario, int rps, Duration warmup, Duration duration) {
+        // [1] 결과 집계 객체
+        Histogram histogram = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        LongAdder errors = new LongAdder();
+        LongAdder clientErrors = new LongAdder();
+        AtomicLong inFlight = new AtomicLong();
+
+        // [2] 예정 시각 계산용 값
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rps;
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + warmup.toNanos();
+        long endNanos = measureFromNanos + duration.toNanos();
+
+        // [3] 예정 시각마다 요청 발송
+        for (long i = 0; ; i++) {
+            long intended = startNanos + i * intervalNanos;
+            if (intended >= endNanos) break;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+
+            boolean measured = intended >= measureFromNanos;
+            inFlight.incrementAndGet();
+            scenario.execute(client).whenComplete((status, ex) -> {
+                try {
+                    if (!measured) return;
+                    // [4] 예정 시각 기준 지연 기록
+                    long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended);
+                    histogram.recordValue(Math.min(latencyMicros, MAX_LATENCY_MICROS));
+                    // [5] 에러 집계 (HTTP 4xx/5xx, 클라이언트 측 실패 구분)
+                    if (ex != null || status == null || status < 0) clientErrors.increment();
+                    else if (status >= 400) errors.increment();
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+
+        // [6] 진행 중 요청 완료 대기 (요청 타임아웃 이상은 기다리지 않음) 후 결과 반환
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        long elapsedNanos = System.nanoTime() - measureFromNanos;
+        return new ScenarioResult(scenario.name(), rps, "rps", histogram,
+                errors.sum(), clientErrors.sum(), elapsedNanos);
+    } // func end
+
+} // class end
@@ -0,0 +1,75 @@
+package com.wework.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 시나리오 1개의 측정 결과
+ *
+ * @param target      목표 부하 (open : RPS / closed : 동시 접속 수)
+ * @param unit        목표 부하 단위 (rps / vus)
+ * @param histogram   지연시간 분포 (마이크로초)
+ * @param errors      HTTP 4xx/5xx 응답 수
+ * @param clientErrors 타임아웃·연결 실패 등 클라이언트 측 실패 수
+ * @param elapsedNanos 측정 구간 경과 시간 (진행 중 요청 완료까지 포함)
+ * */
+public record ScenarioResult(
+        String name,
+        int target,
+        String unit,
+        Histogram histogram,
+        long errors,
+        long clientErrors,
+        long elapsedNanos
+) {
+
+    // 전체 요청 수
+    public long total() {
+        return histogram.getTotalCount();
+    } // func end
+
+    // 처리량 (req/s)
+    public double throughput() {
+        return elapsedNanos <= 0 ? 0 : total() / (elapsedNanos / 1_000_000_000.0);
+    } // func end
+
+    // 에러율 (%)
+    public double errorRate() {
+        return total() == 0 ? 0 : (errors + clientErrors) * 100.0 / total();
+    } // func end
+
+    // 백분위 지연 (ms)
+    public double percentileMillis(double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    } // func end
+
+    /**
+     * 요약 1줄 출력
+     * */
+    public String summaryLine() {
+        return String.format("%-12s target=%5d %s  actual=%8.1f rps  total=%8d  err=%6.2f%% (http=%d, client=%d)"
+                        + "  p50=%8.2f  p90=%8.2f  p99=%8.2f  p99.9=%8.2f  max=%8.2f ms",
+                name, target, unit, throughput(), total(), errorRate(), errors, clientErrors,
+                percentileMillis(50), percentileMillis(90), percentileMillis(99), percentileMillis(99.9),
+                histogram.getMaxValue() / 1000.0);
+    } // func end
+
+    /**
+     * HDR Histogram 백분위 분포를 {reportDir}/{name}.hgrm 으로 저장
+     * - HdrHistogram Plotter 등에서 그대로 시각화 가능 (단위: ms)
+     * */
+    public Path writeHgrm(Path reportDir) throws IOException {
+        Files.createDirectories(reportDir);
+        Path file = reportDir.resolve(name + ".hgrm");
+        try (PrintStream out = new PrintStream(new FileOutputStream(file.toFile()))) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+        return file;
+    } // func end
+
+} // record end
@@ -0,0 +1,309 @@
+package com.wework.loadtest;
+
+import redis.embedded.RedisServer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.ZipFile;
+
+/**
+ * 기동 시간 / 첫 요청 지연 측정 진입점 (gradle startupBenchmark)
+ *
+ * <p>배포 jar(bootJar)를 추출한 형태 그대로 별도 JVM 으로 기동하여 측정한다.
+ * DB 는 H2(loadtest 프로필 설정), Redis 는 내장 Redis 를 사용한다.
+ *
+ * <p>처리 흐름</p>
+ * <P>1) bootJar 추출 (java -Djarmode=tools extract) – CDS 는 jar 로만 구성된 classpath 가 필요</P>
+ * <P>2) CDS 변형마다 학습 실행 1회 (-XX:ArchiveClassesAtExit + spring.context.exit=onRefresh)</P>
+ * <P>3) 변형을 번갈아 가며 startup.runs 회 기동 → "Started" / readiness UP(워밍업 완료)까지 시간, 첫 로그인 / 첫 내 정보 조회 지연 측정</P>
+ * <P>4) 변형별 중앙값 / 최솟값 출력 및 report.txt 저장</P>
+ *
+ * <p>설정 (-Dstartup.xxx)
+ * <ul>
+ *   <li><code>startup.runs</code> – 변형별 기동 횟수 (기본: 5)</li>
+ *   <li><code>startup.port</code> – 측정 대상 포트 (기본: 18090)</li>
+ *   <li><code>startup.redisPort</code> – 내장 Redis 포트 (기본: 16389)</li>
+ *   <li><code>startup.jvmArgs</code> – 모든 변형에 공통으로 줄 JVM 옵션 (예: -Xmx1g)</li>
+ * </ul>
+ * AOT 변형은 jar 에 AOT 처리 결과가 있을 때만 측정한다 (gradle startupBenchmark -Paot).
+ * */
+public class StartupBenchmark {
+
+    private static final Pattern STARTED = Pattern.compile("Started AppStart in ([\\d.]+) seconds \\(process running for ([\\d.]+)\\)");
+    private static final String MAIN_CLASS = "com.wework.AppStart";
+    private static final Duration START_TIMEOUT = Duration.ofMinutes(3);
+
+    /**
+     * 측정 변형
+     * @param name     리포트 이름
+     * @param profiles loadtest 에 추가할 프로필
+     * @param jvmArgs  JVM 옵션
+     * @param archive  CDS 아카이브 (null : CDS 미사용)
+     * */
+    private record Variant(String name, String profiles, List<String> jvmArgs, Path archive) { } // record end
+
+    /**
+     * 기동 1회 측정값 (ms)
+     * */
+    private record Sample(double wallMs, double jvmMs, double readyMs, double firstLoginMs, double firstMeMs) { } // record end
+
+    public static void main(String[] args) throws Exception {
+        int runs = Integer.getInteger("startup.runs", 5);
+        int port = Integer.getInteger("startup.port", 18090);
+        int redisPort = Integer.getInteger("startup.redisPort", 16389);
+        List<String> commonJvmArgs = split(System.getProperty("startup.jvmArgs", ""));
+        Path bootJar = Path.of(require("startup.jar"));
+        Path workDir = Path.of(require("startup.workDir"));
+        Path config = Path.of(require("startup.config")).toAbsolutePath();
+        String extraClasspath = System.getProperty("startup.extraClasspath", "");
+
+        RedisServer redisServer = new RedisServer(redisPort);
+        redisServer.start();
+        try {
+            // [1] jar 추출
+            Path appDir = workDir.resolve("app");
+            deleteRecursively(appDir);
+            Files.createDirectories(workDir);
+            exec(List.of(java(), "-Djarmode=tools", "-jar", bootJar.toString(), "extract", "--destination", appDir.toString()));
+            Path appJar;
+            try (Stream<Path> files = Files.list(appDir)) {
+                appJar = files.filter(p -> p.toString().endsWith(".jar")).findFirst()
+                        .orElseThrow(() -> new IllegalStateException("Extracted jar not found in " + appDir));
+            }
+            String classpath = extraClasspath.isBlank() ? appJar.toString() : appJar + java.io.File.pathSeparator + extraClasspath;
+            boolean aot = hasAotClasses(bootJar);
+
+            // [2] 변형 구성
+            List<Variant> variants = new ArrayList<>();
+            variants.add(new Variant("default", "", List.of(), null));
+            variants.add(new Variant("faststart", "faststart", List.of(), null));
+            variants.add(new Variant("faststart-nowarmup", "faststart", List.of("-Dwarmup.enabled=false"), null));
+            variants.add(new Variant("faststart+cds", "faststart", List.of(), workDir.resolve("faststart.jsa")));
+            if (aot) {
+                variants.add(new Variant("faststart+cds+aot", "faststart",
+                        List.of("-Dspring.aot.enabled=true"), workDir.resolve("faststart-aot.jsa")));
+            }
+            System.out.println("[STARTUP] jar=" + bootJar.getFileName() + " aot=" + aot + " runs=" + runs
+                    + " java=" + Runtime.version());
+
+            // [3] CDS 학습 실행
+            for (Variant variant : variants) {
+                if (variant.archive() == null) continue;
+                Files.deleteIfExists(variant.archive());
+                List<String> jvmArgs = new ArrayList<>(commonJvmArgs);
+                jvmArgs.addAll(variant.jvmArgs());
+                jvmArgs.add("-XX:ArchiveClassesAtExit=" + variant.archive());
+                jvmArgs.add("-Dspring.context.exit=onRefresh");
+                List<String> command = command(jvmArgs, classpath, variant.profiles(), config, port, redisPort, workDir.resolve("train"));
+                exec(command);
+                if (!Files.exists(variant.archive())) throw new IllegalStateException("CDS archive not created : " + variant.archive());
+                System.out.printf("[STARTUP] trained %s (%d KB)%n", variant.archive().getFileName(), Files.size(variant.archive()) / 1024);
+            }
+
+            // [4] 측정 (변형을 번갈아 실행하여 시간대별 편차를 나눠 가짐)
+            Map<Variant, List<Sample>> samples = new LinkedHashMap<>();
+            for (Variant variant : variants) samples.put(variant, new ArrayList<>());
+            for (int i = 0; i < runs; i++) {
+                for (Variant variant : variants) {
+                    List<String> jvmArgs = new ArrayList<>(commonJvmArgs);
+                    jvmArgs.addAll(variant.jvmArgs());
+                    if (variant.archive() != null) {
+                        jvmArgs.add("-XX:SharedArchiveFile=" + variant.archive());
+                        jvmArgs.add("-Xlog:cds=off");
+                    }
+                    Sample sample = measure(command(jvmArgs, classpath, variant.profiles(), config, port, redisPort,
+                            workDir.resolve("run")), port);
+                    samples.get(variant).add(sample);
+                    System.out.printf("[STARTUP] #%d %-19s started=%7.0f ms  jvm=%7.0f ms  ready=%7.0f ms  login=%6.0f ms  me=%6.0f ms%n",
+                            i + 1, variant.name(), sample.wallMs(), sample.jvmMs(), sample.readyMs(),
+                            sample.firstLoginMs(), sample.firstMeMs());
+                }
+            }
+
+            // [5] 리포트
+            report(samples, workDir.resolve("report.txt"));
+        } finally {
+            redisServer.stop();
+        }
+    } // func end
+
+    /**
+     * 기동 → "Started" 대기 → readiness UP 대기 → 첫 요청 측정 → 종료
+     * */
+    private static Sample measure(List<String> command, int port) throws Exception {
+        long t0 = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        Deque<String> tail = new ArrayDeque<>();
+        CompletableFuture<Double> started = new CompletableFuture<>();
+        Thread reader = new Thread(() -> {
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    synchronized (tail) {
+                        tail.addLast(line);
+                        if (tail.size() > 40) tail.removeFirst();
+                    }
+                    Matcher m = STARTED.matcher(line);
+                    if (m.find()) started.complete(Double.parseDouble(m.group(2)) * 1000);
+                }
+            } catch (IOException ignored) {
+                // 프로세스 종료
+            }
+            started.complete(null);
+        }, "startup-log");
+        reader.setDaemon(true);
+        reader.start();
+
+        try {
+            Double jvmMs = started.get(START_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+            double wallMs = (System.nanoTime() - t0) / 1e6;
+            if (jvmMs == null) {
+                synchronized (tail) {
+                    throw new IllegalStateException("Application failed to start:\n" + String.join("\n", tail));
+                }
+            }
+
+            // readiness UP 대기 (기동 워밍업이 끝나야 UP)
+            HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+            String base = "http://localhost:" + port;
+            HttpRequest readiness = HttpRequest.newBuilder(URI.create(base + "/actuator/health/readiness"))
+                    .timeout(Duration.ofSeconds(5))
+                    .GET()
+                    .build();
+            long readyDeadline = System.nanoTime() + START_TIMEOUT.toNanos();
+            while (client.send(readiness, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                if (System.nanoTime() - readyDeadline > 0) throw new IllegalStateException("Readiness not UP");
+                Thread.sleep(50);
+            }
+            double readyMs = (System.nanoTime() - t0) / 1e6;
+
+            // 첫 요청 (로그인 → 내 정보)
+            long t1 = System.nanoTime();
+            HttpResponse<String> login = client.send(HttpRequest.newBuilder(URI.create(base + "/api/auth/login"))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"loginId\":\"admin\",\"password\":\"1234!\"}"))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            double loginMs = (System.nanoTime() - t1) / 1e6;
+            if (login.statusCode() != 200) throw new IllegalStateException("First login failed : " + login.statusCode());
+            String token = LoadClient.readAccessToken(login.body());
+
+            long t2 = System.nanoTime();
+            HttpResponse<String> me = client.send(HttpRequest.newBuilder(URI.create(base + "/api/account/me"))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Authorization", "Bearer " + token)
+                    .GET()
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            double meMs = (System.nanoTime() - t2) / 1e6;
+            if (me.statusCode() != 200) throw new IllegalStateException("First /me failed : " + me.statusCode());
+
+            return new Sample(wallMs, jvmMs, readyMs, loginMs, meMs);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) process.destroyForcibly().waitFor();
+        }
+    } // func end
+
+    /**
+     * 앱 기동 명령
+     * - 실행마다 빈 색인/첨부 디렉터리 사용 (H2 는 매번 새로 적재됨)
+     * */
+    private static List<String> command(List<String> jvmArgs, String classpath, String profiles, Path config,
+                                        int port, int redisPort, Path dataDir) throws IOException {
+        deleteRecursively(dataDir);
+        List<String> command = new ArrayList<>();
+        command.add(java());
+        command.addAll(jvmArgs);
+        command.addAll(List.of("-cp", classpath, MAIN_CLASS,
+                "--spring.profiles.active=" + (profiles.isBlank() ? "loadtest" : "loadtest," + profiles),
+                "--spring.config.additional-location=file:" + config,
+                "--server.port=" + port,
+                "--spring.data.redis.port=" + redisPort,
+                "--search.index-dir=" + dataDir.resolve("search-index"),
+                "--attachment.storage-dir=" + dataDir.resolve("attachments"),
+                "--logging.level.com.wework.AppStart=INFO"));
+        return command;
+    } // func end
+
+    private static void report(Map<Variant, List<Sample>> samples, Path file) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("===================================== STARTUP BENCHMARK ======================================");
+        lines.add(String.format("%-19s %14s %14s %14s %14s %14s", "variant", "started(ms)", "jvm(ms)", "ready(ms)", "1st login", "1st me"));
+        lines.add(String.format("%-19s %14s %14s %14s %14s %14s", "", "p50 / min", "p50 / min", "p50 / min", "p50 / min", "p50 / min"));
+        for (Map.Entry<Variant, List<Sample>> entry : samples.entrySet()) {
+            List<Sample> list = entry.getValue();
+            lines.add(String.format("%-19s %14s %14s %14s %14s %14s", entry.getKey().name(),
+                    stat(list, Sample::wallMs), stat(list, Sample::jvmMs), stat(list, Sample::readyMs),
+                    stat(list, Sample::firstLoginMs), stat(list, Sample::firstMeMs)));
+        }
+        lines.add("==============================================================================================");
+        lines.forEach(System.out::println);
+        Files.write(file, lines);
+        System.out.println("[STARTUP] report -> " + file);
+    } // func end
+
+    private static String stat(List<Sample> list, java.util.function.ToDoubleFunction<Sample> metric) {
+        double[] values = list.stream().mapToDouble(metric).sorted().toArray();
+        double median = values.length % 2 == 1 ? values[values.length / 2]
+                : (values[values.length / 2 - 1] + values[values.length / 2]) / 2;
+        return String.format("%.0f / %.0f", median, values[0]);
+    } // func end
+
+    private static boolean hasAotClasses(Path bootJar) throws IOException {
+        try (ZipFile zip = new ZipFile(bootJar.toFile())) {
+            return zip.getEntry("BOOT-INF/classes/com/wework/AppStart__ApplicationContextInitializer.class") != null;
+        }
+    } // func end
+
+    private static void exec(List<String> command) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("Command failed : " + String.join(" ", command) + "\n" + output);
+        }
+    } // func end
+
+    private static String java() {
+        return ProcessHandle.current().info().command().orElse("java");
+    } // func end
+
+    private static String require(String key) {
+        String value = System.getProperty(key);
+        if (value == null || value.isBlank()) throw new IllegalArgumentException("Missing system property : " + key);
+        return value;
+    } // func end
+
+    private static List<String> split(String value) {
+        return Arrays.stream(value.trim().split("\\s+")).filter(s -> !s.isBlank()).toList();
+    } // func end
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) return;
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path p : paths.sorted(Comparator.reverseOrder()).toList()) Files.delete(p);
+        }
+    } // func end
+
+} // class end
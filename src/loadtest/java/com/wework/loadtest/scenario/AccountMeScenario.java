@@ -0,0 +1,32 @@
+package com.wework.loadtest.scenario;
+
+import com.wework.loadtest.LoadClient;
+
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * [ACCOUNT_001] 내 정보 조회 정상 트래픽 시나리오
+ * - 화면 이동마다 호출되는 API (JWT 필터 + 블랙리스트 조회 + 사용자 로딩 + 조회)
+ * */
+public class AccountMeScenario implements Scenario {
+
+    private String accessToken;
+
+    @Override
+    public String name() {
+        return "me";
+    } // func end
+
+    @Override
+    public void prepare(LoadClient client) {
+        accessToken = client.login("admin", "1234!").accessToken();
+    } // func end
+
+    @Override
+    public CompletableFuture<Integer> execute(LoadClient client) {
+        return client.getMyProfileAsync(accessToken)
+                .thenApply(HttpResponse::statusCode);
+    } // func end
+
+} // class end
@@ -0,0 +1,95 @@
+package com.wework.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.wework.loadtest.LoadClient;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [AUTH_038] 마지막 활동 시각 기록 병합 시나리오 (DB 쓰기량이 요청 수와 무관한지 검증)
+ *
+ * <p>세션 2개로 내 정보 조회를 반복하고, 측정 전후 활동 기록 통계를 비교한다.
+ * <ul>
+ *   <li>UPDATE 문 수 ≤ 반영 주기 수 (세션 수가 500 이하이므로 주기당 1문장)</li>
+ *   <li>반영 행 수 ≤ 세션 수 × 반영 주기 수 (요청 수와 무관)</li>
+ * </ul>
+ * 예) -Dloadtest.scenarios=activity:2000
+ * */
+public class ActivityCoalescingScenario implements Scenario {
+
+    private static final List<String[]> USERS = List.of(
+            new String[]{"admin", "1234!"},
+            new String[]{"mgr_hr", "testmgr!"});
+
+    // loadtest 프로필의 activity.flush.interval-ms 보다 길게
+    private static final long FLUSH_WAIT_MS = 2_500;
+
+    // 인증을 통과한 요청 수
+    private final LongAdder requests = new LongAdder();
+    private String[] accessTokens;
+    private String adminToken;
+    private JsonNode before;
+
+    @Override
+    public String name() {
+        return "activity";
+    } // func end
+
+    @Override
+    public void prepare(LoadClient client) {
+        accessTokens = USERS.stream().map(u -> client.login(u[0], u[1]).accessToken()).toArray(String[]::new);
+        adminToken = accessTokens[0];
+        before = client.getActivityStats(adminToken);
+    } // func end
+
+    @Override
+    public CompletableFuture<Integer> execute(LoadClient client) {
+        String token = accessTokens[ThreadLocalRandom.current().nextInt(accessTokens.length)];
+        return client.getMyProfileAsync(token).thenApply(response -> {
+            if (response.statusCode() == 200) requests.increment();
+            return response.statusCode();
+        });
+    } // func end
+
+    @Override
+    public void verify(LoadClient client) {
+        // [1] 남은 버퍼가 반영될 때까지 대기
+        try {
+            Thread.sleep(FLUSH_WAIT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+
+        // [2] 측정 전후 비교 (통계 조회 요청 자체도 1건씩 기록됨)
+        JsonNode after = client.getActivityStats(adminToken);
+        long recorded = delta(after, "recorded");
+        long flushes = delta(after, "flushes");
+        long statements = delta(after, "statements");
+        long rows = delta(after, "rowsWritten");
+        long sent = requests.sum();
+        System.out.printf("[LOADTEST] activity : requests=%d recorded=%d flushes=%d statements=%d rows=%d"
+                        + " pending=%d (requests/row=%.1f)%n",
+                sent, recorded, flushes, statements, rows, after.get("pending").asLong(),
+                rows == 0 ? 0.0 : (double) sent / rows);
+
+        if (recorded < sent) {
+            throw new IllegalStateException("Activity not recorded : recorded=" + recorded + " requests=" + sent);
+        }
+        if (statements > flushes) {
+            throw new IllegalStateException("More than one UPDATE per flush : statements=" + statements
+                    + " flushes=" + flushes);
+        }
+        if (rows > (long) accessTokens.length * flushes) {
+            throw new IllegalStateException("Rows written grow with requests : rows=" + rows + " flushes=" + flushes);
+        }
+    } // func end
+
+    private long delta(JsonNode after, String field) {
+        return after.get(field).asLong() - before.get(field).asLong();
+    } // func end
+
+} // class end
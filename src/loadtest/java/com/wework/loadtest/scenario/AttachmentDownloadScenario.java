@@ -0,0 +1,43 @@
+package com.wework.loadtest.scenario;
+
+import com.wework.loadtest.LoadClient;
+
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * [DOCUMENT_014] 대용량 첨부파일 동시 다운로드 시나리오
+ * - 준비 단계에서 sizeMb 크기 파일 1개를 업로드하고, 모든 요청이 같은 파일을 받는다
+ * - closed 모드(동시 다운로드 수 고정)로 실행하며, 서버 힙이 파일 크기 × 동시 수만큼 늘지 않는지 함께 확인
+ *   예) -Dloadtest.mode=closed -Dloadtest.scenarios=download:32 -PloadtestJvmArgs="-Xmx512m"
+ * */
+public class AttachmentDownloadScenario implements Scenario {
+
+    private final int sizeMb;
+    private String accessToken;
+    private long docId;
+    private long attachId;
+
+    public AttachmentDownloadScenario(int sizeMb) {
+        this.sizeMb = sizeMb;
+    } // func end
+
+    @Override
+    public String name() {
+        return "download";
+    } // func end
+
+    @Override
+    public void prepare(LoadClient client) {
+        accessToken = client.login("admin", "1234!").accessToken();
+        docId = client.createDocument(accessToken, "loadtest-attachment", 100002L);
+        attachId = client.uploadAttachment(accessToken, docId, "loadtest-" + sizeMb + "mb.bin", sizeMb * 1024L * 1024L);
+    } // func end
+
+    @Override
+    public CompletableFuture<Integer> execute(LoadClient client) {
+        return client.downloadAttachmentAsync(accessToken, docId, attachId)
+                .thenApply(HttpResponse::statusCode);
+    } // func end
+
+} // class end
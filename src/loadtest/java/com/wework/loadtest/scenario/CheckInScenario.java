@@ -0,0 +1,33 @@
+package com.wework.loadtest.scenario;
+
+import com.wework.loadtest.LoadClient;
+
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * [ATTENDANCE_001] 출근 폭주 시나리오
+ * - 08:50~09:10 출근 집중 시간대의 응답 경로(JWT 필터 + Redis 중복 제거/journal 적재) 측정
+ * - 같은 계정으로 반복하므로 첫 요청 이후는 중복 응답이지만, 처리 경로(Lua 1회)는 동일
+ * */
+public class CheckInScenario implements Scenario {
+
+    private String accessToken;
+
+    @Override
+    public String name() {
+        return "checkIn";
+    } // func end
+
+    @Override
+    public void prepare(LoadClient client) {
+        accessToken = client.login("admin", "1234!").accessToken();
+    } // func end
+
+    @Override
+    public CompletableFuture<Integer> execute(LoadClient client) {
+        return client.checkInAsync(accessToken)
+                .thenApply(HttpResponse::statusCode);
+    } // func end
+
+} // class end
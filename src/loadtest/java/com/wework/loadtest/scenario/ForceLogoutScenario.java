@@ -0,0 +1,34 @@
+package com.wework.loadtest.scenario;
+
+import com.wework.loadtest.LoadClient;
+
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * [AUTH_013] 관리자 강제 로그아웃 시나리오
+ * - 로그인 폭주(mgr_hr 포함)와 동시에 같은 대상의 세션을 반복 폐기
+ * */
+public class ForceLogoutScenario implements Scenario {
+
+    private static final long TARGET_EMP_ID = 100002L;     // mgr_hr
+
+    private String adminAccessToken;
+
+    @Override
+    public String name() {
+        return "forceLogout";
+    } // func end
+
+    @Override
+    public void prepare(LoadClient client) {
+        adminAccessToken = client.login("admin", "1234!").accessToken();
+    } // func end
+
+    @Override
+    public CompletableFuture<Integer> execute(LoadClient client) {
+        return client.forceLogoutAsync(adminAccessToken, TARGET_EMP_ID)
+                .thenApply(HttpResponse::statusCode);
+    } // func end
+
+} // class end
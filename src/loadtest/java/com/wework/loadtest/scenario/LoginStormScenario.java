@@ -0,0 +1,35 @@
+package com.wework.loadtest.scenario;
+
+import com.wework.loadtest.LoadClient;
+
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * [AUTH_010] 로그인 폭주 시나리오
+ * - 출근 시간대처럼 로그인이 몰리는 상황 재현 (BCrypt 검증 + Redis 저장)
+ * - data.sql 의 평문 비밀번호가 확인된 계정을 번갈아 사용
+ * */
+public class LoginStormScenario implements Scenario {
+
+    private static final String[][] ACCOUNTS = {
+            {"admin", "1234!"},
+            {"mgr_hr", "testmgr!"}
+    };
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public String name() {
+        return "login";
+    } // func end
+
+    @Override
+    public CompletableFuture<Integer> execute(LoadClient client) {
+        String[] account = ACCOUNTS[(int) (sequence.getAndIncrement() % ACCOUNTS.length)];
+        return client.loginAsync(account[0], account[1])
+                .thenApply(HttpResponse::statusCode);
+    } // func end
+
+} // class end
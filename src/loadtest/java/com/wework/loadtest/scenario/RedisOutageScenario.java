@@ -0,0 +1,187 @@
+package com.wework.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.wework.loadtest.LoadClient;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [AUTH_040] Redis 장애 시나리오 (부하 중 내장 Redis 를 내렸다 올려 지연이 제한되는지 검증)
+ *
+ * <p>측정 구간을 3등분하여 정상 → 장애(Redis 종료) → 복구(Redis 재기동) 순으로 진행한다.
+ * 요청은 내 정보 조회이며 10건 중 1건은 로그인이다.
+ * <ul>
+ *   <li>장애 구간 내 정보 조회 : 200 유지 (blacklist-policy=FAIL_OPEN), p99 ≤ 정상 p99 + loadtest.redisOutageSlackMs</li>
+ *   <li>장애 구간 로그인 : 503 으로 빠르게 거절 (클라이언트 타임아웃 없음)</li>
+ *   <li>복구 후 : 차단기가 CLOSED 로 돌아오고 로그인 성공</li>
+ * </ul>
+ * 내장 Redis 모드에서만 실행 가능. 예) -Dloadtest.scenarios=redisOutage:100 -Dloadtest.durationSeconds=30
+ * */
+public class RedisOutageScenario implements Scenario {
+
+    private enum Phase { HEALTHY, OUTAGE, RECOVERED } // enum end
+
+    private static final String LOGIN_ID = "admin";
+    private static final String PASSWORD = "1234!";
+    private static final Duration RECOVERY_TIMEOUT = Duration.ofSeconds(60);
+
+    private final RedisServer redisServer;
+    private final long outageAtNanosFromStart;
+    private final long restoreAtNanosFromStart;
+    private final long slackMs;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Phase, Histogram> meLatency = new ConcurrentHashMap<>();
+    private final Map<Phase, Histogram> loginLatency = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> statuses = new ConcurrentHashMap<>();
+    private long startedAt;
+    private volatile Phase phase = Phase.HEALTHY;
+    private String accessToken;
+
+    public RedisOutageScenario(RedisServer redisServer, Duration warmup, Duration duration, long slackMs) {
+        this.redisServer = redisServer;
+        this.outageAtNanosFromStart = warmup.toNanos() + duration.toNanos() / 3;
+        this.restoreAtNanosFromStart = warmup.toNanos() + duration.toNanos() * 2 / 3;
+        this.slackMs = slackMs;
+        for (Phase p : Phase.values()) {
+            meLatency.put(p, new ConcurrentHistogram(3));
+            loginLatency.put(p, new ConcurrentHistogram(3));
+        }
+    } // func end
+
+    @Override
+    public String name() {
+        return "redisOutage";
+    } // func end
+
+    @Override
+    public void prepare(LoadClient client) {
+        if (redisServer == null) {
+            throw new IllegalStateException("redisOutage needs the embedded Redis (loadtest.redisMode=embedded, no baseUrl)");
+        }
+        accessToken = client.login(LOGIN_ID, PASSWORD).accessToken();
+    } // func end
+
+    @Override
+    public CompletableFuture<Integer> execute(LoadClient client) {
+        // [1] 구간 전환 (첫 요청 시각 기준)
+        advancePhase();
+
+        // [2] 요청 (10건 중 1건은 로그인)
+        Phase current = phase;
+        boolean login = sequence.getAndIncrement() % 10 == 0;
+        long sentAt = System.nanoTime();
+        CompletableFuture<HttpResponse<String>> request = login
+                ? client.loginAsync(LOGIN_ID, PASSWORD)
+                : client.getMyProfileAsync(accessToken);
+        return request.handle((response, error) -> {
+            long micros = (System.nanoTime() - sentAt) / 1_000;
+            (login ? loginLatency : meLatency).get(current).recordValue(micros);
+            int status = error != null ? -1 : response.statusCode();
+            statuses.computeIfAbsent(current + (login ? " login " : " me ") + status, k -> new LongAdder()).increment();
+            return status;
+        });
+    } // func end
+
+    @Override
+    public void verify(LoadClient client) {
+        // [1] 구간별 결과
+        for (Phase p : Phase.values()) {
+            System.out.printf("[LOADTEST] redisOutage %-9s : me p50=%.1f p99=%.1f max=%.1f ms (n=%d)"
+                            + "  login p50=%.1f p99=%.1f max=%.1f ms (n=%d)%n",
+                    p, millis(meLatency.get(p), 50), millis(meLatency.get(p), 99), meLatency.get(p).getMaxValue() / 1000.0,
+                    meLatency.get(p).getTotalCount(),
+                    millis(loginLatency.get(p), 50), millis(loginLatency.get(p), 99),
+                    loginLatency.get(p).getMaxValue() / 1000.0, loginLatency.get(p).getTotalCount());
+        }
+        statuses.entrySet().stream().sorted(Map.Entry.comparingByKey())
+                .forEach(e -> System.out.println("[LOADTEST] redisOutage   " + e.getKey() + " x" + e.getValue().sum()));
+
+        // [2] 장애 구간 : 내 정보 조회 200 유지 + 지연 상한, 로그인은 503 으로 거절
+        if (meLatency.get(Phase.OUTAGE).getTotalCount() == 0) {
+            throw new IllegalStateException("No requests during the outage phase");
+        }
+        if (count("OUTAGE me -1") > 0 || count("OUTAGE login -1") > 0) {
+            throw new IllegalStateException("Client timeouts during Redis outage");
+        }
+        long outageMeErrors = statuses.entrySet().stream()
+                .filter(e -> e.getKey().startsWith("OUTAGE me ") && !e.getKey().endsWith(" 200"))
+                .mapToLong(e -> e.getValue().sum())
+                .sum();
+        if (outageMeErrors > 0) {
+            throw new IllegalStateException("Authenticated requests failed during Redis outage : " + outageMeErrors);
+        }
+        double bound = millis(meLatency.get(Phase.HEALTHY), 99) + slackMs;
+        if (millis(meLatency.get(Phase.OUTAGE), 99) > bound) {
+            throw new IllegalStateException("Outage p99 not bounded : " + millis(meLatency.get(Phase.OUTAGE), 99)
+                    + " ms > " + bound + " ms");
+        }
+        if (count("OUTAGE login 503") == 0) {
+            throw new IllegalStateException("Logins were not rejected with 503 during Redis outage");
+        }
+
+        // [3] 복구 : 차단기 CLOSED + 로그인 성공
+        long deadline = System.nanoTime() + RECOVERY_TIMEOUT.toNanos();
+        while (true) {
+            JsonNode status = client.getRedisStatus(accessToken);
+            if ("CLOSED".equals(status.get("state").asText()) && client.loginAsync(LOGIN_ID, PASSWORD).join().statusCode() == 200) {
+                System.out.println("[LOADTEST] redisOutage recovered : " + status);
+                return;
+            }
+            if (System.nanoTime() - deadline > 0) {
+                throw new IllegalStateException("Redis circuit did not recover : " + status);
+            }
+            sleep(500);
+        }
+    } // func end
+
+    /**
+     * 경과 시간에 따라 Redis 종료 / 재기동
+     * */
+    private synchronized void advancePhase() {
+        if (startedAt == 0) startedAt = System.nanoTime();
+        long elapsed = System.nanoTime() - startedAt;
+        try {
+            if (phase == Phase.HEALTHY && elapsed >= outageAtNanosFromStart) {
+                redisServer.stop();
+                phase = Phase.OUTAGE;
+                System.out.println("[LOADTEST] redisOutage : Redis stopped");
+            } else if (phase == Phase.OUTAGE && elapsed >= restoreAtNanosFromStart) {
+                redisServer.start();
+                phase = Phase.RECOVERED;
+                System.out.println("[LOADTEST] redisOutage : Redis restarted");
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    } // func end
+
+    private long count(String key) {
+        LongAdder adder = statuses.get(key);
+        return adder == null ? 0 : adder.sum();
+    } // func end
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getTotalCount() == 0 ? 0 : histogram.getValueAtPercentile(percentile) / 1000.0;
+    } // func end
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    } // func end
+
+} // class end
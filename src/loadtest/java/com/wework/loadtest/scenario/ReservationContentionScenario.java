@@ -0,0 +1,112 @@
+package com.wework.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.wework.loadtest.LoadClient;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * [RESOURCE_004~005] 회의실 예약 경합 시나리오 (이중 예약 검증)
+ *
+ * <p>다음 주 월요일 09:00~12:00 회의실 3개에 무작위 구간(15~60분) 예약을 동시에 요청하고,
+ * 30% 는 앞서 성공한 예약을 취소하여 빈 시간이 계속 생기게 한다.
+ * <ul>
+ *   <li>409(시간 중복) 는 정상 응답으로 보고 별도 집계 (에러율에는 포함하지 않음)</li>
+ *   <li>측정 후 각 회의실 예약을 다시 읽어 겹치는 예약이 하나라도 있으면 실패</li>
+ * </ul>
+ * 예) -Dloadtest.mode=closed -Dloadtest.scenarios=reserve:64
+ * */
+public class ReservationContentionScenario implements Scenario {
+
+    private static final long[] RESOURCE_IDS = {800001L, 800002L, 800003L};
+    private static final int WINDOW_SLOTS = 12;        // 09:00 ~ 12:00 (15분 × 12)
+
+    private final Queue<Long> booked = new ConcurrentLinkedQueue<>();
+    private final LongAdder reserved = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+    private String accessToken;
+    private LocalDateTime windowStart;
+
+    @Override
+    public String name() {
+        return "reserve";
+    } // func end
+
+    @Override
+    public void prepare(LoadClient client) {
+        accessToken = client.login("admin", "1234!").accessToken();
+        windowStart = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY)).atTime(9, 0);
+    } // func end
+
+    @Override
+    public CompletableFuture<Integer> execute(LoadClient client) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        // [1] 취소
+        if (random.nextInt(10) < 3) {
+            Long reservationId = booked.poll();
+            if (reservationId != null) {
+                return client.cancelReservationAsync(accessToken, reservationId).thenApply(response -> {
+                    if (response.statusCode() == 200) cancelled.increment();
+                    return response.statusCode();
+                });
+            }
+        }
+
+        // [2] 예약 (409 는 정상 경합 결과)
+        long resourceId = RESOURCE_IDS[random.nextInt(RESOURCE_IDS.length)];
+        int startSlot = random.nextInt(WINDOW_SLOTS);
+        int endSlot = Math.min(WINDOW_SLOTS, startSlot + 1 + random.nextInt(4));
+        return client.reserveAsync(accessToken, resourceId, "loadtest",
+                        windowStart.plusMinutes(15L * startSlot).toString(),
+                        windowStart.plusMinutes(15L * endSlot).toString())
+                .thenApply(response -> {
+                    if (response.statusCode() == 200) {
+                        reserved.increment();
+                        booked.add(LoadClient.readLong(response.body(), "reservationId"));
+                    } else if (response.statusCode() == 409) {
+                        conflicts.increment();
+                        return 200;
+                    }
+                    return response.statusCode();
+                });
+    } // func end
+
+    /**
+     * 회의실별 예약을 시작순으로 읽어 앞 예약 종료 &gt; 다음 예약 시작 인 경우를 센다
+     * */
+    @Override
+    public void verify(LoadClient client) {
+        String from = windowStart.toString();
+        String to = windowStart.plusMinutes(15L * WINDOW_SLOTS).toString();
+        int overlaps = 0;
+        int active = 0;
+        for (long resourceId : RESOURCE_IDS) {
+            List<JsonNode> rows = new ArrayList<>();
+            client.getReservations(accessToken, resourceId, from, to).forEach(rows::add);
+            active += rows.size();
+            for (int i = 1; i < rows.size(); i++) {
+                LocalDateTime prevEnd = LocalDateTime.parse(rows.get(i - 1).get("endAt").asText());
+                LocalDateTime start = LocalDateTime.parse(rows.get(i).get("startAt").asText());
+                if (prevEnd.isAfter(start)) overlaps++;
+            }
+        }
+        System.out.printf("[LOADTEST] reserve : reserved=%d conflicts(409)=%d cancelled=%d active=%d overlaps=%d%n",
+                reserved.sum(), conflicts.sum(), cancelled.sum(), active, overlaps);
+        if (overlaps > 0) {
+            throw new IllegalStateException("Double booking detected : overlaps=" + overlaps);
+        }
+    } // func end
+
+} // class end
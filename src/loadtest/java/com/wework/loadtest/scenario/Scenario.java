@@ -0,0 +1,28 @@
+package com.wework.loadtest.scenario;
+
+import com.wework.loadtest.LoadClient;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 부하 테스트 시나리오
+ *
+ * <p>prepare() 에서 필요한 세션을 미리 만들고,
+ * execute() 는 요청 1건을 비동기로 보내 HTTP 상태코드를 반환한다.
+ * verify() 는 측정이 끝난 뒤 서버 상태를 검증한다 (실패 시 예외).
+ * */
+public interface Scenario {
+
+    // 시나리오 이름 (리포트 출력용)
+    String name();
+
+    // 측정 전 준비 (로그인 등)
+    default void prepare(LoadClient client) { }
+
+    // 요청 1건 실행 → HTTP 상태코드 (클라이언트 측 실패는 -1)
+    CompletableFuture<Integer> execute(LoadClient client);
+
+    // 측정 후 결과 검증 (예: 이중 예약 여부)
+    default void verify(LoadClient client) { }
+
+} // interface end
@@ -0,0 +1,159 @@
+package com.wework.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wework.loadtest.LoadClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.sync.RedisAdvancedClusterCommands;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * [AUTH_010~013, AUTH_041] Redis Cluster 토큰 저장소 통합 시나리오 (-Dloadtest.redis=cluster)
+ *
+ * <p>측정 : 로그인 → 재발급 → 이미 쓴 Refresh Token 으로 다시 재발급 (거절되어야 함)
+ * <p>검증
+ * <P>1) master 3개가 slot 을 나눠 가진 Cluster 인지</P>
+ * <P>2) 한 사번의 토큰 키가 모두 같은 slot 이고 이전 형식 키는 없는지</P>
+ * <P>3) 강제 로그아웃 (스크립트 2회) 후 access 401 / refresh 재발급 거절</P>
+ * <P>4) 이전 형식으로 되돌린 세션을 키 이전 API 로 옮긴 뒤 재발급 성공</P>
+ * */
+public class TokenClusterScenario implements Scenario {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final long ADMIN_EMP_ID = 100001L;   // admin
+    private static final long TARGET_EMP_ID = 100002L;  // mgr_hr
+
+    private final int seedPort;
+    private final AtomicLong replayAccepted = new AtomicLong();
+
+    private RedisClusterClient redisClient;
+    private StatefulRedisClusterConnection<String, String> connection;
+    private String adminAccessToken;
+
+    public TokenClusterScenario(int seedPort) {
+        this.seedPort = seedPort;
+    } // func end
+
+    @Override
+    public String name() {
+        return "tokenCluster";
+    } // func end
+
+    @Override
+    public void prepare(LoadClient client) {
+        // 앱과 별도로 Cluster 에 직접 연결 (키 확인 / 이전 형식 키 준비)
+        redisClient = RedisClusterClient.create(RedisURI.create("127.0.0.1", seedPort));
+        connection = redisClient.connect();
+        adminAccessToken = client.login("admin", "1234!").accessToken();
+    } // func end
+
+    @Override
+    public CompletableFuture<Integer> execute(LoadClient client) {
+        return client.loginAsync("admin", "1234!").thenCompose(login -> {
+            String refreshToken = LoadClient.extractRefreshCookie(login).orElse(null);
+            if (login.statusCode() != 200 || refreshToken == null) {
+                return CompletableFuture.completedFuture(login.statusCode());
+            }
+            return client.reissueAsync(refreshToken).thenCompose(reissue -> {
+                if (reissue.statusCode() != 200) return CompletableFuture.completedFuture(reissue.statusCode());
+                // Rotation 으로 폐기된 Refresh Token 재사용
+                return client.reissueAsync(refreshToken).thenApply(replay -> {
+                    if (replay.statusCode() == 200) replayAccepted.incrementAndGet();
+                    return reissue.statusCode();
+                });
+            });
+        });
+    } // func end
+
+    @Override
+    public void verify(LoadClient client) {
+        try {
+            RedisAdvancedClusterCommands<String, String> redis = connection.sync();
+
+            // [1] Cluster 구성
+            List<RedisClusterNode> masters = redisClient.getPartitions().stream()
+                    .filter(node -> node.is(RedisClusterNode.NodeFlag.UPSTREAM))
+                    .filter(node -> !node.getSlots().isEmpty())
+                    .toList();
+            System.out.println("[LOADTEST] tokenCluster masters=" + masters.size()
+                    + " replayAccepted=" + replayAccepted.get());
+            if (masters.size() < 3) throw new IllegalStateException("Expected 3 masters, found " + masters.size());
+            if (replayAccepted.get() > 0) {
+                throw new IllegalStateException("Rotated refresh token accepted " + replayAccepted.get() + " times");
+            }
+
+            // [2] 키 배치 : 한 사번의 키는 한 slot / 이전 형식 키 없음
+            List<String> adminKeys = redis.keys("auth:{" + ADMIN_EMP_ID + "}:*");
+            long slots = adminKeys.stream().map(SlotHash::getSlot).distinct().count();
+            System.out.println("[LOADTEST] tokenCluster admin keys=" + adminKeys.size() + " slots=" + slots);
+            if (!adminKeys.contains("auth:{" + ADMIN_EMP_ID + "}:current_refresh")
+                    || !adminKeys.contains("auth:{" + ADMIN_EMP_ID + "}:current_access")) {
+                throw new IllegalStateException("Missing current session keys : " + adminKeys.size() + " keys");
+            }
+            if (slots != 1) throw new IllegalStateException("Token keys of one employee span " + slots + " slots");
+            for (String legacy : List.of("refresh:*", "emp_refresh:*", "emp_access:*", "auth:blacklist:*")) {
+                if (!redis.keys(legacy).isEmpty()) throw new IllegalStateException("Legacy keys written : " + legacy);
+            }
+
+            // [3] 강제 로그아웃
+            LoadClient.Session target = client.login("mgr_hr", "testmgr!");
+            int forceLogout = client.forceLogoutAsync(adminAccessToken, TARGET_EMP_ID).join().statusCode();
+            int me = client.getMyProfileAsync(target.accessToken()).join().statusCode();
+            int reissue = client.reissueAsync(target.refreshToken()).join().statusCode();
+            List<String> blacklist = redis.keys("auth:{" + TARGET_EMP_ID + "}:blacklist:*");
+            System.out.println("[LOADTEST] tokenCluster forceLogout=" + forceLogout + " me=" + me
+                    + " reissue=" + reissue + " blacklist=" + blacklist.size());
+            if (forceLogout != 200 || me != 401 || reissue == 200 || blacklist.isEmpty()) {
+                throw new IllegalStateException("Force logout did not revoke the session");
+            }
+
+            // [4] 이전 형식 키 이전
+            LoadClient.Session legacy = client.login("mgr_hr", "testmgr!");
+            String jti = claim(legacy.refreshToken(), "jti");
+            String refreshKey = "auth:{" + TARGET_EMP_ID + "}:refresh:" + jti;
+            long ttl = redis.ttl(refreshKey);
+            redis.del(refreshKey, "auth:{" + TARGET_EMP_ID + "}:current_refresh");
+            // 이전 버전은 JSON 직렬화로 저장 (문자열도 따옴표 포함)
+            redis.setex("refresh:" + jti, ttl, "\"" + TARGET_EMP_ID + "\"");
+            redis.setex("emp_refresh:" + TARGET_EMP_ID, ttl, "\"" + jti + "\"");
+
+            JsonNode migration = client.migrateTokenKeys(adminAccessToken);
+            int migrated = client.reissueAsync(legacy.refreshToken()).join().statusCode();
+            System.out.println("[LOADTEST] tokenCluster migration=" + migration + " reissue=" + migrated);
+            if (migration.get("refreshTokens").asLong() < 1 || migration.get("currentRefresh").asLong() < 1) {
+                throw new IllegalStateException("Legacy keys were not migrated");
+            }
+            if (migrated != 200) throw new IllegalStateException("Migrated refresh token rejected : " + migrated);
+            if (redis.exists("refresh:" + jti, "emp_refresh:" + TARGET_EMP_ID) > 0) {
+                throw new IllegalStateException("Legacy keys left after migration");
+            }
+        } finally {
+            connection.close();
+            redisClient.shutdown();
+        }
+    } // func end
+
+    /**
+     * JWT payload 클레임 (서명 검증 없음)
+     * */
+    private static String claim(String token, String name) {
+        try {
+            byte[] payload = Base64.getUrlDecoder().decode(token.split("\\.")[1]);
+            return MAPPER.readTree(new String(payload, StandardCharsets.UTF_8)).get(name).asText();
+        } catch (IOException e) {
+            throw new IllegalStateException("Invalid token", e);
+        }
+    } // func end
+
+} // class end
@@ -0,0 +1,61 @@
+package com.wework.loadtest.scenario;
+
+import com.wework.loadtest.LoadClient;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * [AUTH_012] 동시 토큰 재발급 시나리오
+ *
+ * <p>로그인 세션 풀을 만들어 두고, 각 세션의 RefreshToken 으로 재발급을 반복한다.
+ * <p>Refresh Rotation 으로 매번 새 RT 가 내려오므로, 응답 쿠키의 RT 를 풀에 다시 넣는다.
+ * <p>같은 RT 가 동시에 두 번 쓰이지 않도록 슬롯을 getAndSet(null) 으로 점유한다.
+ * */
+public class TokenRefreshScenario implements Scenario {
+
+    private final int poolSize;
+    private final AtomicReferenceArray<String> pool;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public TokenRefreshScenario(int poolSize) {
+        this.poolSize = poolSize;
+        this.pool = new AtomicReferenceArray<>(poolSize);
+    } // func end
+
+    @Override
+    public String name() {
+        return "refresh";
+    } // func end
+
+    @Override
+    public void prepare(LoadClient client) {
+        for (int i = 0; i < poolSize; i++) {
+            pool.set(i, client.login("admin", "1234!").refreshToken());
+        }
+    } // func end
+
+    @Override
+    public CompletableFuture<Integer> execute(LoadClient client) {
+        // [1] 비어있는 슬롯 점유 (모든 슬롯이 사용 중이면 클라이언트 측 실패로 기록)
+        int start = (int) (sequence.getAndIncrement() % poolSize);
+        for (int n = 0; n < poolSize; n++) {
+            int slot = (start + n) % poolSize;
+            String refreshToken = pool.getAndSet(slot, null);
+            if (refreshToken == null) continue;
+
+            // [2] 재발급 요청 후 새 RT 를 슬롯에 반납
+            return client.reissueAsync(refreshToken)
+                    .thenApply(response -> {
+                        LoadClient.extractRefreshCookie(response)
+                                .ifPresentOrElse(
+                                        rt -> pool.set(slot, rt),
+                                        () -> pool.set(slot, refreshToken));
+                        return response.statusCode();
+                    });
+        }
+        return CompletableFuture.completedFuture(-1);
+    } // func end
+
+} // class end
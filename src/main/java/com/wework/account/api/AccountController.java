@@ -3,14 +3,21 @@ package com.wework.account.api;
 import com.wework.account.dto.request.ChangePwRequestDto;
 import com.wework.account.dto.request.UpdateMyAccountRequestDto;
 import com.wework.account.service.AccountService;
+import com.wework.auth.service.SessionStreamService;
 import com.wework.global.dto.response.CommonSuccessResponseDto;
 import com.wework.global.security.UserPrincipal;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.apache.catalina.User;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/account")
@@ -18,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 public class AccountController {
 
     private final AccountService accountService;
+    private final SessionStreamService sessionStreamService;
 
     /**
      * [ACCOUNT_001] 내 정보 조회
@@ -25,8 +33,11 @@ public class AccountController {
      * <p> - Spring Security에서 로그인한 사용자 정보를 컨트롤러 메서드 파라미터로 직접 주입
      * */
     @GetMapping("/me")
-    public ResponseEntity<?> getMyProfile(@AuthenticationPrincipal UserPrincipal principal){
-        return ResponseEntity.ok(accountService.getMyProfile(principal));
+    public ResponseEntity<?> getMyProfile(@AuthenticationPrincipal UserPrincipal principal, WebRequest webRequest){
+        // 계정 버전이 같으면 DB 조회 없이 304
+        String etag = accountService.versionTag(principal.getEmpId());
+        if (etag != null && webRequest.checkNotModified(etag)) return notModified();
+        return versioned(etag).body(accountService.getMyProfile(principal));
     } // func end
 
     /**
@@ -58,10 +69,39 @@ public class AccountController {
      * [ACCOUNT_004] 내 권한/역할/스코프 조회
      * */
     @GetMapping("/me/auth")
-    public ResponseEntity<?> getMyAuth(@AuthenticationPrincipal UserPrincipal principal){
+    public ResponseEntity<?> getMyAuth(@AuthenticationPrincipal UserPrincipal principal, WebRequest webRequest){
         long empId = principal.getEmpId();
-        return ResponseEntity.ok(accountService.getMyAuth(empId));
+        // 계정 버전이 같으면 역할/권한/스코프 조회 없이 304
+        String etag = accountService.versionTag(empId);
+        if (etag != null && webRequest.checkNotModified(etag)) return notModified();
+        return versioned(etag).body(accountService.getMyAuth(empId));
     } // func end
 
+    /**
+     * [ACCOUNT_005] 내 세션 이벤트 구독 (SSE : 강제 로그아웃 등 세션 무효화 시 "revoked" 후 종료)
+     * */
+    @GetMapping(value = "/me/session/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMySession(@AuthenticationPrincipal UserPrincipal principal){
+        return sessionStreamService.subscribe(principal.getEmpId());
+    } // func end
+
+    /**
+     * 조건부 조회 응답 헤더
+     * - 사용자별 응답이므로 공유 캐시 저장 금지 + 매번 재검증
+     * */
+    private ResponseEntity.BodyBuilder versioned(String etag){
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy(HttpHeaders.AUTHORIZATION);
+        return etag == null ? builder : builder.eTag(etag);
+    } // func end
+
+    private ResponseEntity<?> notModified(){
+        // ETag 헤더는 checkNotModified 가 이미 설정
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .build();
+    } // func end
 
 } // func end
@@ -0,0 +1,7 @@
+package com.wework.account.event;
+
+/**
+ * 본인 계정 정보 변경 (이름 / 이메일 / 생일 / 성별)
+ * - 커밋 후 계정 조회 버전(ETag)을 올린다
+ * */
+public record AccountChangedEvent(long empId) { } // record end
@@ -0,0 +1,92 @@
+package com.wework.account.infra.redis;
+
+import com.wework.auth.infra.redis.RedisCircuitBreaker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 직원별 계정 조회 버전 Redis 저장소 (내 정보 / 내 권한 조회 ETag)
+ *
+ * <p>
+ * Redis Key Naming Rule:
+ * <ul>
+ *     <li><code>account:version:{empId}</code> – 계정 정보 버전 (값: epochMillis 기반 증가 값, TTL)</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 키가 없으면 현재 시각으로 새로 만들고, 변경 시에는 max(현재 시각, 기존 값 + 1) 로 올린다.
+ * 키가 만료·유실되어도 이전에 내보낸 버전이 다시 나오지 않으므로 오래된 ETag 가 일치하는 일이 없다.
+ * 앱을 거치지 않은 변경(역할/관리 범위 SQL 수정 등)은 TTL 이 지나 버전이 바뀌면 반영된다.
+ * </p>
+ *
+ * <p>
+ * 토큰 저장소와 같은 Redis 차단기를 거친다 (차단기가 열려 있으면 Redis 호출 없이 ServiceUnavailableException).
+ * </p>
+ */
+@Component
+public class AccountVersionStore {
+
+    private static final String KEY_VERSION = "account:version:";  // account:version:{empId}
+
+    /**
+     * 현재 버전 (없으면 생성)
+     * - KEYS[1] 버전 키 / ARGV[1] epochMillis / ARGV[2] TTL
+     */
+    private static final RedisScript<Long> CURRENT_SCRIPT = new DefaultRedisScript<>("""
+            local v = redis.call('GET', KEYS[1])
+            if v then
+              return tonumber(v)
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+            return tonumber(ARGV[1])
+            """, Long.class);
+
+    /**
+     * 버전 올림
+     * - KEYS[1] 버전 키 / ARGV[1] epochMillis / ARGV[2] TTL
+     */
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>("""
+            local n = tonumber(ARGV[1])
+            local v = redis.call('GET', KEYS[1])
+            if v and tonumber(v) >= n then
+              n = tonumber(v) + 1
+            end
+            redis.call('SET', KEYS[1], string.format('%d', n), 'EX', ARGV[2])
+            return n
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisCircuitBreaker breaker;
+    private final long ttlSeconds;
+
+    public AccountVersionStore(StringRedisTemplate stringRedisTemplate,
+                               RedisCircuitBreaker breaker,
+                               @Value("${account.version.ttl-seconds:86400}") long ttlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.breaker = breaker;
+        this.ttlSeconds = ttlSeconds;
+    } // func end
+
+    /**
+     * 현재 버전 조회
+     * */
+    public long current(long empId) {
+        return breaker.call(() -> stringRedisTemplate.execute(CURRENT_SCRIPT, List.of(KEY_VERSION + empId),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(ttlSeconds)));
+    } // func end
+
+    /**
+     * 버전 올림 (이후 조건부 조회는 새 본문을 받음)
+     * */
+    public long bump(long empId) {
+        return breaker.call(() -> stringRedisTemplate.execute(BUMP_SCRIPT, List.of(KEY_VERSION + empId),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(ttlSeconds)));
+    } // func end
+
+} // class end
@@ -4,25 +4,77 @@ import com.wework.account.dto.request.ChangePwRequestDto;
 import com.wework.account.dto.request.UpdateMyAccountRequestDto;
 import com.wework.account.dto.response.MyAccountResponseDto;
 import com.wework.account.dto.response.MyAuthResponseDto;
+import com.wework.account.event.AccountChangedEvent;
+import com.wework.account.infra.redis.AccountVersionStore;
 import com.wework.account.mapper.AccountAuthMapper;
 import com.wework.employee.entity.EmployeeEntity;
+import com.wework.employee.event.EmployeeChangedEvent;
 import com.wework.employee.repository.EmployeeRepository;
 import com.wework.global.exception.ForbiddenException;
+import com.wework.global.exception.ServiceUnavailableException;
 import com.wework.global.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Log4j2
 public class AccountService {
 
     private final EmployeeRepository employeeRepository;
     private final AccountAuthMapper accountAuthMapper;
     private final PasswordEncoder passwordEncoder;
+    private final AccountVersionStore accountVersionStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * [ACCOUNT_001 / ACCOUNT_004] 조건부 조회용 ETag (사번 + 계정 버전)
+     * - 버전이 같으면 컨트롤러가 DB 조회 없이 304 응답
+     * - Redis 장애 시 null (ETag 없이 매번 조회)
+     * */
+    public String versionTag(long empId){
+        try {
+            return "\"" + empId + "." + accountVersionStore.current(empId) + "\"";
+        } catch (ServiceUnavailableException e) {
+            // Redis 장애 (요청마다 발생하므로 스택 없이) → ETag 없이 본문 응답
+            log.debug("[ACCOUNT] version lookup skipped. empId={} cause={}", empId, e.getMessage());
+            return null;
+        } catch (RuntimeException e) {
+            log.warn("[ACCOUNT] version lookup failed. empId={}", empId, e);
+            return null;
+        }
+    } // func end
+
+    /**
+     * 계정 조회 결과가 바뀌는 변경 커밋 후 버전 올림
+     * - 본인 정보 수정 / 잠금 / 잠금 해제 / 부서 이동
+     * */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccountChanged(AccountChangedEvent event){
+        bumpVersion(event.empId());
+    } // func end
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event){
+        bumpVersion(event.empId());
+    } // func end
+
+    private void bumpVersion(long empId){
+        try {
+            accountVersionStore.bump(empId);
+        } catch (RuntimeException e) {
+            // 올리지 못하면 TTL 만료까지 이전 본문이 유지될 수 있음
+            log.error("[ACCOUNT] version bump failed. empId={}", empId, e);
+        }
+    } // func end
 
     /**
      * [Account_001] 내 정보 조회
@@ -66,6 +118,8 @@ public class AccountService {
         employeeEntity.setEmail(requestDto.email());
         employeeEntity.setBirthday(requestDto.birthday());
         employeeEntity.setSex(requestDto.sex());
+        // [4] 커밋 후 조회 버전 올림
+        eventPublisher.publishEvent(new AccountChangedEvent(empId));
     } // func end
 
     /**
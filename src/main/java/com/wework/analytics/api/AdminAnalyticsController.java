@@ -0,0 +1,27 @@
+package com.wework.analytics.api;
+
+import com.wework.analytics.service.AnalyticsService;
+import com.wework.global.dto.response.CommonSuccessResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/analytics")
+public class AdminAnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    /**
+     * [ANALYTICS_003] 분석 스냅샷 재구성 (백그라운드, 진행 중에도 기존 스냅샷으로 조회)
+     * */
+    @PostMapping("/rebuild")
+    public ResponseEntity<?> rebuild(){
+        analyticsService.rebuildAsync();
+        return ResponseEntity.ok(CommonSuccessResponseDto.ok());
+    } // func end
+
+} // class end
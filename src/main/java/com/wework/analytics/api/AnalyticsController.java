@@ -0,0 +1,40 @@
+package com.wework.analytics.api;
+
+import com.wework.analytics.dto.request.AnalyticsQueryRequestDto;
+import com.wework.analytics.service.AnalyticsService;
+import com.wework.global.security.UserPrincipal;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    /**
+     * [ANALYTICS_001] 분석 조회 (필터 / 그룹 / 집계)
+     * */
+    @PostMapping("/query")
+    public ResponseEntity<?> query(@AuthenticationPrincipal UserPrincipal principal,
+                                   @Valid @RequestBody AnalyticsQueryRequestDto request){
+        return ResponseEntity.ok(analyticsService.query(principal, request));
+    } // func end
+
+    /**
+     * [ANALYTICS_002] 분석 대상 / 차원 / 지표 목록
+     * */
+    @GetMapping("/schema")
+    public ResponseEntity<?> schema(){
+        return ResponseEntity.ok(analyticsService.getSchema());
+    } // func end
+
+} // class end
@@ -0,0 +1,22 @@
+package com.wework.analytics.core;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 분석 스냅샷 (한 번 만들면 바꾸지 않고 통째로 교체)
+ *
+ * @param builtAt        적재 완료 시각
+ * @param attendanceFrom 출퇴근 사실 시작일
+ * @param tables         사실 테이블 (employee / attendance)
+ * */
+public record AnalyticsSnapshot(LocalDateTime builtAt, LocalDate attendanceFrom, Map<String, FactTable> tables) {
+
+    public FactTable table(String fact) {
+        FactTable table = tables.get(fact);
+        if (table == null) throw new IllegalArgumentException("지원하지 않는 분석 대상입니다 : " + fact);
+        return table;
+    } // func end
+
+} // record end
@@ -0,0 +1,49 @@
+package com.wework.analytics.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 차원 값 사전 (문자열 ↔ 0부터 붙인 정수 코드)
+ *
+ * <p>컬럼에는 코드(int)만 저장하고, 필터/그룹 키 비교도 코드로 한다.
+ * 적재가 끝난 뒤에는 읽기 전용이다.
+ * */
+public final class Dictionary {
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    /**
+     * 값 → 코드 (없으면 새 코드 부여, 적재 중에만 호출)
+     * */
+    int encode(String value) {
+        Integer code = codes.get(value);
+        if (code != null) return code;
+        codes.put(value, values.size());
+        values.add(value);
+        return values.size() - 1;
+    } // func end
+
+    /**
+     * 값 → 코드 (없으면 -1)
+     * */
+    public int codeOf(String value) {
+        return codes.getOrDefault(value, -1);
+    } // func end
+
+    public String valueOf(int code) {
+        return values.get(code);
+    } // func end
+
+    public int size() {
+        return values.size();
+    } // func end
+
+    public List<String> values() {
+        return List.copyOf(values);
+    } // func end
+
+} // class end
@@ -0,0 +1,256 @@
+package com.wework.analytics.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 열 지향 사실 테이블 (차원 = 사전 코드 int[], 지표 = int[])
+ *
+ * <p>행 객체 없이 컬럼 배열만 보관하므로 행 수 × 컬럼 수 × 4바이트가 전부이고,
+ * 집계는 필요한 컬럼만 순차로 읽는다.
+ * <p>집계 흐름</p>
+ * <P>1) 필터 값 → 차원별 허용 코드 표 (boolean[])</P>
+ * <P>2) 그룹 차원 코드 → long 키 (혼합 기수)</P>
+ * <P>3) 행 구간을 fork/join 으로 나눠 구간별 HashMap 에 [건수, 지표 합] 누적 → 병합</P>
+ *
+ * <p>적재가 끝난 테이블은 읽기 전용이라 여러 집계가 동시에 읽어도 된다.
+ * */
+public final class FactTable {
+
+    // fork/join 분할 단위 (행 수)
+    private static final int SPLIT_THRESHOLD = 1 << 16;
+
+    private final String name;
+    private final int size;
+    private final List<String> dimensionNames;
+    private final Dictionary[] dictionaries;
+    private final int[][] dimensions;
+    private final List<String> metricNames;
+    private final int[][] metrics;
+
+    /**
+     * 그룹 1개 집계 (keys 는 그룹 차원 순서)
+     * */
+    public record Group(List<String> keys, long count, long[] sums) { } // record end
+
+    private FactTable(Builder builder) {
+        this.name = builder.name;
+        this.size = builder.size;
+        this.dimensionNames = builder.dimensionNames;
+        this.dictionaries = builder.dictionaries;
+        this.metricNames = builder.metricNames;
+        this.dimensions = new int[dimensionNames.size()][];
+        for (int d = 0; d < dimensions.length; d++) dimensions[d] = Arrays.copyOf(builder.dimensions[d], size);
+        this.metrics = new int[metricNames.size()][];
+        for (int m = 0; m < metrics.length; m++) metrics[m] = Arrays.copyOf(builder.metrics[m], size);
+    } // func end
+
+    public static Builder builder(String name, List<String> dimensionNames, List<String> metricNames) {
+        return new Builder(name, dimensionNames, metricNames);
+    } // func end
+
+    public String name() {
+        return name;
+    } // func end
+
+    public int size() {
+        return size;
+    } // func end
+
+    public List<String> dimensionNames() {
+        return dimensionNames;
+    } // func end
+
+    public List<String> metricNames() {
+        return metricNames;
+    } // func end
+
+    /**
+     * 차원의 전체 값 (사전 순서)
+     * */
+    public List<String> values(String dimension) {
+        return dictionaries[dimensionIndex(dimension)].values();
+    } // func end
+
+    /**
+     * 필터 → 그룹별 건수 + 지표 합
+     * @param filters  차원 → 허용 값 (빈 집합이면 결과 없음)
+     * @param groupBy  그룹 차원 (없으면 전체 1그룹)
+     * @param sums     합계를 낼 지표
+     * */
+    public List<Group> aggregate(Map<String, Set<String>> filters, List<String> groupBy, List<String> sums,
+                                 ForkJoinPool pool) {
+        // [1] 필터 → 허용 코드 표
+        List<int[]> filterColumns = new ArrayList<>();
+        List<boolean[]> allowed = new ArrayList<>();
+        for (Map.Entry<String, Set<String>> filter : filters.entrySet()) {
+            int d = dimensionIndex(filter.getKey());
+            boolean[] codes = new boolean[dictionaries[d].size()];
+            for (String value : filter.getValue()) {
+                int code = dictionaries[d].codeOf(value);
+                if (code >= 0) codes[code] = true;
+            }
+            filterColumns.add(dimensions[d]);
+            allowed.add(codes);
+        }
+
+        // [2] 그룹 키 (혼합 기수)
+        int[][] groupColumns = new int[groupBy.size()][];
+        long[] strides = new long[groupBy.size()];
+        long stride = 1;
+        for (int g = groupBy.size() - 1; g >= 0; g--) {
+            int d = dimensionIndex(groupBy.get(g));
+            groupColumns[g] = dimensions[d];
+            strides[g] = stride;
+            stride = Math.multiplyExact(stride, Math.max(1, dictionaries[d].size()));
+        }
+        int[][] sumColumns = new int[sums.size()][];
+        for (int m = 0; m < sums.size(); m++) sumColumns[m] = metrics[metricIndex(sums.get(m))];
+
+        // [3] 병렬 스캔
+        Scan scan = new Scan(filterColumns.toArray(int[][]::new), allowed.toArray(boolean[][]::new),
+                groupColumns, strides, sumColumns);
+        Map<Long, long[]> accumulated = pool.invoke(new ScanTask(scan, 0, size));
+
+        // [4] 키 복원
+        List<Group> groups = new ArrayList<>(accumulated.size());
+        for (Map.Entry<Long, long[]> entry : accumulated.entrySet()) {
+            long key = entry.getKey();
+            List<String> keys = new ArrayList<>(groupBy.size());
+            for (int g = 0; g < groupBy.size(); g++) {
+                int code = (int) (key / strides[g]);
+                key %= strides[g];
+                keys.add(dictionaries[dimensionIndex(groupBy.get(g))].valueOf(code));
+            }
+            long[] acc = entry.getValue();
+            groups.add(new Group(keys, acc[0], Arrays.copyOfRange(acc, 1, acc.length)));
+        }
+        return groups;
+    } // func end
+
+    private int dimensionIndex(String dimension) {
+        int d = dimensionNames.indexOf(dimension);
+        if (d < 0) throw new IllegalArgumentException("지원하지 않는 차원입니다 : " + name + "." + dimension);
+        return d;
+    } // func end
+
+    private int metricIndex(String metric) {
+        int m = metricNames.indexOf(metric);
+        if (m < 0) throw new IllegalArgumentException("지원하지 않는 지표입니다 : " + name + "." + metric);
+        return m;
+    } // func end
+
+    /**
+     * 스캔 대상 컬럼 묶음
+     * */
+    private record Scan(int[][] filterColumns, boolean[][] allowed,
+                        int[][] groupColumns, long[] strides, int[][] sumColumns) { }
+
+    /**
+     * 행 구간 [from, to) 집계
+     * */
+    private static final class ScanTask extends RecursiveTask<Map<Long, long[]>> {
+
+        private final Scan scan;
+        private final int from;
+        private final int to;
+
+        ScanTask(Scan scan, int from, int to) {
+            this.scan = scan;
+            this.from = from;
+            this.to = to;
+        } // func end
+
+        @Override
+        protected Map<Long, long[]> compute() {
+            if (to - from > SPLIT_THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                ScanTask left = new ScanTask(scan, from, mid);
+                left.fork();
+                Map<Long, long[]> right = new ScanTask(scan, mid, to).compute();
+                return merge(left.join(), right);
+            }
+            Map<Long, long[]> result = new HashMap<>();
+            int[][] filterColumns = scan.filterColumns();
+            boolean[][] allowed = scan.allowed();
+            int[][] groupColumns = scan.groupColumns();
+            long[] strides = scan.strides();
+            int[][] sumColumns = scan.sumColumns();
+            rows:
+            for (int row = from; row < to; row++) {
+                for (int f = 0; f < filterColumns.length; f++) {
+                    if (!allowed[f][filterColumns[f][row]]) continue rows;
+                }
+                long key = 0;
+                for (int g = 0; g < groupColumns.length; g++) key += groupColumns[g][row] * strides[g];
+                long[] acc = result.computeIfAbsent(key, k -> new long[1 + sumColumns.length]);
+                acc[0]++;
+                for (int m = 0; m < sumColumns.length; m++) acc[m + 1] += sumColumns[m][row];
+            }
+            return result;
+        } // func end
+
+        private static Map<Long, long[]> merge(Map<Long, long[]> a, Map<Long, long[]> b) {
+            if (a.size() < b.size()) return merge(b, a);
+            b.forEach((key, acc) -> a.merge(key, acc, (x, y) -> {
+                for (int i = 0; i < x.length; i++) x[i] += y[i];
+                return x;
+            }));
+            return a;
+        } // func end
+
+    } // class end
+
+    /**
+     * 적재용 빌더 (배열을 두 배씩 늘리며 행 추가, 단일 스레드)
+     * */
+    public static final class Builder {
+
+        private final String name;
+        private final List<String> dimensionNames;
+        private final List<String> metricNames;
+        private final Dictionary[] dictionaries;
+        private int[][] dimensions;
+        private int[][] metrics;
+        private int size;
+        private int capacity = 1024;
+
+        private Builder(String name, List<String> dimensionNames, List<String> metricNames) {
+            this.name = name;
+            this.dimensionNames = List.copyOf(dimensionNames);
+            this.metricNames = List.copyOf(metricNames);
+            this.dictionaries = new Dictionary[dimensionNames.size()];
+            for (int d = 0; d < dictionaries.length; d++) dictionaries[d] = new Dictionary();
+            this.dimensions = new int[dimensionNames.size()][capacity];
+            this.metrics = new int[metricNames.size()][capacity];
+        } // func end
+
+        /**
+         * 행 추가 (값 배열은 복사하므로 호출자가 재사용해도 된다)
+         * */
+        public void add(String[] dimensionValues, int[] metricValues) {
+            if (size == capacity) grow();
+            for (int d = 0; d < dimensions.length; d++) dimensions[d][size] = dictionaries[d].encode(dimensionValues[d]);
+            for (int m = 0; m < metrics.length; m++) metrics[m][size] = metricValues[m];
+            size++;
+        } // func end
+
+        public FactTable build() {
+            return new FactTable(this);
+        } // func end
+
+        private void grow() {
+            capacity *= 2;
+            for (int d = 0; d < dimensions.length; d++) dimensions[d] = Arrays.copyOf(dimensions[d], capacity);
+            for (int m = 0; m < metrics.length; m++) metrics[m] = Arrays.copyOf(metrics[m], capacity);
+        } // func end
+
+    } // class end
+
+} // class end
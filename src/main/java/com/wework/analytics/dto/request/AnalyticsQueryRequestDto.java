@@ -0,0 +1,26 @@
+package com.wework.analytics.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * [ANALYTICS_001] 분석 조회 요청
+ * 예) {"fact":"attendance","filters":{"month":["2026-09","2026-10"]},"groupBy":["deptName","month"],
+ *      "measures":["count","rate:late","avg:lateMinutes"]}
+ * */
+public record AnalyticsQueryRequestDto(
+        @NotBlank(message = "fact는 필수입니다.")
+        String fact,                            // 분석 대상 (employee / attendance)
+
+        Map<String, List<String>> filters,      // 차원 → 허용 값
+
+        @Size(max = 4, message = "groupBy는 4개까지 가능합니다.")
+        List<String> groupBy,                   // 그룹 차원
+
+        @NotEmpty(message = "measures는 필수입니다.")
+        List<String> measures                   // count / sum:지표 / avg:지표 / rate:지표(0·1 지표의 %)
+) { } // record end
@@ -0,0 +1,23 @@
+package com.wework.analytics.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 분석 조회 결과 (rows 의 keys / values 는 groupBy / measures 순서)
+ * */
+public record AnalyticsQueryResponseDto(
+        String fact,                    // 분석 대상
+        LocalDateTime builtAt,          // 스냅샷 적재 시각
+        List<String> groupBy,           // 그룹 차원
+        List<String> measures,          // 지표
+        List<Row> rows,                 // 그룹별 결과 (키 순)
+        boolean truncated,              // 최대 행 수 초과로 잘림
+        int scannedRows,                // 스캔한 행 수
+        long elapsedMicros              // 집계 시간
+) {
+    /**
+     * 그룹 1개
+     * */
+    public record Row(List<String> keys, List<Number> values) { } // record end
+} // record end
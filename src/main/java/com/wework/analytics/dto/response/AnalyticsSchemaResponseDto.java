@@ -0,0 +1,19 @@
+package com.wework.analytics.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 분석 스냅샷 구성 (사실 테이블별 차원 / 지표)
+ * */
+public record AnalyticsSchemaResponseDto(
+        LocalDateTime builtAt,          // 스냅샷 적재 시각
+        LocalDate attendanceFrom,       // 출퇴근 사실 시작일
+        List<Fact> facts                // 사실 테이블
+) {
+    /**
+     * 사실 테이블 1개
+     * */
+    public record Fact(String name, int rows, List<String> dimensions, List<String> metrics) { } // record end
+} // record end
@@ -0,0 +1,19 @@
+package com.wework.analytics.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.time.LocalDate;
+
+@Mapper
+public interface AnalyticsMapper {
+
+    // 전 직원 (스트리밍)
+    void streamEmployees(ResultHandler<EmployeeFactRow> handler);
+
+    // from 이후 출퇴근 기록 (스트리밍)
+    void streamAttendance(@Param("from") LocalDate from,
+                          ResultHandler<AttendanceFactRow> handler);
+
+} // interface end
@@ -0,0 +1,22 @@
+package com.wework.analytics.mapper;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 분석 스냅샷용 출퇴근 1행
+ * - ResultHandler 로 받아 즉시 컬럼 배열에 적재 후 버린다
+ * */
+@Getter
+@Setter
+public class AttendanceFactRow {
+
+    private Long empId;                 // 사번
+    private LocalDate workDate;         // 근무일
+    private LocalDateTime checkInAt;    // 출근 시각
+    private LocalDateTime checkOutAt;   // 퇴근 시각
+
+} // class end
@@ -0,0 +1,23 @@
+package com.wework.analytics.mapper;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분석 스냅샷용 직원 1행
+ * - ResultHandler 로 받아 즉시 컬럼 배열에 적재 후 버린다
+ * */
+@Getter
+@Setter
+public class EmployeeFactRow {
+
+    private Long empId;                 // 사번
+    private Long deptId;                // 부서ID
+    private String deptName;            // 부서명
+    private String position;            // 직급
+    private String status;              // ACTIVE / INACTIVE
+    private LocalDateTime createdAt;    // 입사(가입)일
+
+} // class end
@@ -0,0 +1,319 @@
+package com.wework.analytics.service;
+
+import com.wework.account.mapper.AccountAuthMapper;
+import com.wework.analytics.core.AnalyticsSnapshot;
+import com.wework.analytics.core.FactTable;
+import com.wework.analytics.dto.request.AnalyticsQueryRequestDto;
+import com.wework.analytics.dto.response.AnalyticsQueryResponseDto;
+import com.wework.analytics.dto.response.AnalyticsSchemaResponseDto;
+import com.wework.analytics.mapper.AnalyticsMapper;
+import com.wework.analytics.mapper.AttendanceFactRow;
+import com.wework.analytics.mapper.EmployeeFactRow;
+import com.wework.attendance.calc.WorkHoursEngine;
+import com.wework.attendance.calc.WorkRule;
+import com.wework.calendar.core.BusinessCalendar;
+import com.wework.calendar.service.BusinessCalendarService;
+import com.wework.global.exception.ForbiddenException;
+import com.wework.global.security.UserPrincipal;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 인사 분석 (컬럼형 인메모리 스냅샷)
+ *
+ * <p>직원 / 출퇴근 기록을 차원(부서·직급·상태·월 …)은 사전 인코딩한 int 컬럼으로,
+ * 지표(지각·근로시간 …)는 int 컬럼으로 적재해 두고, 임의의 필터 / 그룹 / 집계를 병렬 스캔으로 처리한다.
+ * <p>처리 흐름
+ * <P>1) 기동 직후 + 주기적으로 DB 를 스트리밍 조회하여 새 스냅샷을 만든다 (기존 스냅샷으로 계속 조회)</P>
+ * <P>2) 완성되면 참조 1개를 교체 (이중 버퍼) – 조회는 잠금 없이 그 시점 스냅샷을 읽는다</P>
+ * <P>3) 조회 : 권한 범위 → 부서 필터 강제, 필터 차원은 허용 코드 표로 바꾼 뒤 행 구간을 나눠 병렬 집계</P>
+ * <p>스냅샷은 재구성 주기만큼 늦을 수 있다 (builtAt 으로 응답에 표시)
+ * */
+@Service
+@Log4j2
+public class AnalyticsService {
+
+    public static final String FACT_EMPLOYEE = "employee";
+    public static final String FACT_ATTENDANCE = "attendance";
+
+    private static final List<String> EMPLOYEE_DIMENSIONS =
+            List.of("dept", "deptName", "position", "status", "joinMonth");
+    private static final List<String> ATTENDANCE_DIMENSIONS =
+            List.of("dept", "deptName", "position", "status", "month", "weekday");
+    private static final List<String> ATTENDANCE_METRICS =
+            List.of("late", "lateMinutes", "workedMinutes", "incomplete", "overtimeMinutes", "holidayWorkMinutes");
+
+    private static final String NO_DEPT = "NONE";
+    private static final String NO_DEPT_NAME = "미지정";
+    private static final DateTimeFormatter MONTH = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private final AnalyticsMapper analyticsMapper;
+    private final AccountAuthMapper accountAuthMapper;
+    private final WorkHoursEngine workHoursEngine;
+    private final BusinessCalendarService businessCalendarService;
+    private final int attendanceMonths;
+    private final int maxRows;
+    private final ForkJoinPool scanPool;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "analytics-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 현재 스냅샷 (적재 전 null)
+    private volatile AnalyticsSnapshot snapshot;
+
+    public AnalyticsService(AnalyticsMapper analyticsMapper,
+                            AccountAuthMapper accountAuthMapper,
+                            WorkHoursEngine workHoursEngine,
+                            BusinessCalendarService businessCalendarService,
+                            @Value("${analytics.attendance-months:12}") int attendanceMonths,
+                            @Value("${analytics.max-rows:1000}") int maxRows,
+                            @Value("${analytics.parallelism:0}") int parallelism) {
+        this.analyticsMapper = analyticsMapper;
+        this.accountAuthMapper = accountAuthMapper;
+        this.workHoursEngine = workHoursEngine;
+        this.businessCalendarService = businessCalendarService;
+        this.attendanceMonths = attendanceMonths;
+        this.maxRows = maxRows;
+        this.scanPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    } // func end
+
+    /**
+     * [ANALYTICS_001] 분석 조회
+     * */
+    public AnalyticsQueryResponseDto query(UserPrincipal principal, AnalyticsQueryRequestDto request) {
+        AnalyticsSnapshot current = requireSnapshot();
+        FactTable table = current.table(request.fact());
+
+        // [1] 필터 (+ 권한 범위의 부서 필터 강제)
+        Map<String, Set<String>> filters = new LinkedHashMap<>();
+        if (request.filters() != null) {
+            request.filters().forEach((dimension, values) -> filters.put(dimension, new LinkedHashSet<>(values)));
+        }
+        Set<String> scope = scopeOf(principal);
+        if (scope != null) {
+            Set<String> depts = filters.get("dept");
+            if (depts == null) filters.put("dept", scope);
+            else depts.retainAll(scope);
+        }
+
+        // [2] 지표 → 합계가 필요한 컬럼
+        List<Measure> measures = request.measures().stream().map(Measure::parse).toList();
+        List<String> sums = measures.stream()
+                .map(Measure::metric)
+                .filter(m -> m != null)
+                .distinct()
+                .toList();
+
+        // [3] 병렬 집계
+        List<String> groupBy = request.groupBy() == null ? List.of() : request.groupBy();
+        long startedAt = System.nanoTime();
+        List<FactTable.Group> groups = table.aggregate(filters, groupBy, sums, scanPool);
+        long elapsedMicros = (System.nanoTime() - startedAt) / 1_000;
+
+        // [4] 응답 (키 순, 최대 행 수)
+        List<AnalyticsQueryResponseDto.Row> rows = groups.stream()
+                .sorted(Comparator.comparing(g -> String.join("\u0000", g.keys())))
+                .limit(maxRows)
+                .map(g -> new AnalyticsQueryResponseDto.Row(g.keys(), measures.stream()
+                        .map(m -> m.evaluate(g, sums))
+                        .toList()))
+                .toList();
+        return new AnalyticsQueryResponseDto(table.name(), current.builtAt(), groupBy, request.measures(),
+                rows, groups.size() > maxRows, table.size(), elapsedMicros);
+    } // func end
+
+    /**
+     * [ANALYTICS_002] 분석 스냅샷 구성
+     * */
+    public AnalyticsSchemaResponseDto getSchema() {
+        AnalyticsSnapshot current = requireSnapshot();
+        List<AnalyticsSchemaResponseDto.Fact> facts = current.tables().values().stream()
+                .map(t -> new AnalyticsSchemaResponseDto.Fact(t.name(), t.size(), t.dimensionNames(), t.metricNames()))
+                .toList();
+        return new AnalyticsSchemaResponseDto(current.builtAt(), current.attendanceFrom(), facts);
+    } // func end
+
+    /**
+     * [ANALYTICS_003] 스냅샷 재구성 (백그라운드, 진행 중에도 기존 스냅샷으로 조회)
+     * */
+    public void rebuildAsync() {
+        CompletableFuture.runAsync(this::rebuild, rebuilder)
+                .exceptionally(ex -> {
+                    log.error("[ANALYTICS] snapshot rebuild failed", ex);
+                    return null;
+                });
+    } // func end
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuildAsync();
+    } // func end
+
+    /**
+     * 주기 재구성 – 재구성 전용 스레드로 넘기고 스케줄러 스레드는 바로 반환
+     * */
+    @Scheduled(fixedDelayString = "${analytics.rebuild-interval-ms:600000}",
+            initialDelayString = "${analytics.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        rebuildAsync();
+    } // func end
+
+    /**
+     * 스냅샷 재구성 (이미 진행 중이면 건너뜀)
+     * */
+    public void rebuild() {
+        if (!rebuildLock.tryLock()) return;
+        try {
+            long startedAt = System.nanoTime();
+            AnalyticsSnapshot next = load();
+            snapshot = next;
+            log.info("[ANALYTICS] snapshot rebuilt. employees={}, attendance={}, elapsedMs={}",
+                    next.table(FACT_EMPLOYEE).size(), next.table(FACT_ATTENDANCE).size(),
+                    Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        } finally {
+            rebuildLock.unlock();
+        }
+    } // func end
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+        scanPool.shutdown();
+    } // func end
+
+    /**
+     * DB → 새 스냅샷 (행은 스트리밍으로 받아 즉시 컬럼에 적재)
+     * */
+    private AnalyticsSnapshot load() {
+        // [1] 직원 사실 + 사번 → 직원 차원 (출퇴근 사실 비정규화용)
+        FactTable.Builder employees = FactTable.builder(FACT_EMPLOYEE, EMPLOYEE_DIMENSIONS, List.of());
+        Map<Long, String[]> employeeDims = new HashMap<>();
+        analyticsMapper.streamEmployees(context -> {
+            EmployeeFactRow row = context.getResultObject();
+            String[] dims = {
+                    row.getDeptId() == null ? NO_DEPT : String.valueOf(row.getDeptId()),
+                    row.getDeptName() == null ? NO_DEPT_NAME : row.getDeptName(),
+                    row.getPosition(),
+                    row.getStatus()
+            };
+            employeeDims.put(row.getEmpId(), dims);
+            employees.add(new String[]{dims[0], dims[1], dims[2], dims[3],
+                    row.getCreatedAt() == null ? null : row.getCreatedAt().format(MONTH)}, new int[0]);
+        });
+
+        // [2] 출퇴근 사실 (일 단위 지표는 WorkRule 의 1일 규칙 – WorkHoursCalculator 와 공용)
+        WorkRule rule = workHoursEngine.rule();
+        BusinessCalendar calendar = businessCalendarService.calendar();
+        LocalDate from = LocalDate.now().withDayOfMonth(1).minusMonths(attendanceMonths - 1L);
+        FactTable.Builder attendance = FactTable.builder(FACT_ATTENDANCE, ATTENDANCE_DIMENSIONS, ATTENDANCE_METRICS);
+        analyticsMapper.streamAttendance(from, context -> {
+            AttendanceFactRow row = context.getResultObject();
+            String[] dims = employeeDims.get(row.getEmpId());
+            if (dims == null || row.getCheckInAt() == null) return;
+            attendance.add(new String[]{dims[0], dims[1], dims[2], dims[3],
+                    row.getWorkDate().format(MONTH), row.getWorkDate().getDayOfWeek().name()},
+                    metrics(row, rule, calendar.isWorkday(row.getWorkDate())));
+        });
+
+        Map<String, FactTable> tables = new LinkedHashMap<>();
+        tables.put(FACT_EMPLOYEE, employees.build());
+        tables.put(FACT_ATTENDANCE, attendance.build());
+        return new AnalyticsSnapshot(LocalDateTime.now(), from, tables);
+    } // func end
+
+    /**
+     * 1일 지표 (late, lateMinutes, workedMinutes, incomplete, overtimeMinutes, holidayWorkMinutes)
+     * - 주말 / 휴일 출근은 지각·연장 없이 근로시간 전체가 휴일 근로 (WorkHoursCalculator 와 동일)
+     * */
+    private static int[] metrics(AttendanceFactRow row, WorkRule rule, boolean workday) {
+        LocalDateTime dayStart = row.getWorkDate().atStartOfDay();
+        int in = (int) Duration.between(dayStart, row.getCheckInAt()).toMinutes();
+
+        // [1] 지각
+        int lateMinutes = workday ? rule.lateMinutes(in) : 0;
+
+        // [2] 퇴근 누락
+        int out = row.getCheckOutAt() == null ? in : (int) Duration.between(dayStart, row.getCheckOutAt()).toMinutes();
+        if (out <= in) return new int[]{lateMinutes > 0 ? 1 : 0, lateMinutes, 0, 1, 0, 0};
+
+        // [3] 휴게 제외 근로시간 / 연장 (휴일은 휴일 근로)
+        int worked = rule.workedMinutes(in, out);
+        if (!workday) return new int[]{0, 0, worked, 0, 0, worked};
+        return new int[]{lateMinutes > 0 ? 1 : 0, lateMinutes, worked, 0, rule.overtimeMinutes(worked), 0};
+    } // func end
+
+    private AnalyticsSnapshot requireSnapshot() {
+        AnalyticsSnapshot current = snapshot;
+        if (current == null) throw new IllegalStateException("분석 데이터를 준비 중입니다. 잠시 후 다시 시도해 주세요.");
+        return current;
+    } // func end
+
+    /**
+     * 조회 가능한 부서 (SUPER_ADMIN 은 null = 제한 없음)
+     * */
+    private Set<String> scopeOf(UserPrincipal principal) {
+        boolean superAdmin = principal.getAuthorities().stream()
+                .anyMatch(a -> "ROLE_SUPER_ADMIN".equals(a.getAuthority()));
+        if (superAdmin) return null;
+
+        List<Long> deptIds = accountAuthMapper.selectScopeDeptIds(principal.getEmpId());
+        if (deptIds.isEmpty()) throw new ForbiddenException("분석 조회 권한이 없습니다.");
+        Set<String> scope = new LinkedHashSet<>();
+        for (Long deptId : deptIds) scope.add(String.valueOf(deptId));
+        return scope;
+    } // func end
+
+    /**
+     * 지표 1개 (count / sum:지표 / avg:지표 / rate:지표)
+     * */
+    private record Measure(String function, String metric) {
+
+        static Measure parse(String expression) {
+            if ("count".equals(expression)) return new Measure("count", null);
+            int colon = expression.indexOf(':');
+            String function = colon < 0 ? "" : expression.substring(0, colon);
+            if (!List.of("sum", "avg", "rate").contains(function)) {
+                throw new IllegalArgumentException("지원하지 않는 지표 식입니다 : " + expression);
+            }
+            return new Measure(function, expression.substring(colon + 1));
+        } // func end
+
+        Number evaluate(FactTable.Group group, List<String> sums) {
+            if (metric == null) return group.count();
+            long sum = group.sums()[sums.indexOf(metric)];
+            if ("sum".equals(function)) return sum;
+            if (group.count() == 0) return 0;
+            double value = "rate".equals(function) ? sum * 100.0 / group.count() : (double) sum / group.count();
+            return Math.round(value * 10) / 10.0;
+        } // func end
+
+    } // record end
+
+} // class end
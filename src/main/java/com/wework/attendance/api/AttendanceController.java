@@ -0,0 +1,123 @@
+package com.wework.attendance.api;
+
+import com.wework.attendance.dto.request.AttendanceCorrectionRequestDto;
+import com.wework.attendance.dto.request.AttendanceExportRequestDto;
+import com.wework.attendance.service.AttendanceExportService;
+import com.wework.attendance.service.AttendanceScopeService;
+import com.wework.attendance.service.AttendanceService;
+import com.wework.attendance.service.AttendanceWorkHoursService;
+import com.wework.global.security.UserPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/attendance")
+@RequiredArgsConstructor
+public class AttendanceController {
+
+    private final AttendanceService attendanceService;
+    private final AttendanceExportService attendanceExportService;
+    private final AttendanceScopeService attendanceScopeService;
+    private final AttendanceWorkHoursService attendanceWorkHoursService;
+
+    /**
+     * [ATTENDANCE_001] 출근
+     * */
+    @PostMapping("/check-in")
+    public ResponseEntity<?> checkIn(@AuthenticationPrincipal UserPrincipal principal){
+        return ResponseEntity.ok(attendanceService.checkIn(principal.getEmpId()));
+    } // func end
+
+    /**
+     * [ATTENDANCE_002] 퇴근
+     * */
+    @PostMapping("/check-out")
+    public ResponseEntity<?> checkOut(@AuthenticationPrincipal UserPrincipal principal){
+        return ResponseEntity.ok(attendanceService.checkOut(principal.getEmpId()));
+    } // func end
+
+    /**
+     * [ATTENDANCE_003] 근태 내보내기 (CSV / XLSX)
+     *
+     * <p>조회 결과를 메모리에 모으지 않고 응답 스트림으로 바로 쓴다.
+     * <ul>
+     *   <li>CSV : Accept-Encoding 에 gzip 이 있으면 gzip 압축하여 전송</li>
+     *   <li>XLSX : 파일 자체가 zip 이므로 추가 압축하지 않음</li>
+     *   <li>조회 범위 : SUPER_ADMIN 전체 / 그 외 manager_scope 부서</li>
+     * </ul>
+     * 예) GET /api/attendance/export?from=2026-01-01&to=2026-12-31&format=xlsx
+     * */
+    @GetMapping("/export")
+    public void export(@AuthenticationPrincipal UserPrincipal principal,
+                       @Valid @ModelAttribute AttendanceExportRequestDto requestDto,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        // [1] 권한 범위 / 기간 검증 (응답 쓰기 전에 실패해야 JSON 에러 응답 가능)
+        List<Long> scopeDeptIds = attendanceScopeService.resolveScope(principal);
+        attendanceExportService.validatePeriod(requestDto);
+
+        // [2] 응답 헤더
+        boolean xlsx = "xlsx".equals(requestDto.format());
+        String fileName = "attendance_" + requestDto.from() + "_" + requestDto.to() + (xlsx ? ".xlsx" : ".csv");
+        response.setContentType(xlsx
+                ? "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"
+                : "text/csv;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(fileName, StandardCharsets.UTF_8).build().toString());
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = !xlsx && acceptEncoding != null && acceptEncoding.contains("gzip");
+        if (gzip) response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+
+        // [3] 스트리밍 출력
+        OutputStream out = gzip
+                ? new GZIPOutputStream(response.getOutputStream(), 64 * 1024)
+                : response.getOutputStream();
+        attendanceExportService.export(requestDto, scopeDeptIds, out);
+        if (out instanceof GZIPOutputStream gz) gz.finish();
+        out.flush();
+    } // func end
+
+    /**
+     * [ATTENDANCE_004] 내 월간 근무 집계
+     * 예) GET /api/attendance/summary/me?month=2026-10
+     * */
+    @GetMapping("/summary/me")
+    public ResponseEntity<?> mySummary(@AuthenticationPrincipal UserPrincipal principal,
+                                       @RequestParam YearMonth month){
+        return ResponseEntity.ok(attendanceWorkHoursService.getMySummary(principal.getEmpId(), month));
+    } // func end
+
+    /**
+     * [ATTENDANCE_005] 월간 근무 집계 (SUPER_ADMIN 전체 / 그 외 manager_scope 부서)
+     * 예) GET /api/attendance/summary?month=2026-10
+     * */
+    @GetMapping("/summary")
+    public ResponseEntity<?> summaries(@AuthenticationPrincipal UserPrincipal principal,
+                                       @RequestParam YearMonth month){
+        return ResponseEntity.ok(attendanceWorkHoursService.getSummaries(principal, month));
+    } // func end
+
+    /**
+     * [ATTENDANCE_006] 출퇴근 기록 정정 → 해당 직원 월간 집계 반환
+     * */
+    @PutMapping("/correction")
+    public ResponseEntity<?> correct(@AuthenticationPrincipal UserPrincipal principal,
+                                     @Valid @RequestBody AttendanceCorrectionRequestDto requestDto){
+        return ResponseEntity.ok(attendanceWorkHoursService.correct(principal, requestDto));
+    } // func end
+
+} // class end
@@ -0,0 +1,59 @@
+package com.wework.attendance.calc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * 직원 1명 · 1개월 출퇴근 기록 (원시 배열)
+ *
+ * <p>엔티티/행 객체 대신 일자(1~31) 인덱스의 int[] 에 epoch-minute 값을 담는다.
+ * <ul>
+ *   <li>epoch-minute : 현지(Asia/Seoul) 벽시계 시각을 UTC 로 간주한 1970-01-01 00:00 기준 분</li>
+ *   <li>→ minute % 1440 이 곧 하루 중 분이므로 시간대 계산 없이 규칙을 적용할 수 있다</li>
+ *   <li>기록 없음 : {@link #NONE}</li>
+ * </ul>
+ * */
+public final class EmployeeMonthPunches {
+
+    public static final int NONE = -1;
+
+    private final long empId;
+    private final Long deptId;
+    private final YearMonth month;
+    private final int[] checkIns;
+    private final int[] checkOuts;
+
+    public EmployeeMonthPunches(long empId, Long deptId, YearMonth month) {
+        this.empId = empId;
+        this.deptId = deptId;
+        this.month = month;
+        this.checkIns = new int[month.lengthOfMonth()];
+        this.checkOuts = new int[month.lengthOfMonth()];
+        Arrays.fill(checkIns, NONE);
+        Arrays.fill(checkOuts, NONE);
+    } // func end
+
+    /**
+     * 근무일 기록 적재
+     * */
+    public void put(LocalDate workDate, LocalDateTime checkInAt, LocalDateTime checkOutAt) {
+        int day = workDate.getDayOfMonth() - 1;
+        checkIns[day] = toEpochMinute(checkInAt);
+        checkOuts[day] = toEpochMinute(checkOutAt);
+    } // func end
+
+    public static int toEpochMinute(LocalDateTime dateTime) {
+        if (dateTime == null) return NONE;
+        return (int) (dateTime.toEpochSecond(ZoneOffset.UTC) / 60);
+    } // func end
+
+    public long empId() { return empId; }
+    public Long deptId() { return deptId; }
+    public YearMonth month() { return month; }
+    public int[] checkIns() { return checkIns; }
+    public int[] checkOuts() { return checkOuts; }
+
+} // class end
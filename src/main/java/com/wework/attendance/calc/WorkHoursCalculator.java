@@ -0,0 +1,81 @@
+package com.wework.attendance.calc;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.function.Predicate;
+
+/**
+ * 근무시간 계산 (순수 함수)
+ *
+ * <p>일자 배열을 한 번 순회하며 정수 연산만 수행한다 (객체 할당 없음).
+ * <p>1일 계산 규칙 ({@link WorkRule} – 인사 분석 스냅샷도 같은 규칙을 사용)
+ * <P>1) 출근 > 소정 시작 + 유예 → 지각 (소정 시작부터의 분)</P>
+ * <P>2) 퇴근 누락 → 미완료 일자로 집계하고 근로시간은 0</P>
+ * <P>3) 근로시간 = 퇴근 - 출근 - (휴게 구간과 겹치는 분)</P>
+ * <P>4) 퇴근 < 소정 종료 → 조퇴 / 근로시간 > 1일 소정 → 연장</P>
+ * <P>5) 근무일이 아닌 날(주말 / 휴일)의 출근은 근로시간 전체가 휴일 근로 – 지각 / 조퇴 / 연장 없음</P>
+ * */
+public final class WorkHoursCalculator {
+
+    private static final int MINUTES_PER_DAY = 1440;
+
+    private WorkHoursCalculator() { }
+
+    /**
+     * @param workdays 해당 월 근무일 비트 (bit d = d+1 일, {@link #workdayMask})
+     * */
+    public static WorkSummary calculate(EmployeeMonthPunches punches, WorkRule rule, int workdays) {
+        int[] ins = punches.checkIns();
+        int[] outs = punches.checkOuts();
+
+        int workDays = 0, worked = 0, lateCount = 0, late = 0, earlyLeave = 0, overtime = 0, holidayWork = 0,
+                incomplete = 0;
+        for (int d = 0; d < ins.length; d++) {
+            int in = ins[d];
+            if (in == EmployeeMonthPunches.NONE) continue;
+            workDays++;
+            boolean workday = (workdays & (1 << d)) != 0;
+
+            // [1] 지각
+            int dayStart = in - Math.floorMod(in, MINUTES_PER_DAY);
+            int dayLate = workday ? rule.lateMinutes(in - dayStart) : 0;
+            if (dayLate > 0) {
+                lateCount++;
+                late += dayLate;
+            }
+
+            // [2] 퇴근 누락
+            int out = outs[d];
+            if (out == EmployeeMonthPunches.NONE || out <= in) {
+                incomplete++;
+                continue;
+            }
+
+            // [3] 휴게 제외 근로시간
+            int dayWorked = rule.workedMinutes(in - dayStart, out - dayStart);
+            worked += dayWorked;
+            if (!workday) {
+                holidayWork += dayWorked;
+                continue;
+            }
+
+            // [4] 조퇴 / 연장
+            earlyLeave += rule.earlyLeaveMinutes(out - dayStart);
+            overtime += rule.overtimeMinutes(dayWorked);
+        }
+        return new WorkSummary(punches.empId(), punches.deptId(), punches.month(),
+                workDays, worked, lateCount, late, earlyLeave, overtime, holidayWork, incomplete);
+    } // func end
+
+    /**
+     * 월 근무일 비트 (bit d = d+1 일이 근무일)
+     * */
+    public static int workdayMask(YearMonth month, Predicate<LocalDate> isWorkday) {
+        int mask = 0;
+        for (int d = 0; d < month.lengthOfMonth(); d++) {
+            if (isWorkday.test(month.atDay(d + 1))) mask |= 1 << d;
+        }
+        return mask;
+    } // func end
+
+} // class end
@@ -0,0 +1,298 @@
+package com.wework.attendance.calc;
+
+import com.wework.attendance.event.AttendancePunchesFlushedEvent;
+import com.wework.attendance.infra.redis.AttendancePunch;
+import com.wework.attendance.mapper.AttendanceCalcMapper;
+import com.wework.attendance.mapper.AttendanceDayRow;
+import com.wework.calendar.core.BusinessCalendar;
+import com.wework.calendar.service.BusinessCalendarService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 근무시간 · 지각 · 연장근로 계산 엔진
+ *
+ * <p>처리 흐름</p>
+ * <P>1) 출퇴근 기록을 스트리밍으로 받아 직원별 epoch-minute int[] 에 적재 (행 객체는 즉시 버림)</P>
+ * <P>2) 직원 배열을 fork/join 으로 나눠 병렬 계산 ({@link WorkHoursCalculator}, 근무일은 영업일 달력 기준)</P>
+ * <P>3) 결과를 직원-월 단위로 캐시 (계산에 쓴 월 근무일 비트와 함께)</P>
+ *
+ * <p>캐시 무효화
+ * <ul>
+ *   <li>출퇴근 기록 DB 반영 / 정정 시 해당 직원-월만 제거하고, 다음 조회(또는 정정 직후)에 그 직원만 다시 계산</li>
+ *   <li>계산 도중 기록이 바뀐 직원-월은 계산 결과를 캐시에 넣지 않는다 (changedAt 이 계산 시작 이후)</li>
+ *   <li>휴일 등록 / 삭제로 그 달 근무일이 바뀌면 조회 시 근무일 비트가 달라 다시 계산</li>
+ * </ul>
+ *
+ * <p>메모리 상한
+ * <ul>
+ *   <li>캐시 : attendance.calc.cache-max-entries 를 넘으면 가장 오래된 월부터 월 단위로 제거</li>
+ *   <li>changedAt : CHANGE_HORIZON 이 지난 항목은 정리 – 그보다 오래 걸린 계산 결과는 캐시에 넣지 않는다</li>
+ * </ul>
+ * */
+@Component
+@Log4j2
+public class WorkHoursEngine {
+
+    // fork/join 분할 단위 (직원 수)
+    private static final int SPLIT_THRESHOLD = 64;
+    // 기록 변경 시각 보관 기간 (이보다 오래 걸린 계산은 캐시하지 않음)
+    private static final long CHANGE_HORIZON_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final AttendanceCalcMapper attendanceCalcMapper;
+    private final BusinessCalendarService businessCalendarService;
+    private final WorkRule rule;
+    private final ForkJoinPool pool;
+    private final int cacheMaxEntries;
+
+    // 직원-월 → 집계 결과
+    private final ConcurrentHashMap<Key, Cached> cache = new ConcurrentHashMap<>();
+    // 직원-월 → 마지막 기록 변경 시각 (System.nanoTime)
+    private final ConcurrentHashMap<Key, Long> changedAt = new ConcurrentHashMap<>();
+    // changedAt 마지막 정리 시각 / 캐시 제거 직렬화
+    private final AtomicLong lastPruned = new AtomicLong(System.nanoTime());
+    private final ReentrantLock evictLock = new ReentrantLock();
+
+    private record Key(long empId, YearMonth month) { }
+
+    // 집계 결과 + 계산 당시 월 근무일 비트
+    private record Cached(WorkSummary summary, int workdays) { }
+
+    public WorkHoursEngine(AttendanceCalcMapper attendanceCalcMapper,
+                           BusinessCalendarService businessCalendarService,
+                           @Value("${attendance.work.shift-start:09:00}") String shiftStart,
+                           @Value("${attendance.work.shift-end:18:00}") String shiftEnd,
+                           @Value("${attendance.work.break-start:12:00}") String breakStart,
+                           @Value("${attendance.work.break-end:13:00}") String breakEnd,
+                           @Value("${attendance.work.regular-minutes:480}") int regularMinutes,
+                           @Value("${attendance.work.late-grace-minutes:0}") int lateGrace,
+                           @Value("${attendance.calc.parallelism:0}") int parallelism,
+                           @Value("${attendance.calc.cache-max-entries:50000}") int cacheMaxEntries) {
+        this.attendanceCalcMapper = attendanceCalcMapper;
+        this.businessCalendarService = businessCalendarService;
+        this.cacheMaxEntries = cacheMaxEntries;
+        this.rule = WorkRule.of(shiftStart, shiftEnd, breakStart, breakEnd, regularMinutes, lateGrace);
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    } // func end
+
+    public WorkRule rule() {
+        return rule;
+    } // func end
+
+    /**
+     * 직원 1명 · 1개월 집계 (캐시 우선)
+     * */
+    public WorkSummary summarize(long empId, YearMonth month) {
+        WorkSummary cached = cached(new Key(empId, month), workdays(month));
+        return cached != null ? cached : recalculate(empId, month);
+    } // func end
+
+    /**
+     * 전 직원(또는 지정 부서) · 1개월 집계 (급여 마감용)
+     * - 이미 캐시된 직원-월은 캐시 값을 그대로 사용
+     * @param deptIds 대상 부서 (null 이면 전체) – 범위 밖 직원은 조회 / 계산하지 않는다
+     * */
+    public List<WorkSummary> summarizeMonth(YearMonth month, List<Long> deptIds) {
+        long startedAt = System.nanoTime();
+        int workdays = workdays(month);
+
+        // [1] 원시 배열 적재
+        List<EmployeeMonthPunches> loaded = load(month, null, deptIds);
+        EmployeeMonthPunches[] targets = loaded.stream()
+                .filter(p -> cached(new Key(p.empId(), month), workdays) == null)
+                .toArray(EmployeeMonthPunches[]::new);
+
+        // [2] 병렬 계산
+        WorkSummary[] results = new WorkSummary[targets.length];
+        pool.invoke(new CalculateTask(targets, results, 0, targets.length, rule, workdays));
+        for (WorkSummary result : results) store(result, workdays, startedAt);
+
+        // [3] 캐시 + 신규 계산 결과 병합
+        List<WorkSummary> summaries = new ArrayList<>(loaded.size());
+        int next = 0;
+        for (EmployeeMonthPunches p : loaded) {
+            if (next < targets.length && targets[next] == p) {
+                summaries.add(results[next++]);
+            } else {
+                // 집계 도중 무효화되었으면 그 직원만 재계산
+                WorkSummary cached = cached(new Key(p.empId(), month), workdays);
+                summaries.add(cached != null ? cached : recalculate(p.empId(), month));
+            }
+        }
+        log.info("[ATTENDANCE] month summary. month={} employees={} calculated={} elapsedMs={}",
+                month, loaded.size(), targets.length, (System.nanoTime() - startedAt) / 1_000_000);
+        return summaries;
+    } // func end
+
+    /**
+     * 직원 1명 · 1개월 재계산 (정정 직후 등)
+     * */
+    public WorkSummary recalculate(long empId, YearMonth month) {
+        long startedAt = System.nanoTime();
+        int workdays = workdays(month);
+        List<EmployeeMonthPunches> loaded = load(month, empId, null);
+        WorkSummary summary = loaded.isEmpty()
+                ? WorkHoursCalculator.calculate(new EmployeeMonthPunches(empId, null, month), rule, workdays)
+                : WorkHoursCalculator.calculate(loaded.get(0), rule, workdays);
+        return store(summary, workdays, startedAt);
+    } // func end
+
+    /**
+     * 기록 변경된 직원-월 무효화
+     * - DB 반영(커밋) 이후에 호출해야 한다
+     * */
+    public void invalidate(long empId, LocalDate workDate) {
+        Key key = new Key(empId, YearMonth.from(workDate));
+        long now = System.nanoTime();
+        changedAt.put(key, now);
+        cache.remove(key);
+        pruneChanges(now);
+    } // func end
+
+    /**
+     * write-behind 반영 완료 → 해당 직원-월 무효화
+     * */
+    @EventListener
+    public void onPunchesFlushed(AttendancePunchesFlushedEvent event) {
+        for (AttendancePunch punch : event.punches()) {
+            invalidate(punch.empId(), punch.workDate());
+        }
+    } // func end
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    } // func end
+
+    /**
+     * 계산 결과 캐시 저장
+     * - 같은 근무일 기준으로 이미 캐시된 값이 있으면 유지
+     * - 계산 시작 이후 기록이 바뀌었으면 저장하지 않음 (다음 조회에서 재계산)
+     * - 변경 시각 보관 기간보다 오래 걸린 계산은 저장하지 않음 (정리된 변경을 놓칠 수 있음)
+     * */
+    private WorkSummary store(WorkSummary summary, int workdays, long startedAt) {
+        if (System.nanoTime() - startedAt > CHANGE_HORIZON_NANOS) return summary;
+        Cached stored = cache.compute(new Key(summary.empId(), summary.month()), (key, existing) -> {
+            if (existing != null && existing.workdays() == workdays) return existing;
+            Long changed = changedAt.get(key);
+            return changed != null && changed - startedAt > 0 ? null : new Cached(summary, workdays);
+        });
+        evictIfFull();
+        return stored != null && stored.workdays() == workdays ? stored.summary() : summary;
+    } // func end
+
+    /**
+     * 캐시 조회 (근무일이 바뀐 달의 값은 없는 것으로 본다)
+     * */
+    private WorkSummary cached(Key key, int workdays) {
+        Cached cached = cache.get(key);
+        return cached != null && cached.workdays() == workdays ? cached.summary() : null;
+    } // func end
+
+    /**
+     * 현재 영업일 달력 기준 월 근무일 비트 (주말 / 휴일 제외)
+     * */
+    private int workdays(YearMonth month) {
+        BusinessCalendar calendar = businessCalendarService.calendar();
+        return WorkHoursCalculator.workdayMask(month, calendar::isWorkday);
+    } // func end
+
+    /**
+     * 캐시 상한 초과 → 가장 오래된 월부터 월 단위 제거 (동시에 1스레드만)
+     * */
+    private void evictIfFull() {
+        if (cache.size() <= cacheMaxEntries || !evictLock.tryLock()) return;
+        try {
+            while (cache.size() > cacheMaxEntries) {
+                YearMonth oldest = cache.keySet().stream()
+                        .map(Key::month)
+                        .min(Comparator.naturalOrder())
+                        .orElse(null);
+                if (oldest == null) break;
+                cache.keySet().removeIf(key -> key.month().equals(oldest));
+                log.debug("[ATTENDANCE] work hours cache full. evicted month={}", oldest);
+            }
+        } finally {
+            evictLock.unlock();
+        }
+    } // func end
+
+    /**
+     * 보관 기간이 지난 기록 변경 시각 정리 (보관 기간의 절반마다 1회)
+     * */
+    private void pruneChanges(long now) {
+        long last = lastPruned.get();
+        if (now - last < CHANGE_HORIZON_NANOS / 2 || !lastPruned.compareAndSet(last, now)) return;
+        changedAt.values().removeIf(changed -> now - changed > CHANGE_HORIZON_NANOS);
+    } // func end
+
+    /**
+     * 출퇴근 기록 → 직원별 원시 배열 (사번 순 스트리밍)
+     * */
+    private List<EmployeeMonthPunches> load(YearMonth month, Long empId, List<Long> deptIds) {
+        List<EmployeeMonthPunches> loaded = new ArrayList<>();
+        attendanceCalcMapper.streamPunches(month.atDay(1), month.atEndOfMonth(), empId, deptIds, context -> {
+            AttendanceDayRow row = context.getResultObject();
+            EmployeeMonthPunches current = loaded.isEmpty() ? null : loaded.get(loaded.size() - 1);
+            if (current == null || current.empId() != row.getEmpId()) {
+                current = new EmployeeMonthPunches(row.getEmpId(), row.getDeptId(), month);
+                loaded.add(current);
+            }
+            current.put(row.getWorkDate(), row.getCheckInAt(), row.getCheckOutAt());
+        });
+        return loaded;
+    } // func end
+
+    /**
+     * 직원 배열 구간 [from, to) 병렬 계산
+     * */
+    private static final class CalculateTask extends RecursiveAction {
+
+        private final EmployeeMonthPunches[] targets;
+        private final WorkSummary[] results;
+        private final int from;
+        private final int to;
+        private final WorkRule rule;
+        private final int workdays;
+
+        CalculateTask(EmployeeMonthPunches[] targets, WorkSummary[] results, int from, int to, WorkRule rule,
+                      int workdays) {
+            this.targets = targets;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.rule = rule;
+            this.workdays = workdays;
+        } // func end
+
+        @Override
+        protected void compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    results[i] = WorkHoursCalculator.calculate(targets[i], rule, workdays);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new CalculateTask(targets, results, from, mid, rule, workdays),
+                      new CalculateTask(targets, results, mid, to, rule, workdays));
+        } // func end
+
+    } // class end
+
+} // class end
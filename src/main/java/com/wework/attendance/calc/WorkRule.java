@@ -0,0 +1,65 @@
+package com.wework.attendance.calc;
+
+import java.time.LocalTime;
+
+/**
+ * 근무 규칙 (분 단위, 하루 0시 기준)
+ *
+ * @param shiftStart     소정 근무 시작 (예: 09:00 → 540)
+ * @param shiftEnd       소정 근무 종료 (예: 18:00 → 1080)
+ * @param breakStart     휴게 시작 (예: 12:00 → 720)
+ * @param breakEnd       휴게 종료 (예: 13:00 → 780)
+ * @param regularMinutes 1일 소정 근로시간 (초과분은 연장근로)
+ * @param lateGrace      지각 유예 (분)
+ * */
+public record WorkRule(int shiftStart, int shiftEnd, int breakStart, int breakEnd,
+                       int regularMinutes, int lateGrace) {
+
+    public WorkRule {
+        if (shiftStart >= shiftEnd || breakStart > breakEnd) {
+            throw new IllegalArgumentException("Invalid work rule");
+        }
+    } // func end
+
+    public static WorkRule of(String shiftStart, String shiftEnd, String breakStart, String breakEnd,
+                              int regularMinutes, int lateGrace) {
+        return new WorkRule(minuteOfDay(shiftStart), minuteOfDay(shiftEnd),
+                minuteOfDay(breakStart), minuteOfDay(breakEnd), regularMinutes, lateGrace);
+    } // func end
+
+    /* ===== 1일 규칙 (출근 / 퇴근은 그날 0시 기준 분, 자정을 넘긴 퇴근은 1440 이상) ===== */
+
+    /**
+     * 지각 분 (출근 > 소정 시작 + 유예 → 소정 시작부터의 분, 아니면 0)
+     * */
+    public int lateMinutes(int in) {
+        return in > shiftStart + lateGrace ? in - shiftStart : 0;
+    } // func end
+
+    /**
+     * 근로시간 = 퇴근 - 출근 - (휴게 구간과 겹치는 분)
+     * */
+    public int workedMinutes(int in, int out) {
+        int breakOverlap = Math.max(0, Math.min(out, breakEnd) - Math.max(in, breakStart));
+        return out - in - breakOverlap;
+    } // func end
+
+    /**
+     * 조퇴 분 (퇴근 < 소정 종료)
+     * */
+    public int earlyLeaveMinutes(int out) {
+        return Math.max(0, shiftEnd - out);
+    } // func end
+
+    /**
+     * 연장 분 (근로시간 > 1일 소정)
+     * */
+    public int overtimeMinutes(int worked) {
+        return Math.max(0, worked - regularMinutes);
+    } // func end
+
+    private static int minuteOfDay(String hhmm) {
+        return LocalTime.parse(hhmm).toSecondOfDay() / 60;
+    } // func end
+
+} // record end
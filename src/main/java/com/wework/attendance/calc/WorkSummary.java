@@ -0,0 +1,20 @@
+package com.wework.attendance.calc;
+
+import java.time.YearMonth;
+
+/**
+ * 직원 1명 · 1개월 근무 집계 (단위: 분)
+ * */
+public record WorkSummary(
+        long empId,                 // 사번
+        Long deptId,                // 부서 ID
+        YearMonth month,            // 대상 월
+        int workDays,               // 출근일 수
+        int workedMinutes,          // 실 근로시간 (휴게 제외)
+        int lateCount,              // 지각 횟수
+        int lateMinutes,            // 지각 시간
+        int earlyLeaveMinutes,      // 조퇴 시간
+        int overtimeMinutes,        // 연장 근로시간 (근무일의 1일 소정 근로시간 초과분)
+        int holidayWorkMinutes,     // 휴일 근로시간 (주말 / 휴일 출근분 전체, 지각·조퇴·연장 판단 없음)
+        int incompleteDays          // 퇴근 기록 누락 일수
+) { } // record end
@@ -0,0 +1,22 @@
+package com.wework.attendance.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * [ATTENDANCE_006] 출퇴근 기록 정정 요청
+ * */
+public record AttendanceCorrectionRequestDto(
+        @NotNull(message = "empId는 필수입니다.")
+        Long empId,                 // 대상 사번
+
+        @NotNull(message = "workDate는 필수입니다.")
+        LocalDate workDate,         // 근무일
+
+        @NotNull(message = "checkInAt은 필수입니다.")
+        LocalDateTime checkInAt,    // 정정 출근 시각
+
+        LocalDateTime checkOutAt    // 정정 퇴근 시각 (없으면 미퇴근)
+) { } // record end
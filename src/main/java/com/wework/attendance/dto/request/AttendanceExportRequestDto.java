@@ -0,0 +1,20 @@
+package com.wework.attendance.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+import java.time.LocalDate;
+
+/**
+ * [ATTENDANCE_003] 근태 내보내기 요청 (Query Parameter)
+ * */
+public record AttendanceExportRequestDto(
+        @NotNull(message = "from은 필수입니다.")
+        LocalDate from,         // 시작일 (포함)
+
+        @NotNull(message = "to는 필수입니다.")
+        LocalDate to,           // 종료일 (포함)
+
+        @Pattern(regexp = "csv|xlsx")
+        String format           // csv(기본) / xlsx
+) { } // record end
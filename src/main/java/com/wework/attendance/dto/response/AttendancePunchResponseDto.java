@@ -0,0 +1,15 @@
+package com.wework.attendance.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * [ATTENDANCE_001~002] 출퇴근 기록 응답 DTO
+ * */
+public record AttendancePunchResponseDto(
+        String type,                // IN(출근) / OUT(퇴근)
+        LocalDate workDate,         // 근무일
+        LocalDateTime punchedAt,    // 기록 시각 (중복 요청이면 최초 기록 시각)
+        boolean duplicated          // 이미 기록된 요청 여부
+) {
+}
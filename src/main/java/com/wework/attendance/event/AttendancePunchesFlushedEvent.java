@@ -0,0 +1,10 @@
+package com.wework.attendance.event;
+
+import com.wework.attendance.infra.redis.AttendancePunch;
+
+import java.util.List;
+
+/**
+ * 출퇴근 기록이 DB 에 반영됨 (write-behind 배치 커밋 후 발행)
+ * */
+public record AttendancePunchesFlushedEvent(List<AttendancePunch> punches) { } // record end
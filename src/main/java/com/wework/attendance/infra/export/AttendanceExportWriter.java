@@ -0,0 +1,28 @@
+package com.wework.attendance.infra.export;
+
+import com.wework.attendance.mapper.AttendanceExportRow;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 근태 내보내기 출력기
+ * - 헤더 → 행(반복) → finish 순으로 호출되며, 행은 받는 즉시 출력 스트림으로 내보낸다
+ * - close 는 중간 실패 시에도 호출되어 임시 자원을 정리한다 (출력 스트림은 닫지 않음)
+ * */
+public interface AttendanceExportWriter extends Closeable {
+
+    // 헤더 출력
+    void writeHeader() throws IOException;
+
+    // 1행 출력
+    void writeRow(AttendanceExportRow row) throws IOException;
+
+    // 마무리 (버퍼 flush / 파일 포맷 종료)
+    void finish() throws IOException;
+
+    // 임시 자원 정리 (finish 여부와 무관, 여러 번 호출 가능)
+    @Override
+    default void close() throws IOException { }
+
+} // interface end
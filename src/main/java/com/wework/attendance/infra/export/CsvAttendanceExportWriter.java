@@ -0,0 +1,69 @@
+package com.wework.attendance.infra.export;
+
+import com.wework.attendance.mapper.AttendanceExportRow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * CSV 출력기 (UTF-8 BOM 포함 → Excel 에서 한글 깨짐 방지)
+ * - 고정 크기 버퍼(64KB)만 사용하므로 행 수와 무관하게 메모리 사용량이 일정하다
+ * */
+public class CsvAttendanceExportWriter implements AttendanceExportWriter {
+
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Writer writer;
+
+    public CsvAttendanceExportWriter(OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+    } // func end
+
+    @Override
+    public void writeHeader() throws IOException {
+        writer.write('\uFEFF');
+        writer.write("사번,로그인ID,이름,부서ID,부서명,근무일,출근,퇴근\r\n");
+    } // func end
+
+    @Override
+    public void writeRow(AttendanceExportRow row) throws IOException {
+        writer.write(String.valueOf(row.getEmpId()));
+        writer.write(',');
+        writer.write(escape(row.getLoginId()));
+        writer.write(',');
+        writer.write(escape(row.getName()));
+        writer.write(',');
+        writer.write(row.getDeptId() == null ? "" : String.valueOf(row.getDeptId()));
+        writer.write(',');
+        writer.write(escape(row.getDeptName()));
+        writer.write(',');
+        writer.write(String.valueOf(row.getWorkDate()));
+        writer.write(',');
+        writer.write(row.getCheckInAt() == null ? "" : DATE_TIME.format(row.getCheckInAt()));
+        writer.write(',');
+        writer.write(row.getCheckOutAt() == null ? "" : DATE_TIME.format(row.getCheckOutAt()));
+        writer.write("\r\n");
+    } // func end
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    } // func end
+
+    /**
+     * RFC 4180 escape (쉼표/따옴표/개행 포함 시 따옴표로 감싸기)
+     * */
+    private static String escape(String value) {
+        if (value == null) return "";
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    } // func end
+
+} // class end
@@ -0,0 +1,98 @@
+package com.wework.attendance.infra.export;
+
+import com.wework.attendance.mapper.AttendanceExportRow;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * XLSX 출력기 (Apache POI SXSSF 스트리밍)
+ *
+ * <p>메모리에는 최근 ROW_WINDOW 행만 유지하고, 나머지는 압축 임시 파일로 내린 뒤
+ * finish() 에서 출력 스트림으로 zip 을 써 내려간다. 임시 파일은 close() 에서 지운다.
+ * <p>시트 최대 행 수(1,048,576)를 넘으면 다음 시트로 이어서 출력한다.
+ * */
+public class XlsxAttendanceExportWriter implements AttendanceExportWriter {
+
+    private static final int ROW_WINDOW = 200;
+    private static final int MAX_ROWS_PER_SHEET = SpreadsheetVersion.EXCEL2007.getMaxRows();
+    private static final String[] HEADERS = {"사번", "로그인ID", "이름", "부서ID", "부서명", "근무일", "출근", "퇴근"};
+
+    private final OutputStream out;
+    private final SXSSFWorkbook workbook;
+    private final CellStyle dateStyle;
+    private final CellStyle dateTimeStyle;
+
+    private Sheet sheet;
+    private int rowIndex;
+    private int sheetNo;
+
+    public XlsxAttendanceExportWriter(OutputStream out) {
+        this.out = out;
+        this.workbook = new SXSSFWorkbook(ROW_WINDOW);
+        this.workbook.setCompressTempFiles(true);
+        short dateFormat = workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd");
+        short dateTimeFormat = workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss");
+        this.dateStyle = workbook.createCellStyle();
+        this.dateStyle.setDataFormat(dateFormat);
+        this.dateTimeStyle = workbook.createCellStyle();
+        this.dateTimeStyle.setDataFormat(dateTimeFormat);
+    } // func end
+
+    @Override
+    public void writeHeader() {
+        newSheet();
+    } // func end
+
+    @Override
+    public void writeRow(AttendanceExportRow r) {
+        if (rowIndex >= MAX_ROWS_PER_SHEET) newSheet();
+        Row row = sheet.createRow(rowIndex++);
+        row.createCell(0).setCellValue(r.getEmpId());
+        row.createCell(1).setCellValue(r.getLoginId());
+        row.createCell(2).setCellValue(r.getName());
+        if (r.getDeptId() != null) row.createCell(3).setCellValue(r.getDeptId());
+        row.createCell(4).setCellValue(r.getDeptName());
+        if (r.getWorkDate() != null) {
+            row.createCell(5).setCellValue(r.getWorkDate());
+            row.getCell(5).setCellStyle(dateStyle);
+        }
+        if (r.getCheckInAt() != null) {
+            row.createCell(6).setCellValue(r.getCheckInAt());
+            row.getCell(6).setCellStyle(dateTimeStyle);
+        }
+        if (r.getCheckOutAt() != null) {
+            row.createCell(7).setCellValue(r.getCheckOutAt());
+            row.getCell(7).setCellStyle(dateTimeStyle);
+        }
+    } // func end
+
+    @Override
+    public void finish() throws IOException {
+        workbook.write(out);
+        out.flush();
+    } // func end
+
+    /**
+     * 통합 문서 닫기 + 임시 파일 삭제 (POI 5.x close 가 dispose 포함) – 조회 / 쓰기 도중 실패해도 호출된다
+     * */
+    @Override
+    public void close() throws IOException {
+        workbook.close();
+    } // func end
+
+    private void newSheet() {
+        sheet = workbook.createSheet("attendance" + (sheetNo++ == 0 ? "" : "_" + sheetNo));
+        Row header = sheet.createRow(0);
+        for (int i = 0; i < HEADERS.length; i++) {
+            header.createCell(i).setCellValue(HEADERS[i]);
+        }
+        rowIndex = 1;
+    } // func end
+
+} // class end
@@ -0,0 +1,40 @@
+package com.wework.attendance.infra.redis;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 출퇴근 기록 1건 (write-behind journal 항목)
+ *
+ * <p>Redis List 에는 "TYPE|empId|workDate|epochMillis" 문자열로 저장한다.
+ *
+ * @param type       IN(출근) / OUT(퇴근)
+ * @param empId      사번
+ * @param workDate   근무일 (Asia/Seoul 기준)
+ * @param punchedAt  기록 시각 (epoch millis)
+ * */
+public record AttendancePunch(String type, long empId, LocalDate workDate, long punchedAt) {
+
+    public static final String TYPE_IN = "IN";
+    public static final String TYPE_OUT = "OUT";
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    // journal 문자열로 변환
+    public String encode() {
+        return type + "|" + empId + "|" + workDate + "|" + punchedAt;
+    } // func end
+
+    // journal 문자열에서 복원
+    public static AttendancePunch decode(String value) {
+        String[] p = value.split("\\|");
+        return new AttendancePunch(p[0], Long.parseLong(p[1]), LocalDate.parse(p[2]), Long.parseLong(p[3]));
+    } // func end
+
+    // 기록 시각 (Asia/Seoul)
+    public LocalDateTime punchedAtLocal() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(punchedAt), ZONE);
+    } // func end
+
+} // record end
@@ -0,0 +1,238 @@
+package com.wework.attendance.infra.redis;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 출퇴근 중복 제거 + write-behind journal Redis 저장소
+ *
+ * <p>
+ * Redis Key Naming Rule (shard = empId % {@link #SHARDS}, <code>{j<shard>}</code> 는 Redis Cluster hash tag):
+ * <ul>
+ *     <li><code>attendance:{j<shard>}:punch:<IN|OUT>:<workDate>:<empId></code> – 1일 1회 중복 제거 (값: epochMillis)</li>
+ *     <li><code>attendance:{j<shard>}:journal</code> – DB 미반영 출퇴근 기록 (List, FIFO)</li>
+ *     <li><code>attendance:{j<shard>}:inflight:<nodeId></code> – 노드가 DB 반영 중인 배치 (List)</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 출퇴근 요청은 "중복 확인 + journal 적재"를 Lua 스크립트 1회로 원자 처리하고 즉시 응답한다.
+ * DB 반영은 AttendanceWriteBehindFlusher 가 shard 마다 journal → inflight 로 옮긴 뒤 배치 INSERT 하며,
+ * 반영 완료 전에 노드가 죽어도 inflight 가 남아 재기동 시 다시 처리된다.
+ * 한 스크립트가 다루는 키는 모두 같은 shard tag 를 가지므로 Redis Cluster 에서도 같은 slot 에 있다.
+ * </p>
+ *
+ * <p>
+ * attendance.redis.legacy-keys=true 이면 이전 형식(<code>attendance:punch:*</code> / <code>attendance:journal</code> /
+ * <code>attendance:inflight:<nodeId></code>)도 함께 읽는다 (단일 Redis 에서 전환하는 동안만).
+ * </p>
+ */
+@Component
+public class AttendancePunchStore {
+
+    // journal shard 수 (바꾸면 기존 shard 의 journal 이 남으므로 고정)
+    public static final int SHARDS = 16;
+
+    private static final String KEY_PREFIX = "attendance:{j";          // attendance:{j<shard>}:...
+
+    // 이전 형식 (hash tag 없음 – 단일 Redis 전용)
+    private static final String LEGACY_PUNCH = "attendance:punch:";    // attendance:punch:{type}:{date}:{empId}
+    private static final String LEGACY_JOURNAL = "attendance:journal";
+    private static final String LEGACY_INFLIGHT = "attendance:inflight:";
+
+    private static final long PUNCH_TTL_SECONDS = 2 * 24 * 60 * 60;     // 중복 제거 키 보관 (2일)
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final boolean legacyKeys;
+
+    public AttendancePunchStore(StringRedisTemplate stringRedisTemplate,
+                                @Value("${attendance.redis.legacy-keys:false}") boolean legacyKeys) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.legacyKeys = legacyKeys;
+    } // func end
+
+    /**
+     * 출퇴근 기록 스크립트
+     * - KEYS[1] 중복 제거 키 / KEYS[2] journal / KEYS[3] (퇴근 시) 출근 키
+     * - ARGV[1] epochMillis / ARGV[2] TTL / ARGV[3] journal 항목
+     * - 반환 : {1, 기록시각} 신규 / {0, 기존시각} 중복 / {-1} 선행 출근 없음
+     */
+    private static final RedisScript<List> PUNCH_SCRIPT = new DefaultRedisScript<>("""
+            if #KEYS == 3 and redis.call('EXISTS', KEYS[3]) == 0 then
+              return {-1}
+            end
+            local prev = redis.call('GET', KEYS[1])
+            if prev then
+              return {0, prev}
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+            redis.call('RPUSH', KEYS[2], ARGV[3])
+            return {1, ARGV[1]}
+            """, List.class);
+
+    /**
+     * journal → inflight 이동 스크립트
+     * - KEYS[1] journal / KEYS[2] inflight / ARGV[1] 최대 건수
+     */
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>("""
+            local items = redis.call('LRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+            if #items > 0 then
+              redis.call('RPUSH', KEYS[2], unpack(items))
+              redis.call('LTRIM', KEYS[1], #items, -1)
+            end
+            return items
+            """, List.class);
+
+    /**
+     * 출퇴근 기록 결과
+     * @param status    1 신규 / 0 중복 / -1 선행 출근 없음
+     * @param punchedAt 기록된(또는 기존) 시각 epochMillis
+     * */
+    public record PunchResult(int status, long punchedAt) { }
+
+    /* =========================================================
+     *  Key 생성
+     * ========================================================= */
+
+    public static int shardOf(long empId) {
+        return (int) Math.floorMod(empId, (long) SHARDS);
+    } // func end
+
+    private static String shardKey(int shard) {
+        return KEY_PREFIX + shard + "}:";
+    } // func end
+
+    private static String punchKey(String type, LocalDate workDate, long empId) {
+        return shardKey(shardOf(empId)) + "punch:" + type + ":" + workDate + ":" + empId;
+    } // func end
+
+    private static String journalKey(int shard) {
+        return shardKey(shard) + "journal";
+    } // func end
+
+    private static String inflightKey(int shard, String nodeId) {
+        return shardKey(shard) + "inflight:" + nodeId;
+    } // func end
+
+    private static String legacyPunchKey(String type, LocalDate workDate, long empId) {
+        return LEGACY_PUNCH + type + ":" + workDate + ":" + empId;
+    } // func end
+
+    /* =========================================================
+     *  출퇴근 기록
+     * ========================================================= */
+
+    /**
+     * 중복 확인 + journal 적재 (원자 처리)
+     * - 퇴근(OUT)은 같은 날 출근(IN) 기록이 있어야 한다
+     * */
+    public PunchResult punch(AttendancePunch punch) {
+        String journal = journalKey(shardOf(punch.empId()));
+        String inKey = punchKey(AttendancePunch.TYPE_IN, punch.workDate(), punch.empId());
+        boolean out = AttendancePunch.TYPE_OUT.equals(punch.type());
+        if (legacyKeys) {
+            copyLegacyPunch(AttendancePunch.TYPE_IN, punch);
+            if (out) copyLegacyPunch(AttendancePunch.TYPE_OUT, punch);
+        }
+        List<String> keys = out
+                ? List.of(punchKey(punch.type(), punch.workDate(), punch.empId()), journal, inKey)
+                : List.of(inKey, journal);
+
+        List<?> result = stringRedisTemplate.execute(PUNCH_SCRIPT, keys,
+                String.valueOf(punch.punchedAt()), String.valueOf(PUNCH_TTL_SECONDS), punch.encode());
+
+        int status = ((Number) result.get(0)).intValue();
+        long punchedAt = result.size() > 1 ? Long.parseLong(String.valueOf(result.get(1))) : 0;
+        return new PunchResult(status, punchedAt);
+    } // func end
+
+    /**
+     * 이전 형식의 중복 제거 키가 있으면 새 형식으로 복사 (없을 때만, attendance.redis.legacy-keys=true)
+     * - 전환 전에 출근한 직원의 퇴근 / 중복 출근이 새 키만 보고 잘못 처리되지 않도록
+     * */
+    private void copyLegacyPunch(String type, AttendancePunch punch) {
+        String legacy = stringRedisTemplate.opsForValue().get(legacyPunchKey(type, punch.workDate(), punch.empId()));
+        if (legacy == null) return;
+        stringRedisTemplate.opsForValue().setIfAbsent(punchKey(type, punch.workDate(), punch.empId()), legacy,
+                Duration.ofSeconds(PUNCH_TTL_SECONDS));
+    } // func end
+
+    /* =========================================================
+     *  write-behind (shard 별)
+     * ========================================================= */
+
+    /**
+     * shard journal 에서 최대 batchSize 건을 inflight 로 옮기고 반환
+     * */
+    public List<AttendancePunch> drainToInflight(int shard, String nodeId, int batchSize) {
+        List<?> items = stringRedisTemplate.execute(DRAIN_SCRIPT,
+                List.of(journalKey(shard), inflightKey(shard, nodeId)), String.valueOf(batchSize));
+        return decodeAll(items);
+    } // func end
+
+    /**
+     * 이전 실행에서 DB 반영이 끝나지 않은 inflight 조회 (재기동 후 재처리용)
+     * */
+    public List<AttendancePunch> readInflight(int shard, String nodeId) {
+        return decodeAll(stringRedisTemplate.opsForList().range(inflightKey(shard, nodeId), 0, -1));
+    } // func end
+
+    /**
+     * DB 반영 완료된 inflight 삭제
+     * */
+    public void clearInflight(int shard, String nodeId) {
+        stringRedisTemplate.delete(inflightKey(shard, nodeId));
+    } // func end
+
+    /**
+     * DB 미반영 journal 건수 (모니터링용, 전체 shard 합)
+     * */
+    public long journalSize() {
+        long total = 0;
+        for (int shard = 0; shard < SHARDS; shard++) {
+            Long size = stringRedisTemplate.opsForList().size(journalKey(shard));
+            if (size != null) total += size;
+        }
+        return total;
+    } // func end
+
+    /* =========================================================
+     *  이전 형식 journal (attendance.redis.legacy-keys=true, 단일 Redis 전용)
+     * ========================================================= */
+
+    public boolean legacyKeys() {
+        return legacyKeys;
+    } // func end
+
+    /**
+     * 이전 형식 journal → 이전 형식 inflight (전환 전 노드가 쌓은 기록)
+     * */
+    public List<AttendancePunch> drainLegacyToInflight(String nodeId, int batchSize) {
+        List<?> items = stringRedisTemplate.execute(DRAIN_SCRIPT,
+                List.of(LEGACY_JOURNAL, LEGACY_INFLIGHT + nodeId), String.valueOf(batchSize));
+        return decodeAll(items);
+    } // func end
+
+    public List<AttendancePunch> readLegacyInflight(String nodeId) {
+        return decodeAll(stringRedisTemplate.opsForList().range(LEGACY_INFLIGHT + nodeId, 0, -1));
+    } // func end
+
+    public void clearLegacyInflight(String nodeId) {
+        stringRedisTemplate.delete(LEGACY_INFLIGHT + nodeId);
+    } // func end
+
+    private List<AttendancePunch> decodeAll(List<?> items) {
+        if (items == null) return List.of();
+        return items.stream()
+                .map(v -> AttendancePunch.decode(String.valueOf(v)))
+                .toList();
+    } // func end
+
+} // class end
@@ -0,0 +1,21 @@
+package com.wework.attendance.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Mapper
+public interface AttendanceCalcMapper {
+
+    // 근무시간 계산용 출퇴근 기록 (스트리밍, 사번 → 근무일 순)
+    // - empId 가 null 이면 전체 직원, deptIds 가 null 이면 전체 부서
+    void streamPunches(@Param("from") LocalDate from,
+                       @Param("to") LocalDate to,
+                       @Param("empId") Long empId,
+                       @Param("deptIds") List<Long> deptIds,
+                       ResultHandler<AttendanceDayRow> handler);
+
+} // interface end
@@ -0,0 +1,23 @@
+package com.wework.attendance.mapper;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 근무시간 계산용 출퇴근 1행
+ * - ResultHandler 로 받아 즉시 원시 배열에 적재 후 버린다
+ * */
+@Getter
+@Setter
+public class AttendanceDayRow {
+
+    private Long empId;                 // 사번
+    private Long deptId;                // 부서 ID
+    private LocalDate workDate;         // 근무일
+    private LocalDateTime checkInAt;    // 출근 시각
+    private LocalDateTime checkOutAt;   // 퇴근 시각
+
+} // class end
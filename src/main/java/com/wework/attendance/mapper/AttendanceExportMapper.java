@@ -0,0 +1,21 @@
+package com.wework.attendance.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Mapper
+public interface AttendanceExportMapper {
+
+    // [ATTENDANCE_003] 근태 내보내기 (스트리밍)
+    // - deptIds 가 null 이면 전체, 아니면 해당 부서만
+    // - 결과는 List 로 반환하지 않고 handler 로 1행씩 전달
+    void streamAttendance(@Param("from") LocalDate from,
+                          @Param("to") LocalDate to,
+                          @Param("deptIds") List<Long> deptIds,
+                          ResultHandler<AttendanceExportRow> handler);
+
+} // interface end
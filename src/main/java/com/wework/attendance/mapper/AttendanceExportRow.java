@@ -0,0 +1,26 @@
+package com.wework.attendance.mapper;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * [ATTENDANCE_003] 근태 내보내기 1행
+ * - ResultHandler 로 1행씩 받아 즉시 출력 후 버리므로 List 로 모으지 않는다
+ * */
+@Getter
+@Setter
+public class AttendanceExportRow {
+
+    private Long empId;                 // 사번
+    private String loginId;             // 로그인 ID
+    private String name;                // 이름
+    private Long deptId;                // 부서 ID
+    private String deptName;            // 부서명
+    private LocalDate workDate;         // 근무일
+    private LocalDateTime checkInAt;    // 출근 시각
+    private LocalDateTime checkOutAt;   // 퇴근 시각
+
+} // class end
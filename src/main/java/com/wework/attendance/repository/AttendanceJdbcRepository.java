@@ -0,0 +1,85 @@
+package com.wework.attendance.repository;
+
+import com.wework.attendance.infra.redis.AttendancePunch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 출퇴근 기록 JDBC 배치 저장소
+ *
+ * <p>write-behind 로 모인 기록을 JDBC batch 로 한 번에 반영한다.
+ * <p>MySQL 에서는 JDBC URL 에 <code>rewriteBatchedStatements=true</code> 를 주면
+ * 배치가 multi-row INSERT 1건으로 재작성되어 왕복 횟수가 크게 줄어든다.
+ * <p>UPSERT 는 같은 기록을 여러 번 반영해도 결과가 같도록(멱등) 작성하여,
+ * 반영 도중 장애로 inflight 를 재처리해도 안전하다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class AttendanceJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 출근 : 최초 출근 시각 유지
+    private static final String UPSERT_CHECK_IN = """
+            INSERT INTO attendance (emp_id, work_date, check_in_at)
+            VALUES (?, ?, ?)
+            ON DUPLICATE KEY UPDATE check_in_at = COALESCE(check_in_at, VALUES(check_in_at))
+            """;
+
+    // 퇴근 : 퇴근 시각 반영
+    private static final String UPSERT_CHECK_OUT = """
+            INSERT INTO attendance (emp_id, work_date, check_out_at)
+            VALUES (?, ?, ?)
+            ON DUPLICATE KEY UPDATE check_out_at = VALUES(check_out_at)
+            """;
+
+    // 정정 : 출퇴근 시각 모두 덮어쓰기
+    private static final String UPSERT_CORRECTION = """
+            INSERT INTO attendance (emp_id, work_date, check_in_at, check_out_at)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE check_in_at = VALUES(check_in_at), check_out_at = VALUES(check_out_at)
+            """;
+
+    /**
+     * 출퇴근 기록 배치 반영
+     * - 같은 배치 안에서 출근 → 퇴근 순서를 보장하기 위해 IN 배치를 먼저 실행
+     * */
+    @Transactional
+    public void upsertBatch(List<AttendancePunch> punches) {
+        List<AttendancePunch> checkIns = punches.stream()
+                .filter(p -> AttendancePunch.TYPE_IN.equals(p.type()))
+                .toList();
+        List<AttendancePunch> checkOuts = punches.stream()
+                .filter(p -> AttendancePunch.TYPE_OUT.equals(p.type()))
+                .toList();
+
+        if (!checkIns.isEmpty()) batch(UPSERT_CHECK_IN, checkIns);
+        if (!checkOuts.isEmpty()) batch(UPSERT_CHECK_OUT, checkOuts);
+    } // func end
+
+    /**
+     * 출퇴근 기록 정정 (1건)
+     * */
+    @Transactional
+    public void upsertCorrection(long empId, LocalDate workDate, LocalDateTime checkInAt, LocalDateTime checkOutAt) {
+        jdbcTemplate.update(UPSERT_CORRECTION, empId, Date.valueOf(workDate), Timestamp.valueOf(checkInAt),
+                checkOutAt == null ? null : Timestamp.valueOf(checkOutAt));
+    } // func end
+
+    private void batch(String sql, List<AttendancePunch> punches) {
+        jdbcTemplate.batchUpdate(sql, punches, punches.size(), (ps, p) -> {
+            ps.setLong(1, p.empId());
+            ps.setDate(2, Date.valueOf(p.workDate()));
+            ps.setTimestamp(3, Timestamp.valueOf(p.punchedAtLocal()));
+        });
+    } // func end
+
+} // class end
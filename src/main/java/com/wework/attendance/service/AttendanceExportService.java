@@ -0,0 +1,75 @@
+package com.wework.attendance.service;
+
+import com.wework.attendance.dto.request.AttendanceExportRequestDto;
+import com.wework.attendance.infra.export.AttendanceExportWriter;
+import com.wework.attendance.infra.export.CsvAttendanceExportWriter;
+import com.wework.attendance.infra.export.XlsxAttendanceExportWriter;
+import com.wework.attendance.mapper.AttendanceExportMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AttendanceExportService {
+
+    private final AttendanceExportMapper attendanceExportMapper;
+
+    // 1회 내보내기 최대 기간 (1년)
+    private static final long MAX_EXPORT_DAYS = 366;
+
+    /**
+     * [ATTENDANCE_003] 기간 검증
+     * */
+    public void validatePeriod(AttendanceExportRequestDto requestDto) {
+        if (requestDto.to().isBefore(requestDto.from())) {
+            throw new IllegalArgumentException("to는 from 이후여야 합니다.");
+        }
+        if (ChronoUnit.DAYS.between(requestDto.from(), requestDto.to()) >= MAX_EXPORT_DAYS) {
+            throw new IllegalArgumentException("최대 1년까지 내보낼 수 있습니다.");
+        }
+    } // func end
+
+    /**
+     * [ATTENDANCE_003] 근태 내보내기
+     *
+     * <p>DB 커서(MySQL 스트리밍 결과셋)에서 1행씩 받아 즉시 out 으로 쓰므로,
+     * 내보내는 행 수와 무관하게 힙 사용량이 일정하다.
+     *
+     * @param out 응답 출력 스트림 (gzip 여부는 Controller 에서 결정)
+     * */
+    public void export(AttendanceExportRequestDto requestDto, List<Long> scopeDeptIds, OutputStream out) throws IOException {
+        // [1] 포맷별 출력기 생성 (실패해도 임시 파일이 남지 않도록 try-with-resources)
+        try (AttendanceExportWriter writer = "xlsx".equals(requestDto.format())
+                ? new XlsxAttendanceExportWriter(out)
+                : new CsvAttendanceExportWriter(out)) {
+
+            // [2] 헤더 출력
+            writer.writeHeader();
+
+            // [3] 스트리밍 조회 → 1행씩 출력
+            try {
+                attendanceExportMapper.streamAttendance(requestDto.from(), requestDto.to(), scopeDeptIds,
+                        context -> {
+                            try {
+                                writer.writeRow(context.getResultObject());
+                            } catch (IOException e) {
+                                // 클라이언트 연결 종료 등 → 조회 중단
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            // [4] 마무리
+            writer.finish();
+        }
+    } // func end
+
+} // class end
@@ -0,0 +1,47 @@
+package com.wework.attendance.service;
+
+import com.wework.account.mapper.AccountAuthMapper;
+import com.wework.global.exception.ForbiddenException;
+import com.wework.global.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 근태 조회/수정 권한 범위 판단
+ * - SUPER_ADMIN : 전체
+ * - 그 외 : manager_scope 에 지정된 부서
+ * */
+@Service
+@RequiredArgsConstructor
+public class AttendanceScopeService {
+
+    private final AccountAuthMapper accountAuthMapper;
+
+    /**
+     * 관리 가능한 부서 목록 (null 이면 전체, 관리 부서가 없으면 403)
+     * */
+    public List<Long> resolveScope(UserPrincipal principal) {
+        boolean superAdmin = principal.getAuthorities().stream()
+                .anyMatch(a -> "ROLE_SUPER_ADMIN".equals(a.getAuthority()));
+        if (superAdmin) return null;
+
+        List<Long> scopeDeptIds = accountAuthMapper.selectScopeDeptIds(principal.getEmpId());
+        if (scopeDeptIds.isEmpty()) {
+            throw new ForbiddenException("근태 관리 권한이 없습니다.");
+        }
+        return scopeDeptIds;
+    } // func end
+
+    /**
+     * 특정 부서가 권한 범위 안인지 확인 (범위 밖이면 403)
+     * */
+    public void checkScope(UserPrincipal principal, Long deptId) {
+        List<Long> scopeDeptIds = resolveScope(principal);
+        if (scopeDeptIds != null && (deptId == null || !scopeDeptIds.contains(deptId))) {
+            throw new ForbiddenException("관리 범위 밖의 직원입니다.");
+        }
+    } // func end
+
+} // class end
@@ -0,0 +1,53 @@
+package com.wework.attendance.service;
+
+import com.wework.attendance.dto.response.AttendancePunchResponseDto;
+import com.wework.attendance.infra.redis.AttendancePunch;
+import com.wework.attendance.infra.redis.AttendancePunchStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class AttendanceService {
+
+    private final AttendancePunchStore punchStore;
+
+    /**
+     * [ATTENDANCE_001] 출근
+     * - Redis 에서 1일 1회 중복 제거 후 즉시 응답 (DB 반영은 write-behind)
+     * */
+    public AttendancePunchResponseDto checkIn(long empId) {
+        return punch(AttendancePunch.TYPE_IN, empId);
+    } // func end
+
+    /**
+     * [ATTENDANCE_002] 퇴근
+     * - 같은 날 출근 기록이 있어야 한다
+     * */
+    public AttendancePunchResponseDto checkOut(long empId) {
+        return punch(AttendancePunch.TYPE_OUT, empId);
+    } // func end
+
+    private AttendancePunchResponseDto punch(String type, long empId) {
+        // [1] 근무일 / 기록 시각 (Asia/Seoul)
+        ZonedDateTime now = ZonedDateTime.now(AttendancePunch.ZONE);
+        LocalDate workDate = now.toLocalDate();
+        AttendancePunch punch = new AttendancePunch(type, empId, workDate, now.toInstant().toEpochMilli());
+
+        // [2] 중복 제거 + journal 적재 (Redis 원자 처리)
+        AttendancePunchStore.PunchResult result = punchStore.punch(punch);
+        if (result.status() < 0) {
+            throw new IllegalStateException("출근 기록이 없습니다.");
+        }
+
+        // [3] 응답 (중복이면 최초 기록 시각 반환)
+        LocalDateTime punchedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(result.punchedAt()), AttendancePunch.ZONE);
+        return new AttendancePunchResponseDto(type, workDate, punchedAt, result.status() == 0);
+    } // func end
+
+} // class end
@@ -0,0 +1,69 @@
+package com.wework.attendance.service;
+
+import com.wework.attendance.calc.WorkHoursEngine;
+import com.wework.attendance.calc.WorkSummary;
+import com.wework.attendance.dto.request.AttendanceCorrectionRequestDto;
+import com.wework.attendance.repository.AttendanceJdbcRepository;
+import com.wework.employee.entity.EmployeeEntity;
+import com.wework.employee.repository.EmployeeRepository;
+import com.wework.global.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class AttendanceWorkHoursService {
+
+    private final WorkHoursEngine workHoursEngine;
+    private final AttendanceScopeService attendanceScopeService;
+    private final AttendanceJdbcRepository attendanceJdbcRepository;
+    private final EmployeeRepository employeeRepository;
+
+    /**
+     * [ATTENDANCE_004] 내 월간 근무 집계
+     * */
+    public WorkSummary getMySummary(long empId, YearMonth month) {
+        return workHoursEngine.summarize(empId, month);
+    } // func end
+
+    /**
+     * [ATTENDANCE_005] 월간 근무 집계 (관리 범위 전체)
+     * */
+    public List<WorkSummary> getSummaries(UserPrincipal principal, YearMonth month) {
+        // 범위 밖 직원은 조회 / 계산 자체를 하지 않음 (null = 전체)
+        List<Long> scopeDeptIds = attendanceScopeService.resolveScope(principal);
+        return workHoursEngine.summarizeMonth(month, scopeDeptIds);
+    } // func end
+
+    /**
+     * [ATTENDANCE_006] 출퇴근 기록 정정
+     * - DB 반영 후 해당 직원-월만 무효화 → 재계산하여 반환
+     * */
+    public WorkSummary correct(UserPrincipal principal, AttendanceCorrectionRequestDto requestDto) {
+        // [1] 대상 직원 / 권한 범위 확인
+        EmployeeEntity employee = employeeRepository.findById(requestDto.empId())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사원입니다."));
+        attendanceScopeService.checkScope(principal, employee.getDeptId());
+
+        // [2] 시각 검증
+        if (requestDto.checkOutAt() != null && !requestDto.checkOutAt().isAfter(requestDto.checkInAt())) {
+            throw new IllegalArgumentException("퇴근 시각은 출근 시각 이후여야 합니다.");
+        }
+
+        // [3] 정정 반영 (커밋)
+        attendanceJdbcRepository.upsertCorrection(requestDto.empId(), requestDto.workDate(),
+                requestDto.checkInAt(), requestDto.checkOutAt());
+        log.info("[ATTENDANCE] corrected. by={} empId={} workDate={}",
+                principal.getEmpId(), requestDto.empId(), requestDto.workDate());
+
+        // [4] 해당 직원-월 재계산
+        workHoursEngine.invalidate(requestDto.empId(), requestDto.workDate());
+        return workHoursEngine.recalculate(requestDto.empId(), YearMonth.from(requestDto.workDate()));
+    } // func end
+
+} // class end
@@ -0,0 +1,145 @@
+package com.wework.attendance.service;
+
+import com.wework.attendance.event.AttendancePunchesFlushedEvent;
+import com.wework.attendance.infra.redis.AttendancePunch;
+import com.wework.attendance.infra.redis.AttendancePunchStore;
+import com.wework.attendance.repository.AttendanceJdbcRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 출퇴근 기록 write-behind 반영기
+ *
+ * <p>처리 흐름 (attendance.flush.interval-ms 마다, journal shard 를 차례로)</p>
+ * <P>1) shard 의 inflight 에 남은 배치가 있으면 먼저 재반영 (기동 직후 / 직전 반영 실패 shard 만)</P>
+ * <P>2) journal → inflight 로 batchSize 건 이동 (Lua 원자 처리)</P>
+ * <P>3) JDBC batch UPSERT 후 inflight 삭제 + {@link AttendancePunchesFlushedEvent} 발행</P>
+ * <P>4) journal 이 빌 때까지 반복 (한 주기 전체 shard 합 최대 maxBatches 회, 시작 shard 는 주기마다 바뀜)</P>
+ *
+ * <p>DB 반영이 실패하면 그 shard 의 inflight 를 그대로 두고 다음 주기에 재시도한다 (다른 shard 는 계속 진행).
+ * <p>attendance.redis.legacy-keys=true 이면 이전 형식 journal / inflight 를 먼저 처리한다.
+ * <p>nodeId 는 노드마다 달라야 한다 (기본: 호스트명).
+ * */
+@Component
+@Log4j2
+public class AttendanceWriteBehindFlusher {
+
+    private final AttendancePunchStore punchStore;
+    private final AttendanceJdbcRepository attendanceJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId;
+    private final int batchSize;
+    private final int maxBatches;
+    // inflight 재반영이 필요한 shard (기동 시 전체, 이후 반영 실패한 shard) – 스케줄 스레드 전용
+    private final boolean[] recover = new boolean[AttendancePunchStore.SHARDS];
+    private boolean recoverLegacy = true;
+    private int nextShard;
+
+    public AttendanceWriteBehindFlusher(AttendancePunchStore punchStore,
+                                        AttendanceJdbcRepository attendanceJdbcRepository,
+                                        ApplicationEventPublisher eventPublisher,
+                                        @Value("${attendance.node-id:}") String nodeId,
+                                        @Value("${attendance.flush.batch-size:500}") int batchSize,
+                                        @Value("${attendance.flush.max-batches:20}") int maxBatches) {
+        this.punchStore = punchStore;
+        this.attendanceJdbcRepository = attendanceJdbcRepository;
+        this.eventPublisher = eventPublisher;
+        this.nodeId = nodeId.isBlank() ? hostName() : nodeId;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        Arrays.fill(recover, true);
+    } // func end
+
+    /**
+     * 주기적 DB 반영
+     * */
+    @Scheduled(fixedDelayString = "${attendance.flush.interval-ms:200}")
+    public void flush() {
+        int budget = maxBatches;
+        if (punchStore.legacyKeys()) budget = flushLegacy(budget);
+
+        int shards = AttendancePunchStore.SHARDS;
+        for (int i = 0; i < shards && budget > 0; i++) {
+            budget = flushShard((nextShard + i) % shards, budget);
+        }
+        nextShard = (nextShard + 1) % shards;
+    } // func end
+
+    /**
+     * shard 1개 반영 → 남은 배치 수
+     * */
+    private int flushShard(int shard, int budget) {
+        try {
+            // [1] 미완료 inflight 재반영
+            if (recover[shard]) {
+                List<AttendancePunch> pending = punchStore.readInflight(shard, nodeId);
+                if (!pending.isEmpty()) {
+                    log.info("[ATTENDANCE] replay inflight. node={} shard={} size={}", nodeId, shard, pending.size());
+                    write(pending, () -> punchStore.clearInflight(shard, nodeId));
+                }
+                recover[shard] = false;
+            }
+            // [2] journal drain
+            while (budget > 0) {
+                List<AttendancePunch> batch = punchStore.drainToInflight(shard, nodeId, batchSize);
+                if (batch.isEmpty()) break;
+                budget--;
+                write(batch, () -> punchStore.clearInflight(shard, nodeId));
+            }
+        } catch (RuntimeException e) {
+            // inflight 가 남아있으므로 다음 주기에 재시도
+            recover[shard] = true;
+            log.error("[ATTENDANCE] write-behind flush failed. node={} shard={}", nodeId, shard, e);
+        }
+        return budget;
+    } // func end
+
+    /**
+     * 이전 형식 journal 반영 (전환 기간, 단일 Redis) → 남은 배치 수
+     * */
+    private int flushLegacy(int budget) {
+        try {
+            if (recoverLegacy) {
+                List<AttendancePunch> pending = punchStore.readLegacyInflight(nodeId);
+                if (!pending.isEmpty()) {
+                    log.info("[ATTENDANCE] replay legacy inflight. node={} size={}", nodeId, pending.size());
+                    write(pending, () -> punchStore.clearLegacyInflight(nodeId));
+                }
+                recoverLegacy = false;
+            }
+            while (budget > 0) {
+                List<AttendancePunch> batch = punchStore.drainLegacyToInflight(nodeId, batchSize);
+                if (batch.isEmpty()) break;
+                budget--;
+                write(batch, () -> punchStore.clearLegacyInflight(nodeId));
+            }
+        } catch (RuntimeException e) {
+            recoverLegacy = true;
+            log.error("[ATTENDANCE] legacy write-behind flush failed. node={}", nodeId, e);
+        }
+        return budget;
+    } // func end
+
+    private void write(List<AttendancePunch> batch, Runnable clearInflight) {
+        attendanceJdbcRepository.upsertBatch(batch);
+        clearInflight.run();
+        eventPublisher.publishEvent(new AttendancePunchesFlushedEvent(batch));
+    } // func end
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "local";
+        }
+    } // func end
+
+} // class end
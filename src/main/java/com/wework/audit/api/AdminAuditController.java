@@ -0,0 +1,37 @@
+package com.wework.audit.api;
+
+import com.wework.audit.core.AuditType;
+import com.wework.audit.service.AuditLogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/audit-logs")
+public class AdminAuditController {
+
+    private final AuditLogService auditLogService;
+
+    /**
+     * [AUDIT_001] 보안 감사 로그 조회 (최신순, nextCursor 로 다음 페이지)
+     * */
+    @GetMapping
+    public ResponseEntity<?> getLogs(@RequestParam(required = false) AuditType type,
+                                     @RequestParam(required = false) Long actorEmpId,
+                                     @RequestParam(required = false) Long targetEmpId,
+                                     @RequestParam(required = false) String loginId,
+                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                     @RequestParam(required = false) Long cursor,
+                                     @RequestParam(defaultValue = "50") int size){
+        return ResponseEntity.ok(auditLogService.getLogs(type, actorEmpId, targetEmpId, loginId, from, to, cursor, size));
+    } // func end
+
+} // class end
@@ -0,0 +1,66 @@
+package com.wework.audit.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 감사 로그 대기열 (다중 생산자 / 단일 소비자, 잠금 없음)
+ *
+ * <p>생산자(요청 스레드)는 CAS 로 크기를 예약한 뒤 넣기만 하고, 가득 차면 버리고 건수만 센다.
+ * 요청 경로가 DB 상태에 영향을 받지 않도록 대기나 예외 없이 즉시 반환한다.
+ * */
+public final class AuditQueue {
+
+    private final ConcurrentLinkedQueue<AuditRecord> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final int capacity;
+
+    public AuditQueue(int capacity) {
+        this.capacity = capacity;
+    } // func end
+
+    /**
+     * 넣기 (가득 찼으면 false)
+     * */
+    public boolean offer(AuditRecord record) {
+        int current;
+        do {
+            current = size.get();
+            if (current >= capacity) {
+                dropped.increment();
+                return false;
+            }
+        } while (!size.compareAndSet(current, current + 1));
+        queue.offer(record);
+        return true;
+    } // func end
+
+    /**
+     * 최대 max 건 꺼내기 (소비자 1개에서만 호출)
+     * */
+    public List<AuditRecord> drain(int max) {
+        List<AuditRecord> batch = new ArrayList<>(Math.min(max, Math.max(size.get(), 1)));
+        AuditRecord record;
+        while (batch.size() < max && (record = queue.poll()) != null) {
+            batch.add(record);
+        }
+        size.addAndGet(-batch.size());
+        return batch;
+    } // func end
+
+    public int size() {
+        return size.get();
+    } // func end
+
+    /**
+     * 지금까지 버린 건수를 읽고 0으로 되돌림
+     * */
+    public long takeDropped() {
+        return dropped.sumThenReset();
+    } // func end
+
+} // class end
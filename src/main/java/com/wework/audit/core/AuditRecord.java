@@ -0,0 +1,18 @@
+package com.wework.audit.core;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감사 로그 1건 (요청 스레드에서 만들어 큐에 넣는 불변 값)
+ *
+ * @param type        유형
+ * @param actorEmpId  수행자 (로그인 전 요청이면 null)
+ * @param targetEmpId 대상 직원 (알 수 없으면 null)
+ * @param loginId     대상 로그인 ID
+ * @param clientIp    요청 IP
+ * @param detail      부가 정보
+ * @param occurredAt  발생 시각
+ * */
+public record AuditRecord(AuditType type, Long actorEmpId, Long targetEmpId, String loginId,
+                          String clientIp, String detail, LocalDateTime occurredAt) {
+} // record end
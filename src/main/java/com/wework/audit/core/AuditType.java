@@ -0,0 +1,14 @@
+package com.wework.audit.core;
+
+/**
+ * 보안 감사 이벤트 유형
+ * */
+public enum AuditType {
+    LOGIN_SUCCESS,      // 로그인
+    LOGIN_FAILURE,      // 로그인 실패 (비밀번호 불일치 / 잠긴 계정 등)
+    LOGOUT,             // 로그아웃
+    FORCE_LOGOUT,       // 관리자 강제 로그아웃
+    ACCOUNT_LOCK,       // 계정 잠금(퇴사)
+    ACCOUNT_UNLOCK,     // 계정 잠금 해제
+    PASSWORD_RESET      // 비밀번호 재설정
+} // enum end
@@ -0,0 +1,33 @@
+package com.wework.audit.dto.response;
+
+import com.wework.audit.mapper.AuditLogRow;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 감사 로그 페이지 (최신순)
+ * */
+public record AuditLogPageResponseDto(
+        List<Item> items,           // 감사 로그
+        Long nextCursor             // 다음 페이지 cursor (마지막 페이지면 null)
+) {
+    /**
+     * 감사 로그 1건
+     * */
+    public record Item(
+            Long auditId,                   // 감사 로그ID
+            String eventType,               // 유형
+            Long actorEmpId,                // 수행자 (로그인 전 요청이면 null)
+            Long targetEmpId,               // 대상 직원
+            String loginId,                 // 대상 로그인 ID
+            String clientIp,                // 요청 IP
+            String detail,                  // 부가 정보
+            LocalDateTime occurredAt        // 발생 시각
+    ) {
+        public static Item from(AuditLogRow row) {
+            return new Item(row.getAuditId(), row.getEventType(), row.getActorEmpId(), row.getTargetEmpId(),
+                    row.getLoginId(), row.getClientIp(), row.getDetail(), row.getOccurredAt());
+        } // func end
+    } // record end
+} // record end
@@ -0,0 +1,24 @@
+package com.wework.audit.mapper;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감사 로그 조회 1행
+ * */
+@Getter
+@Setter
+public class AuditLogRow {
+
+    private Long auditId;               // 감사 로그ID
+    private String eventType;           // 유형
+    private Long actorEmpId;            // 수행자
+    private Long targetEmpId;           // 대상 직원
+    private String loginId;             // 대상 로그인 ID
+    private String clientIp;            // 요청 IP
+    private String detail;              // 부가 정보
+    private LocalDateTime occurredAt;   // 발생 시각
+
+} // class end
@@ -0,0 +1,22 @@
+package com.wework.audit.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface AuditMapper {
+
+    // 조건에 맞는 감사 로그 (audit_id 내림차순, cursor 미만부터 limit 건, 조건이 null 이면 무시)
+    List<AuditLogRow> selectPage(@Param("type") String type,
+                                 @Param("actorEmpId") Long actorEmpId,
+                                 @Param("targetEmpId") Long targetEmpId,
+                                 @Param("loginId") String loginId,
+                                 @Param("from") LocalDateTime from,
+                                 @Param("to") LocalDateTime to,
+                                 @Param("cursor") Long cursor,
+                                 @Param("limit") int limit);
+
+} // interface end
@@ -0,0 +1,43 @@
+package com.wework.audit.repository;
+
+import com.wework.audit.core.AuditRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 보안 감사 로그 JDBC 배치 저장소 (INSERT 만 제공)
+ *
+ * <p>MySQL 에서는 <code>rewriteBatchedStatements=true</code> 로 배치가 multi-row INSERT 1건이 된다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class AuditJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT = """
+            INSERT INTO security_audit_log
+                (event_type, actor_emp_id, target_emp_id, login_id, client_ip, detail, occurred_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    public void insertBatch(List<AuditRecord> records) {
+        jdbcTemplate.batchUpdate(INSERT, records, records.size(), (ps, r) -> {
+            ps.setString(1, r.type().name());
+            if (r.actorEmpId() == null) ps.setNull(2, Types.BIGINT);
+            else ps.setLong(2, r.actorEmpId());
+            if (r.targetEmpId() == null) ps.setNull(3, Types.BIGINT);
+            else ps.setLong(3, r.targetEmpId());
+            ps.setString(4, r.loginId());
+            ps.setString(5, r.clientIp());
+            ps.setString(6, r.detail());
+            ps.setTimestamp(7, Timestamp.valueOf(r.occurredAt()));
+        });
+    } // func end
+
+} // class end
@@ -0,0 +1,109 @@
+package com.wework.audit.service;
+
+import com.wework.audit.core.AuditQueue;
+import com.wework.audit.core.AuditRecord;
+import com.wework.audit.repository.AuditJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 보안 감사 로그 배치 반영기
+ *
+ * <p>처리 흐름 (audit.flush.interval-ms 마다)</p>
+ * <P>1) 직전 주기에 실패한 배치가 있으면 먼저 재반영</P>
+ * <P>2) 대기열에서 batchSize 건씩 꺼내 JDBC batch INSERT (최대 maxBatches 회)</P>
+ * <P>3) 대기열이 가득 차 버린 건수가 있으면 경고 로그</P>
+ *
+ * <p>유실 범위
+ * <P>- 정상 종료 : 종료 시 대기열을 모두 반영 (유실 없음)</P>
+ * <P>- 비정상 종료 : 마지막 반영 이후 최대 1주기 분량</P>
+ * <P>- DB 장애 : 실패 배치 1개를 들고 재시도하고, 그동안 대기열은 audit.queue-capacity 까지만 쌓은 뒤 버린다</P>
+ * */
+@Component
+@Log4j2
+public class AuditLogFlusher {
+
+    // 종료 시 반영 시도 횟수 상한 (DB 장애 시 종료가 늘어지지 않도록)
+    private static final int SHUTDOWN_ATTEMPTS = 50;
+
+    private final AuditQueue queue;
+    private final AuditJdbcRepository auditJdbcRepository;
+    private final int batchSize;
+    private final int maxBatches;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 반영 실패 배치 (lock 보유 스레드 전용)
+    private List<AuditRecord> retry = List.of();
+
+    public AuditLogFlusher(AuditLogger auditLogger,
+                           AuditJdbcRepository auditJdbcRepository,
+                           @Value("${audit.flush.batch-size:500}") int batchSize,
+                           @Value("${audit.flush.max-batches:20}") int maxBatches) {
+        this.queue = auditLogger.queue();
+        this.auditJdbcRepository = auditJdbcRepository;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    } // func end
+
+    /**
+     * 주기적 DB 반영
+     * */
+    @Scheduled(fixedDelayString = "${audit.flush.interval-ms:200}")
+    public void flush() {
+        lock.lock();
+        try {
+            drain(maxBatches);
+        } finally {
+            lock.unlock();
+        }
+        long dropped = queue.takeDropped();
+        if (dropped > 0) log.warn("[AUDIT] queue full, dropped={}", dropped);
+    } // func end
+
+    /**
+     * 종료 전 남은 기록 반영
+     * */
+    @PreDestroy
+    public void shutdown() {
+        lock.lock();
+        try {
+            for (int i = 0; i < SHUTDOWN_ATTEMPTS && (!retry.isEmpty() || queue.size() > 0); i++) {
+                if (!drain(Integer.MAX_VALUE)) break;
+            }
+            int left = retry.size() + queue.size();
+            if (left > 0) log.error("[AUDIT] shutdown with unflushed records={}", left);
+        } finally {
+            lock.unlock();
+        }
+    } // func end
+
+    /**
+     * 실패 배치 → 대기열 순으로 반영 (실패하면 false, 배치는 retry 에 남김)
+     * */
+    private boolean drain(int batches) {
+        try {
+            if (!retry.isEmpty()) {
+                auditJdbcRepository.insertBatch(retry);
+                retry = List.of();
+            }
+            for (int i = 0; i < batches; i++) {
+                List<AuditRecord> batch = queue.drain(batchSize);
+                if (batch.isEmpty()) break;
+                retry = batch;
+                auditJdbcRepository.insertBatch(batch);
+                retry = List.of();
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.error("[AUDIT] flush failed. pending={}", retry.size() + queue.size(), e);
+            return false;
+        }
+    } // func end
+
+} // class end
@@ -0,0 +1,47 @@
+package com.wework.audit.service;
+
+import com.wework.audit.core.AuditType;
+import com.wework.audit.dto.response.AuditLogPageResponseDto;
+import com.wework.audit.mapper.AuditLogRow;
+import com.wework.audit.mapper.AuditMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보안 감사 로그 조회
+ * - 반영 주기(audit.flush.interval-ms)만큼 늦게 보일 수 있다
+ * */
+@Service
+@RequiredArgsConstructor
+public class AuditLogService {
+
+    private static final int MAX_SIZE = 200;
+
+    private final AuditMapper auditMapper;
+
+    /**
+     * [AUDIT_001] 감사 로그 조회 (최신순, cursor 기반 페이지)
+     * */
+    public AuditLogPageResponseDto getLogs(AuditType type, Long actorEmpId, Long targetEmpId, String loginId,
+                                           LocalDateTime from, LocalDateTime to, Long cursor, int size) {
+        if (size < 1 || size > MAX_SIZE) throw new IllegalArgumentException("size는 1~" + MAX_SIZE + " 사이여야 합니다.");
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("조회 시작 시각은 종료 시각보다 이전이어야 합니다.");
+        }
+
+        // 1건 더 읽어 다음 페이지 여부 판단
+        List<AuditLogRow> rows = auditMapper.selectPage(type == null ? null : type.name(), actorEmpId, targetEmpId,
+                loginId, from, to, cursor, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<AuditLogPageResponseDto.Item> items = rows.stream()
+                .limit(size)
+                .map(AuditLogPageResponseDto.Item::from)
+                .toList();
+        Long nextCursor = hasNext ? items.get(items.size() - 1).auditId() : null;
+        return new AuditLogPageResponseDto(items, nextCursor);
+    } // func end
+
+} // class end
@@ -0,0 +1,109 @@
+package com.wework.audit.service;
+
+import com.wework.audit.core.AuditQueue;
+import com.wework.audit.core.AuditRecord;
+import com.wework.audit.core.AuditType;
+import com.wework.global.security.UserPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 보안 감사 로그 기록 (요청 경로에서 호출)
+ *
+ * <p>처리 흐름
+ * <P>1) 수행자(SecurityContext) / 요청 IP / 발생 시각을 요청 스레드에서 확정</P>
+ * <P>2) 트랜잭션 안이면 커밋 후에, 아니면 즉시 {@link AuditQueue} 에 넣고 반환 (I/O 없음)</P>
+ * <P>3) DB 반영은 {@link AuditLogFlusher} 가 배치로 처리</P>
+ * */
+@Service
+public class AuditLogger {
+
+    // 컬럼 길이 (입력값이 섞이는 필드는 잘라서 배치 전체가 실패하지 않게 함)
+    private static final int MAX_LOGIN_ID = 50;
+    private static final int MAX_CLIENT_IP = 45;
+    private static final int MAX_DETAIL = 500;
+
+    private final AuditQueue queue;
+    // X-Forwarded-For 를 믿을 직접 접속 주소 (리버스 프록시 / LB, 비어 있으면 헤더 무시)
+    private final Set<String> trustedProxies;
+
+    public AuditLogger(@Value("${audit.queue-capacity:100000}") int capacity,
+                       @Value("${audit.trusted-proxies:}") Set<String> trustedProxies) {
+        this.queue = new AuditQueue(capacity);
+        this.trustedProxies = Set.copyOf(trustedProxies);
+    } // func end
+
+    /**
+     * 감사 로그 1건 기록
+     * @param targetEmpId 대상 직원 (알 수 없으면 null)
+     * @param loginId     대상 로그인 ID (알 수 없으면 null)
+     * @param detail      부가 정보
+     * */
+    public void record(AuditType type, Long targetEmpId, String loginId, String detail) {
+        AuditRecord record = new AuditRecord(type, currentActor(), targetEmpId, cut(loginId, MAX_LOGIN_ID),
+                cut(clientIp(), MAX_CLIENT_IP), cut(detail, MAX_DETAIL), LocalDateTime.now());
+
+        // 롤백된 변경은 남기지 않도록 커밋 후 반영
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    queue.offer(record);
+                } // func end
+            });
+            return;
+        }
+        queue.offer(record);
+    } // func end
+
+    AuditQueue queue() {
+        return queue;
+    } // func end
+
+    private static Long currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getEmpId();
+        }
+        return null;
+    } // func end
+
+    /**
+     * 요청 IP
+     * <P>1) 직접 접속 주소가 audit.trusted-proxies 에 없으면 그대로 사용 (클라이언트가 보낸 X-Forwarded-For 는 무시)</P>
+     * <P>2) 신뢰 프록시를 거쳤으면 X-Forwarded-For 를 오른쪽부터 읽어 신뢰 프록시가 아닌 첫 주소</P>
+     *
+     * <p>server.forward-headers-strategy=native (Tomcat RemoteIpValve) 를 쓰는 환경에서는
+     * getRemoteAddr() 가 이미 원래 주소이므로 audit.trusted-proxies 를 비워 둔다.
+     * */
+    private String clientIp() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) return null;
+        HttpServletRequest request = attributes.getRequest();
+        String remote = request.getRemoteAddr();
+        if (!trustedProxies.contains(remote)) return remote;
+
+        String forwarded = request.getHeader("X-Forwarded-For");
+        if (forwarded == null || forwarded.isBlank()) return remote;
+        String[] hops = forwarded.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty() && !trustedProxies.contains(hop)) return hop;
+        }
+        return remote;
+    } // func end
+
+    private static String cut(String value, int max) {
+        return value == null || value.length() <= max ? value : value.substring(0, max);
+    } // func end
+
+} // class end
@@ -1,17 +1,22 @@
 package com.wework.auth.api;
 
+import com.wework.auth.dto.request.ChangeDepartmentRequestDto;
 import com.wework.auth.dto.request.ForceLogoutRequestDto;
 import com.wework.auth.dto.request.LockAccountRequestDto;
 import com.wework.auth.dto.request.UnlockAccountRequestDto;
+import com.wework.auth.service.ActivityTrackingService;
 import com.wework.auth.service.AdminAuthService;
+import com.wework.auth.service.WarmUpService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.apache.ibatis.javassist.NotFoundException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -20,6 +25,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdminController {
 
     private final AdminAuthService adminAuthService;
+    private final ActivityTrackingService activityTrackingService;
+    private final WarmUpService warmUpService;
 
     /**
      * [AUTH_013] 강제 로그아웃
@@ -50,4 +57,56 @@ public class AdminController {
         return ResponseEntity.ok().build();
     } // func end
 
+    /**
+     * [AUTH_036] 부서 이동
+     * */
+    @PostMapping("/department")
+    public ResponseEntity<?> changeDepartment(@Valid @RequestBody ChangeDepartmentRequestDto requestDto) throws NotFoundException {
+        adminAuthService.changeDepartment(requestDto.empId(), requestDto.deptId());
+        return ResponseEntity.ok().build();
+    } // func end
+
+    /**
+     * [AUTH_037] 직원별 마지막 로그인 / 활동 조회 (idleDays : 그 기간 동안 활동 없는 직원만)
+     * */
+    @GetMapping("/activity")
+    public ResponseEntity<?> getActivities(@RequestParam(required = false) Long deptId,
+                                           @RequestParam(required = false) Integer idleDays,
+                                           @RequestParam(defaultValue = "0") int offset,
+                                           @RequestParam(defaultValue = "50") int limit){
+        return ResponseEntity.ok(activityTrackingService.getActivities(deptId, idleDays, offset, limit));
+    } // func end
+
+    /**
+     * [AUTH_038] 활동 기록 반영 통계 (요청 수 대비 DB 쓰기량)
+     * */
+    @GetMapping("/activity/stats")
+    public ResponseEntity<?> getActivityStats(){
+        return ResponseEntity.ok(activityTrackingService.getStats());
+    } // func end
+
+    /**
+     * [AUTH_039] 이 노드의 기동 워밍업 결과
+     * */
+    @GetMapping("/warmup")
+    public ResponseEntity<?> getWarmUpStats(){
+        return ResponseEntity.ok(warmUpService.getStats());
+    } // func end
+
+    /**
+     * [AUTH_040] 이 노드의 토큰 저장소(Redis) 차단기 / 장애 대응 상태
+     * */
+    @GetMapping("/redis")
+    public ResponseEntity<?> getRedisStatus(){
+        return ResponseEntity.ok(adminAuthService.getRedisStatus());
+    } // func end
+
+    /**
+     * [AUTH_041] 토큰 키 이전 (이전 키 → Redis Cluster 호환 키)
+     * */
+    @PostMapping("/redis/migrate-keys")
+    public ResponseEntity<?> migrateTokenKeys(){
+        return ResponseEntity.ok(adminAuthService.migrateTokenKeys());
+    } // func end
+
 } // class end
@@ -0,0 +1,16 @@
+package com.wework.auth.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 활동 기록 반영 통계 (노드 기동 이후 누적)
+ * - recorded 는 요청 수에 비례하고, statements / rowsWritten 은 반영 주기 수 × 활동 직원 수에만 비례한다
+ * */
+public record ActivityStatsResponseDto(
+        long recorded,                  // 기록 호출 수 (로그인 + 인증된 요청)
+        int pending,                    // 반영 대기 직원 수
+        long flushes,                   // 반영 주기 수 (대기 값이 있었던 주기만)
+        long statements,                // 실행한 UPDATE 문장 수
+        long rowsWritten,               // 반영한 직원 행 수
+        LocalDateTime lastFlushAt       // 마지막 반영 시각
+) { } // record end
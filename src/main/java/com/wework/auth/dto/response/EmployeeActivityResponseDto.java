@@ -0,0 +1,18 @@
+package com.wework.auth.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 직원 마지막 로그인 / 활동
+ * - 아직 DB 에 반영되지 않은 최신 값(최대 반영 주기만큼)이 있으면 그 값을 보여준다
+ * */
+public record EmployeeActivityResponseDto(
+        Long empId,                     // 사번
+        String loginId,                 // 로그인 ID
+        String name,                    // 이름
+        Long deptId,                    // 부서ID
+        String deptName,                // 부서명
+        String status,                  // ACTIVE / INACTIVE
+        LocalDateTime lastLoginAt,      // 마지막 로그인 (기록 없으면 null)
+        LocalDateTime lastSeenAt        // 마지막 활동 (기록 없으면 null)
+) { } // record end
@@ -0,0 +1,20 @@
+package com.wework.auth.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 토큰 저장소(Redis) 차단기 / 장애 대응 상태 (노드 기동 이후 누적)
+ * - rejected 는 Redis 를 호출하지 않고 즉시 거절한 수, degradedBlacklistChecks 는 Redis 없이 판단한 블랙리스트 조회 수
+ * */
+public record RedisStatusResponseDto(
+        String state,                   // CLOSED / OPEN / HALF_OPEN
+        long calls,                     // Redis 호출 수
+        long failures,                  // 실패 수 (연결 끊김, 명령 타임아웃 등)
+        long rejected,                  // 차단기가 열려 즉시 거절한 수
+        long opened,                    // 차단기가 열린 횟수
+        LocalDateTime lastOpenedAt,     // 마지막으로 열린 시각
+        String lastError,               // 마지막 실패 원인
+        String blacklistPolicy,         // FAIL_OPEN / FAIL_CLOSED (auth.token-store=memory 면 LOCAL)
+        long degradedBlacklistChecks,   // Redis 없이 판단한 블랙리스트 조회 수 (FAIL_OPEN)
+        int localRevocations            // 이 노드가 기억하는 무효화 토큰 수
+) { } // record end
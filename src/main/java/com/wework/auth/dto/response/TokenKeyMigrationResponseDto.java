@@ -0,0 +1,13 @@
+package com.wework.auth.dto.response;
+
+/**
+ * 토큰 키 이전 결과 (이전 키 → 사번 hash tag 키)
+ * - legacyBlacklist 가 0 이 될 때까지(access 최대 수명) auth.redis.legacy-keys=true 유지
+ * */
+public record TokenKeyMigrationResponseDto(
+        long refreshTokens,     // 옮긴 Refresh Token 수
+        long currentRefresh,    // 옮긴 사번별 최신 Refresh Token jti 수
+        long currentAccess,     // 옮긴 사번별 최신 Access Token jti 수
+        long expired,           // 이전 중 만료되어 건너뛴 키 수
+        long legacyBlacklist    // 옮기지 못하고 만료를 기다리는 이전 블랙리스트 키 수
+) { } // record end
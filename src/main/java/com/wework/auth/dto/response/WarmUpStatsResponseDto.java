@@ -0,0 +1,29 @@
+package com.wework.auth.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 기동 워밍업 결과 (노드 기동 시 1회)
+ * - 단계별 처음/마지막 구간 평균을 비교하면 JIT·연결 준비 효과를 볼 수 있다
+ * */
+public record WarmUpStatsResponseDto(
+        String state,                   // DISABLED / RUNNING / DONE
+        LocalDateTime startedAt,        // 워밍업 시작 시각
+        long elapsedMs,                 // 소요 시간 (진행 중이면 현재까지)
+        int threads,                    // 동시 실행 스레드 수
+        long iterations,                // 완료한 반복 수
+        boolean timedOut,               // warmup.max-duration-ms 에 걸려 조기 종료했는지
+        boolean dryRun,                 // 워밍업 계정 없이 조회만 수행했는지
+        List<Step> steps                // 단계별 측정값
+) {
+
+    public record Step(
+            String name,                // token / principal / redis
+            long count,                 // 실행 수
+            long failures,              // 실패 수 (실패한 단계는 이후 건너뜀)
+            double firstAvgMicros,      // 처음 구간 평균 (µs)
+            double lastAvgMicros        // 마지막 구간 평균 (µs)
+    ) { } // record end
+
+} // record end
@@ -0,0 +1,25 @@
+package com.wework.auth.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 직원의 로그인 세션 무효화 (강제 로그아웃 / 계정 잠금 / 비밀번호 재설정)
+ * - 커밋 후 Redis 채널로 모든 노드에 전달되어 해당 직원의 세션 구독 연결로 전송된다
+ * */
+public record SessionRevokedEvent(
+        long empId,             // 대상 사번
+        Reason reason,          // 무효화 사유
+        LocalDateTime revokedAt // 무효화 시각
+) {
+
+    public enum Reason {
+        FORCE_LOGOUT,       // 관리자 강제 로그아웃
+        ACCOUNT_LOCK,       // 계정 잠금(퇴사)
+        PASSWORD_RESET      // 비밀번호 재설정
+    } // enum end
+
+    public static SessionRevokedEvent of(long empId, Reason reason) {
+        return new SessionRevokedEvent(empId, reason, LocalDateTime.now());
+    } // func end
+
+} // record end
@@ -0,0 +1,84 @@
+package com.wework.auth.infra.activity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 직원별 마지막 로그인 / 활동 시각 버퍼 (직원당 최대 1건)
+ *
+ * <p>요청마다 DB 를 갱신하지 않고 직원별 최신 값만 남겨 두었다가, 주기적으로 한 번에 반영한다.
+ * 따라서 DB 쓰기량은 요청 수가 아니라 "주기 동안 활동한 직원 수"에 비례한다.
+ * <p>활동 시각은 초 단위로 기록하여, 같은 초 안의 반복 요청은 맵 갱신 없이 건너뛴다.
+ * */
+public final class ActivityBuffer {
+
+    /**
+     * 직원 1명의 반영 대기 값 (null 이면 해당 항목 변경 없음)
+     * */
+    public record Activity(long empId, LocalDateTime lastLoginAt, LocalDateTime lastSeenAt) { } // record end
+
+    private final Map<Long, Activity> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 로그인 (로그인도 활동으로 봄)
+     * */
+    public void login(long empId, LocalDateTime at) {
+        pending.merge(empId, new Activity(empId, at, at), ActivityBuffer::latest);
+    } // func end
+
+    /**
+     * 인증된 요청
+     * */
+    public void seen(long empId, LocalDateTime at) {
+        Activity current = pending.get(empId);
+        if (current != null && current.lastSeenAt() != null && !at.isAfter(current.lastSeenAt())) return;
+        pending.merge(empId, new Activity(empId, null, at), ActivityBuffer::latest);
+    } // func end
+
+    /**
+     * 반영 대상 꺼내기
+     * - 꺼내는 사이 갱신된 직원은 남겨 두었다가 다음 주기에 반영 (remove(key, value))
+     * */
+    public List<Activity> drain() {
+        List<Activity> drained = new ArrayList<>(pending.size());
+        for (Map.Entry<Long, Activity> entry : pending.entrySet()) {
+            if (pending.remove(entry.getKey(), entry.getValue())) drained.add(entry.getValue());
+        }
+        return drained;
+    } // func end
+
+    /**
+     * 반영 실패분 되돌리기 (그 사이 들어온 값과 합침)
+     * */
+    public void restore(List<Activity> activities) {
+        for (Activity activity : activities) pending.merge(activity.empId(), activity, ActivityBuffer::latest);
+    } // func end
+
+    /**
+     * 반영 대기 값 (없으면 null)
+     * */
+    public Activity get(long empId) {
+        return pending.get(empId);
+    } // func end
+
+    public int size() {
+        return pending.size();
+    } // func end
+
+    /**
+     * 항목별 최신 값
+     * */
+    public static Activity latest(Activity a, Activity b) {
+        return new Activity(a.empId(), max(a.lastLoginAt(), b.lastLoginAt()), max(a.lastSeenAt(), b.lastSeenAt()));
+    } // func end
+
+    public static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        return a.isAfter(b) ? a : b;
+    } // func end
+
+} // class end
@@ -0,0 +1,404 @@
+package com.wework.auth.infra.memory;
+
+import com.wework.auth.infra.token.TokenStore;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 이 노드 메모리에 토큰 상태를 두는 {@link TokenStore} (auth.token-store=memory)
+ *
+ * <p>단일 노드 / 엣지 배포용 – 블랙리스트·refresh 조회에 네트워크 왕복이 없다.
+ * 다른 노드와 공유하지 않으므로 여러 노드로 늘릴 때는 redis 를 쓴다.
+ *
+ * <p>
+ * 저장 구조:
+ * <ul>
+ *     <li>키 → (값, 만료 시각) ConcurrentHashMap – 키 이름은 Redis 구현과 같은 규칙</li>
+ *     <li>{@link TimingWheel} – 만료 시각에 맞춰 항목 제거 (auth.token-store.memory.tick-ms 마다 진행)</li>
+ *     <li>조회 시에도 만료 시각을 확인하므로 휠 진행 전이라도 만료된 값은 보이지 않는다</li>
+ * </ul>
+ * 한 사번의 여러 키를 바꾸는 작업은 사번별 잠금(64개 분할) 안에서 처리한다.
+ * </p>
+ *
+ * <p>
+ * 스냅숏 (auth.token-store.memory.snapshot-file 지정 시):
+ * <ul>
+ *     <li>snapshot-interval-ms 마다 변경이 있었으면 임시 파일에 쓴 뒤 교체, 종료 시에도 기록</li>
+ *     <li>기동 시 읽어서 만료되지 않은 항목만 복원 → 재기동해도 로그인 세션 / 로그아웃 토큰 유지</li>
+ *     <li>마지막 스냅숏 이후 변경은 비정상 종료 시 잃는다 (로그아웃한 토큰이 다시 유효해질 수 있음)</li>
+ * </ul>
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "auth.token-store", havingValue = "memory")
+@Log4j2
+public class InMemoryTokenStore implements TokenStore {
+
+    private static final int SNAPSHOT_MAGIC = 0x544B5331;  // "TKS1"
+    private static final int LOCK_STRIPES = 64;
+
+    /**
+     * 저장 값 (expiresAt : epoch ms)
+     * */
+    private record Entry(String value, long expiresAt) {
+
+        boolean expired(long now) {
+            return expiresAt <= now;
+        } // func end
+
+    } // record end
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final TimingWheel<String> wheel;
+    // 사번별 잠금 (ReentrantLock – 가상 스레드가 잠금 대기 중 캐리어 스레드를 붙잡지 않음)
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+    private final Path snapshotFile;
+    // 스냅숏 기록 직렬화 (주기 기록 / 종료 시 기록)
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+
+    // 변경 횟수 (마지막 스냅숏 이후 변경이 없으면 기록 생략)
+    private final AtomicLong version = new AtomicLong();
+    private volatile long snapshotVersion;
+
+    public InMemoryTokenStore(@Value("${auth.token-store.memory.tick-ms:1000}") long tickMs,
+                              @Value("${auth.token-store.memory.snapshot-file:}") String snapshotFile) {
+        this.wheel = new TimingWheel<>(tickMs, System.currentTimeMillis());
+        for (int i = 0; i < LOCK_STRIPES; i++) locks[i] = new ReentrantLock();
+        this.snapshotFile = snapshotFile.isBlank() ? null : Path.of(snapshotFile);
+        restore();
+    } // func end
+
+    /* =========================================================
+     *  Key 생성 (RedisTokenStore 와 같은 규칙)
+     * ========================================================= */
+
+    private static String refreshKey(long empId, String jti) {
+        return "auth:{" + empId + "}:refresh:" + jti;
+    } // func end
+
+    private static String currentRefreshKey(long empId) {
+        return "auth:{" + empId + "}:current_refresh";
+    } // func end
+
+    private static String currentAccessKey(long empId) {
+        return "auth:{" + empId + "}:current_access";
+    } // func end
+
+    private static String blacklistKey(long empId, String jti) {
+        return "auth:{" + empId + "}:blacklist:" + jti;
+    } // func end
+
+    private static String loginFailKey(String loginId) {
+        return "auth:login_fail:" + loginId;
+    } // func end
+
+    private static String pwResetKey(String loginId) {
+        return "auth:pw_reset:" + loginId;
+    } // func end
+
+    private static String pwResetTokenKey(String loginId) {
+        return "auth:pw_reset_token:" + loginId;
+    } // func end
+
+    /* =========================================================
+     *  TokenStore
+     * ========================================================= */
+
+    @Override
+    public void ensureAvailable() {
+        // 이 노드 메모리 → 항상 사용 가능
+    } // func end
+
+    @Override
+    public void storeRefresh(String refreshJti, long empId, long ttlSeconds) {
+        ReentrantLock lock = lockFor(empId);
+        lock.lock();
+        try {
+            put(refreshKey(empId, refreshJti), String.valueOf(empId), ttlSeconds);
+            put(currentRefreshKey(empId), refreshJti, ttlSeconds);
+        } finally {
+            lock.unlock();
+        }
+    } // func end
+
+    @Override
+    public boolean existsRefresh(long empId, String refreshJti) {
+        return get(refreshKey(empId, refreshJti)) != null;
+    } // func end
+
+    @Override
+    public boolean deleteRefresh(long empId, String refreshJti) {
+        ReentrantLock lock = lockFor(empId);
+        lock.lock();
+        try {
+            boolean deleted = remove(refreshKey(empId, refreshJti)) != null;
+            if (refreshJti.equals(get(currentRefreshKey(empId)))) remove(currentRefreshKey(empId));
+            return deleted;
+        } finally {
+            lock.unlock();
+        }
+    } // func end
+
+    @Override
+    public void deleteRefreshByEmpId(long empId) {
+        ReentrantLock lock = lockFor(empId);
+        lock.lock();
+        try {
+            Entry current = remove(currentRefreshKey(empId));
+            if (current != null) remove(refreshKey(empId, current.value()));
+        } finally {
+            lock.unlock();
+        }
+    } // func end
+
+    @Override
+    public void storeAccessJti(long empId, String accessJti, long ttlSeconds) {
+        put(currentAccessKey(empId), accessJti, ttlSeconds);
+    } // func end
+
+    @Override
+    public void blacklistAccessByEmpId(long empId) {
+        ReentrantLock lock = lockFor(empId);
+        lock.lock();
+        try {
+            // 남은 수명 그대로 블랙리스트 등록
+            Entry current = remove(currentAccessKey(empId));
+            if (current != null) putUntil(blacklistKey(empId, current.value()), "1", current.expiresAt());
+        } finally {
+            lock.unlock();
+        }
+    } // func end
+
+    @Override
+    public void blacklistAccess(long empId, String accessJti, long ttlSeconds) {
+        put(blacklistKey(empId, accessJti), "1", ttlSeconds);
+    } // func end
+
+    @Override
+    public boolean isBlacklisted(long empId, String accessJti) {
+        return get(blacklistKey(empId, accessJti)) != null;
+    } // func end
+
+    @Override
+    public long increaseLoginFail(String loginId, long ttlSeconds) {
+        String key = loginFailKey(loginId);
+        long now = System.currentTimeMillis();
+        // 첫 실패일 때만 TTL 세팅
+        Entry entry = entries.compute(key, (k, e) -> e == null || e.expired(now)
+                ? new Entry("1", now + ttlSeconds * 1000)
+                : new Entry(String.valueOf(Long.parseLong(e.value()) + 1), e.expiresAt()));
+        if ("1".equals(entry.value())) wheel.schedule(key, entry.expiresAt());
+        version.incrementAndGet();
+        return Long.parseLong(entry.value());
+    } // func end
+
+    @Override
+    public void clearLoginFail(String loginId) {
+        remove(loginFailKey(loginId));
+    } // func end
+
+    @Override
+    public long getLoginFailCount(String loginId) {
+        String v = get(loginFailKey(loginId));
+        return v == null ? 0 : Long.parseLong(v);
+    } // func end
+
+    @Override
+    public void storePwRestOtp(String loginId, String otp, long ttlSeconds) {
+        put(pwResetKey(loginId), otp, ttlSeconds);
+    } // func end
+
+    @Override
+    public String getPwRestOtp(String loginId) {
+        return get(pwResetKey(loginId));
+    } // func end
+
+    @Override
+    public void deletePwRestOtp(String loginId) {
+        remove(pwResetKey(loginId));
+    } // func end
+
+    @Override
+    public void storePwStoreToken(String loginId, String resetToken, long ttlSeconds) {
+        put(pwResetTokenKey(loginId), resetToken, ttlSeconds);
+    } // func end
+
+    @Override
+    public String getPwResetToken(String loginId) {
+        return get(pwResetTokenKey(loginId));
+    } // func end
+
+    @Override
+    public void deletePwResetToken(String loginId) {
+        remove(pwResetTokenKey(loginId));
+    } // func end
+
+    /* =========================================================
+     *  만료 / 스냅숏
+     * ========================================================= */
+
+    /**
+     * 타이밍 휠 진행 → 만료된 항목 제거
+     * - 휠에 예약된 뒤 값이 바뀐 키(다시 저장 / TTL 연장)는 현재 값이 만료된 경우에만 제거
+     * */
+    @Scheduled(fixedDelayString = "${auth.token-store.memory.tick-ms:1000}")
+    public void expire() {
+        long now = System.currentTimeMillis();
+        for (String key : wheel.advance(now)) {
+            entries.computeIfPresent(key, (k, e) -> e.expired(now) ? null : e);
+        }
+    } // func end
+
+    /**
+     * 주기적 스냅숏 (변경이 있을 때만)
+     * */
+    @Scheduled(fixedDelayString = "${auth.token-store.memory.snapshot-interval-ms:30000}")
+    public void snapshot() {
+        if (snapshotFile == null || version.get() == snapshotVersion) return;
+        snapshotLock.lock();
+        try {
+            // 잠금 대기 중 다른 스레드가 이미 기록했으면 생략
+            long current = version.get();
+            if (current == snapshotVersion) return;
+            int written = writeSnapshot();
+            snapshotVersion = current;
+            log.debug("[AUTH] token snapshot written. entries={} file={}", written, snapshotFile);
+        } catch (IOException e) {
+            log.warn("[AUTH] token snapshot failed. file={}", snapshotFile, e);
+        } finally {
+            snapshotLock.unlock();
+        }
+    } // func end
+
+    /**
+     * 종료 시 마지막 스냅숏
+     * */
+    @PreDestroy
+    public void close() {
+        snapshot();
+    } // func end
+
+    /**
+     * 현재 보관 중인 항목 수 (만료 대기 포함)
+     * */
+    public int size() {
+        return entries.size();
+    } // func end
+
+    /**
+     * 스냅숏 파일 기록 → 기록한 항목 수 (snapshotLock 을 잡은 상태에서 호출)
+     * */
+    private int writeSnapshot() throws IOException {
+        Path dir = snapshotFile.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, snapshotFile.getFileName().toString(), ".tmp");
+        try {
+            // refresh jti / OTP 가 들어 있으므로 소유자만 읽기 (POSIX 파일 시스템일 때)
+            Files.setPosixFilePermissions(tmp, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException ignored) {
+            // POSIX 권한 미지원 파일 시스템
+        }
+
+        int written = 0;
+        long now = System.currentTimeMillis();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            for (Map.Entry<String, Entry> e : entries.entrySet()) {
+                if (e.getValue().expired(now)) continue;
+                out.writeBoolean(true);
+                out.writeUTF(e.getKey());
+                out.writeUTF(e.getValue().value());
+                out.writeLong(e.getValue().expiresAt());
+                written++;
+            }
+            out.writeBoolean(false);
+        }
+        Files.move(tmp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return written;
+    } // func end
+
+    /**
+     * 기동 시 스냅숏 복원 (만료된 항목 제외)
+     * - 파일이 깨졌으면 빈 상태로 시작 (로그인 세션만 사라짐)
+     * */
+    private void restore() {
+        if (snapshotFile == null || !Files.exists(snapshotFile)) return;
+        long now = System.currentTimeMillis();
+        int restored = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotFile)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC) throw new IOException("Unknown snapshot format");
+            while (in.readBoolean()) {
+                String key = in.readUTF();
+                String value = in.readUTF();
+                long expiresAt = in.readLong();
+                if (expiresAt <= now) continue;
+                putUntil(key, value, expiresAt);
+                restored++;
+            }
+            log.info("[AUTH] token snapshot restored. entries={} file={}", restored, snapshotFile);
+        } catch (IOException e) {
+            log.warn("[AUTH] token snapshot ignored. restored={} file={}", restored, snapshotFile, e);
+        }
+        snapshotVersion = version.get();
+    } // func end
+
+    /* =========================================================
+     *  저장 공통
+     * ========================================================= */
+
+    private ReentrantLock lockFor(long empId) {
+        return locks[(int) (empId & (LOCK_STRIPES - 1))];
+    } // func end
+
+    private void put(String key, String value, long ttlSeconds) {
+        putUntil(key, value, System.currentTimeMillis() + ttlSeconds * 1000);
+    } // func end
+
+    private void putUntil(String key, String value, long expiresAt) {
+        entries.put(key, new Entry(value, expiresAt));
+        wheel.schedule(key, expiresAt);
+        version.incrementAndGet();
+    } // func end
+
+    /**
+     * 값 조회 (만료됐으면 제거 후 null)
+     * */
+    private String get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) return null;
+        if (entry.expired(System.currentTimeMillis())) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    } // func end
+
+    /**
+     * 삭제 → 삭제된 값 (없거나 만료됐으면 null)
+     * */
+    private Entry remove(String key) {
+        Entry entry = entries.remove(key);
+        if (entry == null) return null;
+        version.incrementAndGet();
+        return entry.expired(System.currentTimeMillis()) ? null : entry;
+    } // func end
+
+} // class end
@@ -0,0 +1,129 @@
+package com.wework.auth.infra.memory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 계층형 타이밍 휠 (TTL 만료 예약)
+ *
+ * <p>단계 4개 × 칸 64개. 1단계 한 칸은 tick 1개이고, 위 단계로 갈수록 한 칸이 64배 길어진다.
+ * tick 1초 기준으로 각 단계는 64초 / 68분 / 3일 / 194일을 담는다.
+ * <P>1) 예약 : 대기 큐(ConcurrentLinkedQueue)에 넣고 반환 – 잠금 없음 (요청 스레드)</P>
+ * <P>2) 진행 : 대기 큐 항목을 남은 tick 수가 들어가는 가장 낮은 단계의 칸에 배치 (O(1)) 한 뒤,
+ *       tick 마다 위 단계의 칸이 돌아오면 그 칸의 항목을 아래 단계로 다시 나눠 담고, 1단계 현재 칸을 만료로 반환</P>
+ * <P>3) 194일을 넘는 만료는 최상위 단계 마지막 칸에 두었다가 돌아올 때 다시 예약</P>
+ *
+ * <p>칸과 현재 tick 은 진행 잠금(ReentrantLock)을 잡은 스레드만 다루므로, 예약이 진행과 겹쳐도 이미 지나간 칸에 놓이지 않는다.
+ *
+ * <p>만료 전에 지워지거나 TTL 이 바뀐 항목은 휠에서 빼지 않는다.
+ * 만료로 반환된 뒤 호출하는 쪽에서 실제 만료 여부를 확인한다.
+ * */
+final class TimingWheel<T> {
+
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;         // 단계별 칸 수
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_TICKS = 1L << (BITS * LEVELS);
+
+    /**
+     * 예약 항목 (deadline : 만료 tick)
+     * */
+    private record Node<T>(T item, long deadline) { }
+
+    private final long tickMs;
+    // 진행 잠금 안에서만 접근
+    private final List<ArrayDeque<Node<T>>> slots = new ArrayList<>(LEVELS * SLOTS);
+    private final ReentrantLock advanceLock = new ReentrantLock();
+    // 다음 진행 때 칸에 배치할 예약
+    private final Queue<Node<T>> scheduled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    // 처리가 끝난 마지막 tick (진행 잠금 안에서만 변경)
+    private long currentTick;
+
+    TimingWheel(long tickMs, long nowMs) {
+        this.tickMs = Math.max(1, tickMs);
+        this.currentTick = nowMs / this.tickMs;
+        for (int i = 0; i < LEVELS * SLOTS; i++) slots.add(new ArrayDeque<>());
+    } // func end
+
+    /**
+     * 만료 예약
+     * */
+    void schedule(T item, long expiresAtMs) {
+        // 만료 시각이 속한 tick 이 끝나야 만료 (올림)
+        scheduled.add(new Node<>(item, (expiresAtMs + tickMs - 1) / tickMs));
+        size.incrementAndGet();
+    } // func end
+
+    /**
+     * nowMs 까지 진행 → 만료된 항목
+     * */
+    List<T> advance(long nowMs) {
+        List<T> expired = new ArrayList<>();
+        advanceLock.lock();
+        try {
+            // [1] 대기 중인 예약 배치 (이미 지난 만료는 바로 반환)
+            for (Node<T> node; (node = scheduled.poll()) != null; ) {
+                if (node.deadline() <= currentTick) expire(node, expired);
+                else place(node);
+            }
+
+            long target = nowMs / tickMs;
+            while (currentTick < target) {
+                currentTick++;
+                // [2] 위 단계 칸이 돌아왔으면 아래 단계로 다시 나눠 담음 (아래 단계 위치가 모두 0 일 때만)
+                for (int level = 1; level < LEVELS; level++) {
+                    if ((currentTick & ((1L << (BITS * level)) - 1)) != 0) break;
+                    cascade(level, expired);
+                }
+                // [3] 1단계 현재 칸 만료
+                ArrayDeque<Node<T>> slot = slot(0, (int) (currentTick & MASK));
+                for (Node<T> node; (node = slot.poll()) != null; ) {
+                    if (node.deadline() <= currentTick) expire(node, expired);
+                    else place(node);    // 최상위 단계에 맞춰 둔 먼 만료
+                }
+            }
+        } finally {
+            advanceLock.unlock();
+        }
+        return expired;
+    } // func end
+
+    int size() {
+        return size.get();
+    } // func end
+
+    private void cascade(int level, List<T> expired) {
+        ArrayDeque<Node<T>> slot = slot(level, (int) ((currentTick >>> (BITS * level)) & MASK));
+        List<Node<T>> nodes = new ArrayList<>(slot);
+        slot.clear();
+        for (Node<T> node : nodes) {
+            if (node.deadline() <= currentTick) expire(node, expired);
+            else place(node);
+        }
+    } // func end
+
+    private void expire(Node<T> node, List<T> expired) {
+        expired.add(node.item());
+        size.decrementAndGet();
+    } // func end
+
+    private void place(Node<T> node) {
+        long delta = Math.min(node.deadline() - currentTick, MAX_TICKS - 1);
+        long at = currentTick + delta;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (BITS * (level + 1)))) level++;
+        slot(level, (int) ((at >>> (BITS * level)) & MASK)).add(node);
+    } // func end
+
+    private ArrayDeque<Node<T>> slot(int level, int index) {
+        return slots.get(level * SLOTS + index);
+    } // func end
+
+} // class end
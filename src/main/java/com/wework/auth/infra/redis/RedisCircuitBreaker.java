@@ -0,0 +1,183 @@
+package com.wework.auth.infra.redis;
+
+import com.wework.global.exception.ServiceUnavailableException;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 토큰 저장소(Redis) 차단기
+ *
+ * <p>Redis 가 느려지거나 사라졌을 때 요청마다 명령 타임아웃을 기다리지 않도록, 연속 실패가 쌓이면 한동안 호출을 바로 거절한다.
+ * <P>1) CLOSED : 정상 호출. 연속 실패가 auth.redis.breaker.failure-threshold 에 도달하면 OPEN</P>
+ * <P>2) OPEN : auth.redis.breaker.open-ms 동안 Redis 를 호출하지 않고 즉시 {@link ServiceUnavailableException}</P>
+ * <P>3) HALF_OPEN : 대기 후 시험 호출 1건만 통과 – 성공하면 CLOSED, 실패하면 다시 OPEN</P>
+ *
+ * <p>Redis 명령 실패(DataAccessException – 연결 끊김, 명령 타임아웃 등)만 실패로 센다.
+ * */
+@Component
+@Log4j2
+public class RedisCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN } // enum end
+
+    /**
+     * 누적 통계 (노드 기동 이후)
+     * */
+    public record Stats(State state, long calls, long failures, long rejected, long opened,
+                        LocalDateTime lastOpenedAt, String lastError) { } // record end
+
+    private static final String UNAVAILABLE = "일시적으로 인증 저장소를 사용할 수 없습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private volatile State state = State.CLOSED;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    // 상태 전이 잠금 (openedAtNanos / trialInFlight 는 잠금 안에서만 접근)
+    private final ReentrantLock lock = new ReentrantLock();
+    private long openedAtNanos;
+    private boolean trialInFlight;
+
+    // 통계
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicLong opened = new AtomicLong();
+    private volatile LocalDateTime lastOpenedAt;
+    private volatile String lastError;
+
+    public RedisCircuitBreaker(@Value("${auth.redis.breaker.failure-threshold:5}") int failureThreshold,
+                               @Value("${auth.redis.breaker.open-ms:5000}") long openMs) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openNanos = openMs * 1_000_000;
+    } // func end
+
+    /**
+     * 차단기를 거쳐 Redis 명령 실행
+     *
+     * @throws ServiceUnavailableException 차단기가 열려 있거나 명령이 실패한 경우
+     * */
+    public <T> T call(Supplier<T> command) {
+        if (!tryAcquire()) {
+            rejected.increment();
+            throw new ServiceUnavailableException(UNAVAILABLE);
+        }
+        calls.increment();
+        T result;
+        try {
+            result = command.get();
+        } catch (DataAccessException e) {
+            onFailure(e);
+            throw new ServiceUnavailableException(UNAVAILABLE, e);
+        } catch (RuntimeException e) {
+            // Redis 는 응답함 (직렬화 오류 등) → 차단기 기준으로는 성공
+            onSuccess();
+            throw e;
+        }
+        onSuccess();
+        return result;
+    } // func end
+
+    public void run(Runnable command) {
+        call(() -> {
+            command.run();
+            return null;
+        });
+    } // func end
+
+    /**
+     * 지금 호출하면 바로 거절되는지 (OPEN 이고 대기 시간이 남은 경우)
+     * */
+    public boolean isOpen() {
+        if (state != State.OPEN) return false;
+        lock.lock();
+        try {
+            return state == State.OPEN && System.nanoTime() - openedAtNanos < openNanos;
+        } finally {
+            lock.unlock();
+        }
+    } // func end
+
+    /**
+     * 차단기가 열려 있으면 즉시 거절 (Redis 를 반드시 거치는 작업 시작 전 확인용)
+     * */
+    public void ensureAvailable() {
+        if (isOpen()) {
+            rejected.increment();
+            throw new ServiceUnavailableException(UNAVAILABLE);
+        }
+    } // func end
+
+    public Stats stats() {
+        return new Stats(state, calls.sum(), failures.sum(), rejected.sum(), opened.get(), lastOpenedAt, lastError);
+    } // func end
+
+    private boolean tryAcquire() {
+        // 정상 상태는 잠금 없이 통과
+        if (state == State.CLOSED) return true;
+        lock.lock();
+        try {
+            switch (state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (System.nanoTime() - openedAtNanos < openNanos) return false;
+                    state = State.HALF_OPEN;
+                    trialInFlight = true;
+                    return true;
+                default:
+                    // HALF_OPEN : 시험 호출 1건만
+                    if (trialInFlight) return false;
+                    trialInFlight = true;
+                    return true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    } // func end
+
+    private void onSuccess() {
+        if (state == State.CLOSED && consecutiveFailures.get() == 0) return;
+        lock.lock();
+        try {
+            consecutiveFailures.set(0);
+            if (state != State.CLOSED) {
+                state = State.CLOSED;
+                trialInFlight = false;
+                log.info("[REDIS] circuit closed");
+            }
+        } finally {
+            lock.unlock();
+        }
+    } // func end
+
+    private void onFailure(DataAccessException e) {
+        failures.increment();
+        lastError = e.getClass().getSimpleName() + ": " + e.getMessage();
+        int count = consecutiveFailures.incrementAndGet();
+        lock.lock();
+        try {
+            if (state == State.HALF_OPEN || (state == State.CLOSED && count >= failureThreshold)) {
+                state = State.OPEN;
+                openedAtNanos = System.nanoTime();
+                trialInFlight = false;
+                opened.incrementAndGet();
+                lastOpenedAt = LocalDateTime.now();
+                log.warn("[REDIS] circuit opened for {} ms. consecutiveFailures={} error={}",
+                        openNanos / 1_000_000, count, lastError);
+            }
+        } finally {
+            lock.unlock();
+        }
+    } // func end
+
+} // class end
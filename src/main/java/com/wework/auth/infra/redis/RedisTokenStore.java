@@ -1,14 +1,25 @@
 package com.wework.auth.infra.redis;
 
-import lombok.RequiredArgsConstructor;
+import com.wework.auth.infra.revocation.RecentRevocations;
+import com.wework.auth.infra.token.TokenStore;
+import com.wework.global.exception.ServiceUnavailableException;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Refresh Token 및 Access Token Blacklist를 Redis에 저장·조회·삭제하는 저장소 클래스.
+ * ({@link TokenStore} 기본 구현 – auth.token-store=redis)
  *
  * <p>
  * Redis를 이용해 토큰 상태를 실시간으로 관리할 수 있으며,
@@ -24,45 +35,182 @@ import java.util.concurrent.TimeUnit;
  * </ul>
  *
  * <p>
- * Redis Key Naming Rule:
+ * Redis Key Naming Rule (Redis Cluster 호환 – 사번을 hash tag 로 사용):
  * <ul>
- *     <li><code>auth:refresh:{jti}</code> – Refresh Token</li>
- *     <li><code>auth:blacklist:{jti}</code> – Access Token Blacklist</li>
+ *     <li><code>auth:{empId}:refresh:{jti}</code> – Refresh Token (값: empId)</li>
+ *     <li><code>auth:{empId}:current_refresh</code> – 사번의 최신 Refresh Token jti</li>
+ *     <li><code>auth:{empId}:current_access</code> – 사번의 최신 Access Token jti (강제 로그아웃용)</li>
+ *     <li><code>auth:{empId}:blacklist:{jti}</code> – Access Token Blacklist</li>
  * </ul>
+ * 중괄호 안의 사번만으로 slot 이 정해지므로 한 사번의 토큰 키는 항상 같은 노드에 있다.
+ * 여러 키를 함께 바꾸는 작업(저장 / 삭제 / 강제 로그아웃)은 Lua 스크립트 1회로 원자 처리한다.
+ * 스크립트 안에서 jti 로 만드는 키도 같은 hash tag 를 쓰므로 KEYS 로 넘긴 키와 같은 slot 이다.
+ * </p>
+ *
+ * <p>
+ * 이전 키(<code>refresh:{jti}</code>, <code>emp_refresh:{empId}</code>, <code>emp_access:{empId}</code>,
+ * <code>auth:blacklist:{jti}</code>)는 {@link TokenKeyMigrator} 로 옮긴다.
+ * 옮기기 전·후 전환 구간에는 auth.redis.legacy-keys=true 로 이전 키도 함께 조회 / 삭제한다 (기본 false).
  * </p>
  *
  * <p>
  * JTI(JWT ID)는 토큰마다 고유한 UUID 같은 값을 사용하여
  * 토큰 단위의 관리가 가능하게 한다.
  * </p>
+ *
+ * <p>
+ * Redis 장애 대응:
+ * <ul>
+ *     <li>모든 명령은 {@link RedisCircuitBreaker} 를 거치며, 실패 / 차단 시 ServiceUnavailableException(503)</li>
+ *     <li>블랙리스트 조회만 auth.redis.blacklist-policy 에 따라 처리 –
+ *         FAIL_OPEN : 이 노드의 최근 무효화 목록({@link RecentRevocations})으로 판단 / FAIL_CLOSED : 503</li>
+ *     <li>블랙리스트 등록·확인된 jti 는 Redis 와 별도로 이 노드에도 토큰 만료 시각까지 기억</li>
+ * </ul>
+ * </p>
  */
 
 @Component
-@RequiredArgsConstructor
-public class RedisTokenStore {
+@ConditionalOnProperty(name = "auth.token-store", havingValue = "redis", matchIfMissing = true)
+@Log4j2
+public class RedisTokenStore implements TokenStore {
+
+    /**
+     * Redis 장애 시 블랙리스트 조회 처리
+     * */
+    public enum BlacklistPolicy {
+        FAIL_OPEN,      // 이 노드의 최근 무효화 목록으로 판단 (가용성 우선)
+        FAIL_CLOSED     // 판단 불가 → 요청 거절 (보안 우선)
+    } // enum end
 
     // RedisTemplate을 통한 Redis 접근
     private final RedisTemplate<String, Object> redisTemplate;
+    // 토큰 키 (값이 jti / 사번 문자열이라 스크립트에서 그대로 키를 만들 수 있도록 문자열 직렬화)
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisCircuitBreaker breaker;
+    private final BlacklistPolicy blacklistPolicy;
+    private final boolean legacyKeys;
+    private final long accessTtlMillis;
+    private final RecentRevocations recentRevocations;
+
+    // Redis 없이 판단한 블랙리스트 조회 수
+    private final LongAdder degradedBlacklistChecks = new LongAdder();
+
+    public RedisTokenStore(RedisTemplate<String, Object> redisTemplate,
+                           StringRedisTemplate stringRedisTemplate,
+                           RedisCircuitBreaker breaker,
+                           @Value("${auth.redis.blacklist-policy:FAIL_OPEN}") BlacklistPolicy blacklistPolicy,
+                           @Value("${auth.redis.legacy-keys:false}") boolean legacyKeys,
+                           @Value("${auth.redis.local-revocations.max-size:10000}") int localRevocationsMaxSize,
+                           @Value("${security.jwt.access-exp-seconds:1800}") long accessExpSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.breaker = breaker;
+        this.blacklistPolicy = blacklistPolicy;
+        this.legacyKeys = legacyKeys;
+        this.accessTtlMillis = accessExpSeconds * 1000;
+        this.recentRevocations = new RecentRevocations(localRevocationsMaxSize);
+    } // func end
+
+    // 이전 키 (사번 hash tag 없음 – TokenKeyMigrator 로 이전)
+    static final String LEGACY_REFRESH_JTI = "refresh:";       // refresh:{jti} -> empId
+    static final String LEGACY_EMP_REFRESH = "emp_refresh:";   // emp_refresh:{empId} -> refreshJti
+    static final String LEGACY_EMP_ACCESS = "emp_access:";     // emp_access:{empId} -> accessJti
+    static final String LEGACY_BLACKLIST = "auth:blacklist:";  // auth:blacklist:{jti}
+
+    /**
+     * Refresh Token 저장
+     * - KEYS[1] refresh:{jti} / KEYS[2] current_refresh
+     * - ARGV[1] jti / ARGV[2] empId / ARGV[3] TTL
+     */
+    private static final RedisScript<Long> STORE_REFRESH_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3])
+            redis.call('SET', KEYS[2], ARGV[1], 'EX', ARGV[3])
+            return 1
+            """, Long.class);
 
-    // [AUTH_013] 추가
-    private static final String KEY_REFRESH_JTI = "refresh:";       // refresh: {jti}
-    private static final String KEY_EMP_REFRESH = "emp_refresh:";   // emp_refresh: {empId}
+    /**
+     * Refresh Token 삭제 (최신 Refresh Token 이면 current_refresh 도 삭제)
+     * - KEYS[1] refresh:{jti} / KEYS[2] current_refresh / ARGV[1] jti
+     * - 반환 : 삭제된 Refresh Token 수 (0 : 이미 없음)
+     */
+    private static final RedisScript<Long> DELETE_REFRESH_SCRIPT = new DefaultRedisScript<>("""
+            local deleted = redis.call('DEL', KEYS[1])
+            if redis.call('GET', KEYS[2]) == ARGV[1] then
+              redis.call('DEL', KEYS[2])
+            end
+            return deleted
+            """, Long.class);
 
-    // access jti 추적용 (강제 로그아웃 시 사용)
-    private static final String KEY_EMP_ACCESS = "emp_access:"; // emp_access:{empId} -> accessJti
+    /**
+     * 사번의 최신 Refresh Token 삭제
+     * - KEYS[1] current_refresh / ARGV[1] refresh 키 prefix (auth:{empId}:refresh:)
+     * - 반환 : 삭제한 jti (없으면 nil)
+     */
+    private static final RedisScript<String> DELETE_REFRESH_BY_EMP_SCRIPT = new DefaultRedisScript<>("""
+            local jti = redis.call('GET', KEYS[1])
+            redis.call('DEL', KEYS[1])
+            if jti then
+              redis.call('DEL', ARGV[1] .. jti)
+            end
+            return jti
+            """, String.class);
+
+    /**
+     * 사번의 최신 Access Token 블랙리스트 등록 (남은 TTL 그대로)
+     * - KEYS[1] current_access / ARGV[1] blacklist 키 prefix (auth:{empId}:blacklist:)
+     * - 반환 : {jti, 남은 TTL} (없거나 만료 임박이면 nil)
+     */
+    private static final RedisScript<List> BLACKLIST_BY_EMP_SCRIPT = new DefaultRedisScript<>("""
+            local jti = redis.call('GET', KEYS[1])
+            if not jti then
+              return nil
+            end
+            local ttl = redis.call('TTL', KEYS[1])
+            redis.call('DEL', KEYS[1])
+            if ttl <= 0 then
+              return nil
+            end
+            redis.call('SET', ARGV[1] .. jti, '1', 'EX', ttl)
+            return {jti, tostring(ttl)}
+            """, List.class);
 
     /* =========================================================
      *  Redis Key 생성 메서드
      * ========================================================= */
 
+    // 사번 hash tag – 같은 사번의 토큰 키는 같은 slot
+    static String empTag(long empId) {
+        return "auth:{" + empId + "}:";
+    } // func end
+
     // Refresh Token Key prefix
-    private String refreshKey(String jti) {
-        return "auth:refresh:" + jti;
+    static String refreshKeyPrefix(long empId) {
+        return empTag(empId) + "refresh:";
+    } // func end
+
+    // Refresh Token Key
+    static String refreshKey(long empId, String jti) {
+        return refreshKeyPrefix(empId) + jti;
+    } // func end
+
+    // 사번의 최신 Refresh Token jti
+    static String currentRefreshKey(long empId) {
+        return empTag(empId) + "current_refresh";
+    } // func end
+
+    // 사번의 최신 Access Token jti
+    static String currentAccessKey(long empId) {
+        return empTag(empId) + "current_access";
     } // func end
 
     // Access Token Blacklist Key prefix
-    private String blacklistKey(String jti) {
-        return "auth:blacklist:" + jti;
+    static String blacklistKeyPrefix(long empId) {
+        return empTag(empId) + "blacklist:";
+    } // func end
+
+    // Access Token Blacklist Key
+    static String blacklistKey(long empId, String jti) {
+        return blacklistKeyPrefix(empId) + jti;
     } // func end
 
 
@@ -78,32 +226,33 @@ public class RedisTokenStore {
      * @param ttlSeconds  토큰의 TTL(Time To Live, 초 단위)
      *
      * <p>
-     * 아래 두 가지 Key를 Redis에 저장합니다:
+     * 아래 두 가지 Key를 스크립트 1회로 함께 저장합니다:
      * <ul>
-     *   <li><code>auth:refresh:{jti}</code> → empId
-     *       <br/>· 특정 Refresh Token(JTI)이 어떤 사용자에게 속하는지 조회할 때 사용합니다.</li>
+     *   <li><code>auth:{empId}:refresh:{jti}</code> → empId
+     *       <br/>· 특정 Refresh Token(JTI)이 유효한지 조회할 때 사용합니다.</li>
      *
-     *   <li><code>auth:emp_refresh:{empId}</code> → jti
+     *   <li><code>auth:{empId}:current_refresh</code> → jti
      *       <br/>· 특정 사용자의 최신 Refresh Token(JTI)을 찾을 때 사용합니다.</li>
      * </ul>
      *
      * 두 Key 모두 TTL이 만료되면 자동 삭제됩니다.
      * </p>
      */
+    @Override
     public void storeRefresh(String refreshJti, long empId, long ttlSeconds) {
-        // refresh:{jti} -> empId
-        redisTemplate.opsForValue().set(KEY_REFRESH_JTI + refreshJti, String.valueOf(empId), ttlSeconds, TimeUnit.SECONDS);
-
-        // emp_refresh:{empId} -> jti
-        redisTemplate.opsForValue().set(KEY_EMP_REFRESH + empId, refreshJti, ttlSeconds, TimeUnit.SECONDS);
+        breaker.run(() -> stringRedisTemplate.execute(STORE_REFRESH_SCRIPT,
+                List.of(refreshKey(empId, refreshJti), currentRefreshKey(empId)),
+                refreshJti, String.valueOf(empId), String.valueOf(ttlSeconds)));
     } // func end
 
     /**
      * Refresh Token 존재 여부 확인.
      * DB 조회 없이 Redis를 통해 빠르게 확인 가능.
      */
-    public boolean existsRefresh(String refreshJti) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_REFRESH_JTI + refreshJti));
+    @Override
+    public boolean existsRefresh(long empId, String refreshJti) {
+        return breaker.call(() -> Boolean.TRUE.equals(stringRedisTemplate.hasKey(refreshKey(empId, refreshJti)))
+                || (legacyKeys && Boolean.TRUE.equals(redisTemplate.hasKey(LEGACY_REFRESH_JTI + refreshJti))));
     } // func end
 
     /**
@@ -111,101 +260,89 @@ public class RedisTokenStore {
      *
      * <p>
      * 주로 로그아웃 또는 Refresh Token 재발급 시 호출되며,
-     * 다음 두 가지 Redis 데이터를 함께 제거합니다:
+     * 다음 두 가지 Redis 데이터를 스크립트 1회로 함께 제거합니다:
      * </p>
      *
      * <ul>
-     *   <li><code>auth:refresh:{jti}</code> → empId
-     *       <br/>· Refresh Token(JTI)과 사용자 사번 매핑 데이터</li>
+     *   <li><code>auth:{empId}:refresh:{jti}</code> → empId
+     *       <br/>· Refresh Token(JTI) 자체</li>
      *
-     *   <li><code>auth:emp_refresh:{empId}</code> → jti
-     *       <br/>· 해당 사용자의 현재 Refresh Token(JTI)을 저장한 데이터</li>
+     *   <li><code>auth:{empId}:current_refresh</code> → jti
+     *       <br/>· 삭제하는 토큰이 사용자의 최신 Refresh Token 일 때만 제거
+     *       (다른 기기의 더 최신 세션을 강제 로그아웃 대상에서 빠뜨리지 않도록)</li>
      * </ul>
      *
-     * <p>
-     * 전달받은 JTI 기반으로 먼저 empId 를 조회한 뒤,
-     * 관련된 모든 Refresh Token 정보를 안전하게 삭제합니다.
-     * </p>
-     *
+     * @param empId      Refresh Token 의 사번 (토큰 subject)
      * @param refreshJti 삭제할 Refresh Token의 고유 식별자(JTI)
+     * @return 삭제 여부 (false : 이미 삭제 / 만료된 토큰) – 재발급 시 같은 토큰의 동시 사용 판정에 사용
      */
-    public void deleteRefresh(String refreshJti) {
-        String empId = (String) redisTemplate.opsForValue().get(KEY_REFRESH_JTI+ refreshJti);
-        redisTemplate.delete(KEY_REFRESH_JTI + refreshJti);
-        if(empId != null){
-            redisTemplate.delete(KEY_EMP_REFRESH + empId);
-        }
+    @Override
+    public boolean deleteRefresh(long empId, String refreshJti) {
+        return breaker.call(() -> {
+            Long deleted = stringRedisTemplate.execute(DELETE_REFRESH_SCRIPT,
+                    List.of(refreshKey(empId, refreshJti), currentRefreshKey(empId)), refreshJti);
+            boolean legacyDeleted = legacyKeys && deleteLegacyRefresh(refreshJti);
+            return (deleted != null && deleted > 0) || legacyDeleted;
+        });
     } // func end
 
     /**
      * [AUTH_013] 강제 로그아웃 처리.
      *
      * <p>
-     * 특정 사용자(empId)에 대한 Refresh Token 정보를 모두 제거합니다.
-     * 다음 두 가지 Redis Key를 정리하는 방식으로 강제 로그아웃을 수행합니다:
+     * 특정 사용자(empId)의 최신 Refresh Token 을 스크립트 1회로 제거합니다:
      * </p>
      *
      * <ul>
-     *   <li><code>auth:emp_refresh:{empId}</code> → jti
+     *   <li><code>auth:{empId}:current_refresh</code> → jti
      *       <br/>· 해당 사용자의 현재 Refresh Token(JTI)을 저장한 Key</li>
      *
-     *   <li><code>auth:refresh:{jti}</code> → empId
-     *       <br/>· JTI 기반으로 사용자 사번을 조회하는 Key</li>
+     *   <li><code>auth:{empId}:refresh:{jti}</code> → empId
+     *       <br/>· 위에서 조회한 JTI 의 Refresh Token Key</li>
      * </ul>
      *
-     * <p>
-     * 강제 로그아웃 시나리오:
-     * <br/>1) empId로 현재 JTI 조회
-     * <br/>2) empId 기반 Key 삭제
-     * <br/>3) 조회된 JTI 기반 Refresh Token Key도 함께 삭제
-     * </p>
-     *
      * @param empId 강제 로그아웃시킬 사용자 사번(PK)
      */
+    @Override
     public void deleteRefreshByEmpId(long empId) {
-
-        // [1] 사용자에게 매핑된 Refresh Token JTI 조회
-        String jti = (String) redisTemplate.opsForValue()
-                .get(KEY_EMP_REFRESH + empId);
-
-        // [2] auth:emp_refresh:{empId} 삭제 (사용자의 현재 Refresh Token 정보 제거)
-        redisTemplate.delete(KEY_EMP_REFRESH + empId);
-
-        // [3] auth:refresh:{jti} 삭제 (JTI 기준 Refresh Token 자체 제거)
-        if (jti != null) {
-            redisTemplate.delete(KEY_REFRESH_JTI + jti); // ★ 버그 수정됨
-        }
+        breaker.run(() -> {
+            stringRedisTemplate.execute(DELETE_REFRESH_BY_EMP_SCRIPT,
+                    List.of(currentRefreshKey(empId)), refreshKeyPrefix(empId));
+            if (legacyKeys) {
+                // 이전 키는 slot 이 달라 원자 처리 없이 순서대로 삭제
+                Object jti = redisTemplate.opsForValue().get(LEGACY_EMP_REFRESH + empId);
+                redisTemplate.delete(LEGACY_EMP_REFRESH + empId);
+                if (jti != null) redisTemplate.delete(LEGACY_REFRESH_JTI + jti);
+            }
+        });
     } // func end
 
     /**
      * 로그인 시 AccessJti 를 redis에 저장
      * 관리자 계정은 empId를 가지고 일반 계정 로그아웃을 하기위해서는 별도의 토큰 정보를 확인할 방법이 필요
      * */
+    @Override
     public void storeAccessJti(long empId, String accessJti, long ttlSeconds) {
-        redisTemplate.opsForValue().set(KEY_EMP_ACCESS + empId, accessJti, ttlSeconds, TimeUnit.SECONDS);
+        breaker.run(() -> stringRedisTemplate.opsForValue()
+                .set(currentAccessKey(empId), accessJti, ttlSeconds, TimeUnit.SECONDS));
     } // func end
 
     /**
-     * EmpId > accessJti를 찾아 블랙리스트에 등록
+     * EmpId > accessJti를 찾아 블랙리스트에 등록 (남은 TTL 동안)
      * */
+    @Override
     public void blacklistAccessByEmpId(long empId) {
-
-        String accessJti = (String) redisTemplate.opsForValue().get(KEY_EMP_ACCESS + empId);
-        if (accessJti == null) return;
-
-        Long ttl = redisTemplate.getExpire(KEY_EMP_ACCESS + empId, TimeUnit.SECONDS);
-        if (ttl == null || ttl <= 0) {
-            // 만료 임박/만료면 블랙리스트 등록 의미 없음
-            redisTemplate.delete(KEY_EMP_ACCESS + empId);
-            return;
-        }
-
-        // 기존 구현 메서드 활용
-        blacklistAccess(accessJti, ttl);
-
-        // 추적 키 삭제(선택)
-        redisTemplate.delete(KEY_EMP_ACCESS + empId);
-    }
+        breaker.run(() -> {
+            List<?> result = stringRedisTemplate.execute(BLACKLIST_BY_EMP_SCRIPT,
+                    List.of(currentAccessKey(empId)), blacklistKeyPrefix(empId));
+            if (result != null && result.size() == 2) {
+                // 이 노드에도 기억 (Redis 장애 시 대체 판단용)
+                long ttl = Long.parseLong(String.valueOf(result.get(1)));
+                recentRevocations.add(String.valueOf(result.get(0)), System.currentTimeMillis() + ttl * 1000);
+            }
+            if (legacyKeys) blacklistLegacyAccess(empId);
+        });
+    } // func end
 
     /* =========================================================
      *  Access Token Blacklist 관리 (옵션)
@@ -220,21 +357,90 @@ public class RedisTokenStore {
      * 서버가 토큰을 거부할 수 있다.
      * </p>
      *
+     * @param empId      Access Token 의 사번 (토큰 subject)
      * @param accessJti  Access Token의 JTI
      * @param ttlSeconds Access Token의 남은 수명(초)
      */
-    public void blacklistAccess(String accessJti, long ttlSeconds) {
-        redisTemplate.opsForValue()
-                .set(blacklistKey(accessJti), true, Duration.ofSeconds(ttlSeconds));
+    @Override
+    public void blacklistAccess(long empId, String accessJti, long ttlSeconds) {
+        // 이 노드에 먼저 기억 → Redis 등록이 실패해도 이 노드에서는 즉시 무효
+        recentRevocations.add(accessJti, System.currentTimeMillis() + ttlSeconds * 1000);
+        breaker.run(() -> stringRedisTemplate.opsForValue()
+                .set(blacklistKey(empId, accessJti), "1", Duration.ofSeconds(ttlSeconds)));
     }
 
     /**
      * Access Token이 블랙리스트에 포함되어 있는지 확인.
+     *
+     * <p>
+     * 이 노드가 기억하는 무효화 토큰이면 Redis 를 조회하지 않는다.
+     * Redis 장애(차단기 열림 포함) 시 FAIL_OPEN 이면 이 노드의 기억만으로 판단하고, FAIL_CLOSED 이면 503 을 던진다.
+     * </p>
      */
-    public boolean isBlacklisted(String accessJti) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey(blacklistKey(accessJti)));
+    @Override
+    public boolean isBlacklisted(long empId, String accessJti) {
+        if (recentRevocations.contains(accessJti)) return true;
+        try {
+            boolean blacklisted = breaker.call(() -> Boolean.TRUE.equals(stringRedisTemplate.hasKey(blacklistKey(empId, accessJti)))
+                    || (legacyKeys && Boolean.TRUE.equals(redisTemplate.hasKey(LEGACY_BLACKLIST + accessJti))));
+            // 다른 노드에서 무효화된 토큰도 한 번 확인되면 이 노드에 기억 (남은 수명을 모르므로 access 최대 수명)
+            if (blacklisted) recentRevocations.add(accessJti, System.currentTimeMillis() + accessTtlMillis);
+            return blacklisted;
+        } catch (ServiceUnavailableException e) {
+            if (blacklistPolicy == BlacklistPolicy.FAIL_CLOSED) throw e;
+            degradedBlacklistChecks.increment();
+            return false;
+        }
     }
 
+    /* =========================================================
+     *  이전 키 (auth.redis.legacy-keys=true 인 전환 구간에만 사용)
+     * ========================================================= */
+
+    // refresh:{jti} 삭제 + 해당 사번의 emp_refresh 가 이 jti 이면 함께 삭제
+    private boolean deleteLegacyRefresh(String refreshJti) {
+        Object empId = redisTemplate.opsForValue().get(LEGACY_REFRESH_JTI + refreshJti);
+        if (empId == null) return false;
+        redisTemplate.delete(LEGACY_REFRESH_JTI + refreshJti);
+        if (refreshJti.equals(redisTemplate.opsForValue().get(LEGACY_EMP_REFRESH + empId))) {
+            redisTemplate.delete(LEGACY_EMP_REFRESH + empId);
+        }
+        return true;
+    } // func end
+
+    // emp_access:{empId} 의 jti 를 새 블랙리스트 키로 등록
+    private void blacklistLegacyAccess(long empId) {
+        String legacyKey = LEGACY_EMP_ACCESS + empId;
+        Object accessJti = redisTemplate.opsForValue().get(legacyKey);
+        if (accessJti == null) return;
+        Long ttl = redisTemplate.getExpire(legacyKey, TimeUnit.SECONDS);
+        redisTemplate.delete(legacyKey);
+        if (ttl == null || ttl <= 0) return;
+
+        recentRevocations.add(String.valueOf(accessJti), System.currentTimeMillis() + ttl * 1000);
+        stringRedisTemplate.opsForValue().set(blacklistKey(empId, String.valueOf(accessJti)), "1", Duration.ofSeconds(ttl));
+    } // func end
+
+    /**
+     * 차단기가 열려 있으면 즉시 503 (로그인 / 재발급처럼 Redis 없이는 끝낼 수 없는 작업의 시작 전 확인)
+     */
+    @Override
+    public void ensureAvailable() {
+        breaker.ensureAvailable();
+    } // func end
+
+    public BlacklistPolicy blacklistPolicy() {
+        return blacklistPolicy;
+    } // func end
+
+    public long degradedBlacklistChecks() {
+        return degradedBlacklistChecks.sum();
+    } // func end
+
+    public int localRevocations() {
+        return recentRevocations.size();
+    } // func end
+
     // [AUTH_033] 로그인 실패 카운터 ==========
     private String loginFailKey(String loginId) {
         return "auth:login_fail:" + loginId;
@@ -247,25 +453,31 @@ public class RedisTokenStore {
      *
      * @return 증가 후 실패 횟수
      */
+    @Override
     public long increaseLoginFail(String loginId, long ttlSeconds) {
         String key = loginFailKey(loginId);
 
-        Long count = redisTemplate.opsForValue().increment(key);
-        if (count != null && count == 1) {
-            // 첫 실패일 때만 TTL 세팅
-            redisTemplate.expire(key, ttlSeconds, TimeUnit.SECONDS);
-        }
+        Long count = breaker.call(() -> {
+            Long c = redisTemplate.opsForValue().increment(key);
+            if (c != null && c == 1) {
+                // 첫 실패일 때만 TTL 세팅
+                redisTemplate.expire(key, ttlSeconds, TimeUnit.SECONDS);
+            }
+            return c;
+        });
         return count == null ? 0 : count;
     }
 
     /** 로그인 성공 시 실패 횟수 초기화(권장: AUTH_010 내부) */
+    @Override
     public void clearLoginFail(String loginId) {
-        redisTemplate.delete(loginFailKey(loginId));
+        breaker.run(() -> redisTemplate.delete(loginFailKey(loginId)));
     }
 
     /** (선택) 현재 실패 횟수 조회 */
+    @Override
     public long getLoginFailCount(String loginId) {
-        Object v = redisTemplate.opsForValue().get(loginFailKey(loginId));
+        Object v = breaker.call(() -> redisTemplate.opsForValue().get(loginFailKey(loginId)));
         if (v == null) return 0;
         try { return Long.parseLong(String.valueOf(v)); }
         catch (Exception e) { return 0; }
@@ -278,17 +490,20 @@ public class RedisTokenStore {
         return "auth:pw_reset:" + loginId ;
     } // func end
 
+    @Override
     public void storePwRestOtp(String loginId, String otp, long ttlSecondes){
-        redisTemplate.opsForValue().set(pwRestKey(loginId), otp, ttlSecondes, TimeUnit.SECONDS);
+        breaker.run(() -> redisTemplate.opsForValue().set(pwRestKey(loginId), otp, ttlSecondes, TimeUnit.SECONDS));
     } // func end
 
+    @Override
     public String getPwRestOtp(String loginId){
-        Object v = redisTemplate.opsForValue().get(pwRestKey(loginId));
+        Object v = breaker.call(() -> redisTemplate.opsForValue().get(pwRestKey(loginId)));
         return v == null ? null : String.valueOf(v);
     } // func end
 
+    @Override
     public void deletePwRestOtp(String loginId){
-        redisTemplate.delete(pwRestKey(loginId));
+        breaker.run(() -> redisTemplate.delete(pwRestKey(loginId)));
     } // func end
 
     /* ===================================================================
@@ -299,17 +514,20 @@ public class RedisTokenStore {
         return "auth:pw_reset_token:" + loginId;
     } // func end
 
+    @Override
     public void storePwStoreToken(String loginId, String resetToken, long ttlSeconds){
-        redisTemplate.opsForValue().set(pwRestTokenKey(loginId),resetToken,ttlSeconds,TimeUnit.SECONDS);
+        breaker.run(() -> redisTemplate.opsForValue().set(pwRestTokenKey(loginId),resetToken,ttlSeconds,TimeUnit.SECONDS));
     } // func end
 
+    @Override
     public String getPwResetToken(String loginId){
-        Object v = redisTemplate.opsForValue().get(pwRestTokenKey(loginId));
+        Object v = breaker.call(() -> redisTemplate.opsForValue().get(pwRestTokenKey(loginId)));
         return v == null ? null : String.valueOf(v);
     } // func end
 
+    @Override
     public void deletePwResetToken(String loginId){
-        redisTemplate.delete(pwRestTokenKey(loginId));
+        breaker.run(() -> redisTemplate.delete(pwRestTokenKey(loginId)));
     } // func end
     
 } // class end
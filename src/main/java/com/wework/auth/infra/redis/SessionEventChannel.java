@@ -0,0 +1,44 @@
+package com.wework.auth.infra.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션 이벤트 Redis Pub/Sub 채널
+ *
+ * <p>Redis Key Naming Rule
+ * <ul>
+ *     <li><code>auth:session-events</code> – 채널 (본문 : SessionRevokedEvent JSON)</li>
+ * </ul>
+ *
+ * <p>Pub/Sub 은 보관하지 않으므로 구독 중이 아닌 노드(재시작 중 등)에는 전달되지 않는다.
+ * 그 사이 연결이 끊긴 클라이언트는 재연결 시 무효화된 토큰으로 401 을 받는다.
+ * */
+@Component
+@RequiredArgsConstructor
+public class SessionEventChannel {
+
+    private static final ChannelTopic TOPIC = new ChannelTopic("auth:session-events");
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    /**
+     * 모든 노드로 발행
+     * */
+    public void publish(String payload) {
+        stringRedisTemplate.convertAndSend(TOPIC.getTopic(), payload);
+    } // func end
+
+    /**
+     * 이 노드에서 수신 (리스너 컨테이너의 구독 스레드에서 호출됨)
+     * */
+    public void subscribe(MessageListener listener) {
+        listenerContainer.addMessageListener(listener, TOPIC);
+    } // func end
+
+} // class end
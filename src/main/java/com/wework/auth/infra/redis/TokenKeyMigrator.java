@@ -0,0 +1,136 @@
+package com.wework.auth.infra.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 토큰 키 이전 (사번 hash tag 없는 이전 키 → {@link RedisTokenStore} 의 Cluster 호환 키)
+ *
+ * <p>처리 흐름
+ * <P>1) 이전 키 패턴별 SCAN – Cluster 면 모든 master 노드를 각각 SCAN</P>
+ * <P>2) 남은 TTL 그대로 새 키에 기록 (새 키가 이미 있으면 유지 – 새 버전 노드가 쓴 값이 더 최신)</P>
+ * <P>3) 기록 후 이전 키 삭제</P>
+ *
+ * <p>이전 블랙리스트(<code>auth:blacklist:{jti}</code>)는 값에 사번이 없어 옮길 수 없다.
+ * access 최대 수명 안에 모두 만료되므로 그동안만 auth.redis.legacy-keys=true 로 함께 조회한다.
+ * <p>여러 번 실행해도 결과가 같으며, 전환 구간에 이전 버전 노드가 쓴 키는 다시 실행하면 옮겨진다.
+ * */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class TokenKeyMigrator {
+
+    private static final int SCAN_COUNT = 1000;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 이전 결과
+     * */
+    public record Result(
+            long refreshTokens,     // refresh:{jti} → auth:{empId}:refresh:{jti}
+            long currentRefresh,    // emp_refresh:{empId} → auth:{empId}:current_refresh
+            long currentAccess,     // emp_access:{empId} → auth:{empId}:current_access
+            long expired,           // 이전 중 만료되어 건너뛴 키
+            long legacyBlacklist    // 옮기지 못하고 만료를 기다리는 이전 블랙리스트 키
+    ) { } // record end
+
+    /**
+     * 이전 키 전체 이전
+     * */
+    public Result migrate() {
+        long[] counts = new long[5];
+
+        // [1] refresh:{jti} -> empId
+        scan(RedisTokenStore.LEGACY_REFRESH_JTI, key -> {
+            String jti = key.substring(RedisTokenStore.LEGACY_REFRESH_JTI.length());
+            Object empId = redisTemplate.opsForValue().get(key);
+            if (empId != null && move(key, RedisTokenStore.refreshKey(Long.parseLong(String.valueOf(empId)), jti),
+                    String.valueOf(empId))) counts[0]++;
+            else counts[3]++;
+        });
+
+        // [2] emp_refresh:{empId} -> refreshJti
+        scan(RedisTokenStore.LEGACY_EMP_REFRESH, key -> {
+            long empId = Long.parseLong(key.substring(RedisTokenStore.LEGACY_EMP_REFRESH.length()));
+            Object jti = redisTemplate.opsForValue().get(key);
+            if (jti != null && move(key, RedisTokenStore.currentRefreshKey(empId), String.valueOf(jti))) counts[1]++;
+            else counts[3]++;
+        });
+
+        // [3] emp_access:{empId} -> accessJti
+        scan(RedisTokenStore.LEGACY_EMP_ACCESS, key -> {
+            long empId = Long.parseLong(key.substring(RedisTokenStore.LEGACY_EMP_ACCESS.length()));
+            Object jti = redisTemplate.opsForValue().get(key);
+            if (jti != null && move(key, RedisTokenStore.currentAccessKey(empId), String.valueOf(jti))) counts[2]++;
+            else counts[3]++;
+        });
+
+        // [4] auth:blacklist:{jti} – 개수만 확인
+        scan(RedisTokenStore.LEGACY_BLACKLIST, key -> counts[4]++);
+
+        Result result = new Result(counts[0], counts[1], counts[2], counts[3], counts[4]);
+        log.info("[AUTH] token key migration done. {}", result);
+        return result;
+    } // func end
+
+    /**
+     * 남은 TTL 로 새 키 기록 후 이전 키 삭제
+     * @return 기록 여부 (false : 이전 키가 이미 만료됨)
+     * */
+    private boolean move(String legacyKey, String newKey, String value) {
+        Long ttlMillis = redisTemplate.getExpire(legacyKey, TimeUnit.MILLISECONDS);
+        if (ttlMillis == null || ttlMillis == -2) return false;
+        if (ttlMillis > 0) {
+            stringRedisTemplate.opsForValue().setIfAbsent(newKey, value, Duration.ofMillis(ttlMillis));
+        } else {
+            // TTL 없는 키 (-1) – 이전 코드는 항상 TTL 을 걸었으므로 수동으로 만든 키
+            stringRedisTemplate.opsForValue().setIfAbsent(newKey, value);
+        }
+        redisTemplate.delete(legacyKey);
+        return true;
+    } // func end
+
+    /**
+     * prefix 로 시작하는 키 SCAN (Cluster 면 master 노드별)
+     * - 처리 중 키를 지우므로 패턴별로 키 이름을 모두 모은 뒤 처리
+     * */
+    private void scan(String prefix, Consumer<String> handler) {
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(SCAN_COUNT).build();
+        List<String> keys = redisTemplate.execute((RedisCallback<List<String>>) connection -> {
+            List<String> found = new ArrayList<>();
+            if (connection instanceof RedisClusterConnection cluster) {
+                for (RedisClusterNode node : cluster.clusterGetNodes()) {
+                    if (node.isMaster()) collect(cluster.scan(node, options), found);
+                }
+            } else {
+                collect(connection.keyCommands().scan(options), found);
+            }
+            return found;
+        });
+        if (keys != null) keys.forEach(handler);
+    } // func end
+
+    private static void collect(Cursor<byte[]> cursor, List<String> found) {
+        try (cursor) {
+            cursor.forEachRemaining(key -> found.add(new String(key, StandardCharsets.UTF_8)));
+        }
+    } // func end
+
+} // class end
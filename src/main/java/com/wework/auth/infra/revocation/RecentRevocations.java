@@ -0,0 +1,94 @@
+package com.wework.auth.infra.revocation;
+
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 이 노드가 최근에 알게 된 무효화 access jti (Redis 장애 시 블랙리스트 대체)
+ *
+ * <p>이 노드에서 블랙리스트에 등록한 토큰과, Redis 조회에서 블랙리스트로 확인된 토큰을 토큰 만료 시각까지 보관한다.
+ * 다른 노드에서 무효화되고 이 노드에 한 번도 제시되지 않은 토큰은 알 수 없다.
+ * <p>최대 개수를 넘으면 만료가 이른 항목부터(= 만료된 항목 먼저) 최대 개수의 1/16 만큼 여유가 생길 때까지 한 번에 버린다.
+ * <P>1) 조회 : ConcurrentHashMap 만 읽음 (잠금 없음)</P>
+ * <P>2) 만료 순서 : 최소 힙에 (jti, 만료 시각) 기록 – 추가 O(log n), 제거 건당 O(log n)</P>
+ * <P>3) 힙에는 이미 지워졌거나 만료가 늘어난 항목이 남을 수 있으므로, 꺼낼 때 맵의 만료 시각과 같을 때만 제거</P>
+ * */
+public final class RecentRevocations {
+
+    /**
+     * 만료 순서 항목
+     * */
+    private record Expiry(String jti, long expiresAt) { } // record end
+
+    // jti → 만료 시각 (epoch ms)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    // 만료 시각 순 (lock 안에서만 접근)
+    private final PriorityQueue<Expiry> byExpiry = new PriorityQueue<>((x, y) -> Long.compare(x.expiresAt(), y.expiresAt()));
+    private final ReentrantLock lock = new ReentrantLock();
+    private final int maxSize;
+    // 한 번 정리할 때 maxSize 아래로 비워 둘 개수
+    private final int evictBatch;
+
+    public RecentRevocations(int maxSize) {
+        this.maxSize = Math.max(1, maxSize);
+        this.evictBatch = Math.max(1, this.maxSize / 16);
+    } // func end
+
+    /**
+     * 무효화 기록
+     * */
+    public void add(String jti, long expiresAtMillis) {
+        if (jti == null || expiresAtMillis <= System.currentTimeMillis()) return;
+        Long previous = revoked.get(jti);
+        if (previous != null && previous >= expiresAtMillis) return;
+        // 같은 jti 가 동시에 추가되면 둘 다 힙에 들어가고, 맵에는 늦은 만료가 남는다
+        revoked.merge(jti, expiresAtMillis, Math::max);
+        lock.lock();
+        try {
+            byExpiry.add(new Expiry(jti, expiresAtMillis));
+            if (revoked.size() > maxSize) evict();
+            else if (byExpiry.size() > 2 * maxSize) compact();
+        } finally {
+            lock.unlock();
+        }
+    } // func end
+
+    /**
+     * 무효화된 토큰인지 (만료된 항목은 제거)
+     * */
+    public boolean contains(String jti) {
+        if (jti == null) return false;
+        Long expiresAt = revoked.get(jti);
+        if (expiresAt == null) return false;
+        if (expiresAt > System.currentTimeMillis()) return true;
+        revoked.remove(jti, expiresAt);
+        return false;
+    } // func end
+
+    public int size() {
+        return revoked.size();
+    } // func end
+
+    /**
+     * 만료가 이른 순으로 maxSize - evictBatch 까지 제거 (lock 안에서 호출)
+     * - 만료된 항목이 힙 앞쪽에 있으므로 먼저 제거된다
+     * */
+    private void evict() {
+        int target = maxSize - evictBatch;
+        while (revoked.size() > target) {
+            Expiry earliest = byExpiry.poll();
+            if (earliest == null) return;
+            revoked.remove(earliest.jti(), earliest.expiresAt());
+        }
+    } // func end
+
+    /**
+     * 힙에 남은 지난 항목(제거됨 / 만료 연장됨) 정리 (lock 안에서 호출)
+     * */
+    private void compact() {
+        byExpiry.removeIf(expiry -> !Long.valueOf(expiry.expiresAt()).equals(revoked.get(expiry.jti())));
+    } // func end
+
+} // class end
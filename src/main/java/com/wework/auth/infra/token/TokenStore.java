@@ -0,0 +1,84 @@
+package com.wework.auth.infra.token;
+
+/**
+ * 토큰 상태 저장소 (Refresh Token / Access Token Blacklist / 로그인 실패 횟수 / 비밀번호 재설정)
+ *
+ * <p>auth.token-store 로 구현체를 고른다.
+ * <ul>
+ *     <li><code>redis</code> (기본) – {@link com.wework.auth.infra.redis.RedisTokenStore} : 여러 노드가 공유</li>
+ *     <li><code>memory</code> – {@link com.wework.auth.infra.memory.InMemoryTokenStore} :
+ *         이 노드의 메모리 (단일 노드 / 엣지 배포, 네트워크 왕복 없음)</li>
+ * </ul>
+ *
+ * <p>구현체 공통 규칙 (TokenStoreContractTest 를 구현체마다 상속하여 gradle test 로 같은 항목 검증)
+ * <P>1) 모든 값은 TTL 이 지나면 없는 것으로 본다</P>
+ * <P>2) 한 사번의 여러 키를 바꾸는 작업(저장 / 삭제 / 강제 로그아웃)은 원자적으로 처리한다</P>
+ * <P>3) 저장소를 쓸 수 없으면 ServiceUnavailableException(503)</P>
+ * */
+public interface TokenStore {
+
+    /**
+     * 저장소를 쓸 수 없으면 즉시 503 (로그인 / 재발급처럼 저장소 없이는 끝낼 수 없는 작업의 시작 전 확인)
+     * */
+    void ensureAvailable();
+
+    /* =========================================================
+     *  Refresh Token
+     * ========================================================= */
+
+    // Refresh Token 저장 + 사번의 최신 Refresh Token 으로 기록
+    void storeRefresh(String refreshJti, long empId, long ttlSeconds);
+
+    // Refresh Token 존재 여부
+    boolean existsRefresh(long empId, String refreshJti);
+
+    // Refresh Token 삭제 (사번의 최신 Refresh Token 이면 그 기록도 삭제) → 삭제 여부 (false : 이미 없음)
+    boolean deleteRefresh(long empId, String refreshJti);
+
+    // [AUTH_013] 사번의 최신 Refresh Token 삭제
+    void deleteRefreshByEmpId(long empId);
+
+    /* =========================================================
+     *  Access Token
+     * ========================================================= */
+
+    // 사번의 최신 Access Token jti 기록 (강제 로그아웃용)
+    void storeAccessJti(long empId, String accessJti, long ttlSeconds);
+
+    // [AUTH_013] 사번의 최신 Access Token 을 남은 수명 동안 블랙리스트 등록
+    void blacklistAccessByEmpId(long empId);
+
+    // Access Token 블랙리스트 등록 (로그아웃)
+    void blacklistAccess(long empId, String accessJti, long ttlSeconds);
+
+    // 블랙리스트 여부
+    boolean isBlacklisted(long empId, String accessJti);
+
+    /* =========================================================
+     *  [AUTH_033] 로그인 실패 횟수
+     * ========================================================= */
+
+    // 실패 횟수 증가 (첫 실패부터 ttlSeconds 후 초기화) → 증가 후 횟수
+    long increaseLoginFail(String loginId, long ttlSeconds);
+
+    void clearLoginFail(String loginId);
+
+    long getLoginFailCount(String loginId);
+
+    /* =========================================================
+     *  [AUTH_030~032] 비밀번호 재설정 OTP / 재설정 토큰
+     * ========================================================= */
+
+    void storePwRestOtp(String loginId, String otp, long ttlSeconds);
+
+    String getPwRestOtp(String loginId);
+
+    void deletePwRestOtp(String loginId);
+
+    void storePwStoreToken(String loginId, String resetToken, long ttlSeconds);
+
+    String getPwResetToken(String loginId);
+
+    void deletePwResetToken(String loginId);
+
+} // interface end
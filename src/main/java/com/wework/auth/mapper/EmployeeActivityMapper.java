@@ -0,0 +1,18 @@
+package com.wework.auth.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface EmployeeActivityMapper {
+
+    // 직원별 마지막 로그인 / 활동 (최근 활동순, idleSince 가 있으면 그 이후 활동이 없는 직원만)
+    List<EmployeeActivityRow> selectActivities(@Param("deptId") Long deptId,
+                                               @Param("idleSince") LocalDateTime idleSince,
+                                               @Param("offset") int offset,
+                                               @Param("limit") int limit);
+
+} // interface end
@@ -0,0 +1,24 @@
+package com.wework.auth.mapper;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 직원 마지막 로그인 / 활동 조회 1행
+ * */
+@Getter
+@Setter
+public class EmployeeActivityRow {
+
+    private Long empId;                     // 사번
+    private String loginId;                 // 로그인 ID
+    private String name;                    // 이름
+    private Long deptId;                    // 부서ID
+    private String deptName;                // 부서명
+    private String status;                  // ACTIVE / INACTIVE
+    private LocalDateTime lastLoginAt;      // 마지막 로그인
+    private LocalDateTime lastSeenAt;       // 마지막 활동
+
+} // class end
@@ -0,0 +1,78 @@
+package com.wework.auth.repository;
+
+import com.wework.auth.infra.activity.ActivityBuffer.Activity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 직원 마지막 로그인 / 활동 시각 배치 반영
+ *
+ * <p>직원 CHUNK 명을 UPDATE 1문장(CASE emp_id)으로 반영한다.
+ * <P>- GREATEST : 여러 노드가 반영해도 값이 과거로 돌아가지 않음</P>
+ * <P>- updated_at = updated_at : ON UPDATE CURRENT_TIMESTAMP 자동 갱신 방지 (프로필 수정 시각 보존)</P>
+ * */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeActivityJdbcRepository {
+
+    // UPDATE 1문장에 담는 직원 수
+    private static final int CHUNK = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 반영 → 실행한 UPDATE 문장 수
+     * */
+    public int update(List<Activity> activities) {
+        int statements = 0;
+        for (int from = 0; from < activities.size(); from += CHUNK) {
+            updateChunk(activities.subList(from, Math.min(from + CHUNK, activities.size())));
+            statements++;
+        }
+        return statements;
+    } // func end
+
+    private void updateChunk(List<Activity> chunk) {
+        StringBuilder sql = new StringBuilder("UPDATE employee SET ");
+        List<Object> params = new ArrayList<>();
+
+        // [1] last_login_at (로그인한 직원만)
+        List<Activity> logins = chunk.stream().filter(a -> a.lastLoginAt() != null).toList();
+        if (!logins.isEmpty()) {
+            sql.append("last_login_at = CASE emp_id");
+            for (Activity a : logins) {
+                sql.append(" WHEN ? THEN GREATEST(COALESCE(last_login_at, ?), ?)");
+                Timestamp at = Timestamp.valueOf(a.lastLoginAt());
+                params.add(a.empId());
+                params.add(at);
+                params.add(at);
+            }
+            sql.append(" ELSE last_login_at END, ");
+        }
+
+        // [2] last_seen_at
+        sql.append("last_seen_at = CASE emp_id");
+        for (Activity a : chunk) {
+            sql.append(" WHEN ? THEN GREATEST(COALESCE(last_seen_at, ?), ?)");
+            Timestamp at = Timestamp.valueOf(a.lastSeenAt());
+            params.add(a.empId());
+            params.add(at);
+            params.add(at);
+        }
+        sql.append(" ELSE last_seen_at END, updated_at = updated_at WHERE emp_id IN (");
+
+        // [3] 대상
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+            params.add(chunk.get(i).empId());
+        }
+        sql.append(')');
+        jdbcTemplate.update(sql.toString(), params.toArray());
+    } // func end
+
+} // class end
@@ -0,0 +1,138 @@
+package com.wework.auth.service;
+
+import com.wework.auth.dto.response.ActivityStatsResponseDto;
+import com.wework.auth.dto.response.EmployeeActivityResponseDto;
+import com.wework.auth.infra.activity.ActivityBuffer;
+import com.wework.auth.mapper.EmployeeActivityMapper;
+import com.wework.auth.mapper.EmployeeActivityRow;
+import com.wework.auth.repository.EmployeeActivityJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 직원 마지막 로그인 / 활동 시각 추적
+ *
+ * <p>처리 흐름
+ * <P>1) 로그인({@link AuthService#login}) / 인증된 요청(JwtAuthenticationFilter) → {@link ActivityBuffer} 에 직원별 최신 값만 보관</P>
+ * <P>2) activity.flush.interval-ms 마다 버퍼를 꺼내 UPDATE 1문장(500명 단위)으로 반영 (updated_at 은 건드리지 않음)</P>
+ * <P>3) 반영 실패 시 꺼낸 값을 버퍼에 되돌려 다음 주기에 재시도</P>
+ *
+ * <p>비정상 종료 시 마지막 반영 이후 최대 1주기 분량의 시각이 유실될 수 있다 (다음 활동 시 다시 기록됨).
+ * */
+@Service
+@Log4j2
+public class ActivityTrackingService {
+
+    private static final int MAX_LIMIT = 200;
+
+    private final ActivityBuffer buffer = new ActivityBuffer();
+    private final EmployeeActivityJdbcRepository employeeActivityJdbcRepository;
+    private final EmployeeActivityMapper employeeActivityMapper;
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // 통계
+    private final LongAdder recorded = new LongAdder();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong statements = new AtomicLong();
+    private final AtomicLong rowsWritten = new AtomicLong();
+    private volatile LocalDateTime lastFlushAt;
+
+    public ActivityTrackingService(EmployeeActivityJdbcRepository employeeActivityJdbcRepository,
+                                   EmployeeActivityMapper employeeActivityMapper) {
+        this.employeeActivityJdbcRepository = employeeActivityJdbcRepository;
+        this.employeeActivityMapper = employeeActivityMapper;
+    } // func end
+
+    /**
+     * 로그인 기록
+     * */
+    public void recordLogin(long empId) {
+        recorded.increment();
+        buffer.login(empId, now());
+    } // func end
+
+    /**
+     * 인증된 요청 기록
+     * */
+    public void recordSeen(long empId) {
+        recorded.increment();
+        buffer.seen(empId, now());
+    } // func end
+
+    /**
+     * 주기적 DB 반영
+     * */
+    @Scheduled(fixedDelayString = "${activity.flush.interval-ms:10000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<ActivityBuffer.Activity> drained = buffer.drain();
+            if (drained.isEmpty()) return;
+            try {
+                int executed = employeeActivityJdbcRepository.update(drained);
+                flushes.incrementAndGet();
+                statements.addAndGet(executed);
+                rowsWritten.addAndGet(drained.size());
+                lastFlushAt = LocalDateTime.now();
+            } catch (RuntimeException e) {
+                buffer.restore(drained);
+                log.error("[ACTIVITY] flush failed. pending={}", buffer.size(), e);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    } // func end
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    } // func end
+
+    /**
+     * [AUTH_037] 직원별 마지막 로그인 / 활동 조회
+     * @param idleDays 있으면 최근 idleDays 일 동안 활동이 없는 직원만
+     * */
+    public List<EmployeeActivityResponseDto> getActivities(Long deptId, Integer idleDays, int offset, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) throw new IllegalArgumentException("limit는 1~" + MAX_LIMIT + " 사이여야 합니다.");
+        if (offset < 0) throw new IllegalArgumentException("offset은 0 이상이어야 합니다.");
+        if (idleDays != null && idleDays < 1) throw new IllegalArgumentException("idleDays는 1 이상이어야 합니다.");
+
+        LocalDateTime idleSince = idleDays == null ? null : LocalDateTime.now().minusDays(idleDays);
+        List<EmployeeActivityRow> rows = employeeActivityMapper.selectActivities(deptId, idleSince, offset, limit);
+
+        // 아직 반영되지 않은 값이 더 최신이면 그 값으로 보여줌
+        return rows.stream().map(row -> {
+            ActivityBuffer.Activity pending = buffer.get(row.getEmpId());
+            LocalDateTime lastLoginAt = row.getLastLoginAt();
+            LocalDateTime lastSeenAt = row.getLastSeenAt();
+            if (pending != null) {
+                lastLoginAt = ActivityBuffer.max(lastLoginAt, pending.lastLoginAt());
+                lastSeenAt = ActivityBuffer.max(lastSeenAt, pending.lastSeenAt());
+            }
+            return new EmployeeActivityResponseDto(row.getEmpId(), row.getLoginId(), row.getName(),
+                    row.getDeptId(), row.getDeptName(), row.getStatus(), lastLoginAt, lastSeenAt);
+        }).toList();
+    } // func end
+
+    /**
+     * [AUTH_038] 활동 기록 반영 통계
+     * */
+    public ActivityStatsResponseDto getStats() {
+        return new ActivityStatsResponseDto(recorded.sum(), buffer.size(), flushes.get(),
+                statements.get(), rowsWritten.get(), lastFlushAt);
+    } // func end
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    } // func end
+
+} // class end
@@ -1,10 +1,21 @@
 package com.wework.auth.service;
 
+import com.wework.audit.core.AuditType;
+import com.wework.audit.service.AuditLogger;
+import com.wework.auth.dto.response.RedisStatusResponseDto;
+import com.wework.auth.dto.response.TokenKeyMigrationResponseDto;
+import com.wework.auth.event.SessionRevokedEvent;
+import com.wework.auth.infra.redis.RedisCircuitBreaker;
 import com.wework.auth.infra.redis.RedisTokenStore;
+import com.wework.auth.infra.redis.TokenKeyMigrator;
+import com.wework.auth.infra.token.TokenStore;
 import com.wework.employee.entity.EmployeeEntity;
+import com.wework.employee.event.EmployeeChangedEvent;
+import com.wework.employee.repository.DepartmentRepository;
 import com.wework.employee.repository.EmployeeRepository;
 import lombok.RequiredArgsConstructor;
 import org.apache.ibatis.javassist.NotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,8 +23,13 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class AdminAuthService {
 
-    private final RedisTokenStore redisTokenStore;
+    private final TokenStore tokenStore;
+    private final RedisCircuitBreaker redisCircuitBreaker;
+    private final TokenKeyMigrator tokenKeyMigrator;
     private final EmployeeRepository employeeRepository;
+    private final DepartmentRepository departmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuditLogger auditLogger;
 
     /**
      * [AUTH_013] 강제 로그아웃
@@ -22,20 +38,31 @@ public class AdminAuthService {
      * */
     public void forceLogout(long empId){
         // [1] 세션에 없더라도 예외 없이 refresh 삭제
-        redisTokenStore.deleteRefreshByEmpId(empId);
+        tokenStore.deleteRefreshByEmpId(empId);
 
         // [2] access 블랙리스트 등록
-        redisTokenStore.blacklistAccessByEmpId(empId);
+        tokenStore.blacklistAccessByEmpId(empId);
+        auditLogger.record(AuditType.FORCE_LOGOUT, empId, null, null);
+
+        // [3] 접속 중인 클라이언트에 즉시 알림
+        eventPublisher.publishEvent(SessionRevokedEvent.of(empId, SessionRevokedEvent.Reason.FORCE_LOGOUT));
     } // func end
 
     /**
      * [AUTH_034] 계정 잠금(퇴사) 처리
+     * - 상태 INACTIVE + 발급된 refresh / access 토큰 무효화
      * */
     @Transactional
     public void lockAccount(long empId) throws NotFoundException {
         EmployeeEntity employeeEntity = employeeRepository.findById(empId)
                 .orElseThrow(() -> new NotFoundException("해당 empId를 찾을 수 없습니다."));
         employeeEntity.setStatus("INACTIVE"); // 상태 비활성화 = 퇴사
+        publishChanged(employeeEntity);
+        // 발급된 토큰 무효화 (강제 로그아웃과 동일 : refresh 삭제 + access 블랙리스트)
+        tokenStore.deleteRefreshByEmpId(empId);
+        tokenStore.blacklistAccessByEmpId(empId);
+        auditLogger.record(AuditType.ACCOUNT_LOCK, empId, employeeEntity.getLoginId(), null);
+        eventPublisher.publishEvent(SessionRevokedEvent.of(empId, SessionRevokedEvent.Reason.ACCOUNT_LOCK));
     } // func end
 
     /**
@@ -46,6 +73,53 @@ public class AdminAuthService {
         EmployeeEntity employeeEntity = employeeRepository.findById(empId)
                 .orElseThrow(() -> new NotFoundException("해당 empId를 찾을 수 없습니다."));
         employeeEntity.setStatus("ACTIVE");
+        publishChanged(employeeEntity);
+        auditLogger.record(AuditType.ACCOUNT_UNLOCK, empId, employeeEntity.getLoginId(), null);
+    } // func end
+
+    /**
+     * [AUTH_036] 부서 이동
+     * */
+    @Transactional
+    public void changeDepartment(long empId, long deptId) throws NotFoundException {
+        EmployeeEntity employeeEntity = employeeRepository.findById(empId)
+                .orElseThrow(() -> new NotFoundException("해당 empId를 찾을 수 없습니다."));
+        if (!departmentRepository.existsByDeptId(deptId)) {
+            throw new IllegalStateException("Department ID not found: " + deptId);
+        }
+        employeeEntity.setDeptId(deptId);
+        publishChanged(employeeEntity);
+    } // func end
+
+    /**
+     * [AUTH_040] 토큰 저장소(Redis) 차단기 / 장애 대응 상태
+     * - auth.token-store=memory 면 토큰 조회는 Redis 를 쓰지 않으므로 블랙리스트 정책은 LOCAL
+     * */
+    public RedisStatusResponseDto getRedisStatus(){
+        RedisCircuitBreaker.Stats stats = redisCircuitBreaker.stats();
+        if (!(tokenStore instanceof RedisTokenStore redisTokenStore)) {
+            return new RedisStatusResponseDto(stats.state().name(), stats.calls(), stats.failures(), stats.rejected(),
+                    stats.opened(), stats.lastOpenedAt(), stats.lastError(), "LOCAL", 0, 0);
+        }
+        return new RedisStatusResponseDto(stats.state().name(), stats.calls(), stats.failures(), stats.rejected(),
+                stats.opened(), stats.lastOpenedAt(), stats.lastError(), redisTokenStore.blacklistPolicy().name(),
+                redisTokenStore.degradedBlacklistChecks(), redisTokenStore.localRevocations());
+    } // func end
+
+    /**
+     * [AUTH_041] 토큰 키 이전 (이전 키 → Redis Cluster 호환 키)
+     * - 여러 번 실행해도 결과가 같으므로 전환 구간이 끝날 때까지 반복 실행 가능
+     * */
+    public TokenKeyMigrationResponseDto migrateTokenKeys(){
+        redisCircuitBreaker.ensureAvailable();
+        TokenKeyMigrator.Result result = tokenKeyMigrator.migrate();
+        return new TokenKeyMigrationResponseDto(result.refreshTokens(), result.currentRefresh(),
+                result.currentAccess(), result.expired(), result.legacyBlacklist());
+    } // func end
+
+    private void publishChanged(EmployeeEntity employeeEntity) {
+        eventPublisher.publishEvent(new EmployeeChangedEvent(employeeEntity.getEmpId(),
+                employeeEntity.getDeptId(), employeeEntity.getStatus()));
     } // func end
 
 } // class end
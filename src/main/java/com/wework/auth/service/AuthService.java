@@ -1,9 +1,11 @@
 package com.wework.auth.service;
 
+import com.wework.audit.core.AuditType;
+import com.wework.audit.service.AuditLogger;
 import com.wework.auth.dto.request.LoginRequestDto;
 import com.wework.auth.dto.response.LoginResponseDto;
 import com.wework.auth.dto.response.TokenReissueResponseDto;
-import com.wework.auth.infra.redis.RedisTokenStore;
+import com.wework.auth.infra.token.TokenStore;
 import com.wework.global.security.JwtTokenProvider;
 import com.wework.global.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +14,7 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 
@@ -25,7 +28,9 @@ public class AuthService {
 
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisTokenStore redisTokenStore;
+    private final TokenStore tokenStore;
+    private final AuditLogger auditLogger;
+    private final ActivityTrackingService activityTrackingService;
 
     /**
      * 로그인 처리 결과를 묶어서 반환하는 내부 DTO
@@ -51,6 +56,9 @@ public class AuthService {
      */
     public LoginResult login(LoginRequestDto requestDto) {
 
+        // [0] 토큰 저장소를 쓸 수 없으면(Redis 차단기 열림 등) 비밀번호 검증 전에 바로 503 (토큰 저장 불가)
+        tokenStore.ensureAvailable();
+
         Authentication authentication;
 
         try{
@@ -65,9 +73,14 @@ public class AuthService {
             );
         } catch (BadCredentialsException e) {
             // 실패 시 로그인 실패 횟수 누적
-            long failCount = redisTokenStore.increaseLoginFail(requestDto.getLoginId(), 30 * 60);
+            long failCount = tokenStore.increaseLoginFail(requestDto.getLoginId(), 30 * 60);
+            auditLogger.record(AuditType.LOGIN_FAILURE, null, requestDto.getLoginId(), "failCount=" + failCount);
             // 기존 예외를 그대로 던지면 ControllerAdvice에서 401로 매핑 가능
             throw e;
+        } catch (AuthenticationException e) {
+            // 비활성(퇴사) 계정 등
+            auditLogger.record(AuditType.LOGIN_FAILURE, null, requestDto.getLoginId(), e.getClass().getSimpleName());
+            throw e;
         }
 
 
@@ -76,7 +89,9 @@ public class AuthService {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
 
         // [추가] 로그인 성공 시 로그인 시도 횟수 초기화
-        redisTokenStore.clearLoginFail(userPrincipal.getLoginId());
+        tokenStore.clearLoginFail(userPrincipal.getLoginId());
+        auditLogger.record(AuditType.LOGIN_SUCCESS, userPrincipal.getEmpId(), userPrincipal.getLoginId(), null);
+        activityTrackingService.recordLogin(userPrincipal.getEmpId());
 
         // [3] Access / Refresh 토큰 발급
         // - Access: API 호출용(Bearer) / 짧은 만료
@@ -86,11 +101,11 @@ public class AuthService {
         JwtTokenProvider.TokenWithMeta refresh =
                 jwtTokenProvider.createRefreshToken(userPrincipal.getEmpId(), userPrincipal.getLoginId());
         // [3-1] 강제 로그인을 위해 accessJti 추적용 정보를 redis에 저장
-        redisTokenStore.storeAccessJti(userPrincipal.getEmpId(), access.jti(), access.ttlSeconds());
+        tokenStore.storeAccessJti(userPrincipal.getEmpId(), access.jti(), access.ttlSeconds());
 
         // [4] Refresh 토큰의 jti를 Redis에 저장 (TTL 포함)
         // - 재발급 시 "Redis에 존재하는 refresh jti"만 허용 → 로그아웃/강제로그아웃 시 즉시 무효화 가능
-        redisTokenStore.storeRefresh(refresh.jti(), userPrincipal.getEmpId(), refresh.ttlSeconds());
+        tokenStore.storeRefresh(refresh.jti(), userPrincipal.getEmpId(), refresh.ttlSeconds());
         // [5] 권한(ROLE_*) 목록 추출
         // - 프론트 메뉴/버튼 제어 및 사용자 요약정보 제공 목적
         List<String> roles = userPrincipal.getAuthorities().stream()
@@ -132,8 +147,10 @@ public class AuthService {
         if(!"refresh".equals(typ)){return;}
 
         // [4] refresh jti 추출 후 redis에서 삭제
+        long empId = jwtTokenProvider.getEmpId(refreshTokenCookie);
         String refreshJti = jwtTokenProvider.getJti(refreshTokenCookie);
-        redisTokenStore.deleteRefresh(refreshJti);
+        tokenStore.deleteRefresh(empId, refreshJti);
+        auditLogger.record(AuditType.LOGOUT, empId, jwtTokenProvider.getLoginId(refreshTokenCookie), null);
 
         // 2026.01.19 accessToken 삭제 및 블랙리스트 처리코드 추가 ---------------
         // [5] accessToken이 없으면 스킵
@@ -146,7 +163,7 @@ public class AuthService {
         String accessJti = jwtTokenProvider.getJti(accessTokenHeader);
         long ttlSeconds = getRemainingTtlSeconds(accessTokenHeader);
         if(ttlSeconds <= 0) return;
-        redisTokenStore.blacklistAccess(accessJti,ttlSeconds);
+        tokenStore.blacklistAccess(jwtTokenProvider.getEmpId(accessTokenHeader), accessJti, ttlSeconds);
     } // func end
 
     /**
@@ -170,6 +187,8 @@ public class AuthService {
      * @return 새 accessToken 응답 + 새 refreshToken(쿠키 세팅용) + refresh TTL
      * */
     public ReissueResult reissueToken(String refreshTokenCookie){
+        // [0] 토큰 저장소를 쓸 수 없으면(Redis 차단기 열림 등) 바로 503 (refresh 확인 불가)
+        tokenStore.ensureAvailable();
         // [1] refreshToken 유효성 검증 (서명/만료/구조)
         if(!jwtTokenProvider.validate(refreshTokenCookie)){
             // 유효성 검증 실패 시, Exception 발생
@@ -186,25 +205,24 @@ public class AuthService {
         long empId = jwtTokenProvider.getEmpId(refreshTokenCookie);
         String loginId = jwtTokenProvider.getLoginId(refreshTokenCookie);
         String refreshJti = jwtTokenProvider.getJti(refreshTokenCookie);
-        // [4] Redis에 refresh jti 존재 여부 확인
+        // [4] (Rotation) 기존 refresh 폐기 + 존재 여부 확인 (스크립트 1회)
         // - Redis에 없으면 이미 로그아웃/폐기된 refresh >> 재발급 불가
-        if(!redisTokenStore.existsRefresh(refreshJti)){
+        // - 같은 refresh 로 동시에 재발급해도 삭제에 성공한 1건만 통과
+        if(!tokenStore.deleteRefresh(empId, refreshJti)){
             throw new IllegalArgumentException("Refresh token not found in store");
         }
-        // [5] (Rotation) 기존 refresh 폐기
-        redisTokenStore.deleteRefresh(refreshJti);
-        // [6] 새 토큰 발급 (access + refresh)
+        // [5] 새 토큰 발급 (access + refresh)
         JwtTokenProvider.TokenWithMeta newAccess = jwtTokenProvider.createAccessToken(empId, loginId);
         JwtTokenProvider.TokenWithMeta newRefresh = jwtTokenProvider.createRefreshToken(empId, loginId);
-        // [7] 새 refresh를 Redis 저장
-        redisTokenStore.storeRefresh(newRefresh.jti(), empId, newRefresh.ttlSeconds());
-        // [8] 응답 Body 구성 (AccessToken만 JSON으로 반환)
+        // [6] 새 refresh를 Redis 저장
+        tokenStore.storeRefresh(newRefresh.jti(), empId, newRefresh.ttlSeconds());
+        // [7] 응답 Body 구성 (AccessToken만 JSON으로 반환)
         TokenReissueResponseDto body = TokenReissueResponseDto.builder()
                 .accessToken(newAccess.token())
                 .expiresIn(newAccess.ttlSeconds())
                 .build();
 
-        return new ReissueResult(body, newAccess.token(), newAccess.ttlSeconds());
+        return new ReissueResult(body, newRefresh.token(), newRefresh.ttlSeconds());
     } // func end
 
 
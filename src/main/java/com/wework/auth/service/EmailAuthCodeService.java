@@ -4,6 +4,7 @@ import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import jakarta.validation.constraints.Email;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
@@ -18,6 +19,8 @@ import java.util.concurrent.TimeUnit;
 public class EmailAuthCodeService {
 
     private final RedisTemplate<String, Object> redisTemplate;
+    // 메일 발송 시점에 생성 (기동 시 메일 세션/클래스 로딩 생략)
+    @Lazy
     private final JavaMailSender mailSender;
 
     private static final String KEY_EMAIL_VERIFY = "email_verify:"; // 검증 이메일
@@ -1,10 +1,13 @@
 package com.wework.auth.service;
 
+import com.wework.audit.core.AuditType;
+import com.wework.audit.service.AuditLogger;
 import com.wework.auth.dto.request.PasswordResetOtpRequestDto;
 import com.wework.auth.dto.request.PasswordResetRequestDto;
 import com.wework.auth.dto.request.ResetPasswordRequestDto;
 import com.wework.auth.dto.response.PasswordResetOtpResponseDto;
-import com.wework.auth.infra.redis.RedisTokenStore;
+import com.wework.auth.event.SessionRevokedEvent;
+import com.wework.auth.infra.token.TokenStore;
 import com.wework.employee.entity.EmployeeEntity;
 import com.wework.employee.repository.EmployeeRepository;
 import com.wework.global.exception.ForbiddenException;
@@ -13,6 +16,8 @@ import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import org.apache.ibatis.javassist.NotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -20,6 +25,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Base64;
 import java.util.concurrent.ThreadLocalRandom;
@@ -29,9 +35,26 @@ import java.util.concurrent.ThreadLocalRandom;
 public class PasswordResetService {
 
     private final EmployeeRepository employeeRepository;
-    private final RedisTokenStore redisTokenStore;
+    private final TokenStore tokenStore;
+    // 메일 발송 시점에 생성 (기동 시 메일 세션/클래스 로딩 생략)
+    @Lazy
     private final JavaMailSender mailSender;
     private final PasswordEncoder passwordEncoder;
+    private final AuditLogger auditLogger;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // resetToken 생성용 난수기 (공유 인스턴스)
+    // - 기본 NativePRNG 는 /dev/urandom 읽기를 synchronized 블록 안에서 수행하여 가상 스레드를 carrier 에 고정(pinning)
+    // - DRBG 는 최초 시딩 이후 메모리 연산만 수행
+    private static final SecureRandom RESET_TOKEN_RANDOM = createResetTokenRandom();
+
+    private static SecureRandom createResetTokenRandom(){
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    } // func end
 
     // todo 난수 + 이메일 발송 관련 해서 공통 클래스로 분리 필요
     /**
@@ -75,7 +98,7 @@ public class PasswordResetService {
         // [2] OTP 난수 생성
         String otp = generateOtp6();
         // [3] Redis 저장 (10min)
-        redisTokenStore.storePwRestOtp(requestDto.loginId(), otp, 600);
+        tokenStore.storePwRestOtp(requestDto.loginId(), otp, 600);
         // [4] 이메일 발송
         setMail(employeeEntity.getEmail(),otp,600);
     } // func end
@@ -86,16 +109,16 @@ public class PasswordResetService {
      * */
     public PasswordResetOtpResponseDto verifyResetOtp(PasswordResetOtpRequestDto requestDto){
         // [1] Redis에 저장된 OTP 조회
-        String savedOtp = redisTokenStore.getPwRestOtp(requestDto.loginId());
+        String savedOtp = tokenStore.getPwRestOtp(requestDto.loginId());
         if(savedOtp == null) throw new UnauthorizedException("OTP가 존재하지 않거나 만료되었습니다.");
         // [2] OTP 비교
         if(!savedOtp.equals(requestDto.otp())) throw new UnauthorizedException("OTP가 일치하지 않습니다.");
         // [3] OTP 삭제
-        redisTokenStore.deletePwRestOtp(requestDto.loginId());
+        tokenStore.deletePwRestOtp(requestDto.loginId());
         // [4] resetToken 발급 + Redis 저장
         String resetToken = generateResetToken();
         long ttlSeconds = 600; // 10min
-        redisTokenStore.storePwStoreToken(requestDto.loginId(), resetToken, ttlSeconds);
+        tokenStore.storePwStoreToken(requestDto.loginId(), resetToken, ttlSeconds);
         // [5] 결과 반환
         return new PasswordResetOtpResponseDto(resetToken, ttlSeconds);
     } // func end
@@ -105,7 +128,7 @@ public class PasswordResetService {
      * */
     private String generateResetToken() {
         byte[] buf = new byte[32];
-        new SecureRandom().nextBytes(buf);
+        RESET_TOKEN_RANDOM.nextBytes(buf);
         return Base64.getUrlEncoder().withoutPadding().encodeToString(buf);
     } // func end
 
@@ -114,12 +137,12 @@ public class PasswordResetService {
      * - resetToken 검증
      * - 새 비밀번호로 변경(BCrypt)
      * - resetToken 삭제(1회성)
-     * - 보안: refresh 전부 무효화
+     * - 보안: refresh 전부 무효화 + 현재 access 블랙리스트
      * */
     @Transactional
     public void resetPassword(ResetPasswordRequestDto requestDto) throws NotFoundException {
         // [1] redis에서 resetToken 조회·검증
-        String savedToken = redisTokenStore.getPwResetToken(requestDto.loginId());
+        String savedToken = tokenStore.getPwResetToken(requestDto.loginId());
         if(savedToken == null) throw new ForbiddenException("재설정 토큰이 만료되었거나 존재하지 않습니다.");
         if(!savedToken.equals(requestDto.resetToken())) throw new ForbiddenException("재설정 토큰이 일치하지 않습니다.");
         // [2] JPA 사용자 정보 조회
@@ -133,10 +156,15 @@ public class PasswordResetService {
         String newPwd = passwordEncoder.encode(requestDto.newPassword());
         employee.setPassword(newPwd);
         // [5] resetToken 삭제
-        redisTokenStore.deletePwResetToken(requestDto.loginId());
-        // [6] 기존 refresh 전부 무효화
-        redisTokenStore.deleteRefreshByEmpId(employee.getEmpId());
+        tokenStore.deletePwResetToken(requestDto.loginId());
+        // [6] 기존 refresh 전부 무효화 + 사용 중인 access 블랙리스트
+        tokenStore.deleteRefreshByEmpId(employee.getEmpId());
+        tokenStore.blacklistAccessByEmpId(employee.getEmpId());
         // [7] 로그인 실패 카운트 초기화
-        redisTokenStore.clearLoginFail(requestDto.loginId());
+        tokenStore.clearLoginFail(requestDto.loginId());
+        // [8] 감사 로그 (커밋 후 기록)
+        auditLogger.record(AuditType.PASSWORD_RESET, employee.getEmpId(), requestDto.loginId(), null);
+        // [9] 접속 중인 클라이언트에 세션 종료 알림 (커밋 후)
+        eventPublisher.publishEvent(SessionRevokedEvent.of(employee.getEmpId(), SessionRevokedEvent.Reason.PASSWORD_RESET));
     } // func end
 } // class end
@@ -0,0 +1,191 @@
+package com.wework.auth.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wework.auth.event.SessionRevokedEvent;
+import com.wework.auth.infra.redis.SessionEventChannel;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 직원별 세션 이벤트 구독 (Server-Sent Events)
+ *
+ * <p>강제 로그아웃 등으로 세션이 무효화되면 다음 API 호출을 기다리지 않고 바로 알린다.
+ * <p>처리 흐름
+ * <P>1) 구독 : 로그인한 직원의 사번별로 연결 등록 (탭/기기마다 1개)</P>
+ * <P>2) 무효화 : 커밋 후 {@link SessionRevokedEvent} → Redis 채널로 발행 (발행 실패 시 이 노드 연결에만 전달)</P>
+ * <P>3) 수신 : 모든 노드가 채널을 구독하고, 해당 사번의 연결이 있는 노드만 "revoked" 이벤트 전송 후 연결 종료</P>
+ * <P>4) 주기적으로 주석 줄(ping)을 보내 프록시 유휴 종료를 막고 끊긴 연결을 정리</P>
+ * */
+@Service
+@Log4j2
+public class SessionStreamService {
+
+    public static final String EVENT_REVOKED = "revoked";
+
+    private final SessionEventChannel sessionEventChannel;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMs;
+    private final int maxConnections;
+    private final long busyRetryMs;
+
+    // 사번 → 연결
+    private final Map<Long, Set<SseEmitter>> streams = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    public SessionStreamService(SessionEventChannel sessionEventChannel,
+                                ObjectMapper objectMapper,
+                                @Value("${session.stream.timeout-ms:1800000}") long timeoutMs,
+                                @Value("${session.stream.max-connections:10000}") int maxConnections,
+                                @Value("${session.stream.busy-retry-ms:30000}") long busyRetryMs) {
+        this.sessionEventChannel = sessionEventChannel;
+        this.objectMapper = objectMapper;
+        this.timeoutMs = timeoutMs;
+        this.maxConnections = maxConnections;
+        this.busyRetryMs = busyRetryMs;
+        sessionEventChannel.subscribe(this::onMessage);
+    } // func end
+
+    /**
+     * [ACCOUNT_005] 내 세션 이벤트 구독
+     * */
+    public SseEmitter subscribe(long empId) {
+        // [1] 연결 수 상한 → 재연결 대기 시간만 알리고 종료
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            SseEmitter busy = new SseEmitter(0L);
+            try {
+                busy.send(SseEmitter.event().reconnectTime(busyRetryMs).comment("busy"));
+                busy.complete();
+            } catch (IOException e) {
+                busy.completeWithError(e);
+            }
+            return busy;
+        }
+
+        // [2] 사번별 등록
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        // - 비어서 제거되는 중인 Set 에 추가되지 않도록 맵 잠금 안에서 추가
+        streams.compute(empId, (k, emitters) -> {
+            Set<SseEmitter> target = emitters == null ? ConcurrentHashMap.newKeySet() : emitters;
+            target.add(emitter);
+            return target;
+        });
+        Runnable remove = () -> remove(empId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        // [3] 응답 헤더를 바로 내보내 클라이언트가 연결 완료를 알 수 있게 함
+        send(empId, emitter, SseEmitter.event().comment("open").build());
+        return emitter;
+    } // func end
+
+    /**
+     * 세션 무효화 → 모든 노드로 발행 (커밋 후)
+     * */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRevoked(SessionRevokedEvent event) {
+        try {
+            sessionEventChannel.publish(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[SESSION] publish failed, delivering locally only. empId={}", event.empId(), e);
+            deliver(event);
+        }
+    } // func end
+
+    /**
+     * 연결 유지 확인 (프록시 유휴 종료 방지 + 끊긴 연결 정리)
+     * */
+    @Scheduled(fixedDelayString = "${session.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        Set<ResponseBodyEmitter.DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        streams.forEach((empId, emitters) -> {
+            for (SseEmitter emitter : List.copyOf(emitters)) send(empId, emitter, ping);
+        });
+    } // func end
+
+    /**
+     * 현재 연결 수
+     * */
+    public int connections() {
+        return connections.get();
+    } // func end
+
+    /**
+     * 종료 시작 시 모든 연결 종료 (클라이언트는 다른 노드로 재연결)
+     * */
+    @EventListener(ContextClosedEvent.class)
+    public void onClosed() {
+        streams.values().forEach(emitters -> List.copyOf(emitters).forEach(SseEmitter::complete));
+    } // func end
+
+    /**
+     * Redis 채널 수신
+     * */
+    private void onMessage(Message message, byte[] pattern) {
+        try {
+            deliver(objectMapper.readValue(message.getBody(), SessionRevokedEvent.class));
+        } catch (IOException e) {
+            log.warn("[SESSION] invalid session event ignored", e);
+        }
+    } // func end
+
+    /**
+     * 이 노드에 있는 대상 사번의 연결에 전송 후 종료
+     * */
+    private void deliver(SessionRevokedEvent event) {
+        Set<SseEmitter> emitters = streams.remove(event.empId());
+        if (emitters == null) return;
+        connections.addAndGet(-emitters.size());
+
+        Set<ResponseBodyEmitter.DataWithMediaType> payload;
+        try {
+            payload = SseEmitter.event().name(EVENT_REVOKED).data(objectMapper.writeValueAsString(event)).build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize session event", e);
+        }
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(payload);
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("[SESSION] stream already closed. empId={}", event.empId());
+            }
+        }
+        log.info("[SESSION] revoked delivered. empId={} reason={} streams={}", event.empId(), event.reason(), emitters.size());
+    } // func end
+
+    private void send(long empId, SseEmitter emitter, Set<ResponseBodyEmitter.DataWithMediaType> payload) {
+        try {
+            emitter.send(payload);
+        } catch (IOException | IllegalStateException e) {
+            log.debug("[SESSION] stream closed. empId={}", empId);
+            remove(empId, emitter);
+        }
+    } // func end
+
+    private void remove(long empId, SseEmitter emitter) {
+        streams.computeIfPresent(empId, (k, emitters) -> {
+            if (emitters.remove(emitter)) connections.decrementAndGet();
+            return emitters.isEmpty() ? null : emitters;
+        });
+    } // func end
+
+} // class end
@@ -3,9 +3,11 @@ package com.wework.auth.service;
 import com.wework.auth.dto.request.SignUpRequestDto;
 import com.wework.auth.dto.response.SignUpResponseDto;
 import com.wework.employee.entity.EmployeeEntity;
+import com.wework.employee.event.EmployeeChangedEvent;
 import com.wework.employee.repository.DepartmentRepository;
 import com.wework.employee.repository.EmployeeRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -19,6 +21,7 @@ public class SignUpService {
     private final DepartmentRepository departmentRepository;
     private final BCryptPasswordEncoder passwordEncoder;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final String KEY_EMAIL_VERIFIED = "email_verified:";
 
@@ -56,6 +59,7 @@ public class SignUpService {
 
         // [6] Entity 저장
         employeeRepository.save(employee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(employee.getEmpId(), employee.getDeptId(), employee.getStatus()));
 
         // [7] Redis 인증 플래스 삭제
         redisTemplate.delete(KEY_EMAIL_VERIFIED+dto.getEmail());
@@ -0,0 +1,258 @@
+package com.wework.auth.service;
+
+import com.wework.auth.dto.response.WarmUpStatsResponseDto;
+import com.wework.auth.infra.token.TokenStore;
+import com.wework.employee.mapper.EmployeeAuthMapper;
+import com.wework.employee.repository.EmployeeRepository;
+import com.wework.global.security.CustomUserDetailsService;
+import com.wework.global.security.JwtTokenProvider;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 기동 워밍업 (readiness 전에 인증 경로 예열)
+ *
+ * <p>배포 직후 첫 로그인/요청이 느린 원인(JIT 미컴파일, Hikari·Lettuce 연결 미개설, 쿼리 미준비)을
+ * 트래픽을 받기 전에 해소한다.
+ * <p>처리 흐름
+ * <P>1) ApplicationReadyEvent 에서 동기 실행 – 이 리스너가 끝난 뒤에 readiness 가 ACCEPTING_TRAFFIC 으로 바뀐다</P>
+ * <P>2) warmup.threads 개 스레드로 warmup.iterations 회 반복 (warmup.max-duration-ms 를 넘기면 조기 종료)</P>
+ * <P>3) 반복 1회 = 토큰 생성·파싱 → 사용자 조회 → Redis 조회 (모두 읽기 전용, 데이터 변경 없음)</P>
+ * <P>4) 실패한 단계는 이후 건너뛰고 나머지는 계속 – 워밍업 실패로 기동이 막히지 않음</P>
+ *
+ * <p>warmup.login-id 를 지정하면 그 계정으로 실제 사용자 조회(UserDetailsService)를 수행하고,
+ * 비워 두면 같은 쿼리를 존재하지 않는 값으로 실행한다 (dry-run).
+ * */
+@Service
+@Log4j2
+public class WarmUpService {
+
+    // dry-run 에 사용하는 값 (존재하지 않는 계정)
+    private static final String DRY_RUN_LOGIN_ID = "__warmup__";
+    private static final long DRY_RUN_EMP_ID = 0L;
+
+    // 처음/마지막 구간 평균을 내는 단위
+    private static final int WINDOW = 50;
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final CustomUserDetailsService userDetailsService;
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeAuthMapper employeeAuthMapper;
+    private final TokenStore tokenStore;
+    private final boolean enabled;
+    private final int iterations;
+    private final int threads;
+    private final long maxDurationMs;
+    private final String loginId;
+
+    private final Step tokenStep = new Step("token");
+    private final Step principalStep = new Step("principal");
+    private final Step redisStep = new Step("redis");
+    private final AtomicLong completed = new AtomicLong();
+    private volatile String state = "DISABLED";
+    private volatile LocalDateTime startedAt;
+    private volatile long startedNanos;
+    private volatile long elapsedMs;
+    private volatile boolean timedOut;
+
+    public WarmUpService(JwtTokenProvider jwtTokenProvider,
+                         CustomUserDetailsService userDetailsService,
+                         EmployeeRepository employeeRepository,
+                         EmployeeAuthMapper employeeAuthMapper,
+                         TokenStore tokenStore,
+                         @Value("${warmup.enabled:true}") boolean enabled,
+                         @Value("${warmup.iterations:2000}") int iterations,
+                         @Value("${warmup.threads:4}") int threads,
+                         @Value("${warmup.max-duration-ms:20000}") long maxDurationMs,
+                         @Value("${warmup.login-id:}") String loginId) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userDetailsService = userDetailsService;
+        this.employeeRepository = employeeRepository;
+        this.employeeAuthMapper = employeeAuthMapper;
+        this.tokenStore = tokenStore;
+        this.enabled = enabled;
+        this.iterations = iterations;
+        this.threads = Math.max(1, threads);
+        this.maxDurationMs = maxDurationMs;
+        this.loginId = loginId == null ? "" : loginId.trim();
+    } // func end
+
+    /**
+     * 기동 완료 → 워밍업 (끝날 때까지 readiness 보류)
+     * */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!enabled || iterations <= 0) return;
+        run();
+    } // func end
+
+    /**
+     * 워밍업 실행
+     * */
+    private void run() {
+        // [1] 시작 기록
+        state = "RUNNING";
+        startedAt = LocalDateTime.now();
+        startedNanos = System.nanoTime();
+        long deadline = startedNanos + maxDurationMs * 1_000_000;
+        AtomicLong next = new AtomicLong();
+
+        // [2] 스레드별 반복 (남은 반복 수 / 제한 시간 공유)
+        Callable<Void> worker = () -> {
+            while (next.getAndIncrement() < iterations) {
+                if (System.nanoTime() - deadline > 0) {
+                    timedOut = true;
+                    break;
+                }
+                iteration();
+                completed.incrementAndGet();
+            }
+            return null;
+        };
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "warmup");
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            pool.invokeAll(Collections.nCopies(threads, worker));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // [3] 결과 기록
+        elapsedMs = (System.nanoTime() - startedNanos) / 1_000_000;
+        state = "DONE";
+        WarmUpStatsResponseDto stats = getStats();
+        log.info("[WARMUP] done. iterations={} threads={} elapsedMs={} timedOut={} dryRun={}",
+                stats.iterations(), threads, elapsedMs, timedOut, stats.dryRun());
+        for (WarmUpStatsResponseDto.Step step : stats.steps()) {
+            log.info("[WARMUP] {} : count={} failures={} firstAvgMicros={} lastAvgMicros={}",
+                    step.name(), step.count(), step.failures(),
+                    String.format("%.1f", step.firstAvgMicros()), String.format("%.1f", step.lastAvgMicros()));
+        }
+    } // func end
+
+    /**
+     * [AUTH_039] 워밍업 결과
+     * */
+    public WarmUpStatsResponseDto getStats() {
+        long elapsed = "RUNNING".equals(state) ? (System.nanoTime() - startedNanos) / 1_000_000 : elapsedMs;
+        return new WarmUpStatsResponseDto(state, startedAt, elapsed, threads, completed.get(), timedOut,
+                loginId.isEmpty(), List.of(tokenStep.snapshot(), principalStep.snapshot(), redisStep.snapshot()));
+    } // func end
+
+    /**
+     * 반복 1회 (JwtAuthenticationFilter / 로그인과 같은 호출 순서)
+     * */
+    private void iteration() {
+        // [1] 토큰 생성 → 검증·claim 추출
+        tokenStep.run(() -> {
+            String token = jwtTokenProvider.createAccessToken(DRY_RUN_EMP_ID, DRY_RUN_LOGIN_ID).token();
+            jwtTokenProvider.validate(token);
+            jwtTokenProvider.getType(token);
+            jwtTokenProvider.getJti(token);
+            jwtTokenProvider.getLoginId(token);
+            jwtTokenProvider.createRefreshToken(DRY_RUN_EMP_ID, DRY_RUN_LOGIN_ID);
+        });
+
+        // [2] 사용자 조회 (워밍업 계정 없으면 같은 쿼리를 빈 결과로)
+        principalStep.run(() -> {
+            if (!loginId.isEmpty()) {
+                userDetailsService.loadUserByUsername(loginId);
+            } else {
+                employeeRepository.findByLoginId(DRY_RUN_LOGIN_ID);
+                employeeAuthMapper.selectRoleCodesByEmpId(DRY_RUN_EMP_ID);
+            }
+        });
+
+        // [3] Redis 조회 (블랙리스트 / refresh / 로그인 실패 횟수)
+        redisStep.run(() -> {
+            String jti = UUID.randomUUID().toString();
+            tokenStore.isBlacklisted(DRY_RUN_EMP_ID, jti);
+            tokenStore.existsRefresh(DRY_RUN_EMP_ID, jti);
+            tokenStore.getLoginFailCount(DRY_RUN_LOGIN_ID);
+        });
+    } // func end
+
+    /**
+     * 단계별 실행 수 / 실패 수 / 처음·마지막 구간 평균
+     * */
+    private static final class Step {
+
+        private final String name;
+        // 통계 갱신 잠금 (failures 는 실패 후 건너뛰기 확인을 위해 잠금 없이도 읽음)
+        private final ReentrantLock lock = new ReentrantLock();
+        private long count;
+        private volatile long failures;
+        private long windowNanos;
+        private int windowCount;
+        private double firstAvgMicros;
+        private double lastAvgMicros;
+
+        Step(String name) {
+            this.name = name;
+        } // func end
+
+        void run(Runnable action) {
+            if (failures > 0) return;
+            long started = System.nanoTime();
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                boolean first;
+                lock.lock();
+                try {
+                    first = failures++ == 0;
+                } finally {
+                    lock.unlock();
+                }
+                if (first) log.warn("[WARMUP] {} step failed, skipping it from now on", name, e);
+                return;
+            }
+            record(System.nanoTime() - started);
+        } // func end
+
+        private void record(long nanos) {
+            lock.lock();
+            try {
+                count++;
+                windowNanos += nanos;
+                if (++windowCount < WINDOW) return;
+                double avg = windowNanos / 1_000.0 / windowCount;
+                if (firstAvgMicros == 0) firstAvgMicros = avg;
+                lastAvgMicros = avg;
+                windowNanos = 0;
+                windowCount = 0;
+            } finally {
+                lock.unlock();
+            }
+        } // func end
+
+        WarmUpStatsResponseDto.Step snapshot() {
+            lock.lock();
+            try {
+                return new WarmUpStatsResponseDto.Step(name, count, failures, firstAvgMicros, lastAvgMicros);
+            } finally {
+                lock.unlock();
+            }
+        } // func end
+
+    } // class end
+
+} // class end
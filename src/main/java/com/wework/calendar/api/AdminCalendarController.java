@@ -0,0 +1,46 @@
+package com.wework.calendar.api;
+
+import com.wework.calendar.dto.request.HolidayUpsertRequestDto;
+import com.wework.calendar.service.BusinessCalendarService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/calendar")
+public class AdminCalendarController {
+
+    private final BusinessCalendarService businessCalendarService;
+
+    /**
+     * [CALENDAR_005] 휴일 스냅샷 즉시 재적재 (DB 직접 수정 후 등)
+     * */
+    @PostMapping("/reload")
+    public ResponseEntity<?> reload(){
+        businessCalendarService.reload();
+        return ResponseEntity.ok().build();
+    } // func end
+
+    /**
+     * [CALENDAR_006] 휴일 등록/수정
+     * */
+    @PutMapping("/holidays")
+    public ResponseEntity<?> upsertHoliday(@Valid @RequestBody HolidayUpsertRequestDto requestDto){
+        businessCalendarService.upsertHoliday(requestDto);
+        return ResponseEntity.ok().build();
+    } // func end
+
+    /**
+     * [CALENDAR_007] 휴일 삭제
+     * */
+    @DeleteMapping("/holidays/{date}")
+    public ResponseEntity<?> deleteHoliday(@PathVariable LocalDate date){
+        businessCalendarService.deleteHoliday(date);
+        return ResponseEntity.ok().build();
+    } // func end
+
+} // class end
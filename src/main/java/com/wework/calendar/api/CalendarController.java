@@ -0,0 +1,55 @@
+package com.wework.calendar.api;
+
+import com.wework.calendar.service.BusinessCalendarService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/calendar")
+@RequiredArgsConstructor
+public class CalendarController {
+
+    private final BusinessCalendarService businessCalendarService;
+
+    /**
+     * [CALENDAR_001] 근무일 여부 + 다음 근무일
+     * 예) GET /api/calendar/workday?date=2026-10-02
+     * */
+    @GetMapping("/workday")
+    public ResponseEntity<?> workday(@RequestParam LocalDate date){
+        return ResponseEntity.ok(businessCalendarService.getWorkday(date));
+    } // func end
+
+    /**
+     * [CALENDAR_002] [from, to) 근무일 수
+     * 예) GET /api/calendar/business-days?from=2026-10-01&to=2026-11-01
+     * */
+    @GetMapping("/business-days")
+    public ResponseEntity<?> businessDays(@RequestParam LocalDate from, @RequestParam LocalDate to){
+        return ResponseEntity.ok(businessCalendarService.getBusinessDaysBetween(from, to));
+    } // func end
+
+    /**
+     * [CALENDAR_003] n 근무일 후(음수면 전) 날짜
+     * 예) GET /api/calendar/plus-business-days?date=2026-10-02&days=3
+     * */
+    @GetMapping("/plus-business-days")
+    public ResponseEntity<?> plusBusinessDays(@RequestParam LocalDate date, @RequestParam int days){
+        return ResponseEntity.ok(businessCalendarService.getPlusBusinessDays(date, days));
+    } // func end
+
+    /**
+     * [CALENDAR_004] 기간 내 등록 휴일
+     * */
+    @GetMapping("/holidays")
+    public ResponseEntity<?> holidays(@RequestParam LocalDate from, @RequestParam LocalDate to){
+        return ResponseEntity.ok(businessCalendarService.getHolidays(from, to));
+    } // func end
+
+} // class end
@@ -0,0 +1,145 @@
+package com.wework.calendar.core;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 영업일 달력 스냅샷 (불변)
+ *
+ * <p>휴일이 등록된 연도(± 1년)는 미리 비트셋으로 만들어 두고,
+ * 그 밖의 연도는 주말만 제외한 비트셋을 요청 시 계산한다 (long 6개, 저장하지 않음).
+ * <p>관리자 수정 시 새 스냅샷을 만들어 참조만 교체하므로 조회 쪽은 잠금이 없다.
+ * <p>연 단위로 건너뛰는 계산은 MAX_SPAN_YEARS 까지만 탐색한다 (그 이상은 IllegalArgumentException).
+ * */
+public final class BusinessCalendar {
+
+    // 다음 근무일 / 근무일 수 / n 근무일 후 계산의 최대 탐색 범위 (연)
+    public static final int MAX_SPAN_YEARS = 100;
+
+    private final Map<Integer, YearCalendar> years;
+    private final NavigableMap<LocalDate, Holiday> holidays;
+
+    /**
+     * 휴일 1건
+     * */
+    public record Holiday(LocalDate date, String name, String type) { } // record end
+
+    private BusinessCalendar(Map<Integer, YearCalendar> years, NavigableMap<LocalDate, Holiday> holidays) {
+        this.years = years;
+        this.holidays = holidays;
+    } // func end
+
+    public static BusinessCalendar of(Iterable<Holiday> holidayList) {
+        // [1] 연도별 휴일 비트셋
+        NavigableMap<LocalDate, Holiday> holidays = new TreeMap<>();
+        Map<Integer, BitSet> bits = new HashMap<>();
+        for (Holiday holiday : holidayList) {
+            holidays.put(holiday.date(), holiday);
+            bits.computeIfAbsent(holiday.date().getYear(), y -> new BitSet(366))
+                    .set(holiday.date().getDayOfYear() - 1);
+        }
+
+        // [2] 대상 연도 (휴일 등록 연도 ± 1, 올해 ± 1)
+        int thisYear = LocalDate.now().getYear();
+        int from = Math.min(thisYear, bits.keySet().stream().min(Integer::compare).orElse(thisYear)) - 1;
+        int to = Math.max(thisYear, bits.keySet().stream().max(Integer::compare).orElse(thisYear)) + 1;
+        Map<Integer, YearCalendar> years = new HashMap<>();
+        for (int y = from; y <= to; y++) {
+            years.put(y, YearCalendar.build(y, bits.getOrDefault(y, new BitSet())));
+        }
+        return new BusinessCalendar(years, Collections.unmodifiableNavigableMap(holidays));
+    } // func end
+
+    /**
+     * 근무일 여부 (주말 / 휴일 제외)
+     * */
+    public boolean isWorkday(LocalDate date) {
+        return year(date.getYear()).isWorkday(date.getDayOfYear() - 1);
+    } // func end
+
+    /**
+     * date 이후(당일 제외) 첫 근무일
+     * */
+    public LocalDate nextWorkday(LocalDate date) {
+        LocalDate from = date.plusDays(1);
+        int y = from.getYear();
+        int index = from.getDayOfYear() - 1;
+        while (true) {
+            int found = year(y).nextWorkday(index);
+            if (found >= 0) return LocalDate.ofYearDay(y, found + 1);
+            checkSpan(from.getYear(), ++y);
+            index = 0;
+        }
+    } // func end
+
+    /**
+     * [from, to) 구간 근무일 수 (to < from 이면 음수)
+     * */
+    public int businessDaysBetween(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) return -businessDaysBetween(to, from);
+        checkSpan(from.getYear(), to.getYear());
+        int count = -year(from.getYear()).countBefore(from.getDayOfYear() - 1);
+        for (int y = from.getYear(); y < to.getYear(); y++) {
+            count += year(y).total();
+        }
+        return count + year(to.getYear()).countBefore(to.getDayOfYear() - 1);
+    } // func end
+
+    /**
+     * date 기준 n 근무일 뒤(n &gt; 0) / 앞(n &lt; 0) 날짜 (n = 0 이면 date)
+     * - n &gt; 0 : (date, 결과] 구간 근무일 수가 n
+     * - n &lt; 0 : [결과, date) 구간 근무일 수가 |n|
+     * */
+    public LocalDate plusBusinessDays(LocalDate date, int n) {
+        if (n == 0) return date;
+        // 근무일 n 개는 최소 n 일 → 범위를 넘는 n 은 순번 계산(int) 전에 거절
+        if (Math.abs((long) n) > MAX_SPAN_YEARS * 366L) throw spanExceeded();
+        int y = date.getYear();
+        // 해당 연도 안에서 찾을 근무일 순번 (0부터)
+        int k = n > 0
+                ? year(y).countBefore(date.getDayOfYear()) + n - 1
+                : year(y).countBefore(date.getDayOfYear() - 1) + n;
+        while (k >= year(y).total()) {
+            k -= year(y).total();
+            checkSpan(date.getYear(), ++y);
+        }
+        while (k < 0) {
+            checkSpan(date.getYear(), --y);
+            k += year(y).total();
+        }
+        return LocalDate.ofYearDay(y, year(y).select(k) + 1);
+    } // func end
+
+    /**
+     * 기간 내 등록 휴일 (주말 제외)
+     * */
+    public Iterable<Holiday> holidays(LocalDate from, LocalDate to) {
+        return holidays.subMap(from, true, to, true).values();
+    } // func end
+
+    public Holiday holiday(LocalDate date) {
+        return holidays.get(date);
+    } // func end
+
+    /**
+     * 탐색 범위 확인 (기준 연도에서 MAX_SPAN_YEARS 초과 시 IllegalArgumentException)
+     * */
+    private static void checkSpan(int fromYear, int toYear) {
+        if (Math.abs((long) toYear - fromYear) > MAX_SPAN_YEARS) throw spanExceeded();
+    } // func end
+
+    private static IllegalArgumentException spanExceeded() {
+        return new IllegalArgumentException("영업일 계산은 최대 " + MAX_SPAN_YEARS + "년 범위까지 가능합니다.");
+    } // func end
+
+    private YearCalendar year(int year) {
+        YearCalendar calendar = years.get(year);
+        return calendar != null ? calendar : YearCalendar.build(year, new BitSet());
+    } // func end
+
+} // class end
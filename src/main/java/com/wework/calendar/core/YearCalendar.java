@@ -0,0 +1,101 @@
+package com.wework.calendar.core;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.BitSet;
+
+/**
+ * 1년 근무일 비트셋 (불변)
+ *
+ * <p>bit i = 1 이면 (1월 1일 + i) 가 근무일. 366일 → long 6개.
+ * <ul>
+ *   <li>rankBefore[w] : word w 이전까지의 근무일 수 (누적 popcount)</li>
+ *   <li>근무일 여부 O(1), 특정일 이전 근무일 수 O(1), 다음 근무일 / k번째 근무일은 word 단위 탐색</li>
+ * </ul>
+ * */
+public final class YearCalendar {
+
+    private final int year;
+    private final int length;
+    private final long[] workdays;
+    private final int[] rankBefore;
+    private final int total;
+
+    private YearCalendar(int year, long[] workdays) {
+        this.year = year;
+        this.length = Year.of(year).length();
+        this.workdays = workdays;
+        this.rankBefore = new int[workdays.length];
+        int acc = 0;
+        for (int w = 0; w < workdays.length; w++) {
+            rankBefore[w] = acc;
+            acc += Long.bitCount(workdays[w]);
+        }
+        this.total = acc;
+    } // func end
+
+    /**
+     * 주말(토/일) + holidays(일자 인덱스) 를 제외한 근무일 비트셋 생성
+     * */
+    public static YearCalendar build(int year, BitSet holidays) {
+        int length = Year.of(year).length();
+        long[] workdays = new long[(length + 63) >>> 6];
+        LocalDate date = LocalDate.of(year, 1, 1);
+        for (int i = 0; i < length; i++, date = date.plusDays(1)) {
+            DayOfWeek dow = date.getDayOfWeek();
+            if (dow == DayOfWeek.SATURDAY || dow == DayOfWeek.SUNDAY || holidays.get(i)) continue;
+            workdays[i >>> 6] |= 1L << i;
+        }
+        return new YearCalendar(year, workdays);
+    } // func end
+
+    public int year() { return year; }
+    public int length() { return length; }
+    public int total() { return total; }
+
+    /**
+     * 일자 인덱스(0 = 1월 1일) 근무일 여부
+     * */
+    public boolean isWorkday(int index) {
+        return (workdays[index >>> 6] & (1L << index)) != 0;
+    } // func end
+
+    /**
+     * [0, index) 구간 근무일 수
+     * */
+    public int countBefore(int index) {
+        if (index >= length) return total;
+        long mask = (1L << index) - 1;     // index % 64 == 0 이면 0
+        return rankBefore[index >>> 6] + Long.bitCount(workdays[index >>> 6] & mask);
+    } // func end
+
+    /**
+     * index 이상인 첫 근무일 인덱스 (없으면 -1)
+     * */
+    public int nextWorkday(int index) {
+        if (index >= length) return -1;
+        int w = index >>> 6;
+        long word = workdays[w] & (-1L << index);
+        while (word == 0) {
+            if (++w == workdays.length) return -1;
+            word = workdays[w];
+        }
+        return (w << 6) + Long.numberOfTrailingZeros(word);
+    } // func end
+
+    /**
+     * k번째(0부터) 근무일 인덱스 (없으면 -1)
+     * */
+    public int select(int k) {
+        if (k < 0 || k >= total) return -1;
+        int w = 0;
+        while (w + 1 < workdays.length && rankBefore[w + 1] <= k) w++;
+        long word = workdays[w];
+        for (int skip = k - rankBefore[w]; skip > 0; skip--) {
+            word &= word - 1;               // 가장 낮은 1 비트 제거
+        }
+        return (w << 6) + Long.numberOfTrailingZeros(word);
+    } // func end
+
+} // class end
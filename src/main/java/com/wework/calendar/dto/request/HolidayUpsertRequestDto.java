@@ -0,0 +1,24 @@
+package com.wework.calendar.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+
+/**
+ * [CALENDAR_006] 휴일 등록/수정 요청
+ * */
+public record HolidayUpsertRequestDto(
+        @NotNull(message = "holidayDate는 필수입니다.")
+        LocalDate holidayDate,      // 휴일
+
+        @NotBlank(message = "holidayName은 필수입니다.")
+        @Size(max = 100)
+        String holidayName,         // 휴일명
+
+        @NotNull(message = "holidayType은 필수입니다.")
+        @Pattern(regexp = "PUBLIC|COMPANY")
+        String holidayType          // PUBLIC(법정 공휴일) / COMPANY(회사 휴일)
+) { } // record end
@@ -0,0 +1,12 @@
+package com.wework.calendar.dto.response;
+
+import java.time.LocalDate;
+
+/**
+ * [CALENDAR_002~003] 영업일 계산 응답
+ * */
+public record BusinessDaysResponseDto(
+        LocalDate from,             // 기준일
+        LocalDate to,               // 종료일 (포함하지 않음) / n 영업일 후 날짜
+        int businessDays            // 근무일 수
+) { } // record end
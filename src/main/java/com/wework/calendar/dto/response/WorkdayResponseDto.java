@@ -0,0 +1,13 @@
+package com.wework.calendar.dto.response;
+
+import java.time.LocalDate;
+
+/**
+ * [CALENDAR_001] 근무일 여부 응답
+ * */
+public record WorkdayResponseDto(
+        LocalDate date,             // 조회일
+        boolean workday,            // 근무일 여부
+        String holidayName,         // 등록 휴일명 (주말/평일이면 null)
+        LocalDate nextWorkday       // 다음 근무일 (당일 제외)
+) { } // record end
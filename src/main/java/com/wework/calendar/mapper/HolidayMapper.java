@@ -0,0 +1,23 @@
+package com.wework.calendar.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Mapper
+public interface HolidayMapper {
+
+    // 전체 휴일 (스냅샷 적재)
+    List<HolidayRow> selectAll();
+
+    // [CALENDAR_006] 휴일 등록/수정
+    int upsert(@Param("holidayDate") LocalDate holidayDate,
+               @Param("holidayName") String holidayName,
+               @Param("holidayType") String holidayType);
+
+    // [CALENDAR_007] 휴일 삭제
+    int delete(@Param("holidayDate") LocalDate holidayDate);
+
+} // interface end
@@ -0,0 +1,16 @@
+package com.wework.calendar.mapper;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+public class HolidayRow {
+
+    private LocalDate holidayDate;      // 휴일
+    private String holidayName;         // 휴일명
+    private String holidayType;         // PUBLIC / COMPANY
+
+} // class end
@@ -0,0 +1,133 @@
+package com.wework.calendar.service;
+
+import com.wework.calendar.core.BusinessCalendar;
+import com.wework.calendar.dto.request.HolidayUpsertRequestDto;
+import com.wework.calendar.dto.response.BusinessDaysResponseDto;
+import com.wework.calendar.dto.response.WorkdayResponseDto;
+import com.wework.calendar.mapper.HolidayMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.StreamSupport;
+
+/**
+ * 영업일 달력 서비스
+ *
+ * <p>조회는 현재 스냅샷({@link BusinessCalendar}) 을 읽기만 하므로 잠금/DB 조회가 없다.
+ * <p>휴일 수정 시 DB 반영 → 전체 휴일 재적재 → 새 스냅샷으로 참조 교체 (AtomicReference).
+ * <p>다른 노드의 수정은 calendar.reload-interval-ms 주기 재적재로 반영된다.
+ * */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class BusinessCalendarService {
+
+    private final HolidayMapper holidayMapper;
+
+    private final AtomicReference<BusinessCalendar> snapshot = new AtomicReference<>();
+    // 재적재 직렬화 (늦게 읽은 스냅샷이 먼저 읽은 스냅샷을 덮어쓰지 않도록)
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    @PostConstruct
+    public void init() {
+        reload();
+    } // func end
+
+    /**
+     * 현재 스냅샷 (다른 모듈에서 영업일 계산에 사용)
+     * */
+    public BusinessCalendar calendar() {
+        return snapshot.get();
+    } // func end
+
+    public boolean isWorkday(LocalDate date) {
+        return snapshot.get().isWorkday(date);
+    } // func end
+
+    public LocalDate nextWorkday(LocalDate date) {
+        return snapshot.get().nextWorkday(date);
+    } // func end
+
+    public int businessDaysBetween(LocalDate from, LocalDate to) {
+        return snapshot.get().businessDaysBetween(from, to);
+    } // func end
+
+    public LocalDate plusBusinessDays(LocalDate date, int n) {
+        return snapshot.get().plusBusinessDays(date, n);
+    } // func end
+
+    /**
+     * [CALENDAR_001] 근무일 여부 + 다음 근무일
+     * */
+    public WorkdayResponseDto getWorkday(LocalDate date) {
+        BusinessCalendar calendar = snapshot.get();
+        BusinessCalendar.Holiday holiday = calendar.holiday(date);
+        return new WorkdayResponseDto(date, calendar.isWorkday(date),
+                holiday == null ? null : holiday.name(), calendar.nextWorkday(date));
+    } // func end
+
+    /**
+     * [CALENDAR_002] [from, to) 근무일 수
+     * */
+    public BusinessDaysResponseDto getBusinessDaysBetween(LocalDate from, LocalDate to) {
+        return new BusinessDaysResponseDto(from, to, snapshot.get().businessDaysBetween(from, to));
+    } // func end
+
+    /**
+     * [CALENDAR_003] n 근무일 후(음수면 전) 날짜
+     * */
+    public BusinessDaysResponseDto getPlusBusinessDays(LocalDate date, int n) {
+        return new BusinessDaysResponseDto(date, snapshot.get().plusBusinessDays(date, n), n);
+    } // func end
+
+    /**
+     * [CALENDAR_004] 기간 내 등록 휴일
+     * */
+    public List<BusinessCalendar.Holiday> getHolidays(LocalDate from, LocalDate to) {
+        return StreamSupport.stream(snapshot.get().holidays(from, to).spliterator(), false).toList();
+    } // func end
+
+    /**
+     * [CALENDAR_006] 휴일 등록/수정 → 스냅샷 교체
+     * */
+    public void upsertHoliday(HolidayUpsertRequestDto requestDto) {
+        holidayMapper.upsert(requestDto.holidayDate(), requestDto.holidayName(), requestDto.holidayType());
+        reload();
+    } // func end
+
+    /**
+     * [CALENDAR_007] 휴일 삭제 → 스냅샷 교체
+     * */
+    public void deleteHoliday(LocalDate date) {
+        if (holidayMapper.delete(date) == 0) {
+            throw new IllegalArgumentException("등록되지 않은 휴일입니다.");
+        }
+        reload();
+    } // func end
+
+    /**
+     * [CALENDAR_005] 휴일 전체 재적재 → 새 스냅샷으로 교체
+     * */
+    @Scheduled(fixedDelayString = "${calendar.reload-interval-ms:300000}",
+               initialDelayString = "${calendar.reload-interval-ms:300000}")
+    public void reload() {
+        reloadLock.lock();
+        try {
+            List<BusinessCalendar.Holiday> holidays = holidayMapper.selectAll().stream()
+                    .map(r -> new BusinessCalendar.Holiday(r.getHolidayDate(), r.getHolidayName(), r.getHolidayType()))
+                    .toList();
+            snapshot.set(BusinessCalendar.of(holidays));
+            log.debug("[CALENDAR] snapshot reloaded. holidays={}", holidays.size());
+        } finally {
+            reloadLock.unlock();
+        }
+    } // func end
+
+} // class end
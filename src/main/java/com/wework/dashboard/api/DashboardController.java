@@ -0,0 +1,39 @@
+package com.wework.dashboard.api;
+
+import com.wework.dashboard.service.DashboardService;
+import com.wework.dashboard.service.DashboardStreamService;
+import com.wework.global.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+    private final DashboardStreamService dashboardStreamService;
+
+    /**
+     * [DASHBOARD_001] 대시보드 (부서별 인원 / 재직·퇴사 / 오늘 출근율)
+     * */
+    @GetMapping
+    public ResponseEntity<?> dashboard(@AuthenticationPrincipal UserPrincipal principal){
+        return ResponseEntity.ok(dashboardService.getDashboard(principal));
+    } // func end
+
+    /**
+     * [DASHBOARD_002] 대시보드 실시간 구독 (SSE : snapshot 1회 → 변경 시 delta)
+     * */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@AuthenticationPrincipal UserPrincipal principal){
+        return dashboardStreamService.subscribe(principal);
+    } // func end
+
+} // class end
@@ -0,0 +1,129 @@
+package com.wework.dashboard.core;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대시보드 집계 카운터 (부서별 재직/퇴사 인원 + 오늘 출근 인원)
+ *
+ * <p>직원별 현재 소속/상태를 기억해 두고, 변경 이벤트가 오면 이전 소속에서 빼고 새 소속에 더한다.
+ * 변경 후 상태로 반영하므로 같은 이벤트가 여러 번 와도 결과가 같다.
+ * <p>출근은 근무일 단위 사번 집합으로 중복을 거르고, 날짜가 바뀌면 비운다.
+ * <p>갱신은 스레드 안전하지 않다 (호출자가 잠금을 잡고 사용). 직원 소속 조회({@link #deptOf})만 잠금 없이 읽을 수 있다.
+ * */
+public final class DashboardCounters {
+
+    // 부서 미지정 직원 집계 키
+    public static final long NO_DEPT = 0L;
+
+    /**
+     * 부서 1개 집계
+     * */
+    public record Count(int active, int inactive, int checkedIn) { } // record end
+
+    private record EmployeeState(long deptKey, boolean active) { }
+
+    private static final class MutableCount {
+        int active;
+        int inactive;
+        int checkedIn;
+    } // class end
+
+    private final Map<Long, EmployeeState> employees = new ConcurrentHashMap<>();
+    private final Map<Long, MutableCount> departments = new HashMap<>();
+    private final Set<Long> checkedIn = new HashSet<>();
+    private LocalDate workDate;
+
+    public DashboardCounters(LocalDate workDate) {
+        this.workDate = workDate;
+    } // func end
+
+    /**
+     * 직원 소속/상태 반영 (가입 / 잠금 / 잠금 해제 / 부서 이동)
+     * */
+    public void applyEmployee(long empId, Long deptId, boolean active) {
+        EmployeeState next = new EmployeeState(deptId == null ? NO_DEPT : deptId, active);
+        EmployeeState prev = employees.put(empId, next);
+        if (next.equals(prev)) return;
+        boolean in = checkedIn.contains(empId);
+        if (prev != null) adjust(prev, -1, in);
+        adjust(next, 1, in);
+    } // func end
+
+    /**
+     * 출근 반영 (근무일이 다르거나 이미 출근한 직원은 무시)
+     * */
+    public void checkIn(long empId, LocalDate date) {
+        if (!date.equals(workDate) || !checkedIn.add(empId)) return;
+        EmployeeState state = employees.get(empId);
+        if (state != null) count(state.deptKey()).checkedIn++;
+    } // func end
+
+    /**
+     * 근무일 변경 시 출근 집계 초기화
+     * */
+    public void rollover(LocalDate today) {
+        if (today.equals(workDate)) return;
+        workDate = today;
+        checkedIn.clear();
+        for (MutableCount count : departments.values()) count.checkedIn = 0;
+    } // func end
+
+    public LocalDate workDate() {
+        return workDate;
+    } // func end
+
+    /**
+     * 직원 소속 부서 (모르면 null)
+     * */
+    public Long deptOf(long empId) {
+        EmployeeState state = employees.get(empId);
+        return state == null || state.deptKey() == NO_DEPT ? null : state.deptKey();
+    } // func end
+
+    /**
+     * 부서별 집계 복사본 (부서ID순)
+     * */
+    public Map<Long, Count> counts() {
+        Map<Long, Count> result = new TreeMap<>();
+        departments.forEach((deptKey, c) -> {
+            if (c.active != 0 || c.inactive != 0 || c.checkedIn != 0) {
+                result.put(deptKey, new Count(c.active, c.inactive, c.checkedIn));
+            }
+        });
+        return result;
+    } // func end
+
+    /**
+     * 다른 집계와 값이 다른 부서 수 (정합성 점검용)
+     * */
+    public int drift(DashboardCounters other) {
+        Map<Long, Count> mine = counts();
+        Map<Long, Count> theirs = other.counts();
+        Set<Long> keys = new HashSet<>(mine.keySet());
+        keys.addAll(theirs.keySet());
+        int drift = 0;
+        for (Long key : keys) {
+            if (!Objects.equals(mine.get(key), theirs.get(key))) drift++;
+        }
+        return drift;
+    } // func end
+
+    private void adjust(EmployeeState state, int delta, boolean in) {
+        MutableCount count = count(state.deptKey());
+        if (state.active()) count.active += delta;
+        else count.inactive += delta;
+        if (in) count.checkedIn += delta;
+    } // func end
+
+    private MutableCount count(long deptKey) {
+        return departments.computeIfAbsent(deptKey, k -> new MutableCount());
+    } // func end
+
+} // class end
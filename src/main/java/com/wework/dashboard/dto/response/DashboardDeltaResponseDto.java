@@ -0,0 +1,27 @@
+package com.wework.dashboard.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대시보드 변경분 (실시간 구독 "delta" 이벤트)
+ * - 합계는 항상 포함, 부서는 직전 전송 이후 값이 바뀐 부서만
+ * */
+public record DashboardDeltaResponseDto(
+        LocalDate workDate,                                         // 근무일
+        LocalDateTime asOf,                                         // 집계 시각
+        int totalEmployees,                                         // 전체 인원
+        int activeEmployees,                                        // 재직
+        int inactiveEmployees,                                      // 퇴사(잠금)
+        int checkedIn,                                              // 오늘 출근
+        double attendanceRate,                                      // 출근율 (%)
+        List<DashboardResponseDto.DepartmentStat> departments       // 바뀐 부서
+) {
+    public static DashboardDeltaResponseDto of(DashboardResponseDto dashboard,
+                                               List<DashboardResponseDto.DepartmentStat> changed) {
+        return new DashboardDeltaResponseDto(dashboard.workDate(), dashboard.asOf(), dashboard.totalEmployees(),
+                dashboard.activeEmployees(), dashboard.inactiveEmployees(), dashboard.checkedIn(),
+                dashboard.attendanceRate(), changed);
+    } // func end
+} // record end
@@ -0,0 +1,41 @@
+package com.wework.dashboard.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대시보드
+ * - 합계는 회사 전체, 부서 목록은 조회자 범위 (SUPER_ADMIN 전체 / 관리 부서 + 본인 부서)
+ * */
+public record DashboardResponseDto(
+        LocalDate workDate,                     // 근무일
+        LocalDateTime asOf,                     // 집계 시각
+        int totalEmployees,                     // 전체 인원
+        int activeEmployees,                    // 재직
+        int inactiveEmployees,                  // 퇴사(잠금)
+        int checkedIn,                          // 오늘 출근
+        double attendanceRate,                  // 출근율 (%) = 출근 / 재직
+        List<DepartmentStat> departments        // 부서별 집계
+) {
+    /**
+     * 부서 1개 집계
+     * */
+    public record DepartmentStat(
+            Long deptId,                        // 부서ID (미지정이면 null)
+            String deptName,                    // 부서명
+            int activeEmployees,                // 재직
+            int inactiveEmployees,              // 퇴사(잠금)
+            int checkedIn,                      // 오늘 출근
+            double attendanceRate               // 출근율 (%)
+    ) { } // record end
+
+    public DashboardResponseDto withDepartments(List<DepartmentStat> scoped) {
+        return new DashboardResponseDto(workDate, asOf, totalEmployees, activeEmployees, inactiveEmployees,
+                checkedIn, attendanceRate, scoped);
+    } // func end
+
+    public static double rate(int checkedIn, int active) {
+        return active == 0 ? 0.0 : Math.round(checkedIn * 1000.0 / active) / 10.0;
+    } // func end
+} // record end
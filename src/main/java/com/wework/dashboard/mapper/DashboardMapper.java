@@ -0,0 +1,21 @@
+package com.wework.dashboard.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Mapper
+public interface DashboardMapper {
+
+    // 전 직원 소속/상태 (집계 재적재용)
+    List<EmployeeStateRow> selectEmployeeStates();
+
+    // 근무일 출근 직원
+    List<Long> selectCheckedInEmpIds(@Param("workDate") LocalDate workDate);
+
+    // 전체 관리자 관리 부서
+    List<ManagerScopeRow> selectManagerScopes();
+
+} // interface end
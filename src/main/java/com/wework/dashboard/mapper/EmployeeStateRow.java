@@ -0,0 +1,17 @@
+package com.wework.dashboard.mapper;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 직원 소속/상태 1행
+ * */
+@Getter
+@Setter
+public class EmployeeStateRow {
+
+    private Long empId;         // 사번
+    private Long deptId;        // 부서ID (미지정이면 null)
+    private String status;      // ACTIVE / INACTIVE
+
+} // class end
@@ -0,0 +1,16 @@
+package com.wework.dashboard.mapper;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 관리자 관리 부서 1행
+ * */
+@Getter
+@Setter
+public class ManagerScopeRow {
+
+    private Long managerEmpId;  // 관리자 사번
+    private Long deptId;        // 관리 부서ID
+
+} // class end
@@ -0,0 +1,239 @@
+package com.wework.dashboard.service;
+
+import com.wework.attendance.event.AttendancePunchesFlushedEvent;
+import com.wework.attendance.infra.redis.AttendancePunch;
+import com.wework.dashboard.core.DashboardCounters;
+import com.wework.dashboard.dto.response.DashboardResponseDto;
+import com.wework.dashboard.mapper.DashboardMapper;
+import com.wework.dashboard.mapper.EmployeeStateRow;
+import com.wework.dashboard.mapper.ManagerScopeRow;
+import com.wework.employee.entity.DepartementEntity;
+import com.wework.employee.event.EmployeeChangedEvent;
+import com.wework.employee.repository.DepartmentRepository;
+import com.wework.global.security.UserPrincipal;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 대시보드 (부서별 인원 / 재직·퇴사 / 오늘 출근율)
+ *
+ * <p>조회마다 GROUP BY 하지 않고 메모리 카운터({@link DashboardCounters})를 도메인 이벤트로 갱신한다.
+ * <P>1) 가입 / 잠금 / 잠금 해제 / 부서 이동 커밋 후 {@link EmployeeChangedEvent} → 소속/상태 반영</P>
+ * <P>2) 출퇴근 write-behind 반영 후 {@link AttendancePunchesFlushedEvent} → 출근 반영</P>
+ * <P>3) 주기적으로 DB 에서 다시 집계해 교체 (다른 노드 변경 반영 + 어긋난 값 보정, 재집계 중 들어온 이벤트는 새 집계에 다시 반영)</P>
+ *
+ * <p>응답 본문은 변경이 있을 때만 다시 만들고, 조회는 만들어 둔 본문에서 부서 범위만 거른다.
+ * */
+@Service
+@Log4j2
+public class DashboardService {
+
+    private final DashboardMapper dashboardMapper;
+    private final DepartmentRepository departmentRepository;
+
+    // 카운터 갱신 / 교체
+    private final ReentrantLock lock = new ReentrantLock();
+    // 재집계 직렬화
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+    private volatile DashboardCounters counters = new DashboardCounters(today());
+    // 재집계 중 들어온 변경 (재집계 중이 아니면 null)
+    private List<Consumer<DashboardCounters>> pending;
+
+    // 재집계 시 갱신
+    private volatile Map<Long, String> deptNames = Map.of();
+    private volatile Map<Long, List<Long>> managerScopes = Map.of();
+    // 만들어 둔 응답 (변경 시 null)
+    private volatile DashboardResponseDto snapshot;
+
+    public DashboardService(DashboardMapper dashboardMapper, DepartmentRepository departmentRepository) {
+        this.dashboardMapper = dashboardMapper;
+        this.departmentRepository = departmentRepository;
+    } // func end
+
+    @PostConstruct
+    public void init() {
+        reconcile();
+    } // func end
+
+    /**
+     * [DASHBOARD_001] 대시보드 조회
+     * */
+    public DashboardResponseDto getDashboard(UserPrincipal principal) {
+        return scoped(current(), scopeOf(principal));
+    } // func end
+
+    /**
+     * 부서 범위로 거른 집계 (scope 가 null 이면 그대로)
+     * */
+    public DashboardResponseDto scoped(DashboardResponseDto dashboard, Set<Long> scope) {
+        if (scope == null) return dashboard;
+        List<DashboardResponseDto.DepartmentStat> scoped = new ArrayList<>();
+        for (DashboardResponseDto.DepartmentStat stat : dashboard.departments()) {
+            if (stat.deptId() != null && scope.contains(stat.deptId())) scoped.add(stat);
+        }
+        return dashboard.withDepartments(scoped);
+    } // func end
+
+    /**
+     * 현재 집계 (변경이 있었으면 다시 만듦, 변경이 없으면 같은 인스턴스)
+     * */
+    public DashboardResponseDto current() {
+        DashboardResponseDto dashboard = snapshot;
+        if (dashboard != null) return dashboard;
+        lock.lock();
+        try {
+            counters.rollover(today());
+            dashboard = build(counters);
+            snapshot = dashboard;
+            return dashboard;
+        } finally {
+            lock.unlock();
+        }
+    } // func end
+
+    /**
+     * 조회자 부서 범위 (null 이면 전체)
+     * */
+    public Set<Long> scopeOf(UserPrincipal principal) {
+        boolean superAdmin = principal.getAuthorities().stream()
+                .anyMatch(a -> "ROLE_SUPER_ADMIN".equals(a.getAuthority()));
+        if (superAdmin) return null;
+        Set<Long> scope = new HashSet<>(managerScopes.getOrDefault(principal.getEmpId(), List.of()));
+        Long ownDeptId = counters.deptOf(principal.getEmpId());
+        if (ownDeptId != null) scope.add(ownDeptId);
+        return scope;
+    } // func end
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        boolean active = "ACTIVE".equalsIgnoreCase(event.status());
+        apply(c -> c.applyEmployee(event.empId(), event.deptId(), active));
+    } // func end
+
+    @EventListener
+    public void onPunchesFlushed(AttendancePunchesFlushedEvent event) {
+        List<AttendancePunch> checkIns = event.punches().stream()
+                .filter(p -> AttendancePunch.TYPE_IN.equals(p.type()))
+                .toList();
+        if (checkIns.isEmpty()) return;
+        apply(c -> {
+            for (AttendancePunch punch : checkIns) c.checkIn(punch.empId(), punch.workDate());
+        });
+    } // func end
+
+    /**
+     * DB 기준 재집계 후 교체
+     * */
+    @Scheduled(fixedDelayString = "${dashboard.reconcile-interval-ms:60000}",
+            initialDelayString = "${dashboard.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        reconcileLock.lock();
+        try {
+            lock.lock();
+            try {
+                pending = new ArrayList<>();
+            } finally {
+                lock.unlock();
+            }
+
+            // [1] DB 집계 (잠금 밖)
+            LocalDate workDate = today();
+            DashboardCounters next = new DashboardCounters(workDate);
+            for (EmployeeStateRow row : dashboardMapper.selectEmployeeStates()) {
+                next.applyEmployee(row.getEmpId(), row.getDeptId(), "ACTIVE".equalsIgnoreCase(row.getStatus()));
+            }
+            for (Long empId : dashboardMapper.selectCheckedInEmpIds(workDate)) {
+                next.checkIn(empId, workDate);
+            }
+            Map<Long, String> names = new HashMap<>();
+            for (DepartementEntity department : departmentRepository.findAll()) {
+                names.put(department.getDeptId(), department.getDeptName());
+            }
+            Map<Long, List<Long>> scopes = new HashMap<>();
+            for (ManagerScopeRow row : dashboardMapper.selectManagerScopes()) {
+                scopes.computeIfAbsent(row.getManagerEmpId(), k -> new ArrayList<>()).add(row.getDeptId());
+            }
+
+            // [2] 재집계 중 들어온 변경 재반영 → 교체
+            int drift;
+            lock.lock();
+            try {
+                for (Consumer<DashboardCounters> change : pending) change.accept(next);
+                counters.rollover(workDate);
+                drift = counters.drift(next);
+                counters = next;
+                deptNames = names;
+                managerScopes = scopes;
+                snapshot = null;
+            } finally {
+                pending = null;
+                lock.unlock();
+            }
+            if (drift > 0) log.warn("[DASHBOARD] reconciled. drifted departments={}", drift);
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                pending = null;
+            } finally {
+                lock.unlock();
+            }
+            log.warn("[DASHBOARD] reconcile failed (keep previous)", e);
+        } finally {
+            reconcileLock.unlock();
+        }
+    } // func end
+
+    private void apply(Consumer<DashboardCounters> change) {
+        lock.lock();
+        try {
+            counters.rollover(today());
+            change.accept(counters);
+            if (pending != null) pending.add(change);
+            snapshot = null;
+        } finally {
+            lock.unlock();
+        }
+    } // func end
+
+    private DashboardResponseDto build(DashboardCounters source) {
+        int active = 0;
+        int inactive = 0;
+        int checkedIn = 0;
+        List<DashboardResponseDto.DepartmentStat> departments = new ArrayList<>();
+        for (Map.Entry<Long, DashboardCounters.Count> entry : source.counts().entrySet()) {
+            DashboardCounters.Count count = entry.getValue();
+            Long deptId = entry.getKey() == DashboardCounters.NO_DEPT ? null : entry.getKey();
+            departments.add(new DashboardResponseDto.DepartmentStat(deptId,
+                    deptId == null ? "미지정" : deptNames.getOrDefault(deptId, String.valueOf(deptId)),
+                    count.active(), count.inactive(), count.checkedIn(),
+                    DashboardResponseDto.rate(count.checkedIn(), count.active())));
+            active += count.active();
+            inactive += count.inactive();
+            checkedIn += count.checkedIn();
+        }
+        return new DashboardResponseDto(source.workDate(), LocalDateTime.now(AttendancePunch.ZONE),
+                active + inactive, active, inactive, checkedIn,
+                DashboardResponseDto.rate(checkedIn, active), List.copyOf(departments));
+    } // func end
+
+    private static LocalDate today() {
+        return LocalDate.now(AttendancePunch.ZONE);
+    } // func end
+
+} // class end
@@ -0,0 +1,412 @@
+package com.wework.dashboard.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wework.dashboard.dto.response.DashboardDeltaResponseDto;
+import com.wework.dashboard.dto.response.DashboardResponseDto;
+import com.wework.global.security.UserPrincipal;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 대시보드 실시간 구독 (Server-Sent Events)
+ *
+ * <p>연결은 Servlet 비동기 요청(SseEmitter)으로 유지하므로 대기 중인 연결은 스레드를 점유하지 않는다.
+ * <p>처리 흐름
+ * <P>1) 구독 : 조회자 부서 범위(SUPER_ADMIN 전체 / 관리 부서 + 본인 부서)별 채널에 등록 → "snapshot" 1회 전송</P>
+ * <P>2) 주기마다 {@link DashboardService#current()} 가 바뀌었을 때만 채널별로 직전 전송분과 비교</P>
+ * <P>3) 바뀐 부서 + 합계를 "delta" 로 한 번 직렬화하여 채널의 모든 연결에 같은 본문을 전송 (주기 내 변경은 1건으로 합쳐짐)</P>
+ * <P>4) 근무일이 바뀌면 "snapshot" 을 다시 보내고, 변경이 없어도 주기적으로 주석 줄(ping)을 보내 끊긴 연결을 정리</P>
+ *
+ * <p>이벤트는 연결마다 길이 제한이 있는 대기열에 넣기만 하고, 실제 쓰기는 소수의 발송 스레드가 연결 단위로 처리한다.
+ * 연결마다 진행 중인 쓰기는 1건뿐이고 대기열 순서대로 보내므로 연결별 이벤트 순서가 보장된다.
+ * 느린 클라이언트 때문에 다른 연결의 전송이 밀리지 않도록
+ * <P>1) 대기열이 가득 찬 연결 (계속 읽지 못하는 클라이언트)</P>
+ * <P>2) 쓰기 1건이 send-timeout-ms 를 넘긴 연결 (ping 주기에 확인)</P>
+ * <p>은 끊는다 (클라이언트는 재연결하여 snapshot 부터 다시 받음). 쓰기에 실패한 연결도 제거한다.
+ * 클라이언트가 먼저 끊은 연결은 다음 전송(ping 포함) 때 정리되므로 그 사이에는 연결 수에 남아 있다.
+ * */
+@Service
+@Log4j2
+public class DashboardStreamService {
+
+    public static final String EVENT_SNAPSHOT = "snapshot";
+    public static final String EVENT_DELTA = "delta";
+
+    private final DashboardService dashboardService;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMs;
+    private final int maxConnections;
+    private final long busyRetryMs;
+    private final int sendQueue;
+    private final long sendTimeoutNanos;
+    private final ExecutorService sender;
+
+    // 부서 범위 → 채널
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    // 마지막으로 비교한 집계 (publish 스레드 전용)
+    private DashboardResponseDto lastPublished;
+
+    public DashboardStreamService(DashboardService dashboardService,
+                                  ObjectMapper objectMapper,
+                                  @Value("${dashboard.stream.timeout-ms:1800000}") long timeoutMs,
+                                  @Value("${dashboard.stream.max-connections:10000}") int maxConnections,
+                                  @Value("${dashboard.stream.busy-retry-ms:30000}") long busyRetryMs,
+                                  @Value("${dashboard.stream.send-threads:4}") int sendThreads,
+                                  @Value("${dashboard.stream.send-queue:8}") int sendQueue,
+                                  @Value("${dashboard.stream.send-timeout-ms:10000}") long sendTimeoutMs) {
+        this.dashboardService = dashboardService;
+        this.objectMapper = objectMapper;
+        this.timeoutMs = timeoutMs;
+        this.maxConnections = maxConnections;
+        this.busyRetryMs = busyRetryMs;
+        this.sendQueue = sendQueue;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        AtomicInteger threadNo = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(sendThreads, r -> {
+            Thread thread = new Thread(r, "dashboard-sse-" + threadNo.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    } // func end
+
+    /**
+     * [DASHBOARD_002] 대시보드 실시간 구독
+     * */
+    public SseEmitter subscribe(UserPrincipal principal) {
+        // [1] 연결 수 상한 → 재연결 대기 시간만 알리고 종료 (EventSource 는 그 뒤 다시 연결)
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            SseEmitter busy = new SseEmitter(0L);
+            try {
+                busy.send(SseEmitter.event().reconnectTime(busyRetryMs).comment("busy"));
+                busy.complete();
+            } catch (IOException e) {
+                busy.completeWithError(e);
+            }
+            return busy;
+        }
+
+        // [2] 부서 범위 채널에 등록 + 현재 상태를 대기열에 넣음
+        // - 채널 잠금 안에서 넣으므로 이후 delta 는 항상 snapshot 뒤에 도착한다
+        Set<Long> scope = dashboardService.scopeOf(principal);
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        while (true) {
+            Channel channel = channels.computeIfAbsent(keyOf(scope), k -> new Channel(k, scope));
+            Connection connection = new Connection(channel, emitter);
+            channel.lock.lock();
+            try {
+                if (channel.closed) continue;
+                if (channel.last == null) channel.last = dashboardService.scoped(dashboardService.current(), scope);
+                channel.connections.add(connection);
+                Runnable remove = () -> remove(connection);
+                emitter.onCompletion(remove);
+                emitter.onTimeout(remove);
+                emitter.onError(e -> remove.run());
+                enqueue(connection, event(EVENT_SNAPSHOT, channel.last), false);
+            } finally {
+                channel.lock.unlock();
+            }
+            return emitter;
+        }
+    } // func end
+
+    /**
+     * 변경분 전송 (집계가 바뀐 주기에만)
+     * */
+    @Scheduled(fixedDelayString = "${dashboard.stream.interval-ms:1000}")
+    public void publish() {
+        if (channels.isEmpty()) return;
+        DashboardResponseDto dashboard = dashboardService.current();
+        if (dashboard == lastPublished) return;
+
+        for (Channel channel : channels.values()) {
+            Set<ResponseBodyEmitter.DataWithMediaType> payload;
+            List<Connection> targets;
+            channel.lock.lock();
+            try {
+                DashboardResponseDto next = dashboardService.scoped(dashboard, channel.scope);
+                payload = diff(channel.last, next);
+                if (payload == null) continue;
+                channel.last = next;
+                targets = List.copyOf(channel.connections);
+            } finally {
+                channel.lock.unlock();
+            }
+            for (Connection connection : targets) enqueue(connection, payload, false);
+        }
+        lastPublished = dashboard;
+    } // func end
+
+    /**
+     * 연결 유지 확인 (프록시 유휴 종료 방지 + 끊긴 연결 / 쓰기가 멈춘 연결 정리)
+     * */
+    @Scheduled(fixedDelayString = "${dashboard.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        Set<ResponseBodyEmitter.DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        long now = System.nanoTime();
+        for (Channel channel : channels.values()) {
+            List<Connection> targets;
+            channel.lock.lock();
+            try {
+                targets = List.copyOf(channel.connections);
+            } finally {
+                channel.lock.unlock();
+            }
+            for (Connection connection : targets) {
+                long since = connection.writingSince;
+                if (since != 0 && now - since > sendTimeoutNanos) {
+                    log.debug("[DASHBOARD] write timed out. scope={}", channel.key);
+                    close(connection);
+                    continue;
+                }
+                enqueue(connection, ping, true);
+            }
+        }
+    } // func end
+
+    /**
+     * 현재 연결 수
+     * */
+    public int connections() {
+        return connections.get();
+    } // func end
+
+    /**
+     * 종료 시작 시 모든 연결 종료 (열린 비동기 요청이 웹 서버 종료를 붙잡지 않도록, 클라이언트는 다른 노드로 재연결)
+     * */
+    @EventListener(ContextClosedEvent.class)
+    public void onClosed() {
+        for (Channel channel : channels.values()) {
+            List<Connection> targets;
+            channel.lock.lock();
+            try {
+                targets = List.copyOf(channel.connections);
+            } finally {
+                channel.lock.unlock();
+            }
+            targets.forEach(this::close);
+        }
+    } // func end
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdown();
+    } // func end
+
+    /**
+     * 직전 전송분 → 다음 이벤트 (바뀐 것이 없으면 null)
+     * */
+    private Set<ResponseBodyEmitter.DataWithMediaType> diff(DashboardResponseDto last, DashboardResponseDto next) {
+        // [1] 근무일 변경 → 전체 다시 전송
+        if (!next.workDate().equals(last.workDate())) return event(EVENT_SNAPSHOT, next);
+
+        // [2] 값이 바뀐 부서
+        Map<Long, DashboardResponseDto.DepartmentStat> before = new HashMap<>();
+        for (DashboardResponseDto.DepartmentStat stat : last.departments()) before.put(stat.deptId(), stat);
+        List<DashboardResponseDto.DepartmentStat> changed = new ArrayList<>();
+        for (DashboardResponseDto.DepartmentStat stat : next.departments()) {
+            if (!stat.equals(before.get(stat.deptId()))) changed.add(stat);
+        }
+        boolean totalsChanged = next.totalEmployees() != last.totalEmployees()
+                || next.activeEmployees() != last.activeEmployees()
+                || next.checkedIn() != last.checkedIn();
+        if (changed.isEmpty() && !totalsChanged) return null;
+        return event(EVENT_DELTA, DashboardDeltaResponseDto.of(next, changed));
+    } // func end
+
+    /**
+     * 이벤트 1건 (한 번만 직렬화하여 채널의 모든 연결이 공유)
+     * */
+    private Set<ResponseBodyEmitter.DataWithMediaType> event(String name, Object body) {
+        try {
+            return SseEmitter.event()
+                    .id(String.valueOf(sequence.incrementAndGet()))
+                    .name(name)
+                    .data(objectMapper.writeValueAsString(body))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize dashboard event", e);
+        }
+    } // func end
+
+    /**
+     * 연결 대기열에 이벤트 추가 (막히지 않음)
+     * <P>1) ping 은 보낼 이벤트가 이미 있으면 생략</P>
+     * <P>2) 대기열이 가득 차면 연결을 끊음</P>
+     * <P>3) 진행 중인 쓰기가 없으면 발송 작업 시작</P>
+     * */
+    private void enqueue(Connection connection, Set<ResponseBodyEmitter.DataWithMediaType> payload, boolean droppable) {
+        boolean overflow = false;
+        boolean start = false;
+        connection.lock.lock();
+        try {
+            if (connection.closed) return;
+            if (droppable && (connection.draining || !connection.queue.isEmpty())) return;
+            if (connection.queue.size() >= sendQueue) {
+                overflow = true;
+            } else {
+                connection.queue.add(payload);
+                start = !connection.draining;
+                connection.draining = true;
+            }
+        } finally {
+            connection.lock.unlock();
+        }
+        if (overflow) {
+            log.debug("[DASHBOARD] send queue full. scope={}", connection.channel.key);
+            close(connection);
+            return;
+        }
+        if (!start) return;
+        try {
+            sender.execute(() -> drain(connection));
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            close(connection);
+        }
+    } // func end
+
+    /**
+     * 대기열이 빌 때까지 순서대로 쓰기 (발송 스레드)
+     * */
+    private void drain(Connection connection) {
+        boolean closed;
+        while (true) {
+            Set<ResponseBodyEmitter.DataWithMediaType> payload;
+            connection.lock.lock();
+            try {
+                closed = connection.closed;
+                payload = closed ? null : connection.queue.poll();
+                if (payload == null) {
+                    connection.draining = false;
+                    break;
+                }
+            } finally {
+                connection.lock.unlock();
+            }
+            connection.writingSince = System.nanoTime();
+            try {
+                connection.emitter.send(payload);
+            } catch (IOException | IllegalStateException e) {
+                log.debug("[DASHBOARD] stream closed. scope={}", connection.channel.key);
+                close(connection);
+            } finally {
+                connection.writingSince = 0;
+            }
+        }
+        // 쓰는 동안 끊긴 연결 (대기열 초과 / 쓰기 시간 초과 / 쓰기 실패) → 쓰기가 끝난 지금 종료
+        if (closed) connection.emitter.complete();
+    } // func end
+
+    /**
+     * 서버 쪽에서 연결 종료 (쓰기 중이면 그 쓰기가 끝난 뒤 발송 스레드가 종료)
+     * */
+    private void close(Connection connection) {
+        boolean idle;
+        connection.lock.lock();
+        try {
+            if (connection.closed) return;
+            connection.closed = true;
+            connection.queue.clear();
+            idle = !connection.draining;
+        } finally {
+            connection.lock.unlock();
+        }
+        remove(connection);
+        // 쓰기 중인 emitter 를 complete 하면 그 쓰기가 끝날 때까지 기다리게 되므로 발송 스레드에 맡긴다
+        if (idle) connection.emitter.complete();
+    } // func end
+
+    private void remove(Connection connection) {
+        Channel channel = connection.channel;
+        channel.lock.lock();
+        try {
+            if (!channel.connections.remove(connection)) return;
+            connections.decrementAndGet();
+            if (channel.connections.isEmpty()) {
+                channel.closed = true;
+                channels.remove(channel.key, channel);
+            }
+        } finally {
+            channel.lock.unlock();
+        }
+    } // func end
+
+    private static String keyOf(Set<Long> scope) {
+        return scope == null ? "*" : new TreeSet<>(scope).toString();
+    } // func end
+
+    /**
+     * 같은 부서 범위를 보는 연결 묶음
+     * */
+    private static final class Channel {
+
+        private final String key;
+        private final Set<Long> scope;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Set<Connection> connections = new LinkedHashSet<>();
+        // 마지막으로 보낸 범위 집계
+        private DashboardResponseDto last;
+        // 비어서 맵에서 제거됨
+        private boolean closed;
+
+        private Channel(String key, Set<Long> scope) {
+            this.key = key;
+            this.scope = scope;
+        } // func end
+
+    } // class end
+
+    /**
+     * 연결 1개 (보낼 이벤트 대기열)
+     * */
+    private static final class Connection {
+
+        private final Channel channel;
+        private final SseEmitter emitter;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Deque<Set<ResponseBodyEmitter.DataWithMediaType>> queue = new ArrayDeque<>();
+        // 발송 작업이 대기열을 비우는 중
+        private boolean draining;
+        // 서버 쪽에서 끊음 (더 이상 넣지 않음)
+        private volatile boolean closed;
+        // 진행 중인 쓰기 시작 시각 (nanoTime, 0 = 쓰기 없음)
+        private volatile long writingSince;
+
+        private Connection(Channel channel, SseEmitter emitter) {
+            this.channel = channel;
+            this.emitter = emitter;
+        } // func end
+
+    } // class end
+
+} // class end
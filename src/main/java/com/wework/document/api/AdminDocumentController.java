@@ -0,0 +1,52 @@
+package com.wework.document.api;
+
+import com.wework.document.service.ApprovalInboxService;
+import com.wework.document.service.DocumentRevisionService;
+import com.wework.document.service.DocumentSearchService;
+import com.wework.global.dto.response.CommonSuccessResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/documents")
+public class AdminDocumentController {
+
+    private final ApprovalInboxService approvalInboxService;
+    private final DocumentSearchService documentSearchService;
+    private final DocumentRevisionService documentRevisionService;
+
+    /**
+     * [DOCUMENT_011] 결재함 재구성 (DB 기준)
+     * */
+    @PostMapping("/inbox/{empId}/rebuild")
+    public ResponseEntity<?> rebuildInbox(@PathVariable long empId){
+        return ResponseEntity.ok(Map.of("pending", approvalInboxService.rebuild(empId)));
+    } // func end
+
+    /**
+     * [DOCUMENT_017] 검색 색인 전체 재구성 (백그라운드, 진행 중에도 기존 색인으로 검색)
+     * */
+    @PostMapping("/search/rebuild")
+    public ResponseEntity<?> rebuildSearchIndex(){
+        documentSearchService.rebuildAsync();
+        return ResponseEntity.ok(CommonSuccessResponseDto.ok());
+    } // func end
+
+    /**
+     * [DOCUMENT_021] 버전 이력 저장 효율 (docId 없으면 전체)
+     * */
+    @GetMapping("/revisions/report")
+    public ResponseEntity<?> revisionReport(@RequestParam(required = false) Long docId){
+        return ResponseEntity.ok(documentRevisionService.getStorageReport(docId));
+    } // func end
+
+} // class end
@@ -0,0 +1,83 @@
+package com.wework.document.api;
+
+import com.wework.document.service.AttachmentService;
+import com.wework.global.dto.response.CommonSuccessResponseDto;
+import com.wework.global.security.UserPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/documents/{docId}/attachments")
+@RequiredArgsConstructor
+public class AttachmentController {
+
+    private final AttachmentService attachmentService;
+
+    /**
+     * [DOCUMENT_012] 첨부파일 업로드
+     *
+     * <p>multipart 가 아닌 요청 본문 자체가 파일 내용이다 (서블릿 multipart 임시 저장/크기 제한을 거치지 않음).
+     * 예) PUT /api/documents/600001/attachments?fileName=scan.pdf  (Content-Type: application/pdf)
+     * */
+    @PutMapping
+    public ResponseEntity<?> upload(@AuthenticationPrincipal UserPrincipal principal,
+                                    @PathVariable long docId,
+                                    @RequestParam String fileName,
+                                    HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(attachmentService.upload(principal.getEmpId(), docId, fileName,
+                request.getContentType(), request.getInputStream()));
+    } // func end
+
+    /**
+     * [DOCUMENT_013] 첨부파일 목록
+     * */
+    @GetMapping
+    public ResponseEntity<?> list(@AuthenticationPrincipal UserPrincipal principal, @PathVariable long docId){
+        return ResponseEntity.ok(attachmentService.getAttachments(principal, docId));
+    } // func end
+
+    /**
+     * [DOCUMENT_014] 첨부파일 다운로드
+     * <ul>
+     *   <li>ETag = "sha256" (내용이 바뀌지 않으므로 If-None-Match 일치 시 304)</li>
+     *   <li>Range 요청 시 206 + 해당 구간만 전송 (이어받기 / 분할 다운로드)</li>
+     * </ul>
+     * */
+    @GetMapping("/{attachId}")
+    public ResponseEntity<Resource> download(@AuthenticationPrincipal UserPrincipal principal,
+                                             @PathVariable long docId,
+                                             @PathVariable long attachId){
+        AttachmentService.Download download = attachmentService.getDownload(principal, docId, attachId);
+        return ResponseEntity.ok()
+                .eTag("\"" + download.attachment().sha256() + "\"")
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(1)).cachePrivate())
+                .contentType(MediaType.parseMediaType(download.attachment().contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(download.attachment().fileName(), StandardCharsets.UTF_8).build().toString())
+                .body(download.resource());
+    } // func end
+
+    /**
+     * [DOCUMENT_015] 첨부파일 삭제
+     * */
+    @DeleteMapping("/{attachId}")
+    public ResponseEntity<?> delete(@AuthenticationPrincipal UserPrincipal principal,
+                                    @PathVariable long docId,
+                                    @PathVariable long attachId){
+        attachmentService.delete(principal.getEmpId(), docId, attachId);
+        return ResponseEntity.ok(CommonSuccessResponseDto.ok());
+    } // func end
+
+} // class end
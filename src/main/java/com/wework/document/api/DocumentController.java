@@ -0,0 +1,137 @@
+package com.wework.document.api;
+
+import com.wework.document.dto.request.ApprovalActionRequestDto;
+import com.wework.document.dto.request.DocumentSaveRequestDto;
+import com.wework.document.entity.DocumentStatus;
+import com.wework.document.service.ApprovalInboxService;
+import com.wework.document.service.DocumentSearchService;
+import com.wework.document.service.DocumentService;
+import com.wework.global.dto.response.CommonSuccessResponseDto;
+import com.wework.global.security.UserPrincipal;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/documents")
+@RequiredArgsConstructor
+public class DocumentController {
+
+    private final DocumentService documentService;
+    private final ApprovalInboxService approvalInboxService;
+    private final DocumentSearchService documentSearchService;
+
+    /**
+     * [DOCUMENT_001] 문서 작성 (임시저장)
+     * */
+    @PostMapping
+    public ResponseEntity<?> create(@AuthenticationPrincipal UserPrincipal principal,
+                                    @Valid @RequestBody DocumentSaveRequestDto requestDto){
+        return ResponseEntity.ok(documentService.create(principal.getEmpId(), requestDto));
+    } // func end
+
+    /**
+     * [DOCUMENT_002] 문서 수정 (임시저장 상태만)
+     * */
+    @PutMapping("/{docId}")
+    public ResponseEntity<?> update(@AuthenticationPrincipal UserPrincipal principal,
+                                    @PathVariable long docId,
+                                    @Valid @RequestBody DocumentSaveRequestDto requestDto){
+        return ResponseEntity.ok(documentService.update(principal.getEmpId(), docId, requestDto));
+    } // func end
+
+    /**
+     * [DOCUMENT_003] 문서 삭제 (임시저장 상태만)
+     * */
+    @DeleteMapping("/{docId}")
+    public ResponseEntity<?> delete(@AuthenticationPrincipal UserPrincipal principal, @PathVariable long docId){
+        documentService.delete(principal.getEmpId(), docId);
+        return ResponseEntity.ok(CommonSuccessResponseDto.ok());
+    } // func end
+
+    /**
+     * [DOCUMENT_004] 상신
+     * */
+    @PostMapping("/{docId}/submit")
+    public ResponseEntity<?> submit(@AuthenticationPrincipal UserPrincipal principal, @PathVariable long docId){
+        return ResponseEntity.ok(documentService.submit(principal.getEmpId(), docId));
+    } // func end
+
+    /**
+     * [DOCUMENT_005] 승인
+     * */
+    @PostMapping("/{docId}/approve")
+    public ResponseEntity<?> approve(@AuthenticationPrincipal UserPrincipal principal,
+                                     @PathVariable long docId,
+                                     @Valid @RequestBody ApprovalActionRequestDto requestDto){
+        return ResponseEntity.ok(documentService.approve(principal.getEmpId(), docId, requestDto));
+    } // func end
+
+    /**
+     * [DOCUMENT_006] 반려
+     * */
+    @PostMapping("/{docId}/reject")
+    public ResponseEntity<?> reject(@AuthenticationPrincipal UserPrincipal principal,
+                                    @PathVariable long docId,
+                                    @Valid @RequestBody ApprovalActionRequestDto requestDto){
+        return ResponseEntity.ok(documentService.reject(principal.getEmpId(), docId, requestDto));
+    } // func end
+
+    /**
+     * [DOCUMENT_007] 내가 기안한 문서 목록
+     * 예) GET /api/documents/my?status=SUBMITTED&page=0&size=20
+     * */
+    @GetMapping("/my")
+    public ResponseEntity<?> myDocuments(@AuthenticationPrincipal UserPrincipal principal,
+                                         @RequestParam(required = false) DocumentStatus status,
+                                         @RequestParam(defaultValue = "0") int page,
+                                         @RequestParam(defaultValue = "20") int size){
+        return ResponseEntity.ok(documentService.getMyDocuments(principal.getEmpId(), status,
+                Math.max(page, 0), Math.min(Math.max(size, 1), 100)));
+    } // func end
+
+    /**
+     * [DOCUMENT_016] 문서 검색 (제목 / 본문 / 기안자 이름, 조회 권한 범위 내)
+     * 예) GET /api/documents/search?q=출장 정산&status=APPROVED&offset=0&limit=20
+     * */
+    @GetMapping("/search")
+    public ResponseEntity<?> search(@AuthenticationPrincipal UserPrincipal principal,
+                                    @RequestParam String q,
+                                    @RequestParam(required = false) DocumentStatus status,
+                                    @RequestParam(defaultValue = "0") int offset,
+                                    @RequestParam(defaultValue = "20") int limit){
+        return ResponseEntity.ok(documentSearchService.search(principal, q, status,
+                Math.min(Math.max(offset, 0), 1000), Math.min(Math.max(limit, 1), 100)));
+    } // func end
+
+    /**
+     * [DOCUMENT_008] 문서 상세
+     * */
+    @GetMapping("/{docId}")
+    public ResponseEntity<?> detail(@AuthenticationPrincipal UserPrincipal principal, @PathVariable long docId){
+        return ResponseEntity.ok(documentService.getDetail(principal, docId));
+    } // func end
+
+    /**
+     * [DOCUMENT_009] 결재 대기 목록
+     * 예) GET /api/documents/inbox?offset=0&limit=20
+     * */
+    @GetMapping("/inbox")
+    public ResponseEntity<?> inbox(@AuthenticationPrincipal UserPrincipal principal,
+                                   @RequestParam(defaultValue = "0") int offset,
+                                   @RequestParam(defaultValue = "20") int limit){
+        return ResponseEntity.ok(approvalInboxService.getInbox(principal.getEmpId(),
+                Math.max(offset, 0), Math.min(Math.max(limit, 1), 100)));
+    } // func end
+
+    /**
+     * [DOCUMENT_010] 결재 대기 / 미열람 건수
+     * */
+    @GetMapping("/inbox/count")
+    public ResponseEntity<?> inboxCount(@AuthenticationPrincipal UserPrincipal principal){
+        return ResponseEntity.ok(approvalInboxService.getCounts(principal.getEmpId()));
+    } // func end
+
+} // class end
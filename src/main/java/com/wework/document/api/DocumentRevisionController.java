@@ -0,0 +1,47 @@
+package com.wework.document.api;
+
+import com.wework.document.service.DocumentRevisionService;
+import com.wework.global.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/documents/{docId}/revisions")
+@RequiredArgsConstructor
+public class DocumentRevisionController {
+
+    private final DocumentRevisionService documentRevisionService;
+
+    /**
+     * [DOCUMENT_018] 버전 목록
+     * */
+    @GetMapping
+    public ResponseEntity<?> list(@AuthenticationPrincipal UserPrincipal principal, @PathVariable long docId){
+        return ResponseEntity.ok(documentRevisionService.getRevisions(principal, docId));
+    } // func end
+
+    /**
+     * [DOCUMENT_020] 두 버전 비교
+     * 예) GET /api/documents/600001/revisions/diff?from=1&to=5
+     * */
+    @GetMapping("/diff")
+    public ResponseEntity<?> diff(@AuthenticationPrincipal UserPrincipal principal,
+                                  @PathVariable long docId,
+                                  @RequestParam int from,
+                                  @RequestParam int to){
+        return ResponseEntity.ok(documentRevisionService.diff(principal, docId, from, to));
+    } // func end
+
+    /**
+     * [DOCUMENT_019] 특정 버전 본문
+     * */
+    @GetMapping("/{revNo}")
+    public ResponseEntity<?> detail(@AuthenticationPrincipal UserPrincipal principal,
+                                    @PathVariable long docId,
+                                    @PathVariable int revNo){
+        return ResponseEntity.ok(documentRevisionService.getRevision(principal, docId, revNo));
+    } // func end
+
+} // class end
@@ -0,0 +1,152 @@
+package com.wework.document.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 줄 단위 차이 계산 (Myers O(ND))
+ *
+ * <p>결과는 이전(a) → 이후(b) 로 가는 편집 구간 목록이다.
+ * <ul>
+ *   <li>EQUAL  : a[aStart..] == b[bStart..] 가 count 줄 같음</li>
+ *   <li>DELETE : a[aStart..] count 줄 삭제</li>
+ *   <li>INSERT : b[bStart..] count 줄 추가</li>
+ * </ul>
+ * <p>공통 앞/뒤 줄을 먼저 잘라낸 뒤 가운데만 비교한다.
+ * 편집 거리가 maxEdits 를 넘으면(거의 전부 바뀐 경우) 가운데 전체를 DELETE + INSERT 로 처리하여
+ * 시간/메모리를 O(maxEdits²) 로 제한한다.
+ * */
+public final class LineDiff {
+
+    public static final int DEFAULT_MAX_EDITS = 2000;
+
+    public enum Op { EQUAL, DELETE, INSERT } // enum end
+
+    /**
+     * 편집 구간
+     * */
+    public record Edit(Op op, int aStart, int bStart, int count) { } // record end
+
+    private LineDiff() { }
+
+    /**
+     * 문자열을 줄로 분리 ("\n" 기준, 빈 줄/마지막 줄바꿈 보존 → join 으로 원문 복원)
+     * */
+    public static String[] lines(String text) {
+        return text == null ? new String[]{""} : text.split("\n", -1);
+    } // func end
+
+    public static List<Edit> diff(String[] a, String[] b) {
+        return diff(a, b, DEFAULT_MAX_EDITS);
+    } // func end
+
+    public static List<Edit> diff(String[] a, String[] b, int maxEdits) {
+        // [1] 공통 앞/뒤 줄
+        int prefix = 0;
+        int minLength = Math.min(a.length, b.length);
+        while (prefix < minLength && a[prefix].equals(b[prefix])) prefix++;
+        int suffix = 0;
+        while (suffix < minLength - prefix
+                && a[a.length - 1 - suffix].equals(b[b.length - 1 - suffix])) suffix++;
+
+        // [2] 가운데 비교
+        Builder builder = new Builder();
+        builder.add(Op.EQUAL, 0, 0, prefix);
+        middle(a, prefix, a.length - suffix, b, prefix, b.length - suffix, maxEdits, builder);
+        builder.add(Op.EQUAL, a.length - suffix, b.length - suffix, suffix);
+        return builder.edits;
+    } // func end
+
+    /**
+     * a[aFrom, aTo) → b[bFrom, bTo) 최단 편집 (Myers greedy + 역추적)
+     * */
+    private static void middle(String[] a, int aFrom, int aTo, String[] b, int bFrom, int bTo,
+                               int maxEdits, Builder builder) {
+        int n = aTo - aFrom;
+        int m = bTo - bFrom;
+        if (n == 0 || m == 0) {
+            builder.add(Op.DELETE, aFrom, bFrom, n);
+            builder.add(Op.INSERT, aFrom + n, bFrom, m);
+            return;
+        }
+
+        // [1] 전진 : d 번째 단계 시작 시점의 v[-d-1 .. d+1] 을 trace 에 보관
+        int max = Math.min(n + m, maxEdits);
+        int offset = n + m + 1;
+        int[] v = new int[2 * (n + m) + 3];
+        List<int[]> trace = new ArrayList<>();
+        int found = -1;
+        search:
+        for (int d = 0; d <= max; d++) {
+            int[] snapshot = new int[2 * d + 3];
+            System.arraycopy(v, offset - d - 1, snapshot, 0, snapshot.length);
+            trace.add(snapshot);
+            for (int k = -d; k <= d; k += 2) {
+                int x = (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1]))
+                        ? v[offset + k + 1]
+                        : v[offset + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a[aFrom + x].equals(b[bFrom + y])) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    found = d;
+                    break search;
+                }
+            }
+        }
+        if (found < 0) {
+            builder.add(Op.DELETE, aFrom, bFrom, n);
+            builder.add(Op.INSERT, aFrom + n, bFrom, m);
+            return;
+        }
+
+        // [2] 역추적 (뒤에서부터 → 뒤집어서 추가)
+        List<Edit> reversed = new ArrayList<>();
+        int x = n;
+        int y = m;
+        for (int d = found; d > 0; d--) {
+            int[] prev = trace.get(d);
+            int k = x - y;
+            boolean down = k == -d || (k != d && prev[k - 1 + d + 1] < prev[k + 1 + d + 1]);
+            int prevK = down ? k + 1 : k - 1;
+            int prevX = prev[prevK + d + 1];
+            int prevY = prevX - prevK;
+            int snake = Math.min(x - (down ? prevX : prevX + 1), y - (down ? prevY + 1 : prevY));
+            if (snake > 0) reversed.add(new Edit(Op.EQUAL, aFrom + x - snake, bFrom + y - snake, snake));
+            if (down) reversed.add(new Edit(Op.INSERT, aFrom + prevX, bFrom + prevY, 1));
+            else reversed.add(new Edit(Op.DELETE, aFrom + prevX, bFrom + prevY, 1));
+            x = prevX;
+            y = prevY;
+        }
+        if (x > 0) reversed.add(new Edit(Op.EQUAL, aFrom, bFrom, x));
+        for (int i = reversed.size() - 1; i >= 0; i--) {
+            Edit e = reversed.get(i);
+            builder.add(e.op(), e.aStart(), e.bStart(), e.count());
+        }
+    } // func end
+
+    /**
+     * 같은 종류의 인접 구간 병합
+     * */
+    private static final class Builder {
+
+        private final List<Edit> edits = new ArrayList<>();
+
+        void add(Op op, int aStart, int bStart, int count) {
+            if (count == 0) return;
+            if (!edits.isEmpty()) {
+                Edit last = edits.get(edits.size() - 1);
+                if (last.op() == op) {
+                    edits.set(edits.size() - 1, new Edit(op, last.aStart(), last.bStart(), last.count() + count));
+                    return;
+                }
+            }
+            edits.add(new Edit(op, aStart, bStart, count));
+        } // func end
+
+    } // class end
+
+} // class end
@@ -0,0 +1,156 @@
+package com.wework.document.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 문서 버전 본문 인코딩 (전체 스냅샷 / 줄 단위 델타, Deflate 압축)
+ *
+ * <p>스냅샷 : deflate(UTF-8 본문)
+ * <p>델타   : deflate(이전 버전 → 새 버전 편집 명령)
+ * <ul>
+ *   <li>header : 새 버전 줄 수(varint)</li>
+ *   <li>COPY   : 0, 이전 버전 시작 줄(varint), 줄 수(varint)</li>
+ *   <li>INSERT : 1, 줄 수(varint), 각 줄 (UTF-8 길이(varint) + 바이트)</li>
+ * </ul>
+ * 삭제된 줄은 COPY 에서 빠지는 것으로 표현한다.
+ * */
+public final class RevisionCodec {
+
+    private static final int OP_COPY = 0;
+    private static final int OP_INSERT = 1;
+
+    private RevisionCodec() { }
+
+    /**
+     * 전체 스냅샷 인코딩
+     * */
+    public static byte[] encodeSnapshot(String content) {
+        return deflate(text(content).getBytes(StandardCharsets.UTF_8));
+    } // func end
+
+    public static String decodeSnapshot(byte[] payload) {
+        return new String(inflate(payload), StandardCharsets.UTF_8);
+    } // func end
+
+    /**
+     * base → target 델타 인코딩
+     * */
+    public static byte[] encodeDelta(String base, String target) {
+        String[] a = LineDiff.lines(base);
+        String[] b = LineDiff.lines(target);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeVarInt(out, b.length);
+            for (LineDiff.Edit edit : LineDiff.diff(a, b)) {
+                switch (edit.op()) {
+                    case EQUAL -> {
+                        out.writeByte(OP_COPY);
+                        writeVarInt(out, edit.aStart());
+                        writeVarInt(out, edit.count());
+                    }
+                    case INSERT -> {
+                        out.writeByte(OP_INSERT);
+                        writeVarInt(out, edit.count());
+                        for (int i = 0; i < edit.count(); i++) {
+                            byte[] line = b[edit.bStart() + i].getBytes(StandardCharsets.UTF_8);
+                            writeVarInt(out, line.length);
+                            out.write(line);
+                        }
+                    }
+                    case DELETE -> { }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return deflate(bytes.toByteArray());
+    } // func end
+
+    /**
+     * base 에 델타 적용 → 새 버전 본문
+     * */
+    public static String applyDelta(String base, byte[] payload) {
+        String[] a = LineDiff.lines(base);
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(inflate(payload)))) {
+            String[] b = new String[readVarInt(in)];
+            int pos = 0;
+            while (pos < b.length) {
+                int op = in.readUnsignedByte();
+                if (op == OP_COPY) {
+                    int start = readVarInt(in);
+                    int count = readVarInt(in);
+                    System.arraycopy(a, start, b, pos, count);
+                    pos += count;
+                } else if (op == OP_INSERT) {
+                    int count = readVarInt(in);
+                    for (int i = 0; i < count; i++) {
+                        byte[] line = new byte[readVarInt(in)];
+                        in.readFully(line);
+                        b[pos++] = new String(line, StandardCharsets.UTF_8);
+                    }
+                } else {
+                    throw new IllegalStateException("Corrupted revision delta : op=" + op);
+                }
+            }
+            return String.join("\n", b);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    } // func end
+
+    /**
+     * 압축 전 본문 크기 (저장 효율 집계용)
+     * */
+    public static int rawSize(String content) {
+        return text(content).getBytes(StandardCharsets.UTF_8).length;
+    } // func end
+
+    private static String text(String content) {
+        return content == null ? "" : content;
+    } // func end
+
+    private static byte[] deflate(byte[] data) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(32, data.length / 4));
+        try (DeflaterOutputStream out = new DeflaterOutputStream(bytes)) {
+            out.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    } // func end
+
+    private static byte[] inflate(byte[] data) {
+        try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(data))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    } // func end
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    } // func end
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IllegalStateException("Corrupted revision delta : varint");
+    } // func end
+
+} // class end
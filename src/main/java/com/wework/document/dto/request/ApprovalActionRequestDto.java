@@ -0,0 +1,13 @@
+package com.wework.document.dto.request;
+
+import jakarta.validation.constraints.Size;
+
+/**
+ * [DOCUMENT_005~006] 승인/반려 요청
+ * */
+public record ApprovalActionRequestDto(
+        @Size(max = 500)
+        String comment,         // 결재 의견
+
+        Long version            // 화면에서 본 문서 버전 (있으면 다를 때 409)
+) { } // record end
@@ -0,0 +1,23 @@
+package com.wework.document.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * [DOCUMENT_001~002] 결재 문서 작성/수정 요청 (임시저장)
+ * */
+public record DocumentSaveRequestDto(
+        @NotBlank(message = "제목은 필수입니다.")
+        @Size(max = 200)
+        String title,                       // 제목
+
+        String content,                     // 본문
+
+        @NotEmpty(message = "결재선은 1명 이상이어야 합니다.")
+        @Size(max = 10, message = "결재선은 최대 10명입니다.")
+        List<@NotNull Long> approverEmpIds  // 결재자 사번 (결재 순서대로)
+) { } // record end
@@ -0,0 +1,22 @@
+package com.wework.document.dto.response;
+
+import com.wework.document.entity.ApprovalLineEntity;
+import com.wework.document.entity.ApprovalStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결재선 1단계
+ * */
+public record ApprovalLineResponseDto(
+        int stepNo,                 // 결재 순서
+        long approverEmpId,         // 결재자 사번
+        ApprovalStatus status,      // 단계 상태
+        String comment,             // 결재 의견
+        LocalDateTime actedAt       // 승인/반려 일시
+) {
+    public static ApprovalLineResponseDto from(ApprovalLineEntity line) {
+        return new ApprovalLineResponseDto(line.getStepNo(), line.getApproverEmpId(), line.getStatus(),
+                line.getComment(), line.getActedAt());
+    } // func end
+} // record end
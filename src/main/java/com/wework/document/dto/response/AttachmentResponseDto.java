@@ -0,0 +1,23 @@
+package com.wework.document.dto.response;
+
+import com.wework.document.entity.DocumentAttachmentEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * [DOCUMENT_012~013] 첨부파일 정보
+ * */
+public record AttachmentResponseDto(
+        long attachId,              // 첨부ID
+        String fileName,            // 파일명
+        String contentType,         // MIME 타입
+        long sizeBytes,             // 크기
+        String sha256,              // 내용 해시 (다운로드 ETag)
+        LocalDateTime createdAt     // 업로드일
+) {
+    public static AttachmentResponseDto from(DocumentAttachmentEntity attachment) {
+        return new AttachmentResponseDto(attachment.getAttachId(), attachment.getFileName(),
+                attachment.getContentType(), attachment.getSizeBytes(), attachment.getSha256(),
+                attachment.getCreatedAt());
+    } // func end
+} // record end
@@ -0,0 +1,31 @@
+package com.wework.document.dto.response;
+
+import com.wework.document.entity.ApprovalLineEntity;
+import com.wework.document.entity.DocumentEntity;
+import com.wework.document.entity.DocumentStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * [DOCUMENT_008] 결재 문서 상세
+ * */
+public record DocumentDetailResponseDto(
+        long docId,                             // 문서ID
+        String title,                           // 제목
+        String content,                         // 본문
+        long drafterEmpId,                      // 기안자 사번
+        DocumentStatus status,                  // 문서 상태
+        int currentStep,                        // 진행 중인 결재 단계
+        long version,                           // 문서 버전 (승인/반려 요청 시 전달)
+        LocalDateTime submittedAt,              // 상신일
+        LocalDateTime completedAt,              // 결재 완료일
+        List<ApprovalLineResponseDto> lines     // 결재선
+) {
+    public static DocumentDetailResponseDto of(DocumentEntity doc, List<ApprovalLineEntity> lines) {
+        return new DocumentDetailResponseDto(doc.getDocId(), doc.getTitle(), doc.getContent(),
+                doc.getDrafterEmpId(), doc.getStatus(), doc.getCurrentStep(), doc.getVersion(),
+                doc.getSubmittedAt(), doc.getCompletedAt(),
+                lines.stream().map(ApprovalLineResponseDto::from).toList());
+    } // func end
+} // record end
@@ -0,0 +1,24 @@
+package com.wework.document.dto.response;
+
+import java.util.List;
+
+/**
+ * [DOCUMENT_020] 두 버전 비교 (줄 단위)
+ * */
+public record DocumentDiffResponseDto(
+        long docId,                 // 문서ID
+        int fromRevNo,              // 이전 버전
+        int toRevNo,                // 이후 버전
+        String fromTitle,           // 이전 제목
+        String toTitle,             // 이후 제목
+        int addedLines,             // 추가된 줄 수
+        int deletedLines,           // 삭제된 줄 수
+        List<Hunk> hunks            // 편집 구간 (EQUAL / DELETE / INSERT)
+) {
+    public record Hunk(
+            String op,              // EQUAL / DELETE / INSERT
+            int fromLine,           // 이전 버전 시작 줄 (1부터)
+            int toLine,             // 이후 버전 시작 줄 (1부터)
+            List<String> lines      // 해당 줄 (EQUAL 은 이후 버전 기준)
+    ) { } // record end
+} // record end
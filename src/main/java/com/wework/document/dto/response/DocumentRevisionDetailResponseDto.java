@@ -0,0 +1,15 @@
+package com.wework.document.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * [DOCUMENT_019] 특정 버전 본문
+ * */
+public record DocumentRevisionDetailResponseDto(
+        long docId,                 // 문서ID
+        int revNo,                  // 버전 번호
+        String title,               // 제목
+        String content,             // 본문
+        long createdBy,             // 작성자 사번
+        LocalDateTime createdAt     // 저장일
+) { } // record end
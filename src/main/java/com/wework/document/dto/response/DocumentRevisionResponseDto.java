@@ -0,0 +1,23 @@
+package com.wework.document.dto.response;
+
+import com.wework.document.mapper.DocumentRevisionRow;
+
+import java.time.LocalDateTime;
+
+/**
+ * [DOCUMENT_018] 문서 버전 목록 1건
+ * */
+public record DocumentRevisionResponseDto(
+        int revNo,                  // 버전 번호
+        String kind,                // 저장 방식 (SNAPSHOT / DELTA)
+        String title,               // 제목
+        int rawSize,                // 본문 크기
+        int storedSize,             // 저장 크기
+        long createdBy,             // 작성자 사번
+        LocalDateTime createdAt     // 저장일
+) {
+    public static DocumentRevisionResponseDto from(DocumentRevisionRow row) {
+        return new DocumentRevisionResponseDto(row.getRevNo(), row.getKind(), row.getTitle(), row.getRawSize(),
+                row.getStoredSize(), row.getCreatedBy(), row.getCreatedAt());
+    } // func end
+} // record end
@@ -0,0 +1,20 @@
+package com.wework.document.dto.response;
+
+import java.util.List;
+
+/**
+ * [DOCUMENT_016] 문서 검색 결과
+ * */
+public record DocumentSearchResponseDto(
+        long total,             // 권한 범위 내 전체 일치 건수
+        List<Hit> hits          // 현재 페이지 (관련도순)
+) {
+    public record Hit(
+            long docId,             // 문서ID
+            String title,           // 제목
+            String status,          // 문서 상태
+            long drafterEmpId,      // 기안자 사번
+            String drafterName,     // 기안자 이름
+            float score             // 관련도 점수
+    ) { } // record end
+} // record end
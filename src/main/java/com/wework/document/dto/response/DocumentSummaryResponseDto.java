@@ -0,0 +1,24 @@
+package com.wework.document.dto.response;
+
+import com.wework.document.entity.DocumentEntity;
+import com.wework.document.entity.DocumentStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결재 문서 목록 1건
+ * */
+public record DocumentSummaryResponseDto(
+        long docId,                 // 문서ID
+        String title,               // 제목
+        long drafterEmpId,          // 기안자 사번
+        DocumentStatus status,      // 문서 상태
+        int currentStep,            // 진행 중인 결재 단계
+        LocalDateTime submittedAt,  // 상신일
+        LocalDateTime updatedAt     // 수정일
+) {
+    public static DocumentSummaryResponseDto from(DocumentEntity doc) {
+        return new DocumentSummaryResponseDto(doc.getDocId(), doc.getTitle(), doc.getDrafterEmpId(),
+                doc.getStatus(), doc.getCurrentStep(), doc.getSubmittedAt(), doc.getUpdatedAt());
+    } // func end
+} // record end
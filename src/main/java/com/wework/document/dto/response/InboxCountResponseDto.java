@@ -0,0 +1,9 @@
+package com.wework.document.dto.response;
+
+/**
+ * [DOCUMENT_010] 결재함 건수
+ * */
+public record InboxCountResponseDto(
+        long pending,       // 결재 대기
+        long unread         // 결재 대기 중 미열람
+) { } // record end
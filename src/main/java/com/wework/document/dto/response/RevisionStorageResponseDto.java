@@ -0,0 +1,24 @@
+package com.wework.document.dto.response;
+
+import com.wework.document.mapper.RevisionStorageRow;
+
+/**
+ * [DOCUMENT_021] 버전 저장 효율
+ * */
+public record RevisionStorageResponseDto(
+        long documents,             // 버전이 있는 문서 수
+        long revisions,             // 전체 버전 수
+        long snapshots,             // 스냅샷 수
+        long deltas,                // 델타 수
+        long rawBytes,              // 모든 버전을 전체 본문으로 저장했을 때 크기
+        long storedBytes,           // 실제 저장 크기
+        double storedRatio,         // storedBytes / rawBytes
+        int snapshotInterval        // 스냅샷 주기 (복원 시 최대 조회 행 수)
+) {
+    public static RevisionStorageResponseDto of(RevisionStorageRow row, int snapshotInterval) {
+        double ratio = row.getRawBytes() == 0 ? 0 : (double) row.getStoredBytes() / row.getRawBytes();
+        return new RevisionStorageResponseDto(row.getDocuments(), row.getRevisions(), row.getSnapshots(),
+                row.getRevisions() - row.getSnapshots(), row.getRawBytes(), row.getStoredBytes(),
+                Math.round(ratio * 10000) / 10000.0, snapshotInterval);
+    } // func end
+} // record end
@@ -0,0 +1,51 @@
+package com.wework.document.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@Table(name = "approval_line")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Setter
+public class ApprovalLineEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "line_id")
+    private Long lineId;                    // 결재선ID(PK)
+
+    @Column(name = "doc_id", nullable = false)
+    private long docId;                     // 문서ID(FK)
+
+    @Column(name = "step_no", nullable = false)
+    private int stepNo;                     // 결재 순서 (1부터)
+
+    @Column(name = "approver_emp_id", nullable = false)
+    private long approverEmpId;             // 결재자 사번(FK)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ApprovalStatus status;          // 단계 상태
+
+    @Column(length = 500)
+    private String comment;                 // 결재 의견
+
+    @Column(name = "acted_at")
+    private LocalDateTime actedAt;          // 승인/반려 일시
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;        // 생성일
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;        // 수정일
+
+} // class end
@@ -0,0 +1,12 @@
+package com.wework.document.entity;
+
+/**
+ * 결재 단계 상태
+ * - WAITING → PENDING → APPROVED / REJECTED
+ * */
+public enum ApprovalStatus {
+    WAITING,        // 이전 단계 대기
+    PENDING,        // 결재 차례
+    APPROVED,       // 승인
+    REJECTED        // 반려
+} // enum end
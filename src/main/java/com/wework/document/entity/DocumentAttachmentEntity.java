@@ -0,0 +1,45 @@
+package com.wework.document.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@Table(name = "document_attachment")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Setter
+public class DocumentAttachmentEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "attach_id")
+    private Long attachId;                  // 첨부ID(PK)
+
+    @Column(name = "doc_id", nullable = false)
+    private long docId;                     // 문서ID(FK)
+
+    @Column(nullable = false, length = 64)
+    private String sha256;                  // 내용 해시(FK → attachment_blob)
+
+    @Column(name = "file_name", nullable = false, length = 255)
+    private String fileName;                // 원본 파일명
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;             // MIME 타입
+
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;                 // 크기
+
+    @Column(name = "uploaded_by", nullable = false)
+    private long uploadedBy;                // 업로더 사번
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;        // 업로드일
+
+} // class end
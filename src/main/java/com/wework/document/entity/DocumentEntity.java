@@ -0,0 +1,58 @@
+package com.wework.document.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@Table(name = "document")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Setter
+public class DocumentEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "doc_id")
+    private Long docId;                     // 문서ID(PK)
+
+    @Column(name = "drafter_emp_id", nullable = false)
+    private long drafterEmpId;              // 기안자 사번(FK)
+
+    @Column(nullable = false, length = 200)
+    private String title;                   // 제목
+
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String content;                 // 본문
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DocumentStatus status;          // 문서 상태
+
+    @Column(name = "current_step", nullable = false)
+    private int currentStep;                // 진행 중인 결재 단계 (0: 상신 전)
+
+    @Version
+    @Column(nullable = false)
+    private long version;                   // 낙관적 잠금 버전
+
+    @Column(name = "submitted_at")
+    private LocalDateTime submittedAt;      // 상신일
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;      // 결재 완료일 (승인/반려)
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;        // 생성일
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;        // 수정일
+
+} // class end
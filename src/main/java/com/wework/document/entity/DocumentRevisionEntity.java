@@ -0,0 +1,52 @@
+package com.wework.document.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@Table(name = "document_revision")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Setter
+public class DocumentRevisionEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "revision_id")
+    private Long revisionId;                // 버전ID(PK)
+
+    @Column(name = "doc_id", nullable = false)
+    private long docId;                     // 문서ID(FK)
+
+    @Column(name = "rev_no", nullable = false)
+    private int revNo;                      // 문서별 버전 번호 (1부터)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RevisionKind kind;              // SNAPSHOT / DELTA
+
+    @Column(nullable = false, length = 200)
+    private String title;                   // 제목
+
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] payload;                 // 압축된 본문 / 델타
+
+    @Column(name = "raw_size", nullable = false)
+    private int rawSize;                    // 압축 전 본문 크기
+
+    @Column(name = "stored_size", nullable = false)
+    private int storedSize;                 // payload 크기
+
+    @Column(name = "created_by", nullable = false)
+    private long createdBy;                 // 작성자 사번
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;        // 저장일
+
+} // class end
@@ -0,0 +1,12 @@
+package com.wework.document.entity;
+
+/**
+ * 결재 문서 상태
+ * - DRAFT → SUBMITTED → APPROVED / REJECTED
+ * */
+public enum DocumentStatus {
+    DRAFT,          // 임시저장 (수정/삭제 가능)
+    SUBMITTED,      // 상신 (결재 진행 중)
+    APPROVED,       // 최종 승인
+    REJECTED        // 반려
+} // enum end
@@ -0,0 +1,9 @@
+package com.wework.document.entity;
+
+/**
+ * 문서 버전 저장 방식
+ * */
+public enum RevisionKind {
+    SNAPSHOT,       // 전체 본문
+    DELTA           // 직전 버전 대비 편집
+} // enum end
@@ -0,0 +1,15 @@
+package com.wework.document.event;
+
+import java.util.List;
+
+/**
+ * 결재 차례 변경 (상신 / 승인 / 반려 트랜잭션 안에서 발행, 커밋 후 결재함 인덱스 반영)
+ *
+ * @param docId            문서ID
+ * @param version          변경 후 문서 버전 (인덱스 반영 순서 보장용)
+ * @param approverEmpIds   결재선 전체 결재자 (단계순)
+ * @param pendingEmpId     현재 결재 차례 (완료되었으면 null)
+ * @param pendingSince     결재 차례가 된 시각 (epochMillis)
+ * */
+public record ApprovalInboxChangedEvent(long docId, long version, List<Long> approverEmpIds,
+                                        Long pendingEmpId, long pendingSince) { } // record end
@@ -0,0 +1,6 @@
+package com.wework.document.event;
+
+/**
+ * 결재 문서 변경 (작성 / 수정 / 삭제 / 상태 전이, 커밋 후 검색 색인 반영)
+ * */
+public record DocumentChangedEvent(long docId) { } // record end
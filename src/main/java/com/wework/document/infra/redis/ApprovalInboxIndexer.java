@@ -0,0 +1,37 @@
+package com.wework.document.infra.redis;
+
+import com.wework.document.event.ApprovalInboxChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 결재 차례 변경 → 결재함 인덱스 반영 (커밋 후)
+ *
+ * <p>롤백된 변경(낙관적 잠금 충돌 등)은 인덱스에 반영되지 않는다.
+ * <p>이미 커밋된 요청이 Redis 오류로 실패하지 않도록 예외는 로그만 남기며,
+ * 어긋난 결재함은 관리자 재구성(DOCUMENT_011)으로 복구한다.
+ * */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class ApprovalInboxIndexer {
+
+    private final ApprovalInboxStore approvalInboxStore;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onChanged(ApprovalInboxChangedEvent event) {
+        try {
+            boolean applied = approvalInboxStore.apply(event.docId(), event.version(),
+                    event.approverEmpIds(), event.pendingEmpId(), event.pendingSince());
+            if (!applied) {
+                log.debug("[DOCUMENT] stale inbox event skipped. docId={} version={}", event.docId(), event.version());
+            }
+        } catch (RuntimeException e) {
+            log.error("[DOCUMENT] inbox index update failed. docId={} version={}", event.docId(), event.version(), e);
+        }
+    } // func end
+
+} // class end
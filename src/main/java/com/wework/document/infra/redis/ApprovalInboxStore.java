@@ -0,0 +1,281 @@
+package com.wework.document.infra.redis;
+
+import com.wework.auth.infra.redis.RedisCircuitBreaker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 결재자별 결재함 인덱스 Redis 저장소
+ *
+ * <p>
+ * Redis Key Naming Rule (<code>{empId}</code> 는 Redis Cluster hash tag – 결재자 1명의 키는 같은 slot):
+ * <ul>
+ *     <li><code>approval:{<empId>}:inbox</code> – 결재 대기 문서 (ZSet, member: docId / score: 결재 차례가 된 시각)</li>
+ *     <li><code>approval:{<empId>}:unread</code> – 결재 대기 중 아직 열어보지 않은 문서 (Set)</li>
+ *     <li><code>approval:{<empId>}:docver:<docId></code> – 이 결재자 인덱스에 마지막으로 반영한 문서 버전</li>
+ *     <li><code>approval:{<empId>}:built</code> – DB 기준으로 한 번 이상 재구성됨 (없으면 첫 조회 때 재구성)</li>
+ *     <li><code>approval:{<empId>}:rebuild</code> – 재구성 진행 중 표시 (값: 재구성 토큰, TTL)</li>
+ *     <li><code>approval:{<empId>}:dirty</code> – 재구성 진행 중 반영된 문서 (Set)</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 결재 대기 건수 / 미열람 건수는 ZCARD / SCARD 로 O(1) 조회한다.
+ * 인덱스 반영은 "문서 버전 V 기준 이 결재자가 결재 차례인가" 를 결재자마다 Lua 1회로 적용하므로,
+ * 커밋 후 이벤트가 뒤바뀐 순서로 도착해도(동시 승인) 결재자별로 낮은 버전은 무시되어 최종 상태가 DB 와 같다.
+ * 결재자 사이에는 원자적이지 않으므로 중간에 실패하면 일부 결재자만 반영될 수 있다 (관리자 재구성 DOCUMENT_011 로 복구).
+ * </p>
+ *
+ * <p>재구성 ({@link #beginRebuild} → DB 조회 → {@link #rebuild})</p>
+ * <P>1) 재구성 토큰을 기록하고 dirty 를 비운다. 이후 반영되는 문서는 dirty 에 남는다</P>
+ * <P>2) DB 에서 결재 대기 문서 + 문서 버전을 읽는다</P>
+ * <P>3) Lua 1회로 교체 : dirty 문서는 실시간 반영 결과를 유지하고, 나머지는 DB 기준으로 맞추며 docver 도 함께 기록</P>
+ * <p>DB 조회와 교체 사이에 들어온 결재 차례 변경이 재구성으로 사라지거나 되돌아가지 않는다.
+ * 토큰이 바뀌었으면(동시 재구성 / 토큰 만료) 교체하지 않는다.
+ *
+ * <p>이전 형식(<code>approval:inbox:<empId></code> / <code>approval:unread:<empId></code>)은 결재자별 첫 재구성 때
+ * 미열람 표시를 옮긴 뒤 삭제한다. 이전 <code>approval:docver:<docId></code> 는 TTL 로 사라진다.
+ *
+ * <p>모든 명령은 {@link RedisCircuitBreaker} 를 거친다. Redis 장애 시 타임아웃을 기다리지 않고
+ * ServiceUnavailableException 으로 바로 실패하며, 호출하는 쪽에서 DB 조회로 대체하거나 로그만 남긴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApprovalInboxStore {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisCircuitBreaker breaker;
+
+    // 이전 형식 (hash tag 없음)
+    private static final String LEGACY_INBOX = "approval:inbox:";      // approval:inbox:{empId}
+    private static final String LEGACY_UNREAD = "approval:unread:";    // approval:unread:{empId}
+
+    private static final long DOCVER_TTL_SECONDS = 90L * 24 * 60 * 60;  // 문서 버전 보관 (90일)
+    private static final long REBUILD_TTL_SECONDS = 60;                 // 재구성 토큰 유효 시간 (DB 조회 최대 시간)
+
+    /**
+     * 결재 차례 반영 스크립트 (결재자 1명)
+     * - KEYS[1] docver / KEYS[2] inbox / KEYS[3] unread / KEYS[4] rebuild / KEYS[5] dirty
+     * - ARGV[1] 버전 / ARGV[2] docId / ARGV[3] 결재 차례 여부(1/0) / ARGV[4] score / ARGV[5] docver TTL
+     * - 반환 : 1 반영 / 0 이미 더 높은 버전 반영됨
+     */
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>("""
+            local applied = tonumber(redis.call('GET', KEYS[1]) or '-1')
+            if tonumber(ARGV[1]) <= applied then
+              return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[5])
+            if ARGV[3] == '1' then
+              redis.call('ZADD', KEYS[2], ARGV[4], ARGV[2])
+              redis.call('SADD', KEYS[3], ARGV[2])
+            else
+              redis.call('ZREM', KEYS[2], ARGV[2])
+              redis.call('SREM', KEYS[3], ARGV[2])
+            end
+            if redis.call('EXISTS', KEYS[4]) == 1 then
+              redis.call('SADD', KEYS[5], ARGV[2])
+            end
+            return 1
+            """, Long.class);
+
+    /**
+     * 재구성 시작 스크립트
+     * - KEYS[1] rebuild / KEYS[2] dirty
+     * - ARGV[1] 토큰 / ARGV[2] TTL
+     */
+    private static final RedisScript<Long> BEGIN_REBUILD_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[2])
+            redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    /**
+     * 재구성 교체 스크립트
+     * - KEYS[1] inbox / KEYS[2] unread / KEYS[3] rebuild / KEYS[4] dirty / KEYS[5] built
+     * - ARGV[1] 토큰 / ARGV[2] docver TTL / ARGV[3] docver 키 접두어 (같은 hash tag)
+     *   ARGV[4] 결재 대기 문서 수 n / 이후 n 개의 (docId, score, 버전) / 나머지 : 이전 형식 미열람 docId
+     * - 반환 : 1 교체 / 0 토큰 불일치 (다른 재구성이 시작됨 / 토큰 만료)
+     */
+    private static final RedisScript<Long> REBUILD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[3]) ~= ARGV[1] then
+              return 0
+            end
+            local dirty = {}
+            for _, id in ipairs(redis.call('SMEMBERS', KEYS[4])) do dirty[id] = true end
+            local n = tonumber(ARGV[4])
+            local snapshot = {}
+            for i = 0, n - 1 do snapshot[ARGV[5 + i * 3]] = true end
+            local unread = {}
+            for _, id in ipairs(redis.call('SMEMBERS', KEYS[2])) do unread[id] = true end
+            for i = 5 + n * 3, #ARGV do unread[ARGV[i]] = true end
+
+            -- DB 기준 결재 대기가 아닌 문서 제거 (재구성 중 반영된 문서는 유지)
+            for _, id in ipairs(redis.call('ZRANGE', KEYS[1], 0, -1)) do
+              if not dirty[id] and not snapshot[id] then redis.call('ZREM', KEYS[1], id) end
+            end
+            for id in pairs(unread) do
+              if not dirty[id] and not snapshot[id] then redis.call('SREM', KEYS[2], id) end
+            end
+            -- DB 기준 결재 대기 문서 (이미 더 높은 버전이 반영된 문서는 유지)
+            for i = 0, n - 1 do
+              local id = ARGV[5 + i * 3]
+              if not dirty[id] then
+                local docver = ARGV[3] .. id
+                local version = tonumber(ARGV[7 + i * 3])
+                if version >= tonumber(redis.call('GET', docver) or '-1') then
+                  redis.call('ZADD', KEYS[1], ARGV[6 + i * 3], id)
+                  if unread[id] then redis.call('SADD', KEYS[2], id) end
+                  redis.call('SET', docver, ARGV[7 + i * 3], 'EX', ARGV[2])
+                end
+              end
+            end
+            redis.call('DEL', KEYS[3], KEYS[4])
+            redis.call('SET', KEYS[5], '1')
+            return 1
+            """, Long.class);
+
+    /**
+     * 재구성 대상 결재 대기 문서 1건
+     * @param since   결재 차례가 된 시각 (epochMillis, 정렬 기준)
+     * @param version DB 에서 읽은 문서 버전
+     * */
+    public record PendingDoc(long docId, long since, long version) { } // record end
+
+    /* =========================================================
+     *  Key 생성
+     * ========================================================= */
+
+    private static String inboxKey(long empId) {
+        return "approval:{" + empId + "}:inbox";
+    } // func end
+
+    private static String unreadKey(long empId) {
+        return "approval:{" + empId + "}:unread";
+    } // func end
+
+    private static String docverKey(long empId, long docId) {
+        return "approval:{" + empId + "}:docver:" + docId;
+    } // func end
+
+    private static String builtKey(long empId) {
+        return "approval:{" + empId + "}:built";
+    } // func end
+
+    private static String rebuildKey(long empId) {
+        return "approval:{" + empId + "}:rebuild";
+    } // func end
+
+    private static String dirtyKey(long empId) {
+        return "approval:{" + empId + "}:dirty";
+    } // func end
+
+    /**
+     * 결재 차례 반영
+     * @param approverEmpIds 결재선 전체 결재자 (단계순)
+     * @param pendingEmpId   현재 결재 차례 (없으면 null)
+     * @return 반영 여부 (false : 모든 결재자에 더 최신 버전이 이미 반영됨)
+     * */
+    public boolean apply(long docId, long version, List<Long> approverEmpIds, Long pendingEmpId, long pendingSince) {
+        boolean applied = false;
+        for (long empId : new LinkedHashSet<>(approverEmpIds)) {
+            List<String> keys = List.of(docverKey(empId, docId), inboxKey(empId), unreadKey(empId),
+                    rebuildKey(empId), dirtyKey(empId));
+            Object[] args = {String.valueOf(version), String.valueOf(docId),
+                    pendingEmpId != null && pendingEmpId == empId ? "1" : "0",
+                    String.valueOf(pendingSince), String.valueOf(DOCVER_TTL_SECONDS)};
+            Long result = breaker.call(() -> stringRedisTemplate.execute(APPLY_SCRIPT, keys, args));
+            if (result != null && result == 1L) applied = true;
+        }
+        return applied;
+    } // func end
+
+    /**
+     * DB 기준 재구성 여부 (false 면 호출하는 쪽에서 {@link #rebuild} 후 조회)
+     * */
+    public boolean isBuilt(long empId) {
+        return Boolean.TRUE.equals(breaker.call(() -> stringRedisTemplate.hasKey(builtKey(empId))));
+    } // func end
+
+    /**
+     * 결재 대기 문서 (결재 차례가 된 순서, offset 부터 limit 건)
+     * */
+    public List<Long> range(long empId, long offset, long limit) {
+        Set<String> members = breaker.call(() -> stringRedisTemplate.opsForZSet().range(inboxKey(empId), offset, offset + limit - 1));
+        if (members == null) return List.of();
+        return members.stream().map(Long::valueOf).toList();
+    } // func end
+
+    public long pendingCount(long empId) {
+        Long count = breaker.call(() -> stringRedisTemplate.opsForZSet().zCard(inboxKey(empId)));
+        return count == null ? 0 : count;
+    } // func end
+
+    public long unreadCount(long empId) {
+        Long count = breaker.call(() -> stringRedisTemplate.opsForSet().size(unreadKey(empId)));
+        return count == null ? 0 : count;
+    } // func end
+
+    /**
+     * 열람 처리 (미열람 목록에서 제거)
+     * */
+    public void markRead(long empId, long docId) {
+        breaker.run(() -> {
+            stringRedisTemplate.opsForSet().remove(unreadKey(empId), String.valueOf(docId));
+            // 아직 재구성 전이면 이전 형식 미열람이 재구성 때 되살아나지 않도록 함께 제거
+            stringRedisTemplate.opsForSet().remove(LEGACY_UNREAD + empId, String.valueOf(docId));
+        });
+    } // func end
+
+    /**
+     * 재구성 시작 (DB 조회 전에 호출)
+     * @return 재구성 토큰 ({@link #rebuild} 에 전달)
+     * */
+    public String beginRebuild(long empId) {
+        String token = UUID.randomUUID().toString();
+        breaker.call(() -> stringRedisTemplate.execute(BEGIN_REBUILD_SCRIPT,
+                List.of(rebuildKey(empId), dirtyKey(empId)), token, String.valueOf(REBUILD_TTL_SECONDS)));
+        return token;
+    } // func end
+
+    /**
+     * DB 기준 결재함 교체 ({@link #beginRebuild} 이후 읽은 DB 상태)
+     * - 미열람 표시는 기존 미열람이었던 문서만 유지 (이전 형식 미열람 포함, 교체 후 이전 형식 키는 삭제)
+     * @return 교체 여부 (false : 다른 재구성이 시작되었거나 토큰이 만료됨)
+     * */
+    public boolean rebuild(long empId, String token, List<PendingDoc> pending) {
+        Boolean swapped = breaker.call(() -> {
+            Set<String> legacyUnread = stringRedisTemplate.opsForSet().members(LEGACY_UNREAD + empId);
+            List<String> args = new ArrayList<>(4 + pending.size() * 3 + (legacyUnread == null ? 0 : legacyUnread.size()));
+            args.add(token);
+            args.add(String.valueOf(DOCVER_TTL_SECONDS));
+            args.add("approval:{" + empId + "}:docver:");
+            args.add(String.valueOf(pending.size()));
+            for (PendingDoc doc : pending) {
+                args.add(String.valueOf(doc.docId()));
+                args.add(String.valueOf(doc.since()));
+                args.add(String.valueOf(doc.version()));
+            }
+            if (legacyUnread != null) args.addAll(legacyUnread);
+
+            Long result = stringRedisTemplate.execute(REBUILD_SCRIPT, List.of(inboxKey(empId), unreadKey(empId),
+                    rebuildKey(empId), dirtyKey(empId), builtKey(empId)), args.toArray());
+            if (result == null || result != 1L) return false;
+
+            // 이전 형식 정리 (slot 이 달라 키마다 따로 삭제)
+            stringRedisTemplate.delete(LEGACY_INBOX + empId);
+            stringRedisTemplate.delete(LEGACY_UNREAD + empId);
+            return true;
+        });
+        return Boolean.TRUE.equals(swapped);
+    } // func end
+
+} // class end
@@ -0,0 +1,125 @@
+package com.wework.document.infra.revision;
+
+import com.wework.document.core.RevisionCodec;
+import com.wework.document.entity.DocumentRevisionEntity;
+import com.wework.document.entity.RevisionKind;
+import com.wework.document.mapper.DocumentRevisionMapper;
+import com.wework.document.repository.DocumentRevisionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 문서 본문 버전 저장소 (주기적 스냅샷 + 압축 델타)
+ *
+ * <p>저장</p>
+ * <P>1) 버전 번호 = 최신 + 1</P>
+ * <P>2) (rev - 1) % snapshotInterval == 0 이면 전체 스냅샷</P>
+ * <P>3) 그 외에는 직전 본문(= 수정 전 document.content) 대비 줄 단위 델타, 델타가 스냅샷보다 크면 스냅샷</P>
+ *
+ * <p>복원 : rev 이하 가장 가까운 스냅샷 + 그 뒤 델타를 순서대로 적용 (최대 snapshotInterval 행 조회)
+ * <p>호출자 트랜잭션 안에서 문서 행 수정과 함께 저장된다. 같은 문서를 동시에 수정하면
+ * 문서 @Version 또는 UK(doc_id, rev_no) 에서 충돌하여 한쪽만 커밋된다.
+ * */
+@Component
+public class DocumentRevisionStore {
+
+    private final DocumentRevisionRepository documentRevisionRepository;
+    private final DocumentRevisionMapper documentRevisionMapper;
+    private final int snapshotInterval;
+
+    /**
+     * 복원된 버전
+     * */
+    public record Revision(int revNo, String title, String content, long createdBy, LocalDateTime createdAt) { }
+
+    public DocumentRevisionStore(DocumentRevisionRepository documentRevisionRepository,
+                                 DocumentRevisionMapper documentRevisionMapper,
+                                 @Value("${document.revision.snapshot-interval:10}") int snapshotInterval) {
+        this.documentRevisionRepository = documentRevisionRepository;
+        this.documentRevisionMapper = documentRevisionMapper;
+        this.snapshotInterval = Math.max(1, snapshotInterval);
+    } // func end
+
+    /**
+     * 새 버전 저장 (제목/본문이 직전과 같으면 저장하지 않음)
+     * @param previousTitle   수정 전 제목 (작성 시 null)
+     * @param previousContent 수정 전 본문 (작성 시 null)
+     * @return 저장된 버전 번호 (변경 없으면 최신 버전 번호)
+     * */
+    public int append(long docId, String previousTitle, String previousContent,
+                      String title, String content, long empId) {
+        // [1] 버전 번호
+        int latest = documentRevisionMapper.selectLatestRevNo(docId);
+        if (latest > 0 && Objects.equals(previousTitle, title)
+                && Objects.equals(text(previousContent), text(content))) {
+            return latest;
+        }
+        int revNo = latest + 1;
+
+        // [2] 스냅샷 / 델타 중 작은 쪽
+        RevisionKind kind = RevisionKind.SNAPSHOT;
+        byte[] payload = RevisionCodec.encodeSnapshot(content);
+        if (latest > 0 && (revNo - 1) % snapshotInterval != 0) {
+            byte[] delta = RevisionCodec.encodeDelta(previousContent, content);
+            if (delta.length < payload.length) {
+                kind = RevisionKind.DELTA;
+                payload = delta;
+            }
+        }
+
+        // [3] 저장
+        documentRevisionRepository.save(DocumentRevisionEntity.builder()
+                .docId(docId)
+                .revNo(revNo)
+                .kind(kind)
+                .title(title)
+                .payload(payload)
+                .rawSize(RevisionCodec.rawSize(content))
+                .storedSize(payload.length)
+                .createdBy(empId)
+                .build());
+        return revNo;
+    } // func end
+
+    /**
+     * 특정 버전 복원
+     * */
+    public Revision reconstruct(long docId, int revNo) {
+        // [1] 기준 스냅샷
+        DocumentRevisionEntity snapshot = documentRevisionRepository
+                .findTopByDocIdAndKindAndRevNoLessThanEqualOrderByRevNoDesc(docId, RevisionKind.SNAPSHOT, revNo)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 버전입니다."));
+        String content = RevisionCodec.decodeSnapshot(snapshot.getPayload());
+        DocumentRevisionEntity last = snapshot;
+
+        // [2] 델타 순서대로 적용 (기준 스냅샷 이후는 모두 DELTA)
+        if (snapshot.getRevNo() < revNo) {
+            List<DocumentRevisionEntity> deltas = documentRevisionRepository
+                    .findByDocIdAndRevNoBetweenOrderByRevNo(docId, snapshot.getRevNo() + 1, revNo);
+            for (DocumentRevisionEntity delta : deltas) {
+                if (delta.getRevNo() != last.getRevNo() + 1) {
+                    throw new IllegalStateException("버전 이력이 손상되었습니다. docId=" + docId + " rev=" + delta.getRevNo());
+                }
+                content = RevisionCodec.applyDelta(content, delta.getPayload());
+                last = delta;
+            }
+        }
+        if (last.getRevNo() != revNo) {
+            throw new IllegalArgumentException("존재하지 않는 버전입니다.");
+        }
+        return new Revision(revNo, last.getTitle(), content, last.getCreatedBy(), last.getCreatedAt());
+    } // func end
+
+    public int snapshotInterval() {
+        return snapshotInterval;
+    } // func end
+
+    private static String text(String content) {
+        return content == null ? "" : content;
+    } // func end
+
+} // class end
@@ -0,0 +1,344 @@
+package com.wework.document.infra.search;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * 결재 문서 전문 검색 색인 (Lucene, 로컬 디스크)
+ *
+ * <p>
+ * 디렉터리 구조:
+ * <ul>
+ *     <li><code>{root}/CURRENT</code> – 현재 사용 중인 세대 이름</li>
+ *     <li><code>{root}/gen-{millis}</code> – 색인 세대 (재구성할 때마다 새 세대 생성)</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 분석기 : 제목/본문은 Nori(한국어 형태소), 기안자 이름은 CJK bigram (이름 일부 검색).
+ * 변경은 IndexWriter 에 바로 반영하고, 검색은 SearcherManager 가 1초마다 갱신하는 NRT reader 로 수행한다.
+ * </p>
+ *
+ * <p>
+ * 재구성 : 새 세대에 전체 문서를 적재하는 동안 기존 세대가 검색/증분 반영을 계속 처리한다.
+ * 적재 중 변경된 문서는 기록해 두었다가 새 세대에 다시 반영한 뒤, 쓰기 잠금 안에서 세대를 교체한다.
+ * 이전 세대는 진행 중인 검색이 끝나도록 유예 후 닫고 삭제한다.
+ * </p>
+ */
+@Component
+@Log4j2
+public class DocumentSearchIndex {
+
+    public static final String F_ID = "docId";
+    public static final String F_TITLE = "title";
+    public static final String F_CONTENT = "content";
+    public static final String F_STATUS = "status";
+    public static final String F_DRAFTER = "drafterEmpId";
+    public static final String F_DRAFTER_NAME = "drafterName";
+    public static final String F_DEPT = "deptId";
+    public static final String F_APPROVER = "approverEmpId";
+    public static final String F_UPDATED = "updatedAt";
+
+    // 이전 세대 닫기 유예 (진행 중인 검색 종료 대기)
+    private static final long RETIRE_DELAY_SECONDS = 30;
+
+    private final Path root;
+    private final Analyzer analyzer;
+    private final AtomicReference<Generation> current = new AtomicReference<>();
+    // 증분 반영 ↔ 세대 교체 직렬화
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    // 재구성 중 변경된 문서 (재구성 중이 아니면 null)
+    private volatile Set<Long> changedDuringRebuild;
+    private final boolean createdEmpty;
+
+    /**
+     * 색인 세대 (디렉터리 + writer + NRT searcher)
+     * */
+    private record Generation(String name, Directory directory, IndexWriter writer, SearcherManager searcherManager) {
+
+        void close() {
+            try {
+                searcherManager.close();
+                writer.close();
+                directory.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        } // func end
+
+    } // record end
+
+    /**
+     * 검색 결과 1건
+     * */
+    public record Hit(long docId, String title, String status, long drafterEmpId, String drafterName, float score) { }
+
+    /**
+     * 검색 결과 (전체 건수 + 현재 페이지)
+     * */
+    public record Result(long totalHits, List<Hit> hits) { }
+
+    public DocumentSearchIndex(@Value("${search.index-dir:data/search-index}") String indexDir) throws IOException {
+        this.root = Files.createDirectories(Path.of(indexDir).toAbsolutePath());
+        this.analyzer = new PerFieldAnalyzerWrapper(new KoreanAnalyzer(), Map.of(F_DRAFTER_NAME, new CJKAnalyzer()));
+
+        // [1] 현재 세대 열기 (없으면 빈 세대 생성 → 재구성 필요)
+        Path currentFile = root.resolve("CURRENT");
+        String name = Files.exists(currentFile) ? Files.readString(currentFile, StandardCharsets.UTF_8).strip() : null;
+        boolean exists = name != null && DirectoryReader.indexExists(FSDirectory.open(root.resolve(name)));
+        if (!exists) {
+            name = "gen-" + System.currentTimeMillis();
+        }
+        Generation generation = open(name);
+        if (!exists) {
+            generation.writer().commit();
+            writeCurrent(name);
+        }
+        this.current.set(generation);
+        this.createdEmpty = !exists;
+        log.info("[SEARCH] index opened. dir={} generation={} docs={}",
+                root, name, generation.writer().getDocStats().numDocs);
+    } // func end
+
+    /**
+     * 기존 색인 없이 새로 만든 경우 (기동 시 재구성 필요)
+     * */
+    public boolean isCreatedEmpty() {
+        return createdEmpty;
+    } // func end
+
+    /**
+     * 문서 추가/갱신
+     * */
+    public void update(IndexedDocument doc) throws IOException {
+        writeLock.lock();
+        try {
+            current.get().writer().updateDocument(new Term(F_ID, String.valueOf(doc.docId())), toLucene(doc));
+            Set<Long> changed = changedDuringRebuild;
+            if (changed != null) changed.add(doc.docId());
+        } finally {
+            writeLock.unlock();
+        }
+    } // func end
+
+    /**
+     * 문서 삭제
+     * */
+    public void delete(long docId) throws IOException {
+        writeLock.lock();
+        try {
+            current.get().writer().deleteDocuments(new Term(F_ID, String.valueOf(docId)));
+            Set<Long> changed = changedDuringRebuild;
+            if (changed != null) changed.add(docId);
+        } finally {
+            writeLock.unlock();
+        }
+    } // func end
+
+    /**
+     * 검색 (offset 부터 limit 건)
+     * */
+    public Result search(Query query, int offset, int limit) throws IOException {
+        SearcherManager searcherManager = current.get().searcherManager();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopDocs topDocs = searcher.search(query, offset + limit);
+            List<Hit> hits = new ArrayList<>();
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            for (int i = offset; i < scoreDocs.length; i++) {
+                Document d = searcher.storedFields().document(scoreDocs[i].doc);
+                hits.add(new Hit(Long.parseLong(d.get(F_ID)), d.get(F_TITLE), d.get(F_STATUS),
+                        Long.parseLong(d.get(F_DRAFTER)), d.get(F_DRAFTER_NAME), scoreDocs[i].score));
+            }
+            return new Result(topDocs.totalHits.value, hits);
+        } finally {
+            searcherManager.release(searcher);
+        }
+    } // func end
+
+    public Analyzer analyzer() {
+        return analyzer;
+    } // func end
+
+    /**
+     * 새 세대로 전체 재구성 후 교체
+     * @param source 전체 문서를 sink 에 순서대로 전달
+     * @param reload 재구성 중 변경된 문서 재조회 (삭제되었으면 empty)
+     * @return 새 세대 문서 수
+     * */
+    public int rebuild(Consumer<Consumer<IndexedDocument>> source,
+                       LongFunction<Optional<IndexedDocument>> reload) throws IOException {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new IllegalStateException("검색 색인 재구성이 이미 진행 중입니다.");
+        }
+        Generation next = null;
+        try {
+            // [1] 변경 기록 시작 → 새 세대에 전체 적재 (기존 세대는 계속 사용)
+            changedDuringRebuild = ConcurrentHashMap.newKeySet();
+            next = open("gen-" + System.currentTimeMillis());
+            IndexWriter writer = next.writer();
+            source.accept(doc -> {
+                try {
+                    writer.updateDocument(new Term(F_ID, String.valueOf(doc.docId())), toLucene(doc));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            // [2] 적재 중 변경분 반영 + 세대 교체 (증분 반영과 직렬화)
+            Generation retired;
+            writeLock.lock();
+            try {
+                for (Long docId : changedDuringRebuild) {
+                    Term id = new Term(F_ID, String.valueOf(docId));
+                    Optional<IndexedDocument> doc = reload.apply(docId);
+                    if (doc.isPresent()) writer.updateDocument(id, toLucene(doc.get()));
+                    else writer.deleteDocuments(id);
+                }
+                writer.commit();
+                next.searcherManager().maybeRefreshBlocking();
+                writeCurrent(next.name());
+                retired = current.getAndSet(next);
+                changedDuringRebuild = null;
+            } finally {
+                writeLock.unlock();
+            }
+
+            // [3] 이전 세대 유예 후 정리
+            int docs = writer.getDocStats().numDocs;
+            log.info("[SEARCH] index rebuilt. generation={} docs={}", next.name(), docs);
+            retire(retired);
+            return docs;
+        } catch (IOException | RuntimeException e) {
+            changedDuringRebuild = null;
+            if (next != null && current.get() != next) discard(next);
+            throw e;
+        } finally {
+            rebuilding.set(false);
+        }
+    } // func end
+
+    /**
+     * NRT searcher 갱신 (변경 후 최대 1초 내 검색에 반영)
+     * */
+    @Scheduled(fixedDelayString = "${search.refresh-interval-ms:1000}")
+    public void refresh() {
+        try {
+            current.get().searcherManager().maybeRefresh();
+        } catch (IOException e) {
+            log.warn("[SEARCH] searcher refresh failed", e);
+        }
+    } // func end
+
+    /**
+     * 디스크 반영 (재기동 시 유지)
+     * */
+    @Scheduled(fixedDelayString = "${search.commit-interval-ms:30000}")
+    public void commit() {
+        writeLock.lock();
+        try {
+            current.get().writer().commit();
+        } catch (IOException e) {
+            log.warn("[SEARCH] index commit failed", e);
+        } finally {
+            writeLock.unlock();
+        }
+    } // func end
+
+    @PreDestroy
+    public void close() {
+        commit();
+        current.get().close();
+    } // func end
+
+    private Generation open(String name) throws IOException {
+        Directory directory = FSDirectory.open(root.resolve(name));
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+                .setRAMBufferSizeMB(32);
+        IndexWriter writer = new IndexWriter(directory, config);
+        return new Generation(name, directory, writer, new SearcherManager(writer, null));
+    } // func end
+
+    private void writeCurrent(String name) throws IOException {
+        Path tmp = root.resolve("CURRENT.tmp");
+        Files.writeString(tmp, name, StandardCharsets.UTF_8);
+        Files.move(tmp, root.resolve("CURRENT"), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } // func end
+
+    private void retire(Generation generation) {
+        CompletableFuture.runAsync(() -> discard(generation),
+                CompletableFuture.delayedExecutor(RETIRE_DELAY_SECONDS, TimeUnit.SECONDS));
+    } // func end
+
+    private void discard(Generation generation) {
+        try {
+            generation.close();
+            FileSystemUtils.deleteRecursively(root.resolve(generation.name()));
+        } catch (IOException | RuntimeException e) {
+            log.warn("[SEARCH] failed to remove generation {}", generation.name(), e);
+        }
+    } // func end
+
+    private static Document toLucene(IndexedDocument doc) {
+        Document d = new Document();
+        d.add(new StringField(F_ID, String.valueOf(doc.docId()), Field.Store.YES));
+        d.add(new TextField(F_TITLE, doc.title(), Field.Store.YES));
+        if (doc.content() != null) d.add(new TextField(F_CONTENT, doc.content(), Field.Store.NO));
+        d.add(new StringField(F_STATUS, doc.status(), Field.Store.YES));
+        d.add(new StringField(F_DRAFTER, String.valueOf(doc.drafterEmpId()), Field.Store.YES));
+        if (doc.drafterName() != null) d.add(new TextField(F_DRAFTER_NAME, doc.drafterName(), Field.Store.YES));
+        if (doc.drafterDeptId() != null) d.add(new StringField(F_DEPT, String.valueOf(doc.drafterDeptId()), Field.Store.NO));
+        for (Long approver : doc.approverEmpIds()) {
+            d.add(new StringField(F_APPROVER, String.valueOf(approver), Field.Store.NO));
+        }
+        d.add(new StoredField(F_UPDATED, doc.updatedAtMillis()));
+        return d;
+    } // func end
+
+} // class end
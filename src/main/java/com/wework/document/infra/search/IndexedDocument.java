@@ -0,0 +1,18 @@
+package com.wework.document.infra.search;
+
+import java.util.List;
+
+/**
+ * 검색 색인 1건 (문서 + 기안자 + 결재선)
+ * */
+public record IndexedDocument(
+        long docId,                     // 문서ID
+        String title,                   // 제목
+        String content,                 // 본문
+        String status,                  // 문서 상태
+        long drafterEmpId,              // 기안자 사번
+        String drafterName,             // 기안자 이름
+        Long drafterDeptId,             // 기안자 부서 (권한 범위 필터)
+        List<Long> approverEmpIds,      // 결재자 (권한 필터)
+        long updatedAtMillis            // 수정 시각
+) { } // record end
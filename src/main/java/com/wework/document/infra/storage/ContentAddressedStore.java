@@ -0,0 +1,130 @@
+package com.wework.document.infra.storage;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 콘텐츠 주소 파일 저장소 (로컬 파일시스템)
+ *
+ * <p>
+ * 디렉터리 구조:
+ * <ul>
+ *     <li><code>{root}/blobs/{sha[0..2]}/{sha[2..4]}/{sha}</code> – 파일 내용 (불변)</li>
+ *     <li><code>{root}/tmp/upload-*.part</code> – 업로드 중 임시 파일 (같은 파일시스템 → 원자적 이동)</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * 업로드 스트림을 64KB 버퍼로 읽으며 해시 계산과 임시 파일 쓰기를 동시에 수행하므로
+ * 파일 크기와 무관하게 힙 사용량이 일정하다.
+ * 해시가 같은 파일이 이미 있으면 임시 파일만 버린다 (중복 제거).
+ * </p>
+ */
+@Component
+@Log4j2
+public class ContentAddressedStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path blobDir;
+    private final Path tmpDir;
+
+    /**
+     * 업로드된 임시 파일
+     * @param sha256 내용 해시 (hex)
+     * @param size   바이트 수
+     * @param tmp    임시 파일 경로 ({@link #commit} / {@link #discard} 전까지 유효)
+     * */
+    public record Upload(String sha256, long size, Path tmp) { }
+
+    public ContentAddressedStore(@Value("${attachment.storage-dir:data/attachments}") String storageDir) throws IOException {
+        Path root = Path.of(storageDir).toAbsolutePath();
+        this.blobDir = Files.createDirectories(root.resolve("blobs"));
+        this.tmpDir = Files.createDirectories(root.resolve("tmp"));
+        log.info("[ATTACHMENT] storage root={}", root);
+    } // func end
+
+    /**
+     * 스트림 → 임시 파일 + SHA-256 (maxBytes 초과 시 IllegalArgumentException)
+     * */
+    public Upload receive(InputStream in, long maxBytes) throws IOException {
+        Path tmp = Files.createTempFile(tmpDir, "upload-", ".part");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long size = 0;
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                int n;
+                while ((n = in.read(buffer)) != -1) {
+                    size += n;
+                    if (size > maxBytes) {
+                        throw new IllegalArgumentException("첨부파일 최대 크기를 초과했습니다.");
+                    }
+                    digest.update(buffer, 0, n);
+                    out.write(buffer, 0, n);
+                }
+            }
+            return new Upload(HexFormat.of().formatHex(digest.digest()), size, tmp);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        } catch (NoSuchAlgorithmException e) {
+            Files.deleteIfExists(tmp);
+            throw new IllegalStateException(e);
+        }
+    } // func end
+
+    /**
+     * 임시 파일 → 해시 경로로 이동
+     * @return true : 새로 저장 / false : 같은 내용이 이미 있어 임시 파일 삭제 (중복 제거)
+     * */
+    public boolean commit(Upload upload) throws IOException {
+        Path target = path(upload.sha256());
+        if (Files.exists(target)) {
+            Files.deleteIfExists(upload.tmp());
+            return false;
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(upload.tmp(), target, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            // 같은 내용을 동시에 업로드한 경우
+            Files.deleteIfExists(upload.tmp());
+            return false;
+        }
+    } // func end
+
+    public void discard(Upload upload) {
+        try {
+            Files.deleteIfExists(upload.tmp());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    } // func end
+
+    /**
+     * 해시 → 파일 경로
+     * */
+    public Path path(String sha256) {
+        return blobDir.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    } // func end
+
+    public void delete(String sha256) throws IOException {
+        Files.deleteIfExists(path(sha256));
+    } // func end
+
+} // class end
@@ -0,0 +1,20 @@
+package com.wework.document.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface DocumentRevisionMapper {
+
+    // 문서 최신 버전 번호 (없으면 0)
+    int selectLatestRevNo(@Param("docId") long docId);
+
+    // [DOCUMENT_018] 버전 목록 (payload 제외)
+    List<DocumentRevisionRow> selectRevisions(@Param("docId") long docId);
+
+    // [DOCUMENT_021] 저장 효율 집계 (docId 가 null 이면 전체)
+    RevisionStorageRow selectStorage(@Param("docId") Long docId);
+
+} // interface end
@@ -0,0 +1,23 @@
+package com.wework.document.mapper;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 문서 버전 목록 1행 (payload 제외)
+ * */
+@Getter
+@Setter
+public class DocumentRevisionRow {
+
+    private int revNo;                  // 버전 번호
+    private String kind;                // SNAPSHOT / DELTA
+    private String title;               // 제목
+    private int rawSize;                // 압축 전 본문 크기
+    private int storedSize;             // 저장 크기
+    private long createdBy;             // 작성자 사번
+    private LocalDateTime createdAt;    // 저장일
+
+} // class end
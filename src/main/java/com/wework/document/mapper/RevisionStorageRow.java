@@ -0,0 +1,19 @@
+package com.wework.document.mapper;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 버전 저장 집계
+ * */
+@Getter
+@Setter
+public class RevisionStorageRow {
+
+    private long documents;             // 버전이 있는 문서 수
+    private long revisions;             // 전체 버전 수
+    private long snapshots;             // 스냅샷 수
+    private long rawBytes;              // 모든 버전을 전체 본문으로 저장했을 때 크기
+    private long storedBytes;           // 실제 저장 크기
+
+} // class end
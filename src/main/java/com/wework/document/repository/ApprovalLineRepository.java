@@ -0,0 +1,24 @@
+package com.wework.document.repository;
+
+import com.wework.document.entity.ApprovalLineEntity;
+import com.wework.document.entity.ApprovalStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ApprovalLineRepository extends JpaRepository<ApprovalLineEntity, Long> {
+
+    // [1] 문서 결재선 (단계순)
+    List<ApprovalLineEntity> findByDocIdOrderByStepNo(long docId);
+
+    // [2] 문서 결재선 삭제 (임시저장 수정/삭제)
+    void deleteByDocId(long docId);
+
+    // [3] 결재자별 단계 조회 (결재함 재구성)
+    List<ApprovalLineEntity> findByApproverEmpIdAndStatus(long approverEmpId, ApprovalStatus status);
+
+    // [4] 여러 문서 결재선 일괄 조회 (검색 색인 재구성)
+    List<ApprovalLineEntity> findByDocIdIn(Collection<Long> docIds);
+
+} // interface end
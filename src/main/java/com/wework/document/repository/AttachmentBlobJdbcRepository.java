@@ -0,0 +1,68 @@
+package com.wework.document.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 첨부파일 blob 참조 관리
+ *
+ * <p>blob 은 첨부 삭제 시 바로 지우지 않고, 참조가 없고 유예 시간이 지난 것만 주기적으로 정리한다.
+ * 업로드는 파일 이동 전에 {@link #touch} 로 last_ref_at 을 갱신하므로,
+ * 업로드 도중인 blob 이 정리 대상이 되지 않는다.
+ * 정리 쪽 {@link #deleteOrphan} 은 파일 삭제와 같은 트랜잭션에서 호출되어, 커밋 전까지 touch 를 대기시킨다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class AttachmentBlobJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String TOUCH = """
+            INSERT INTO attachment_blob (sha256, size_bytes, last_ref_at)
+            VALUES (?, ?, CURRENT_TIMESTAMP)
+            ON DUPLICATE KEY UPDATE last_ref_at = CURRENT_TIMESTAMP
+            """;
+
+    private static final String SELECT_ORPHANS = """
+            SELECT b.sha256
+            FROM attachment_blob b
+            WHERE b.last_ref_at < TIMESTAMPADD(MINUTE, ?, CURRENT_TIMESTAMP)
+              AND NOT EXISTS (SELECT 1 FROM document_attachment a WHERE a.sha256 = b.sha256)
+            LIMIT ?
+            """;
+
+    private static final String DELETE_ORPHAN = """
+            DELETE FROM attachment_blob
+            WHERE sha256 = ?
+              AND last_ref_at < TIMESTAMPADD(MINUTE, ?, CURRENT_TIMESTAMP)
+              AND NOT EXISTS (SELECT 1 FROM document_attachment a WHERE a.sha256 = ?)
+            """;
+
+    /**
+     * blob 등록 또는 참조 시각 갱신
+     * - 정리 트랜잭션이 지운 행을 기다렸다가 반영 행이 0 이면(삭제 커밋 직후) 1회 재시도하여 새 행을 만든다
+     * */
+    public void touch(String sha256, long sizeBytes) {
+        if (jdbcTemplate.update(TOUCH, sha256, sizeBytes) == 0) {
+            jdbcTemplate.update(TOUCH, sha256, sizeBytes);
+        }
+    } // func end
+
+    /**
+     * 참조 없는 blob (유예 시간 경과)
+     * */
+    public List<String> findOrphans(int graceMinutes, int limit) {
+        return jdbcTemplate.queryForList(SELECT_ORPHANS, String.class, -graceMinutes, limit);
+    } // func end
+
+    /**
+     * 미참조 blob 행 삭제 (조건 재확인, 삭제되었으면 true)
+     * */
+    public boolean deleteOrphan(String sha256, int graceMinutes) {
+        return jdbcTemplate.update(DELETE_ORPHAN, sha256, -graceMinutes, sha256) == 1;
+    } // func end
+
+} // class end
@@ -0,0 +1,17 @@
+package com.wework.document.repository;
+
+import com.wework.document.entity.DocumentAttachmentEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface DocumentAttachmentRepository extends JpaRepository<DocumentAttachmentEntity, Long> {
+
+    // [1] 문서 첨부 목록
+    List<DocumentAttachmentEntity> findByDocIdOrderByAttachId(long docId);
+
+    // [2] 문서 첨부 1건
+    Optional<DocumentAttachmentEntity> findByAttachIdAndDocId(long attachId, long docId);
+
+} // interface end
@@ -0,0 +1,18 @@
+package com.wework.document.repository;
+
+import com.wework.document.entity.DocumentEntity;
+import com.wework.document.entity.DocumentStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface DocumentRepository extends JpaRepository<DocumentEntity, Long> {
+
+    // [1] 내가 기안한 문서 (최신순)
+    List<DocumentEntity> findByDrafterEmpIdOrderByDocIdDesc(long drafterEmpId, Pageable pageable);
+
+    // [2] 내가 기안한 문서 (상태별, 최신순)
+    List<DocumentEntity> findByDrafterEmpIdAndStatusOrderByDocIdDesc(long drafterEmpId, DocumentStatus status, Pageable pageable);
+
+} // interface end
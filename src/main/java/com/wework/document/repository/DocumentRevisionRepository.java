@@ -0,0 +1,19 @@
+package com.wework.document.repository;
+
+import com.wework.document.entity.DocumentRevisionEntity;
+import com.wework.document.entity.RevisionKind;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface DocumentRevisionRepository extends JpaRepository<DocumentRevisionEntity, Long> {
+
+    // [1] 기준 스냅샷 (revNo 이하 가장 최근)
+    Optional<DocumentRevisionEntity> findTopByDocIdAndKindAndRevNoLessThanEqualOrderByRevNoDesc(
+            long docId, RevisionKind kind, int revNo);
+
+    // [2] 스냅샷 이후 델타 (버전순)
+    List<DocumentRevisionEntity> findByDocIdAndRevNoBetweenOrderByRevNo(long docId, int fromRevNo, int toRevNo);
+
+} // interface end
@@ -0,0 +1,162 @@
+package com.wework.document.service;
+
+import com.wework.document.dto.response.DocumentSummaryResponseDto;
+import com.wework.document.dto.response.InboxCountResponseDto;
+import com.wework.document.entity.ApprovalLineEntity;
+import com.wework.document.entity.ApprovalStatus;
+import com.wework.document.entity.DocumentEntity;
+import com.wework.document.infra.redis.ApprovalInboxStore;
+import com.wework.document.repository.ApprovalLineRepository;
+import com.wework.document.repository.DocumentRepository;
+import com.wework.global.exception.ConflictException;
+import com.wework.global.exception.ServiceUnavailableException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 결재함 (내 결재 대기 문서)
+ * - 목록 / 건수는 Redis 인덱스에서 조회하고, 문서 정보만 PK 로 일괄 조회 (결재선 JOIN 없음)
+ * - Redis 장애(차단기 OPEN 포함) 중에는 결재선 테이블에서 직접 조회 (미열람 표시는 Redis 에만 있으므로 0)
+ * */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ApprovalInboxService {
+
+    private final ApprovalInboxStore approvalInboxStore;
+    private final DocumentRepository documentRepository;
+    private final ApprovalLineRepository approvalLineRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // 재구성 교체 재시도 (동시 재구성으로 토큰이 바뀐 경우)
+    private static final int REBUILD_ATTEMPTS = 3;
+
+    /**
+     * [DOCUMENT_009] 결재 대기 목록 (결재 차례가 된 순서)
+     * */
+    public List<DocumentSummaryResponseDto> getInbox(long empId, int offset, int limit) {
+        List<Long> docIds = null;
+        try {
+            if (ensureBuilt(empId)) docIds = approvalInboxStore.range(empId, offset, limit);
+        } catch (ServiceUnavailableException e) {
+            log.warn("[DOCUMENT] inbox index unavailable, reading approval lines. empId={}", empId);
+        }
+        if (docIds == null) {
+            docIds = pendingLines(empId).stream()
+                    .skip(offset)
+                    .limit(limit)
+                    .map(ApprovalLineEntity::getDocId)
+                    .toList();
+        }
+        if (docIds.isEmpty()) return List.of();
+
+        Map<Long, DocumentEntity> docs = documentRepository.findAllById(docIds).stream()
+                .collect(Collectors.toMap(DocumentEntity::getDocId, Function.identity()));
+        return docIds.stream()
+                .map(docs::get)
+                .filter(Objects::nonNull)
+                .map(DocumentSummaryResponseDto::from)
+                .toList();
+    } // func end
+
+    /**
+     * [DOCUMENT_010] 결재 대기 / 미열람 건수
+     * */
+    public InboxCountResponseDto getCounts(long empId) {
+        try {
+            if (ensureBuilt(empId)) {
+                return new InboxCountResponseDto(approvalInboxStore.pendingCount(empId), approvalInboxStore.unreadCount(empId));
+            }
+        } catch (ServiceUnavailableException e) {
+            log.warn("[DOCUMENT] inbox index unavailable, counting approval lines. empId={}", empId);
+        }
+        return new InboxCountResponseDto(pendingLines(empId).size(), 0);
+    } // func end
+
+    /**
+     * [DOCUMENT_011] 결재함 재구성 (DB 기준)
+     * - Redis 장애 / 데이터 유실로 인덱스가 어긋났을 때 사용
+     * - 재구성 시작 → DB 조회 → 교체 순서이며, 그 사이 반영된 결재 차례 변경은 유지된다 ({@link ApprovalInboxStore})
+     * */
+    public int rebuild(long empId) {
+        int pending = rebuild(empId, REBUILD_ATTEMPTS);
+        if (pending < 0) {
+            throw new ConflictException("결재함 재구성이 동시에 진행 중입니다. 잠시 후 다시 시도해 주세요.");
+        }
+        return pending;
+    } // func end
+
+    /**
+     * @return 결재 대기 건수 (-1 : attempts 회 모두 다른 재구성에 밀림)
+     * */
+    private int rebuild(long empId, int attempts) {
+        // 시도마다 새 트랜잭션 (재구성 시작 이후의 DB 스냅숏을 읽어야 함)
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        for (int attempt = 1; attempt <= attempts; attempt++) {
+            // [1] 재구성 시작 → [2] DB 조회 (결재 대기 단계 + 문서 버전, 같은 트랜잭션)
+            String token = approvalInboxStore.beginRebuild(empId);
+            List<ApprovalInboxStore.PendingDoc> pending = readOnly.execute(status -> pendingDocs(empId));
+
+            // [3] 교체
+            if (approvalInboxStore.rebuild(empId, token, pending)) {
+                log.info("[DOCUMENT] inbox rebuilt. empId={} pending={}", empId, pending.size());
+                return pending.size();
+            }
+            log.debug("[DOCUMENT] inbox rebuild superseded. empId={} attempt={}", empId, attempt);
+        }
+        return -1;
+    } // func end
+
+    /**
+     * DB 기준 결재 대기 문서 (결재 차례가 된 시각 + 문서 버전)
+     * */
+    private List<ApprovalInboxStore.PendingDoc> pendingDocs(long empId) {
+        List<ApprovalLineEntity> lines = pendingLines(empId);
+        if (lines.isEmpty()) return List.of();
+        Map<Long, Long> versions = documentRepository.findAllById(lines.stream().map(ApprovalLineEntity::getDocId).toList())
+                .stream()
+                .collect(Collectors.toMap(DocumentEntity::getDocId, DocumentEntity::getVersion));
+        return lines.stream()
+                .filter(line -> versions.containsKey(line.getDocId()))
+                .map(line -> new ApprovalInboxStore.PendingDoc(line.getDocId(),
+                        line.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+                        versions.get(line.getDocId())))
+                .toList();
+    } // func end
+
+    /**
+     * 결재함 인덱스가 한 번도 구성되지 않았으면 DB 기준으로 구성 (키 형식 변경 후 첫 조회 / Redis 데이터 유실 후)
+     * - 조회 경로이므로 1회만 시도 (같은 직원의 동시 조회가 서로 밀어내며 재시도하지 않도록)
+     * @return false : 다른 재구성에 밀림 → 이번 조회는 결재선 테이블에서 직접
+     * */
+    private boolean ensureBuilt(long empId) {
+        if (approvalInboxStore.isBuilt(empId) || rebuild(empId, 1) >= 0) return true;
+        log.debug("[DOCUMENT] inbox rebuild in progress, reading approval lines. empId={}", empId);
+        return false;
+    } // func end
+
+    /**
+     * DB 기준 결재 대기 단계 (결재 차례가 된 순서 – 인덱스 score 와 같은 기준)
+     * */
+    private List<ApprovalLineEntity> pendingLines(long empId) {
+        return approvalLineRepository.findByApproverEmpIdAndStatus(empId, ApprovalStatus.PENDING).stream()
+                .sorted(Comparator.comparing(ApprovalLineEntity::getUpdatedAt))
+                .toList();
+    } // func end
+
+} // class end
@@ -0,0 +1,197 @@
+package com.wework.document.service;
+
+import com.wework.document.dto.response.AttachmentResponseDto;
+import com.wework.document.entity.DocumentAttachmentEntity;
+import com.wework.document.infra.storage.ContentAddressedStore;
+import com.wework.document.repository.AttachmentBlobJdbcRepository;
+import com.wework.document.repository.DocumentAttachmentRepository;
+import com.wework.global.security.UserPrincipal;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 결재 문서 첨부파일 서비스
+ *
+ * <p>업로드 처리 흐름</p>
+ * <P>1) 요청 본문을 그대로 임시 파일로 스트리밍하며 SHA-256 계산 (byte[] 로 모으지 않음)</P>
+ * <P>2) attachment_blob 등록/참조 시각 갱신</P>
+ * <P>3) 임시 파일 → 해시 경로 이동 (같은 내용이 있으면 임시 파일만 삭제)</P>
+ * <P>4) document_attachment 행 등록</P>
+ *
+ * <p>다운로드는 파일 Resource 를 그대로 반환하고, Range / If-None-Match(ETag = 해시) 처리는 Spring MVC 에 맡긴다.
+ *
+ * <p>미참조 blob 정리와 업로드(중복 제거)의 경합
+ * <ul>
+ *   <li>정리는 blob 행 삭제 → 파일 삭제를 한 트랜잭션에서 수행하므로, 커밋 전까지 행 잠금이 유지된다</li>
+ *   <li>같은 해시 업로드의 [2] 참조 갱신은 그 잠금을 기다렸다가 새 행을 만들고, [3] 에서 파일이 없으니 새로 저장한다</li>
+ *   <li>참조 갱신이 먼저면 정리의 삭제 조건(유예 시간)에서 빠진다</li>
+ * </ul>
+ * */
+@Service
+@Log4j2
+public class AttachmentService {
+
+    private final DocumentService documentService;
+    private final DocumentAttachmentRepository documentAttachmentRepository;
+    private final AttachmentBlobJdbcRepository attachmentBlobJdbcRepository;
+    private final ContentAddressedStore contentAddressedStore;
+    private final long maxSizeBytes;
+    private final int orphanGraceMinutes;
+    private final TransactionTemplate sweepTx;
+
+    public AttachmentService(DocumentService documentService,
+                             DocumentAttachmentRepository documentAttachmentRepository,
+                             AttachmentBlobJdbcRepository attachmentBlobJdbcRepository,
+                             ContentAddressedStore contentAddressedStore,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${attachment.max-size-bytes:104857600}") long maxSizeBytes,
+                             @Value("${attachment.orphan-grace-minutes:60}") int orphanGraceMinutes) {
+        this.documentService = documentService;
+        this.documentAttachmentRepository = documentAttachmentRepository;
+        this.attachmentBlobJdbcRepository = attachmentBlobJdbcRepository;
+        this.contentAddressedStore = contentAddressedStore;
+        this.maxSizeBytes = maxSizeBytes;
+        this.orphanGraceMinutes = orphanGraceMinutes;
+        this.sweepTx = new TransactionTemplate(transactionManager);
+    } // func end
+
+    /**
+     * [DOCUMENT_012] 첨부파일 업로드 (기안자, 임시저장 문서만)
+     * */
+    public AttachmentResponseDto upload(long empId, long docId, String fileName, String contentType,
+                                        InputStream body) throws IOException {
+        documentService.getEditableDocument(empId, docId);
+        String safeName = sanitizeFileName(fileName);
+
+        // [1] 스트리밍 수신 + 해시
+        ContentAddressedStore.Upload upload = contentAddressedStore.receive(body, maxSizeBytes);
+        try {
+            // [2] blob 참조 갱신 → [3] 파일 확정
+            attachmentBlobJdbcRepository.touch(upload.sha256(), upload.size());
+            boolean stored = contentAddressedStore.commit(upload);
+
+            // [4] 첨부 등록
+            DocumentAttachmentEntity attachment = documentAttachmentRepository.save(DocumentAttachmentEntity.builder()
+                    .docId(docId)
+                    .sha256(upload.sha256())
+                    .fileName(safeName)
+                    .contentType(normalizeContentType(contentType))
+                    .sizeBytes(upload.size())
+                    .uploadedBy(empId)
+                    .build());
+            log.info("[ATTACHMENT] uploaded. docId={} attachId={} size={} dedup={}",
+                    docId, attachment.getAttachId(), upload.size(), !stored);
+            return AttachmentResponseDto.from(attachment);
+        } finally {
+            contentAddressedStore.discard(upload);
+        }
+    } // func end
+
+    /**
+     * [DOCUMENT_013] 첨부파일 목록
+     * */
+    public List<AttachmentResponseDto> getAttachments(UserPrincipal principal, long docId) {
+        documentService.getReadableDocument(principal, docId);
+        return documentAttachmentRepository.findByDocIdOrderByAttachId(docId).stream()
+                .map(AttachmentResponseDto::from)
+                .toList();
+    } // func end
+
+    /**
+     * [DOCUMENT_014] 첨부파일 다운로드 대상
+     * */
+    public Download getDownload(UserPrincipal principal, long docId, long attachId) {
+        documentService.getReadableDocument(principal, docId);
+        DocumentAttachmentEntity attachment = getAttachment(docId, attachId);
+        Path path = contentAddressedStore.path(attachment.getSha256());
+        if (!Files.isReadable(path)) {
+            throw new IllegalStateException("첨부파일 내용이 없습니다. sha256=" + attachment.getSha256());
+        }
+        return new Download(AttachmentResponseDto.from(attachment), new FileSystemResource(path));
+    } // func end
+
+    /**
+     * 다운로드 정보 + 파일
+     * */
+    public record Download(AttachmentResponseDto attachment, FileSystemResource resource) { }
+
+    /**
+     * [DOCUMENT_015] 첨부파일 삭제 (blob 은 미참조 정리에서 삭제)
+     * */
+    public void delete(long empId, long docId, long attachId) {
+        documentService.getEditableDocument(empId, docId);
+        documentAttachmentRepository.delete(getAttachment(docId, attachId));
+    } // func end
+
+    /**
+     * 미참조 blob 정리
+     * - 행 삭제(조건 재확인) 와 파일 삭제를 한 트랜잭션으로 → 파일 삭제가 끝날 때까지 같은 해시 업로드가 대기
+     * - 파일 삭제 실패 시 행 삭제도 롤백 (다음 주기에 재시도)
+     * */
+    @Scheduled(fixedDelayString = "${attachment.orphan-sweep-interval-ms:600000}",
+               initialDelayString = "${attachment.orphan-sweep-interval-ms:600000}")
+    public void sweepOrphans() {
+        for (String sha256 : attachmentBlobJdbcRepository.findOrphans(orphanGraceMinutes, 500)) {
+            try {
+                Boolean removed = sweepTx.execute(status -> {
+                    if (!attachmentBlobJdbcRepository.deleteOrphan(sha256, orphanGraceMinutes)) return false;
+                    try {
+                        contentAddressedStore.delete(sha256);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return true;
+                });
+                if (Boolean.TRUE.equals(removed)) log.info("[ATTACHMENT] orphan blob removed. sha256={}", sha256);
+            } catch (RuntimeException e) {
+                log.warn("[ATTACHMENT] orphan blob sweep failed. sha256={}", sha256, e);
+            }
+        }
+    } // func end
+
+    private DocumentAttachmentEntity getAttachment(long docId, long attachId) {
+        return documentAttachmentRepository.findByAttachIdAndDocId(attachId, docId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 첨부파일입니다."));
+    } // func end
+
+    /**
+     * 해석할 수 없는 MIME 타입은 application/octet-stream
+     * */
+    private static String normalizeContentType(String contentType) {
+        try {
+            String type = MediaType.parseMediaType(contentType).toString();
+            return type.length() > 100 ? MediaType.APPLICATION_OCTET_STREAM_VALUE : type;
+        } catch (IllegalArgumentException e) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+    } // func end
+
+    /**
+     * 경로 구분자 제거 + 길이 제한
+     * */
+    private static String sanitizeFileName(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            throw new IllegalArgumentException("fileName은 필수입니다.");
+        }
+        String name = fileName.replace('\\', '/');
+        name = name.substring(name.lastIndexOf('/') + 1).strip();
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("fileName이 올바르지 않습니다.");
+        }
+        return name.length() > 255 ? name.substring(name.length() - 255) : name;
+    } // func end
+
+} // class end
@@ -0,0 +1,91 @@
+package com.wework.document.service;
+
+import com.wework.document.core.LineDiff;
+import com.wework.document.dto.response.DocumentDiffResponseDto;
+import com.wework.document.dto.response.DocumentRevisionDetailResponseDto;
+import com.wework.document.dto.response.DocumentRevisionResponseDto;
+import com.wework.document.dto.response.RevisionStorageResponseDto;
+import com.wework.document.infra.revision.DocumentRevisionStore;
+import com.wework.document.mapper.DocumentRevisionMapper;
+import com.wework.global.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 문서 버전 이력 조회 / 비교
+ * - 저장은 DocumentService 작성/수정 트랜잭션에서 {@link DocumentRevisionStore} 로 수행
+ * - 최신 본문은 document 행에서 바로 읽으므로 일반 상세 조회는 버전 이력을 읽지 않는다
+ * */
+@Service
+@RequiredArgsConstructor
+public class DocumentRevisionService {
+
+    private final DocumentService documentService;
+    private final DocumentRevisionStore documentRevisionStore;
+    private final DocumentRevisionMapper documentRevisionMapper;
+
+    /**
+     * [DOCUMENT_018] 버전 목록 (최신순)
+     * */
+    @Transactional(readOnly = true)
+    public List<DocumentRevisionResponseDto> getRevisions(UserPrincipal principal, long docId) {
+        documentService.getReadableDocument(principal, docId);
+        return documentRevisionMapper.selectRevisions(docId).stream()
+                .map(DocumentRevisionResponseDto::from)
+                .toList();
+    } // func end
+
+    /**
+     * [DOCUMENT_019] 특정 버전 본문
+     * */
+    @Transactional(readOnly = true)
+    public DocumentRevisionDetailResponseDto getRevision(UserPrincipal principal, long docId, int revNo) {
+        documentService.getReadableDocument(principal, docId);
+        DocumentRevisionStore.Revision revision = documentRevisionStore.reconstruct(docId, revNo);
+        return new DocumentRevisionDetailResponseDto(docId, revision.revNo(), revision.title(), revision.content(),
+                revision.createdBy(), revision.createdAt());
+    } // func end
+
+    /**
+     * [DOCUMENT_020] 두 버전 비교 (줄 단위)
+     * */
+    @Transactional(readOnly = true)
+    public DocumentDiffResponseDto diff(UserPrincipal principal, long docId, int fromRevNo, int toRevNo) {
+        documentService.getReadableDocument(principal, docId);
+
+        // [1] 두 버전 복원
+        DocumentRevisionStore.Revision from = documentRevisionStore.reconstruct(docId, fromRevNo);
+        DocumentRevisionStore.Revision to = documentRevisionStore.reconstruct(docId, toRevNo);
+        String[] a = LineDiff.lines(from.content());
+        String[] b = LineDiff.lines(to.content());
+
+        // [2] 편집 구간 → 응답
+        int added = 0;
+        int deleted = 0;
+        List<DocumentDiffResponseDto.Hunk> hunks = new ArrayList<>();
+        for (LineDiff.Edit edit : LineDiff.diff(a, b)) {
+            List<String> lines = edit.op() == LineDiff.Op.DELETE
+                    ? Arrays.asList(a).subList(edit.aStart(), edit.aStart() + edit.count())
+                    : Arrays.asList(b).subList(edit.bStart(), edit.bStart() + edit.count());
+            if (edit.op() == LineDiff.Op.INSERT) added += edit.count();
+            if (edit.op() == LineDiff.Op.DELETE) deleted += edit.count();
+            hunks.add(new DocumentDiffResponseDto.Hunk(edit.op().name(), edit.aStart() + 1, edit.bStart() + 1,
+                    List.copyOf(lines)));
+        }
+        return new DocumentDiffResponseDto(docId, fromRevNo, toRevNo, from.title(), to.title(), added, deleted, hunks);
+    } // func end
+
+    /**
+     * [DOCUMENT_021] 버전 저장 효율 (docId 없으면 전체)
+     * */
+    public RevisionStorageResponseDto getStorageReport(Long docId) {
+        return RevisionStorageResponseDto.of(documentRevisionMapper.selectStorage(docId),
+                documentRevisionStore.snapshotInterval());
+    } // func end
+
+} // class end
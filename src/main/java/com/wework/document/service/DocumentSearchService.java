@@ -0,0 +1,281 @@
+package com.wework.document.service;
+
+import com.wework.account.mapper.AccountAuthMapper;
+import com.wework.document.dto.response.DocumentSearchResponseDto;
+import com.wework.document.entity.ApprovalLineEntity;
+import com.wework.document.entity.DocumentEntity;
+import com.wework.document.entity.DocumentStatus;
+import com.wework.document.event.DocumentChangedEvent;
+import com.wework.document.infra.search.DocumentSearchIndex;
+import com.wework.document.infra.search.IndexedDocument;
+import com.wework.document.repository.ApprovalLineRepository;
+import com.wework.document.repository.DocumentRepository;
+import com.wework.employee.entity.EmployeeEntity;
+import com.wework.employee.event.EmployeeChangedEvent;
+import com.wework.employee.repository.EmployeeRepository;
+import com.wework.global.security.UserPrincipal;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 결재 문서 전문 검색
+ *
+ * <p>처리 흐름</p>
+ * <P>1) 문서 작성/수정/삭제/상태 전이 커밋 후 {@link DocumentChangedEvent} 수신</P>
+ * <P>2) 색인 전용 스레드에서 DB 기준 최신 상태를 다시 읽어 색인 갱신 (이벤트 순서와 무관하게 최종 상태로 수렴)</P>
+ * <P>   기안자 부서 이동 / 상태 변경 커밋 후({@link EmployeeChangedEvent})에는 그 직원이 기안한 문서를 모두 다시 색인</P>
+ * <P>3) 검색 시 조회 권한을 Lucene 필터로 함께 적용 (권한 밖 문서는 건수에도 포함되지 않음)</P>
+ *
+ * <p>조회 권한은 {@link DocumentService} 상세 조회와 같다.
+ * <P>- 기안자 본인 : 전체</P>
+ * <P>- 결재선 포함 / 관리 부서(manager_scope) 직원이 기안 : 상신 이후 문서 (기안자의 현재 부서 기준)</P>
+ * <P>- SUPER_ADMIN : 전체</P>
+ * */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class DocumentSearchService {
+
+    // 재구성 시 DB 페이지 크기
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private static final Map<String, Float> SEARCH_FIELDS = Map.of(
+            DocumentSearchIndex.F_TITLE, 3.0f,
+            DocumentSearchIndex.F_CONTENT, 1.0f,
+            DocumentSearchIndex.F_DRAFTER_NAME, 2.0f);
+
+    private final DocumentSearchIndex searchIndex;
+    private final DocumentRepository documentRepository;
+    private final ApprovalLineRepository approvalLineRepository;
+    private final EmployeeRepository employeeRepository;
+    private final AccountAuthMapper accountAuthMapper;
+    // 증분 반영 / 재구성 전용 (요청 스레드와 분리)
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "document-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "document-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * [DOCUMENT_016] 문서 검색 (권한 범위 내, 관련도순)
+     * */
+    public DocumentSearchResponseDto search(UserPrincipal principal, String keyword, DocumentStatus status,
+                                            int offset, int limit) {
+        // [1] 검색어 (+ 접두 검색 등 simple query 문법 지원)
+        SimpleQueryParser parser = new SimpleQueryParser(searchIndex.analyzer(), SEARCH_FIELDS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query text = parser.parse(keyword);
+        if (text == null) {
+            return new DocumentSearchResponseDto(0, List.of());
+        }
+
+        // [2] 상태 / 권한 필터 (점수에 영향 없음)
+        BooleanQuery.Builder query = new BooleanQuery.Builder().add(text, BooleanClause.Occur.MUST);
+        if (status != null) {
+            query.add(new TermQuery(new Term(DocumentSearchIndex.F_STATUS, status.name())), BooleanClause.Occur.FILTER);
+        }
+        Query acl = accessFilter(principal);
+        if (acl != null) query.add(acl, BooleanClause.Occur.FILTER);
+
+        // [3] 검색
+        try {
+            DocumentSearchIndex.Result result = searchIndex.search(query.build(), offset, limit);
+            return new DocumentSearchResponseDto(result.totalHits(), result.hits().stream()
+                    .map(h -> new DocumentSearchResponseDto.Hit(h.docId(), h.title(), h.status(),
+                            h.drafterEmpId(), h.drafterName(), h.score()))
+                    .toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    } // func end
+
+    /**
+     * [DOCUMENT_017] 검색 색인 전체 재구성 (백그라운드, 재구성 중에도 기존 색인으로 검색)
+     * */
+    public void rebuildAsync() {
+        CompletableFuture.runAsync(this::rebuild, rebuilder)
+                .exceptionally(ex -> {
+                    log.error("[SEARCH] index rebuild failed", ex);
+                    return null;
+                });
+    } // func end
+
+    /**
+     * 기존 색인이 없으면 기동 직후 재구성
+     * */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (searchIndex.isCreatedEmpty()) rebuildAsync();
+    } // func end
+
+    /**
+     * 문서 변경 커밋 후 색인 반영 (비동기, 실패해도 원 트랜잭션에는 영향 없음)
+     * */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDocumentChanged(DocumentChangedEvent event) {
+        indexer.execute(() -> {
+            try {
+                Optional<IndexedDocument> doc = load(event.docId());
+                if (doc.isPresent()) searchIndex.update(doc.get());
+                else searchIndex.delete(event.docId());
+            } catch (Exception e) {
+                log.error("[SEARCH] failed to index document. docId={}", event.docId(), e);
+            }
+        });
+    } // func end
+
+    /**
+     * 직원 부서 이동 등 커밋 후 그 직원이 기안한 문서 재색인 (색인의 기안자 부서를 현재 부서로)
+     * - 상세 조회 권한({@link DocumentService})은 현재 부서를 보므로 검색 권한도 같은 기준으로 맞춘다
+     * */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        indexer.execute(() -> {
+            try {
+                int docs = reindexDrafter(event.empId());
+                if (docs > 0) log.info("[SEARCH] drafter documents reindexed. empId={} docs={}", event.empId(), docs);
+            } catch (Exception e) {
+                log.error("[SEARCH] failed to reindex drafter documents. empId={}", event.empId(), e);
+            }
+        });
+    } // func end
+
+    @PreDestroy
+    public void shutdown() {
+        indexer.shutdown();
+        rebuilder.shutdownNow();
+    } // func end
+
+    /**
+     * 조회 권한 필터 (SUPER_ADMIN 은 null = 제한 없음)
+     * */
+    private Query accessFilter(UserPrincipal principal) {
+        boolean superAdmin = principal.getAuthorities().stream()
+                .anyMatch(a -> "ROLE_SUPER_ADMIN".equals(a.getAuthority()));
+        if (superAdmin) return null;
+
+        String empId = String.valueOf(principal.getEmpId());
+        BooleanQuery.Builder shared = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(DocumentSearchIndex.F_APPROVER, empId)), BooleanClause.Occur.SHOULD);
+        List<Long> scopeDeptIds = accountAuthMapper.selectScopeDeptIds(principal.getEmpId());
+        if (!scopeDeptIds.isEmpty()) {
+            shared.add(new TermInSetQuery(DocumentSearchIndex.F_DEPT,
+                    scopeDeptIds.stream().map(id -> new BytesRef(String.valueOf(id))).toList()), BooleanClause.Occur.SHOULD);
+        }
+        Query sharedSubmitted = new BooleanQuery.Builder()
+                .add(shared.build(), BooleanClause.Occur.FILTER)
+                .add(new TermQuery(new Term(DocumentSearchIndex.F_STATUS, DocumentStatus.DRAFT.name())), BooleanClause.Occur.MUST_NOT)
+                .build();
+
+        return new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(DocumentSearchIndex.F_DRAFTER, empId)), BooleanClause.Occur.SHOULD)
+                .add(sharedSubmitted, BooleanClause.Occur.SHOULD)
+                .build();
+    } // func end
+
+    /**
+     * 전체 재구성 (문서ID 순 페이지 조회 → 새 세대 적재 → 교체)
+     * */
+    private void rebuild() {
+        long started = System.currentTimeMillis();
+        try {
+            int docs = searchIndex.rebuild(this::loadAll, this::load);
+            log.info("[SEARCH] rebuild done. docs={} elapsedMs={}", docs, System.currentTimeMillis() - started);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    } // func end
+
+    /**
+     * 기안자 1명의 문서 재색인 (페이지 단위)
+     * */
+    private int reindexDrafter(long drafterEmpId) throws IOException {
+        int count = 0;
+        PageRequest pageable = PageRequest.of(0, REBUILD_PAGE_SIZE);
+        while (true) {
+            List<IndexedDocument> batch = toIndexed(documentRepository.findByDrafterEmpIdOrderByDocIdDesc(drafterEmpId, pageable));
+            for (IndexedDocument doc : batch) searchIndex.update(doc);
+            count += batch.size();
+            if (batch.size() < REBUILD_PAGE_SIZE) return count;
+            pageable = pageable.next();
+        }
+    } // func end
+
+    private void loadAll(Consumer<IndexedDocument> sink) {
+        PageRequest pageable = PageRequest.of(0, REBUILD_PAGE_SIZE, Sort.by("docId"));
+        while (true) {
+            List<IndexedDocument> batch = toIndexed(documentRepository.findAll(pageable).getContent());
+            batch.forEach(sink);
+            if (batch.size() < REBUILD_PAGE_SIZE) return;
+            pageable = pageable.next();
+        }
+    } // func end
+
+    private Optional<IndexedDocument> load(long docId) {
+        return documentRepository.findById(docId).map(doc -> toIndexed(List.of(doc)).get(0));
+    } // func end
+
+    /**
+     * 문서 → 색인 문서 (결재선 / 기안자 일괄 조회)
+     * */
+    private List<IndexedDocument> toIndexed(List<DocumentEntity> docs) {
+        if (docs.isEmpty()) return List.of();
+        List<Long> docIds = docs.stream().map(DocumentEntity::getDocId).toList();
+        Map<Long, List<Long>> approvers = approvalLineRepository.findByDocIdIn(docIds).stream()
+                .sorted(Comparator.comparingInt(ApprovalLineEntity::getStepNo))
+                .collect(Collectors.groupingBy(ApprovalLineEntity::getDocId,
+                        Collectors.mapping(ApprovalLineEntity::getApproverEmpId, Collectors.toList())));
+        Map<Long, EmployeeEntity> drafters = employeeRepository.findAllById(
+                        docs.stream().map(DocumentEntity::getDrafterEmpId).distinct().toList()).stream()
+                .collect(Collectors.toMap(EmployeeEntity::getEmpId, Function.identity()));
+
+        List<IndexedDocument> result = new ArrayList<>(docs.size());
+        for (DocumentEntity doc : docs) {
+            EmployeeEntity drafter = drafters.get(doc.getDrafterEmpId());
+            result.add(new IndexedDocument(doc.getDocId(), doc.getTitle(), doc.getContent(), doc.getStatus().name(),
+                    doc.getDrafterEmpId(),
+                    drafter == null ? null : drafter.getName(),
+                    drafter == null ? null : drafter.getDeptId(),
+                    approvers.getOrDefault(doc.getDocId(), List.of()),
+                    doc.getUpdatedAt() == null ? 0 : doc.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+        }
+        return result;
+    } // func end
+
+} // class end
@@ -0,0 +1,341 @@
+package com.wework.document.service;
+
+import com.wework.account.mapper.AccountAuthMapper;
+import com.wework.document.dto.request.ApprovalActionRequestDto;
+import com.wework.document.dto.request.DocumentSaveRequestDto;
+import com.wework.document.dto.response.DocumentDetailResponseDto;
+import com.wework.document.dto.response.DocumentSummaryResponseDto;
+import com.wework.document.entity.ApprovalLineEntity;
+import com.wework.document.entity.ApprovalStatus;
+import com.wework.document.entity.DocumentEntity;
+import com.wework.document.entity.DocumentStatus;
+import com.wework.document.event.ApprovalInboxChangedEvent;
+import com.wework.document.event.DocumentChangedEvent;
+import com.wework.document.infra.redis.ApprovalInboxStore;
+import com.wework.document.infra.revision.DocumentRevisionStore;
+import com.wework.document.repository.ApprovalLineRepository;
+import com.wework.document.repository.DocumentRepository;
+import com.wework.employee.entity.EmployeeEntity;
+import com.wework.employee.repository.EmployeeRepository;
+import com.wework.global.exception.ForbiddenException;
+import com.wework.global.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * 전자결재 문서 서비스
+ *
+ * <p>상태 전이</p>
+ * <P>DRAFT --상신--> SUBMITTED(1단계 PENDING)</P>
+ * <P>SUBMITTED --승인--> 다음 단계 PENDING / 마지막 단계면 APPROVED</P>
+ * <P>SUBMITTED --반려--> REJECTED</P>
+ *
+ * <p>모든 전이는 문서 행을 수정하므로 @Version 으로 충돌을 감지한다.
+ * 같은 단계를 동시에 승인/반려하면 먼저 커밋한 요청만 성공하고 나머지는 409.
+ * <p>결재 차례 변경은 {@link ApprovalInboxChangedEvent} 로 발행되어 커밋 후 결재함 인덱스에 반영된다.
+ * <p>제목/본문 변경은 {@link DocumentRevisionStore} 에 버전으로 함께 저장된다 (최신 본문은 document 행).
+ * <p>모든 변경은 {@link DocumentChangedEvent} 로 발행되어 커밋 후 검색 색인에 반영된다.
+ * */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class DocumentService {
+
+    private final DocumentRepository documentRepository;
+    private final ApprovalLineRepository approvalLineRepository;
+    private final EmployeeRepository employeeRepository;
+    private final ApprovalInboxStore approvalInboxStore;
+    private final AccountAuthMapper accountAuthMapper;
+    private final DocumentRevisionStore documentRevisionStore;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * [DOCUMENT_001] 문서 작성 (임시저장)
+     * */
+    @Transactional
+    public DocumentDetailResponseDto create(long empId, DocumentSaveRequestDto requestDto) {
+        validateApprovers(empId, requestDto.approverEmpIds());
+        DocumentEntity doc = documentRepository.save(DocumentEntity.builder()
+                .drafterEmpId(empId)
+                .title(requestDto.title())
+                .content(requestDto.content())
+                .status(DocumentStatus.DRAFT)
+                .currentStep(0)
+                .build());
+        List<ApprovalLineEntity> lines = saveLines(doc.getDocId(), requestDto.approverEmpIds());
+        documentRevisionStore.append(doc.getDocId(), null, null, doc.getTitle(), doc.getContent(), empId);
+        eventPublisher.publishEvent(new DocumentChangedEvent(doc.getDocId()));
+        return DocumentDetailResponseDto.of(doc, lines);
+    } // func end
+
+    /**
+     * [DOCUMENT_002] 문서 수정 (임시저장 상태만)
+     * */
+    @Transactional
+    public DocumentDetailResponseDto update(long empId, long docId, DocumentSaveRequestDto requestDto) {
+        DocumentEntity doc = getOwnedDraft(empId, docId);
+        validateApprovers(empId, requestDto.approverEmpIds());
+        documentRevisionStore.append(docId, doc.getTitle(), doc.getContent(),
+                requestDto.title(), requestDto.content(), empId);
+        doc.setTitle(requestDto.title());
+        doc.setContent(requestDto.content());
+
+        // 결재선 교체 (삭제를 먼저 반영해야 UK(doc_id, step_no) 충돌이 없다)
+        approvalLineRepository.deleteByDocId(docId);
+        approvalLineRepository.flush();
+        List<ApprovalLineEntity> lines = saveLines(docId, requestDto.approverEmpIds());
+        documentRepository.saveAndFlush(doc);
+        eventPublisher.publishEvent(new DocumentChangedEvent(docId));
+        return DocumentDetailResponseDto.of(doc, lines);
+    } // func end
+
+    /**
+     * [DOCUMENT_003] 문서 삭제 (임시저장 상태만, 결재선은 FK CASCADE)
+     * */
+    @Transactional
+    public void delete(long empId, long docId) {
+        documentRepository.delete(getOwnedDraft(empId, docId));
+        eventPublisher.publishEvent(new DocumentChangedEvent(docId));
+    } // func end
+
+    /**
+     * [DOCUMENT_004] 상신 → 1단계 결재자 차례
+     * */
+    @Transactional
+    public DocumentDetailResponseDto submit(long empId, long docId) {
+        DocumentEntity doc = getOwnedDraft(empId, docId);
+        List<ApprovalLineEntity> lines = approvalLineRepository.findByDocIdOrderByStepNo(docId);
+        if (lines.isEmpty()) {
+            throw new IllegalStateException("결재선이 없습니다.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        lines.get(0).setStatus(ApprovalStatus.PENDING);
+        doc.setStatus(DocumentStatus.SUBMITTED);
+        doc.setCurrentStep(1);
+        doc.setSubmittedAt(now);
+        documentRepository.saveAndFlush(doc);
+
+        publishInboxChanged(doc, lines, lines.get(0).getApproverEmpId());
+        eventPublisher.publishEvent(new DocumentChangedEvent(docId));
+        log.info("[DOCUMENT] submitted. docId={} drafter={}", docId, empId);
+        return DocumentDetailResponseDto.of(doc, lines);
+    } // func end
+
+    /**
+     * [DOCUMENT_005] 승인 → 다음 단계 결재자 차례 / 마지막 단계면 최종 승인
+     * */
+    @Transactional
+    public DocumentDetailResponseDto approve(long empId, long docId, ApprovalActionRequestDto requestDto) {
+        // [1] 현재 단계 결재자 확인
+        DocumentEntity doc = getDocument(docId);
+        List<ApprovalLineEntity> lines = approvalLineRepository.findByDocIdOrderByStepNo(docId);
+        ApprovalLineEntity line = getMyPendingLine(empId, doc, lines, requestDto);
+
+        // [2] 단계 승인
+        LocalDateTime now = LocalDateTime.now();
+        line.setStatus(ApprovalStatus.APPROVED);
+        line.setComment(requestDto.comment());
+        line.setActedAt(now);
+
+        // [3] 다음 단계 / 최종 승인
+        Long nextApprover = null;
+        if (doc.getCurrentStep() == lines.size()) {
+            doc.setStatus(DocumentStatus.APPROVED);
+            doc.setCompletedAt(now);
+        } else {
+            ApprovalLineEntity next = lines.get(doc.getCurrentStep());
+            next.setStatus(ApprovalStatus.PENDING);
+            doc.setCurrentStep(doc.getCurrentStep() + 1);
+            nextApprover = next.getApproverEmpId();
+        }
+
+        // [4] 버전 검사 + 반영 (충돌 시 ObjectOptimisticLockingFailureException → 409)
+        documentRepository.saveAndFlush(doc);
+        publishInboxChanged(doc, lines, nextApprover);
+        eventPublisher.publishEvent(new DocumentChangedEvent(docId));
+        log.info("[DOCUMENT] approved. docId={} step={} approver={}", docId, line.getStepNo(), empId);
+        return DocumentDetailResponseDto.of(doc, lines);
+    } // func end
+
+    /**
+     * [DOCUMENT_006] 반려 → 문서 종료
+     * */
+    @Transactional
+    public DocumentDetailResponseDto reject(long empId, long docId, ApprovalActionRequestDto requestDto) {
+        DocumentEntity doc = getDocument(docId);
+        List<ApprovalLineEntity> lines = approvalLineRepository.findByDocIdOrderByStepNo(docId);
+        ApprovalLineEntity line = getMyPendingLine(empId, doc, lines, requestDto);
+
+        LocalDateTime now = LocalDateTime.now();
+        line.setStatus(ApprovalStatus.REJECTED);
+        line.setComment(requestDto.comment());
+        line.setActedAt(now);
+        doc.setStatus(DocumentStatus.REJECTED);
+        doc.setCompletedAt(now);
+
+        documentRepository.saveAndFlush(doc);
+        publishInboxChanged(doc, lines, null);
+        eventPublisher.publishEvent(new DocumentChangedEvent(docId));
+        log.info("[DOCUMENT] rejected. docId={} step={} approver={}", docId, line.getStepNo(), empId);
+        return DocumentDetailResponseDto.of(doc, lines);
+    } // func end
+
+    /**
+     * [DOCUMENT_007] 내가 기안한 문서 목록
+     * */
+    @Transactional(readOnly = true)
+    public List<DocumentSummaryResponseDto> getMyDocuments(long empId, DocumentStatus status, int page, int size) {
+        PageRequest pageable = PageRequest.of(page, size);
+        List<DocumentEntity> docs = status == null
+                ? documentRepository.findByDrafterEmpIdOrderByDocIdDesc(empId, pageable)
+                : documentRepository.findByDrafterEmpIdAndStatusOrderByDocIdDesc(empId, status, pageable);
+        return docs.stream().map(DocumentSummaryResponseDto::from).toList();
+    } // func end
+
+    /**
+     * [DOCUMENT_008] 문서 상세 (기안자 / 결재선 / 관리 부서 / SUPER_ADMIN)
+     * - 결재 차례인 결재자가 열람하면 미열람 표시 해제 (Redis 오류는 로그만 남김 – 상세 조회는 DB 만으로 응답)
+     * */
+    @Transactional(readOnly = true)
+    public DocumentDetailResponseDto getDetail(UserPrincipal principal, long docId) {
+        DocumentEntity doc = getDocument(docId);
+        List<ApprovalLineEntity> lines = approvalLineRepository.findByDocIdOrderByStepNo(docId);
+        checkReadable(principal, doc, lines);
+
+        long empId = principal.getEmpId();
+        if (doc.getStatus() == DocumentStatus.SUBMITTED
+                && lines.get(doc.getCurrentStep() - 1).getApproverEmpId() == empId) {
+            try {
+                approvalInboxStore.markRead(empId, docId);
+            } catch (RuntimeException e) {
+                log.warn("[DOCUMENT] inbox mark-read failed. empId={} docId={} error={}", empId, docId, e.getMessage());
+            }
+        }
+        return DocumentDetailResponseDto.of(doc, lines);
+    } // func end
+
+    /**
+     * 문서 조회 권한 확인 (첨부파일 등 하위 자원 공용)
+     * */
+    @Transactional(readOnly = true)
+    public DocumentEntity getReadableDocument(UserPrincipal principal, long docId) {
+        DocumentEntity doc = getDocument(docId);
+        checkReadable(principal, doc, approvalLineRepository.findByDocIdOrderByStepNo(docId));
+        return doc;
+    } // func end
+
+    /**
+     * 문서 변경 권한 확인 (본인이 기안한 임시저장 문서)
+     * */
+    @Transactional(readOnly = true)
+    public DocumentEntity getEditableDocument(long empId, long docId) {
+        return getOwnedDraft(empId, docId);
+    } // func end
+
+    /**
+     * 조회 권한 (검색 색인 권한 필터와 같은 규칙)
+     * - 기안자 본인, SUPER_ADMIN : 전체
+     * - 결재선 포함 / 관리 부서(manager_scope) 직원이 기안 : 상신 이후 문서
+     * */
+    private void checkReadable(UserPrincipal principal, DocumentEntity doc, List<ApprovalLineEntity> lines) {
+        long empId = principal.getEmpId();
+        if (doc.getDrafterEmpId() == empId) return;
+        boolean superAdmin = principal.getAuthorities().stream()
+                .anyMatch(a -> "ROLE_SUPER_ADMIN".equals(a.getAuthority()));
+        if (superAdmin) return;
+
+        if (doc.getStatus() != DocumentStatus.DRAFT) {
+            if (lines.stream().anyMatch(l -> l.getApproverEmpId() == empId)) return;
+            Long drafterDeptId = employeeRepository.findById(doc.getDrafterEmpId())
+                    .map(EmployeeEntity::getDeptId).orElse(null);
+            if (drafterDeptId != null && accountAuthMapper.selectScopeDeptIds(empId).contains(drafterDeptId)) return;
+        }
+        throw new ForbiddenException("문서 조회 권한이 없습니다.");
+    } // func end
+
+    private DocumentEntity getDocument(long docId) {
+        return documentRepository.findById(docId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 문서입니다."));
+    } // func end
+
+    /**
+     * 본인이 기안한 임시저장 문서
+     * */
+    private DocumentEntity getOwnedDraft(long empId, long docId) {
+        DocumentEntity doc = getDocument(docId);
+        if (doc.getDrafterEmpId() != empId) {
+            throw new ForbiddenException("본인이 기안한 문서가 아닙니다.");
+        }
+        if (doc.getStatus() != DocumentStatus.DRAFT) {
+            throw new IllegalStateException("임시저장 상태의 문서만 변경할 수 있습니다.");
+        }
+        return doc;
+    } // func end
+
+    /**
+     * 현재 결재 차례인 본인 단계 (상태 / 차례 / 버전 확인)
+     * */
+    private ApprovalLineEntity getMyPendingLine(long empId, DocumentEntity doc, List<ApprovalLineEntity> lines,
+                                                ApprovalActionRequestDto requestDto) {
+        if (requestDto.version() != null && requestDto.version() != doc.getVersion()) {
+            throw new ObjectOptimisticLockingFailureException(DocumentEntity.class, doc.getDocId());
+        }
+        if (doc.getStatus() != DocumentStatus.SUBMITTED) {
+            throw new IllegalStateException("결재 진행 중인 문서가 아닙니다.");
+        }
+        ApprovalLineEntity line = lines.get(doc.getCurrentStep() - 1);
+        if (line.getApproverEmpId() != empId || line.getStatus() != ApprovalStatus.PENDING) {
+            throw new ForbiddenException("결재 차례가 아닙니다.");
+        }
+        return line;
+    } // func end
+
+    /**
+     * 결재자 검증 (중복 / 본인 / 존재 여부)
+     * */
+    private void validateApprovers(long drafterEmpId, List<Long> approverEmpIds) {
+        if (new HashSet<>(approverEmpIds).size() != approverEmpIds.size()) {
+            throw new IllegalArgumentException("결재선에 같은 결재자가 중복되었습니다.");
+        }
+        if (approverEmpIds.contains(drafterEmpId)) {
+            throw new IllegalArgumentException("기안자는 결재선에 포함될 수 없습니다.");
+        }
+        if (employeeRepository.findAllById(approverEmpIds).size() != approverEmpIds.size()) {
+            throw new IllegalArgumentException("존재하지 않는 결재자가 있습니다.");
+        }
+    } // func end
+
+    private List<ApprovalLineEntity> saveLines(long docId, List<Long> approverEmpIds) {
+        List<ApprovalLineEntity> lines = new ArrayList<>(approverEmpIds.size());
+        for (int i = 0; i < approverEmpIds.size(); i++) {
+            lines.add(ApprovalLineEntity.builder()
+                    .docId(docId)
+                    .stepNo(i + 1)
+                    .approverEmpId(approverEmpIds.get(i))
+                    .status(ApprovalStatus.WAITING)
+                    .build());
+        }
+        return approvalLineRepository.saveAll(lines);
+    } // func end
+
+    /**
+     * 결재 차례 변경 이벤트 (saveAndFlush 이후 증가된 버전 사용)
+     * */
+    private void publishInboxChanged(DocumentEntity doc, List<ApprovalLineEntity> lines, Long pendingEmpId) {
+        List<Long> approverEmpIds = lines.stream().map(ApprovalLineEntity::getApproverEmpId).toList();
+        eventPublisher.publishEvent(new ApprovalInboxChangedEvent(doc.getDocId(), doc.getVersion(),
+                approverEmpIds, pendingEmpId, System.currentTimeMillis()));
+    } // func end
+
+} // class end
@@ -0,0 +1,7 @@
+package com.wework.employee.event;
+
+/**
+ * 직원 소속/상태 변경 (가입 / 잠금 / 잠금 해제 / 부서 이동)
+ * - 변경 후 상태를 담는다 (같은 이벤트를 여러 번 반영해도 결과가 같음)
+ * */
+public record EmployeeChangedEvent(long empId, Long deptId, String status) { } // record end
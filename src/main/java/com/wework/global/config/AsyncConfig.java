@@ -0,0 +1,18 @@
+package com.wework.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * @Async 활성화 설정
+ *
+ * <p>별도 Executor 를 등록하지 않고 Spring Boot 의 applicationTaskExecutor 를 그대로 사용한다.
+ * <ul>
+ *   <li>기본(Java 17) : ThreadPoolTaskExecutor (spring.task.execution.pool.*)</li>
+ *   <li>vthreads 프로필(Java 21) : 작업마다 가상 스레드를 생성하는 SimpleAsyncTaskExecutor</li>
+ * </ul>
+ * */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+} // class end
@@ -0,0 +1,38 @@
+package com.wework.global.config;
+
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * faststart 프로필 : 관리자 전용 / 드물게 쓰는 빈 지연 생성
+ *
+ * <p>faststart.lazy-beans 에 나열한 빈만 첫 사용 시점에 만든다 (전체 지연 생성은 첫 로그인 요청이 느려지므로 사용하지 않음).
+ * 다른 즉시 생성 빈이 주입받는 빈은 지연 표시를 해도 함께 만들어지므로, 의존 관계의 끝에 있는 빈만 나열한다.
+ * AOT 빌드(-Paot)에서는 이 표시가 생성 코드에 그대로 반영된다.
+ * */
+@Configuration
+@Profile("faststart")
+public class FastStartupConfig {
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyBeansPostProcessor(Environment environment) {
+        List<String> lazyBeans = Binder.get(environment)
+                .bind("faststart.lazy-beans", Bindable.listOf(String.class))
+                .orElse(List.of());
+        return beanFactory -> {
+            for (String name : lazyBeans) {
+                if (beanFactory.containsBeanDefinition(name)) {
+                    beanFactory.getBeanDefinition(name).setLazyInit(true);
+                }
+            }
+        };
+    } // func end
+
+} // class end
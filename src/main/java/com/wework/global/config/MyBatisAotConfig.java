@@ -0,0 +1,65 @@
+package com.wework.global.config;
+
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.mybatis.spring.mapper.MapperScannerConfigurer;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.beans.factory.aot.BeanRegistrationExcludeFilter;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+/**
+ * MyBatis 매퍼를 Spring AOT 처리 결과로 기동하기 위한 보정 (faststart 프로필 + gradle bootJar -Paot)
+ *
+ * <p>AOT 처리 중에만 동작하며 일반 기동에는 영향이 없다.
+ * <P>1) 매퍼 빈 정의의 생성자 인자(매퍼 인터페이스 이름)를 인덱스 인자(Class)로 바꾸고 대상 타입을 지정
+ *       – AOT 코드 생성은 이름 없는 generic 인자를 옮기지 못해 실행 시 매퍼 생성이 실패함</P>
+ * <P>2) 매퍼 스캐너는 생성 코드에서 제외 – 매퍼 빈 정의가 이미 코드로 생성되므로 실행 시 다시 스캔하면 빈 이름이 충돌함
+ *       (META-INF/spring/aot.factories 로 등록)</P>
+ * */
+@Configuration
+public class MyBatisAotConfig {
+
+    @Bean
+    public static BeanFactoryPostProcessor myBatisMapperAotPostProcessor() {
+        return beanFactory -> {
+            if (!Boolean.getBoolean("spring.aot.processing")) return;
+            ClassLoader classLoader = beanFactory.getBeanClassLoader();
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (!MapperFactoryBean.class.getName().equals(definition.getBeanClassName())) continue;
+
+                // [1] 매퍼 인터페이스 (스캐너가 generic 인자로 넣은 클래스 이름)
+                ConstructorArgumentValues args = definition.getConstructorArgumentValues();
+                ConstructorArgumentValues.ValueHolder holder = args.getGenericArgumentValues().isEmpty()
+                        ? args.getIndexedArgumentValue(0, null) : args.getGenericArgumentValues().get(0);
+                if (holder == null) continue;
+                Object value = holder.getValue();
+                Class<?> mapperInterface = value instanceof Class<?> c ? c
+                        : ClassUtils.resolveClassName(String.valueOf(value), classLoader);
+
+                // [2] 인덱스 인자 + 생성 객체 타입 (타입 기반 주입이 빌드 시점에 확정되도록)
+                args.clear();
+                args.addIndexedArgumentValue(0, mapperInterface);
+                definition.setAttribute(FactoryBean.OBJECT_TYPE_ATTRIBUTE, mapperInterface);
+            }
+        };
+    } // func end
+
+    /**
+     * 매퍼 스캐너 AOT 생성 코드 제외
+     * */
+    static class ScannerExcludeFilter implements BeanRegistrationExcludeFilter {
+
+        @Override
+        public boolean isExcludedFromAotProcessing(RegisteredBean registeredBean) {
+            return MapperScannerConfigurer.class.isAssignableFrom(registeredBean.getBeanClass());
+        } // func end
+
+    } // class end
+
+} // class end
@@ -1,14 +1,25 @@
 package com.wework.global.config;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.resource.Delay;
 import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesBuilderCustomizer;
+import org.springframework.boot.autoconfigure.data.redis.LettuceClientConfigurationBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
 import java.time.temporal.Temporal;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class RedisConfig {
@@ -40,4 +51,69 @@ public class RedisConfig {
         return template;
     } // func end
 
+    /**
+     * Redis Pub/Sub 구독 컨테이너 (구독 연결 1개를 모든 채널 리스너가 공유)
+     * */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory){
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    } // func end
+
+    /**
+     * Redis 명령 / 연결 타임아웃 (Redis 가 느려지거나 사라져도 요청 스레드가 오래 묶이지 않도록)
+     * <P>1) 명령 타임아웃 : spring.data.redis.timeout (기본 500ms, Lettuce 기본값은 60초)</P>
+     * <P>2) 연결 타임아웃 : spring.data.redis.connect-timeout (기본 1초)</P>
+     * <P>3) 연결이 끊긴 동안의 명령은 재연결까지 쌓아 두지 않고 즉시 실패 → 차단기가 바로 감지</P>
+     * */
+    @Bean
+    public LettuceClientConfigurationBuilderCustomizer redisTimeoutCustomizer(
+            @Value("${spring.data.redis.timeout:500ms}") Duration commandTimeout,
+            @Value("${spring.data.redis.connect-timeout:1s}") Duration connectTimeout){
+        return builder -> {
+            // 자동 구성이 만든 옵션(클러스터 옵션 포함)을 유지한 채 덮어씀
+            ClientOptions.Builder options = builder.build().getClientOptions()
+                    .map(ClientOptions::mutate)
+                    .orElseGet(ClientOptions::builder);
+            builder.commandTimeout(commandTimeout)
+                    .clientOptions(options
+                            .socketOptions(SocketOptions.builder().connectTimeout(connectTimeout).build())
+                            .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                            .build());
+        };
+    } // func end
+
+    /**
+     * Redis Cluster 토폴로지 갱신 (spring.data.redis.cluster.nodes 설정 시에만 적용)
+     * <P>1) 주기 갱신 : spring.data.redis.lettuce.cluster.refresh.period (기본 30초)</P>
+     * <P>2) 적응형 갱신 : MOVED / ASK 리다이렉트, 재연결 실패 시 즉시 갱신 (failover·reshard 후 바로 새 노드로)</P>
+     * <P>3) 토폴로지는 시드 노드뿐 아니라 발견한 모든 노드에 조회 (시드 노드가 내려가도 갱신 가능)</P>
+     * */
+    @Bean
+    public LettuceClientConfigurationBuilderCustomizer redisClusterCustomizer(
+            @Value("${spring.data.redis.lettuce.cluster.refresh.period:30s}") Duration refreshPeriod,
+            @Value("${spring.data.redis.lettuce.cluster.refresh.adaptive:true}") boolean adaptiveRefresh){
+        return builder -> builder.build().getClientOptions()
+                .filter(ClusterClientOptions.class::isInstance)
+                .map(ClusterClientOptions.class::cast)
+                .ifPresent(options -> {
+                    ClusterTopologyRefreshOptions.Builder refresh = ClusterTopologyRefreshOptions.builder()
+                            .enablePeriodicRefresh(refreshPeriod)
+                            .dynamicRefreshSources(true);
+                    if (adaptiveRefresh) refresh.enableAllAdaptiveRefreshTriggers();
+                    builder.clientOptions(options.mutate().topologyRefreshOptions(refresh.build()).build());
+                });
+    } // func end
+
+    /**
+     * 재연결 간격 상한 (Lettuce 기본 30초 → Redis 복구 후 늦어도 이 시간 안에 재연결)
+     * */
+    @Bean
+    public ClientResourcesBuilderCustomizer redisReconnectCustomizer(
+            @Value("${redis.reconnect-max-delay:2s}") Duration maxDelay){
+        return builder -> builder.reconnectDelay(
+                Delay.exponential(Duration.ofMillis(100), maxDelay, 2, TimeUnit.MILLISECONDS));
+    } // func end
+
 } // class end
@@ -0,0 +1,30 @@
+package com.wework.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 활성화 설정
+ * - 근태 write-behind 반영 등 주기 작업에 사용
+ * */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    /**
+     * 스케줄러 스레드 수 : spring.task.scheduling.pool.size (기본 8, Spring Boot 기본값은 1)
+     * <P>1) @Scheduled 작업 16개가 스레드 1개를 나눠 쓰면 긴 작업(가용 색인 재적재, 스트림 heartbeat 수천 건)
+     *       동안 200ms 주기 flush(근태 / 감사)가 밀린다</P>
+     * <P>2) 분석 스냅샷처럼 수 초 이상 걸리는 작업은 자체 실행기로 넘기고, 스케줄러 스레드는 곧바로 반환한다</P>
+     * <P>3) vthreads 프로필에서는 작업마다 가상 스레드로 실행되므로 이 값은 쓰이지 않는다</P>
+     * */
+    @Bean
+    public ThreadPoolTaskSchedulerCustomizer schedulerPoolCustomizer(
+            @Value("${spring.task.scheduling.pool.size:8}") int poolSize){
+        return scheduler -> scheduler.setPoolSize(poolSize);
+    } // func end
+
+} // class end
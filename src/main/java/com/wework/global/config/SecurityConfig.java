@@ -4,6 +4,7 @@ import com.wework.global.security.AccessDeniedHandlerImpl;
 import com.wework.global.security.AuthenticationEntryPointImpl;
 import com.wework.global.security.JwtAuthenticationFilter;
 import com.wework.global.security.JwtProperties;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.Filter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -83,7 +84,9 @@ public class SecurityConfig {
                  * 3) 경로별 접근 정책
                  * ------------------------------------------------------- */
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()           // 비동기 재디스패치(SSE 종료 등)는 최초 요청에서 이미 인가됨
                         .requestMatchers("/api/auth/**").permitAll()                // 로그인/회원가입 API 허용
+                        .requestMatchers("/actuator/health/**").permitAll()         // liveness / readiness 프로브 (상태값만 노출)
                         .requestMatchers("/api/admin/**").hasRole("SUPER_ADMIN")    // SUPER_ADMIN 에 대해서만 관련 기능 활성화
                         .requestMatchers("/api/account/**").authenticated()         // 계정관련 기능
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()     // Preflight 허용
@@ -0,0 +1,33 @@
+package com.wework.global.config;
+
+import org.apache.coyote.AbstractProtocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 내장 Tomcat 설정
+ * - 장시간 열려 있는 SSE 연결(대시보드 / 세션 스트림)을 수용할 연결 수
+ * */
+@Configuration
+public class TomcatConfig {
+
+    /**
+     * 최대 동시 연결 수 : server.tomcat.max-connections (기본 22000, Tomcat 기본값은 8192)
+     * <P>1) 스트림 상한 합계(dashboard.stream 10000 + session.stream 10000) 위에 일반 API 요청용 2000 을 더한 값</P>
+     * <P>2) 상한에 닿으면 새 연결은 accept-count 만큼 대기 후 거절되므로, 스트림이 가득 차도 API 요청이 들어올 자리를 남긴다</P>
+     * <P>3) Spring Boot 기본 설정(8192)보다 나중에 적용되고, 속성을 지정하면 그 값을 그대로 쓴다</P>
+     * */
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> tomcatConnectionCustomizer(
+            @Value("${server.tomcat.max-connections:22000}") int maxConnections){
+        return factory -> factory.addConnectorCustomizers(connector -> {
+            if (connector.getProtocolHandler() instanceof AbstractProtocol<?> protocol) {
+                protocol.setMaxConnections(maxConnections);
+            }
+        });
+    } // func end
+
+} // class end
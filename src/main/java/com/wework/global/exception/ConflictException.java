@@ -0,0 +1,7 @@
+package com.wework.global.exception;
+
+public class ConflictException extends RuntimeException{
+    public ConflictException(String message) {
+        super(message);
+    }
+} // exception end
@@ -1,5 +1,7 @@
 package com.wework.global.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -14,4 +16,24 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(401).body(Map.of("message", e.getMessage()));
     }
 
+    // 낙관적 잠금 충돌 (다른 요청이 먼저 수정)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<?> handle409(OptimisticLockingFailureException e){
+        return ResponseEntity.status(409).body(Map.of("message", "다른 사용자가 먼저 처리했습니다. 새로고침 후 다시 시도해 주세요."));
+    }
+
+    // 자원 점유 충돌 (예약 시간 중복 등)
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<?> handleConflict(ConflictException e){
+        return ResponseEntity.status(409).body(Map.of("message", e.getMessage()));
+    }
+
+    // 의존 시스템 장애 (Redis 차단기 열림 등) – 빠르게 거절하고 재시도 시점 안내
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<?> handle503(ServiceUnavailableException e){
+        return ResponseEntity.status(503)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(Map.of("message", e.getMessage()));
+    }
+
 } // class end
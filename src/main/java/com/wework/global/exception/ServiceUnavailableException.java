@@ -0,0 +1,14 @@
+package com.wework.global.exception;
+
+/**
+ * 의존 시스템(Redis 등) 장애로 요청을 처리할 수 없음 → 503 (클라이언트는 잠시 후 재시도)
+ * */
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+} // exception end
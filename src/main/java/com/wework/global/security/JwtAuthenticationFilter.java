@@ -1,6 +1,8 @@
 package com.wework.global.security;
 
-import com.wework.auth.infra.redis.RedisTokenStore;
+import com.wework.auth.infra.token.TokenStore;
+import com.wework.auth.service.ActivityTrackingService;
+import com.wework.global.exception.ServiceUnavailableException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,6 +10,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -25,6 +28,7 @@ import java.io.IOException;
  * 유효한 JWT인 경우 SecurityContext에 인증 정보를 저장한다.
  * </p>
  * <p>2026.01.09 블랙리스트 관련 코드 추가</p>
+ * <p>계정 상태(INACTIVE)도 매 요청 확인 – 잠금 처리된 계정은 토큰이 남아 있어도 401</p>
  */
 @Component
 @RequiredArgsConstructor
@@ -37,7 +41,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     /** loginId 기반으로 사용자 정보를 로드하는 UserDetailsService 구현체 */
     private final CustomUserDetailsService userDetailsService;
 
-    private final RedisTokenStore redisTokenStore;
+    private final TokenStore tokenStore;
+
+    /** 마지막 활동 시각 기록 (메모리 버퍼, 주기적 배치 반영) */
+    private final ActivityTrackingService activityTrackingService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -64,8 +71,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 }
 
                 // [5] 블랙리스트 여부 체크
+                // - Redis 장애 시 auth.redis.blacklist-policy 에 따름 (FAIL_CLOSED 면 바로 503)
                 String jti = jwtTokenProvider.getJti(token);
-                if (redisTokenStore.isBlacklisted(jti)) {
+                boolean blacklisted;
+                try {
+                    blacklisted = tokenStore.isBlacklisted(jwtTokenProvider.getEmpId(token), jti);
+                } catch (ServiceUnavailableException e) {
+                    response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                    response.setHeader("Retry-After", "5");
+                    response.setContentType("application/json;charset=UTF-8");
+                    response.getWriter()
+                            .write("{\"message\":\"" + e.getMessage() + "\"}");
+                    return;
+                }
+                if (blacklisted) {
                     log.info("[JWT] blacklisted access token. jti={}", jti);
                     response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                     response.setContentType("application/json;charset=UTF-8");
@@ -78,7 +97,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 String loginId = jwtTokenProvider.getLoginId(token);
 
                 // [7] loginId 로 사용자 정보 조회 (권한, 계정 상태 등 포함)
-                UserDetails userDetails = userDetailsService.loadUserByUsername(loginId);
+                // - 잠긴(퇴사) 계정 / 삭제된 계정의 토큰은 만료 전이라도 401
+                UserDetails userDetails;
+                try {
+                    userDetails = userDetailsService.loadUserByUsername(loginId);
+                } catch (AuthenticationException e) {
+                    userDetails = null;
+                }
+                if (userDetails == null || !userDetails.isEnabled()) {
+                    log.info("[JWT] inactive account. loginId={}", loginId);
+                    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                    response.setContentType("application/json;charset=UTF-8");
+                    response.getWriter()
+                            .write("{\"message\":\"비활성화된 계정입니다.\"}");
+                    return;
+                }
 
                 // [8] 인증 객체 생성 (비밀번호는 null, 권한은 userDetails에서 가져옴)
                 UsernamePasswordAuthenticationToken authentication =
@@ -95,10 +128,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                 // [10] SecurityContext에 인증 정보 저장
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+
+                // [11] 마지막 활동 시각 기록 (DB 쓰기 없음)
+                if (userDetails instanceof UserPrincipal principal) {
+                    activityTrackingService.recordSeen(principal.getEmpId());
+                }
             } // if end
         } // if end
 
-        // [11] 다음 필터로 요청 전달
+        // [12] 다음 필터로 요청 전달
         filterChain.doFilter(request, response);
     } // func end
 } // class end
\ No newline at end of file
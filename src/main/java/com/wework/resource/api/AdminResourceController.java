@@ -0,0 +1,34 @@
+package com.wework.resource.api;
+
+import com.wework.resource.dto.request.ResourceSaveRequestDto;
+import com.wework.resource.service.ResourceService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/resources")
+public class AdminResourceController {
+
+    private final ResourceService resourceService;
+
+    /**
+     * [RESOURCE_006] 설비 등록
+     * */
+    @PostMapping
+    public ResponseEntity<?> create(@Valid @RequestBody ResourceSaveRequestDto requestDto){
+        return ResponseEntity.ok(resourceService.create(requestDto));
+    } // func end
+
+    /**
+     * [RESOURCE_007] 설비 수정
+     * */
+    @PutMapping("/{resourceId}")
+    public ResponseEntity<?> update(@PathVariable long resourceId,
+                                    @Valid @RequestBody ResourceSaveRequestDto requestDto){
+        return ResponseEntity.ok(resourceService.update(resourceId, requestDto));
+    } // func end
+
+} // class end
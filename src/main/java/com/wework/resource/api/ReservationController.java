@@ -0,0 +1,90 @@
+package com.wework.resource.api;
+
+import com.wework.global.dto.response.CommonSuccessResponseDto;
+import com.wework.global.security.UserPrincipal;
+import com.wework.resource.dto.request.ReservationCreateRequestDto;
+import com.wework.resource.dto.request.ReservationSeriesCreateRequestDto;
+import com.wework.resource.service.ReservationSeriesService;
+import com.wework.resource.service.ReservationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/reservations")
+@RequiredArgsConstructor
+public class ReservationController {
+
+    private final ReservationService reservationService;
+    private final ReservationSeriesService reservationSeriesService;
+
+    /**
+     * [RESOURCE_004] 예약 (15분 단위, 시간 중복 시 409)
+     * */
+    @PostMapping
+    public ResponseEntity<?> reserve(@AuthenticationPrincipal UserPrincipal principal,
+                                     @Valid @RequestBody ReservationCreateRequestDto requestDto){
+        return ResponseEntity.ok(reservationService.reserve(principal.getEmpId(), requestDto));
+    } // func end
+
+    /**
+     * [RESOURCE_005] 예약 취소
+     * */
+    @DeleteMapping("/{reservationId}")
+    public ResponseEntity<?> cancel(@AuthenticationPrincipal UserPrincipal principal, @PathVariable long reservationId){
+        reservationService.cancel(principal, reservationId);
+        return ResponseEntity.ok(CommonSuccessResponseDto.ok());
+    } // func end
+
+    /**
+     * [RESOURCE_008] 내 예약
+     * */
+    @GetMapping("/my")
+    public ResponseEntity<?> myReservations(@AuthenticationPrincipal UserPrincipal principal){
+        return ResponseEntity.ok(reservationService.getMyReservations(principal.getEmpId()));
+    } // func end
+
+    /**
+     * [RESOURCE_011] 반복 예약 (매주 / 격주 / 매월, 회차 중 하나라도 겹치면 409)
+     * */
+    @PostMapping("/series")
+    public ResponseEntity<?> reserveSeries(@AuthenticationPrincipal UserPrincipal principal,
+                                           @Valid @RequestBody ReservationSeriesCreateRequestDto requestDto){
+        return ResponseEntity.ok(reservationSeriesService.reserve(principal.getEmpId(), requestDto));
+    } // func end
+
+    /**
+     * [RESOURCE_012] 반복 종료 (시작 전 회차 모두 취소)
+     * */
+    @DeleteMapping("/series/{seriesId}")
+    public ResponseEntity<?> cancelSeries(@AuthenticationPrincipal UserPrincipal principal, @PathVariable long seriesId){
+        reservationSeriesService.cancel(principal, seriesId);
+        return ResponseEntity.ok(CommonSuccessResponseDto.ok());
+    } // func end
+
+    /**
+     * [RESOURCE_013] 반복 예약 회차 1건 취소
+     * 예) DELETE /api/reservations/series/950001/occurrences/2026-11-02
+     * */
+    @DeleteMapping("/series/{seriesId}/occurrences/{date}")
+    public ResponseEntity<?> cancelOccurrence(@AuthenticationPrincipal UserPrincipal principal,
+                                              @PathVariable long seriesId,
+                                              @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date){
+        reservationSeriesService.cancelOccurrence(principal, seriesId, date);
+        return ResponseEntity.ok(CommonSuccessResponseDto.ok());
+    } // func end
+
+    /**
+     * [RESOURCE_014] 내 반복 예약
+     * */
+    @GetMapping("/series/my")
+    public ResponseEntity<?> mySeries(@AuthenticationPrincipal UserPrincipal principal){
+        return ResponseEntity.ok(reservationSeriesService.getMySeries(principal.getEmpId()));
+    } // func end
+
+} // class end
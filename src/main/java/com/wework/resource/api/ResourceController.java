@@ -0,0 +1,80 @@
+package com.wework.resource.api;
+
+import com.wework.resource.entity.ResourceFeature;
+import com.wework.resource.entity.ResourceType;
+import com.wework.resource.service.ReservationService;
+import com.wework.resource.service.ResourceService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/resources")
+@RequiredArgsConstructor
+public class ResourceController {
+
+    private final ResourceService resourceService;
+    private final ReservationService reservationService;
+
+    /**
+     * [RESOURCE_001] 설비 목록
+     * 예) GET /api/resources?type=ROOM
+     * */
+    @GetMapping
+    public ResponseEntity<?> list(@RequestParam(required = false) ResourceType type){
+        return ResponseEntity.ok(resourceService.getResources(type));
+    } // func end
+
+    /**
+     * [RESOURCE_009] 빈 설비 검색
+     * 예) GET /api/resources/available?date=2026-10-20&days=5&start=14:00&end=15:30&capacity=8&features=PROJECTOR,VIDEO_CONF&match=ALL
+     * */
+    @GetMapping("/available")
+    public ResponseEntity<?> available(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+                                       @RequestParam(defaultValue = "1") int days,
+                                       @RequestParam @DateTimeFormat(pattern = "HH:mm") LocalTime start,
+                                       @RequestParam @DateTimeFormat(pattern = "HH:mm") LocalTime end,
+                                       @RequestParam(required = false) ResourceType type,
+                                       @RequestParam(required = false) Integer capacity,
+                                       @RequestParam(required = false) Set<ResourceFeature> features,
+                                       @RequestParam(defaultValue = "ALL") String match){
+        return ResponseEntity.ok(resourceService.searchAvailable(date, days, start, end, type, capacity,
+                features, !"ANY".equalsIgnoreCase(match)));
+    } // func end
+
+    /**
+     * [RESOURCE_002] 설비 상세
+     * */
+    @GetMapping("/{resourceId}")
+    public ResponseEntity<?> detail(@PathVariable long resourceId){
+        return ResponseEntity.ok(resourceService.getDetail(resourceId));
+    } // func end
+
+    /**
+     * [RESOURCE_010] 설비 하루 빈 시간대
+     * 예) GET /api/resources/800001/availability?date=2026-10-20
+     * */
+    @GetMapping("/{resourceId}/availability")
+    public ResponseEntity<?> availability(@PathVariable long resourceId,
+                                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date){
+        return ResponseEntity.ok(resourceService.getAvailability(resourceId, date));
+    } // func end
+
+    /**
+     * [RESOURCE_003] 설비의 기간 내 예약
+     * 예) GET /api/resources/800001/reservations?from=2026-10-19T00:00&to=2026-10-26T00:00
+     * */
+    @GetMapping("/{resourceId}/reservations")
+    public ResponseEntity<?> reservations(@PathVariable long resourceId,
+                                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to){
+        return ResponseEntity.ok(reservationService.getReservations(resourceId, from, to));
+    } // func end
+
+} // class end
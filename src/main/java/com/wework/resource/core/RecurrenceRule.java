@@ -0,0 +1,63 @@
+package com.wework.resource.core;
+
+import com.wework.resource.entity.RecurrenceFrequency;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 반복 규칙 (firstDate 부터 untilDate 까지, 매 회차 [startTime, endTime))
+ *
+ * <p>k 번째 회차 날짜는 firstDate 에서 바로 계산한다 (주 단위 = +7k / +14k 일, 월 단위 = +k 개월).
+ * 어떤 날짜 이후 첫 회차도 나눗셈으로 구하므로, 회차를 처음부터 세지 않고 원하는 구간만 펼칠 수 있다.
+ * */
+public record RecurrenceRule(RecurrenceFrequency frequency, LocalDate firstDate, LocalDate untilDate,
+                             LocalTime startTime, LocalTime endTime) {
+
+    /**
+     * k 번째(0부터) 회차 날짜
+     * */
+    public LocalDate dateAt(long k) {
+        return switch (frequency) {
+            case WEEKLY -> firstDate.plusDays(7 * k);
+            case BIWEEKLY -> firstDate.plusDays(14 * k);
+            case MONTHLY -> firstDate.plusMonths(k);
+        };
+    } // func end
+
+    /**
+     * date 이후(포함) 첫 회차 번호 (종료일을 넘을 수 있음)
+     * */
+    public long indexAtOrAfter(LocalDate date) {
+        if (!date.isAfter(firstDate)) return 0;
+        return switch (frequency) {
+            case WEEKLY -> ceilDiv(ChronoUnit.DAYS.between(firstDate, date), 7);
+            case BIWEEKLY -> ceilDiv(ChronoUnit.DAYS.between(firstDate, date), 14);
+            case MONTHLY -> {
+                long k = ChronoUnit.MONTHS.between(firstDate.withDayOfMonth(1), date.withDayOfMonth(1));
+                yield dateAt(k).isBefore(date) ? k + 1 : k;
+            }
+        };
+    } // func end
+
+    /**
+     * 전체 회차 수
+     * */
+    public long count() {
+        return indexAtOrAfter(untilDate.plusDays(1));
+    } // func end
+
+    /**
+     * 회차가 있는 날짜인지
+     * */
+    public boolean occursOn(LocalDate date) {
+        if (date.isBefore(firstDate) || date.isAfter(untilDate)) return false;
+        return dateAt(indexAtOrAfter(date)).equals(date);
+    } // func end
+
+    private static long ceilDiv(long a, long b) {
+        return -Math.floorDiv(-a, b);
+    } // func end
+
+} // record end
@@ -0,0 +1,98 @@
+package com.wework.resource.core;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 반복 예약 1건 (규칙 + 취소된 회차)
+ *
+ * <p>회차는 저장하지 않고 조회/충돌 확인 구간만큼만 펼친다. 회차 취소는 날짜 1개를 집합에 넣는 O(1) 이다.
+ * <p>스레드 안전하지 않다. {@link ReservationTimeline} 과 같이 설비 잠금 안에서 사용한다.
+ * */
+@Getter
+public final class ReservationSeries {
+
+    /**
+     * 펼쳐진 회차 [startMinute, endMinute) (epoch 분)
+     * */
+    public record Occurrence(long seriesId, LocalDate date, long startMinute, long endMinute) { } // record end
+
+    private final long seriesId;
+    private final long empId;
+    private final String empName;
+    private final String title;
+    private RecurrenceRule rule;
+    @Getter(AccessLevel.NONE)
+    private final Set<LocalDate> cancelledDates;
+
+    public ReservationSeries(long seriesId, long empId, String empName, String title,
+                             RecurrenceRule rule, Set<LocalDate> cancelledDates) {
+        this.seriesId = seriesId;
+        this.empId = empId;
+        this.empName = empName;
+        this.title = title;
+        this.rule = rule;
+        this.cancelledDates = new HashSet<>(cancelledDates);
+    } // func end
+
+    /**
+     * [startMinute, endMinute) 와 겹치는 회차 (취소된 회차 제외, 시작순)
+     * - 회차는 하루 안에서 끝나므로 startMinute 전날부터 펼친다
+     * */
+    public List<Occurrence> occurrences(long startMinute, long endMinute) {
+        List<Occurrence> result = new ArrayList<>();
+        LocalDate from = ReservationTimeline.timeOf(startMinute).toLocalDate().minusDays(1);
+        for (long k = rule.indexAtOrAfter(from); ; k++) {
+            LocalDate date = rule.dateAt(k);
+            if (date.isAfter(rule.untilDate())) break;
+            Occurrence occurrence = occurrenceOn(date);
+            if (occurrence.startMinute() >= endMinute) break;
+            if (occurrence.endMinute() > startMinute && !cancelledDates.contains(date)) result.add(occurrence);
+        }
+        return result;
+    } // func end
+
+    /**
+     * [startMinute, endMinute) 와 겹치는 첫 회차 (없으면 empty)
+     * */
+    public Optional<Occurrence> findConflict(long startMinute, long endMinute) {
+        List<Occurrence> overlapping = occurrences(startMinute, endMinute);
+        return overlapping.isEmpty() ? Optional.empty() : Optional.of(overlapping.get(0));
+    } // func end
+
+    /**
+     * date 회차 (규칙상 회차인지는 호출자가 확인)
+     * */
+    public Occurrence occurrenceOn(LocalDate date) {
+        return new Occurrence(seriesId, date,
+                ReservationTimeline.minuteOf(date.atTime(rule.startTime())),
+                ReservationTimeline.minuteOf(date.atTime(rule.endTime())));
+    } // func end
+
+    /**
+     * 회차 취소 (O(1))
+     * @return 새로 취소되었으면 true
+     * */
+    public boolean cancel(LocalDate date) {
+        return cancelledDates.add(date);
+    } // func end
+
+    public boolean isCancelled(LocalDate date) {
+        return cancelledDates.contains(date);
+    } // func end
+
+    /**
+     * 종료일 단축 (반복 종료)
+     * */
+    public void truncate(LocalDate untilDate) {
+        rule = new RecurrenceRule(rule.frequency(), rule.firstDate(), untilDate, rule.startTime(), rule.endTime());
+    } // func end
+
+} // class end
@@ -0,0 +1,248 @@
+package com.wework.resource.core;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 설비 1개의 예약 구간 색인
+ *
+ * <p>한 설비의 예약은 서로 겹치지 않으므로 시작 시각 기준 정렬 트리(TreeMap) 하나로 구간 트리 역할을 한다.
+ * <ul>
+ *   <li>[s, e) 와 겹치는 예약 = (s 이하에서 시작한 마지막 예약 중 e' &gt; s) + (s 이후 e 전에 시작하는 예약)</li>
+ *   <li>충돌 확인 / 추가 / 삭제 모두 O(log n)</li>
+ * </ul>
+ * <p>반복 예약({@link ReservationSeries})은 규칙으로만 보관하고, 조회/충돌 확인 시 7일 창 단위로 펼쳐 캐시한다.
+ * 규칙이 바뀌면(등록/회차 취소/종료) 이 설비의 캐시만 비운다.
+ * <p>시각은 로컬 기준 epoch 분(minute) 으로 보관한다.
+ * <p>스레드 안전하지 않다. 호출자가 설비별 잠금을 잡고 사용한다.
+ * */
+public final class ReservationTimeline {
+
+    /**
+     * 예약 구간 [startMinute, endMinute)
+     * */
+    public record Booking(long reservationId, long startMinute, long endMinute) { } // record end
+
+    private static final long DAY_MINUTES = 24 * 60;
+    private static final long WINDOW_MINUTES = 7 * DAY_MINUTES;
+    // 펼친 창 캐시 상한 (넘으면 비움)
+    private static final int MAX_CACHED_WINDOWS = 64;
+
+    private final TreeMap<Long, Booking> byStart = new TreeMap<>();
+    private final Map<Long, ReservationSeries> series = new HashMap<>();
+    // 창 번호(epoch 분 / 7일) → 창 안에서 시작하는 회차 (시작순)
+    private final Map<Long, List<ReservationSeries.Occurrence>> windows = new HashMap<>();
+    // 이 색인에 반영된 DB 예약 버전 (resource.reservation_version)
+    private long version;
+
+    public ReservationTimeline(long version) {
+        this.version = version;
+    } // func end
+
+    public static long minuteOf(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) / 60;
+    } // func end
+
+    public static LocalDateTime timeOf(long minute) {
+        return LocalDateTime.ofEpochSecond(minute * 60, 0, ZoneOffset.UTC);
+    } // func end
+
+    /**
+     * [start, end) 와 겹치는 예약 1건 (없으면 empty)
+     * */
+    public Optional<Booking> findConflict(long start, long end) {
+        Map.Entry<Long, Booking> before = byStart.floorEntry(start);
+        if (before != null && before.getValue().endMinute() > start) return Optional.of(before.getValue());
+        Map.Entry<Long, Booking> after = byStart.higherEntry(start);
+        if (after != null && after.getKey() < end) return Optional.of(after.getValue());
+        return Optional.empty();
+    } // func end
+
+    /**
+     * [start, end) 와 겹치는 예약 전체 (시작 시각순)
+     * */
+    public List<Booking> overlapping(long start, long end) {
+        List<Booking> result = new ArrayList<>();
+        Map.Entry<Long, Booking> before = byStart.lowerEntry(start);
+        if (before != null && before.getValue().endMinute() > start) result.add(before.getValue());
+        result.addAll(byStart.subMap(start, true, end, false).values());
+        return result;
+    } // func end
+
+    /**
+     * 예약 추가 (겹치면 IllegalStateException – 호출 전 findConflict 로 확인)
+     * */
+    public void add(Booking booking) {
+        if (findConflict(booking.startMinute(), booking.endMinute()).isPresent()) {
+            throw new IllegalStateException("Overlapping booking : " + booking);
+        }
+        byStart.put(booking.startMinute(), booking);
+    } // func end
+
+    /**
+     * 예약 제거 (같은 예약일 때만)
+     * */
+    public boolean remove(long reservationId, long startMinute) {
+        Booking booking = byStart.get(startMinute);
+        if (booking == null || booking.reservationId() != reservationId) return false;
+        byStart.remove(startMinute);
+        return true;
+    } // func end
+
+    /**
+     * 종료 시각이 minute 이전인 예약 정리
+     * */
+    public void pruneBefore(long minute) {
+        while (!byStart.isEmpty() && byStart.firstEntry().getValue().endMinute() <= minute) {
+            byStart.pollFirstEntry();
+        }
+    } // func end
+
+    /**
+     * [start, end) 와 겹치는 반복 예약 회차 1건 (없으면 empty)
+     * - 회차는 하루 안에서 끝나므로 start 하루 전부터 시작한 회차만 보면 된다
+     * */
+    public Optional<ReservationSeries.Occurrence> findSeriesConflict(long start, long end) {
+        if (series.isEmpty()) return Optional.empty();
+        for (long w = Math.floorDiv(start - DAY_MINUTES, WINDOW_MINUTES); w <= Math.floorDiv(end - 1, WINDOW_MINUTES); w++) {
+            for (ReservationSeries.Occurrence occurrence : window(w)) {
+                if (occurrence.startMinute() < end && occurrence.endMinute() > start) return Optional.of(occurrence);
+            }
+        }
+        return Optional.empty();
+    } // func end
+
+    /**
+     * [start, end) 와 겹치는 반복 예약 회차 전체 (시작순)
+     * */
+    public List<ReservationSeries.Occurrence> seriesOccurrences(long start, long end) {
+        List<ReservationSeries.Occurrence> result = new ArrayList<>();
+        if (series.isEmpty()) return result;
+        for (long w = Math.floorDiv(start - DAY_MINUTES, WINDOW_MINUTES); w <= Math.floorDiv(end - 1, WINDOW_MINUTES); w++) {
+            for (ReservationSeries.Occurrence occurrence : window(w)) {
+                if (occurrence.startMinute() < end && occurrence.endMinute() > start) result.add(occurrence);
+            }
+        }
+        return result;
+    } // func end
+
+    /**
+     * 새 반복 예약과 겹치는 회차 1건 (새 반복 예약 쪽 회차, 없으면 empty)
+     * <ul>
+     *   <li>단건 예약 : 반복 기간 안의 예약마다 규칙으로 해당 날짜 회차만 계산 (회차를 모두 펼치지 않음)</li>
+     *   <li>반복 예약 : 두 기간이 겹치는 날짜 범위만 펼쳐 상대 규칙으로 확인</li>
+     * </ul>
+     * */
+    public Optional<ReservationSeries.Occurrence> findConflict(ReservationSeries candidate) {
+        RecurrenceRule rule = candidate.getRule();
+        long from = minuteOf(rule.firstDate().atStartOfDay());
+        long to = minuteOf(rule.untilDate().plusDays(1).atStartOfDay());
+
+        // [1] 단건 예약
+        for (Booking booking : overlapping(from, to)) {
+            Optional<ReservationSeries.Occurrence> conflict = candidate.findConflict(booking.startMinute(), booking.endMinute());
+            if (conflict.isPresent()) return conflict;
+        }
+
+        // [2] 다른 반복 예약
+        for (ReservationSeries other : series.values()) {
+            LocalDate lo = max(rule.firstDate(), other.getRule().firstDate());
+            LocalDate hi = min(rule.untilDate(), other.getRule().untilDate());
+            if (lo.isAfter(hi)) continue;
+            for (ReservationSeries.Occurrence occurrence : candidate.occurrences(
+                    minuteOf(lo.atStartOfDay()), minuteOf(hi.plusDays(1).atStartOfDay()))) {
+                if (other.findConflict(occurrence.startMinute(), occurrence.endMinute()).isPresent()) {
+                    return Optional.of(occurrence);
+                }
+            }
+        }
+        return Optional.empty();
+    } // func end
+
+    /**
+     * 반복 예약 추가 (호출 전 findConflict(ReservationSeries) 로 확인)
+     * */
+    public void addSeries(ReservationSeries added) {
+        series.put(added.getSeriesId(), added);
+        windows.clear();
+    } // func end
+
+    public ReservationSeries getSeries(long seriesId) {
+        return series.get(seriesId);
+    } // func end
+
+    /**
+     * 반복 예약 회차 취소
+     * @return 새로 취소되었으면 true
+     * */
+    public boolean cancelOccurrence(long seriesId, LocalDate date) {
+        ReservationSeries target = series.get(seriesId);
+        if (target == null || !target.cancel(date)) return false;
+        windows.clear();
+        return true;
+    } // func end
+
+    /**
+     * 반복 예약 종료 (untilDate 이후 회차 제거, 남은 회차가 없으면 삭제)
+     * */
+    public void truncateSeries(long seriesId, LocalDate untilDate) {
+        ReservationSeries target = series.get(seriesId);
+        if (target == null) return;
+        if (untilDate.isBefore(target.getRule().firstDate())) series.remove(seriesId);
+        else target.truncate(untilDate);
+        windows.clear();
+    } // func end
+
+    /**
+     * 창 w 의 회차 (없으면 펼쳐서 캐시)
+     * */
+    private List<ReservationSeries.Occurrence> window(long w) {
+        List<ReservationSeries.Occurrence> cached = windows.get(w);
+        if (cached != null) return cached;
+        if (windows.size() >= MAX_CACHED_WINDOWS) windows.clear();
+
+        long from = w * WINDOW_MINUTES;
+        long to = from + WINDOW_MINUTES;
+        List<ReservationSeries.Occurrence> expanded = new ArrayList<>();
+        for (ReservationSeries each : series.values()) {
+            for (ReservationSeries.Occurrence occurrence : each.occurrences(from, to)) {
+                if (occurrence.startMinute() >= from) expanded.add(occurrence);
+            }
+        }
+        expanded.sort(Comparator.comparingLong(ReservationSeries.Occurrence::startMinute));
+        windows.put(w, expanded);
+        return expanded;
+    } // func end
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    } // func end
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    } // func end
+
+    public int size() {
+        return byStart.size();
+    } // func end
+
+    public long version() {
+        return version;
+    } // func end
+
+    /**
+     * 이 노드가 DB 에 반영한 변경까지 포함되었음을 기록 (커밋 후 버전)
+     * */
+    public void setVersion(long version) {
+        this.version = version;
+    } // func end
+
+} // class end
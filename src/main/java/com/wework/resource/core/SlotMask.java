@@ -0,0 +1,47 @@
+package com.wework.resource.core;
+
+/**
+ * 하루 15분 슬롯 비트마스크 (96 슬롯 = long 2개)
+ *
+ * <p>bit i = 1 이면 00:00 + 15분 × i 슬롯이 점유됨.
+ * 구간 [fromSlot, toSlot) 의 충돌 여부는 word 별 (busy &amp; query) 2회로 판단한다.
+ * */
+public final class SlotMask {
+
+    public static final int SLOT_MINUTES = 15;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    public static final int WORDS_PER_DAY = (SLOTS_PER_DAY + 63) >>> 6;
+
+    private SlotMask() { }
+
+    /**
+     * [fromSlot, toSlot) 중 word w 에 해당하는 비트
+     * */
+    public static long word(int w, int fromSlot, int toSlot) {
+        int lo = Math.max(fromSlot, w << 6);
+        int hi = Math.min(toSlot, (w << 6) + 64);
+        if (lo >= hi) return 0L;
+        int length = hi - lo;
+        long bits = length == 64 ? -1L : (1L << length) - 1;
+        return bits << (lo - (w << 6));
+    } // func end
+
+    /**
+     * [fromSlot, toSlot) 전체 마스크
+     * */
+    public static long[] of(int fromSlot, int toSlot) {
+        long[] mask = new long[WORDS_PER_DAY];
+        for (int w = 0; w < WORDS_PER_DAY; w++) {
+            mask[w] = word(w, fromSlot, toSlot);
+        }
+        return mask;
+    } // func end
+
+    /**
+     * 분(0~1440) → 슬롯 번호 (정각 단위가 아니면 내림)
+     * */
+    public static int slotOf(int minuteOfDay) {
+        return minuteOfDay / SLOT_MINUTES;
+    } // func end
+
+} // class end
@@ -0,0 +1,35 @@
+package com.wework.resource.core;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 키별 잠금 (고정 개수 stripe)
+ *
+ * <p>설비마다 잠금 객체를 만들지 않고, 설비ID 해시로 stripe 를 고른다.
+ * 서로 다른 설비는 대부분 다른 stripe 를 쓰므로 병렬로 예약되고,
+ * 같은 설비의 예약만 직렬화된다 (해시가 겹친 설비끼리는 함께 직렬화될 수 있음).
+ * */
+public final class StripedLocks {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    public StripedLocks(int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.locks = new ReentrantLock[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    } // func end
+
+    public ReentrantLock get(long key) {
+        int h = Long.hashCode(key) * 0x9E3779B9;
+        return locks[(h ^ (h >>> 16)) & mask];
+    } // func end
+
+    public int size() {
+        return locks.length;
+    } // func end
+
+} // class end
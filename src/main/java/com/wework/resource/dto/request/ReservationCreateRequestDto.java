@@ -0,0 +1,25 @@
+package com.wework.resource.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+
+/**
+ * [RESOURCE_004] 예약 요청 (15분 단위)
+ * */
+public record ReservationCreateRequestDto(
+        @NotNull(message = "resourceId는 필수입니다.")
+        Long resourceId,                // 설비ID
+
+        @NotBlank(message = "용도는 필수입니다.")
+        @Size(max = 200)
+        String title,                   // 용도
+
+        @NotNull(message = "startAt은 필수입니다.")
+        LocalDateTime startAt,          // 시작 시각
+
+        @NotNull(message = "endAt은 필수입니다.")
+        LocalDateTime endAt             // 종료 시각 (미포함)
+) { } // record end
@@ -0,0 +1,36 @@
+package com.wework.resource.dto.request;
+
+import com.wework.resource.entity.RecurrenceFrequency;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * [RESOURCE_011] 반복 예약 요청 (15분 단위, 회차는 하루 안에서 끝남)
+ * */
+public record ReservationSeriesCreateRequestDto(
+        @NotNull(message = "resourceId는 필수입니다.")
+        Long resourceId,                    // 설비ID
+
+        @NotBlank(message = "용도는 필수입니다.")
+        @Size(max = 200)
+        String title,                       // 용도
+
+        @NotNull(message = "frequency는 필수입니다.")
+        RecurrenceFrequency frequency,      // 반복 주기
+
+        @NotNull(message = "firstDate는 필수입니다.")
+        LocalDate firstDate,                // 첫 회차
+
+        @NotNull(message = "untilDate는 필수입니다.")
+        LocalDate untilDate,                // 마지막 회차 기준일 (포함)
+
+        @NotNull(message = "startTime은 필수입니다.")
+        LocalTime startTime,                // 회차 시작 시각
+
+        @NotNull(message = "endTime은 필수입니다.")
+        LocalTime endTime                   // 회차 종료 시각 (미포함)
+) { } // record end
@@ -0,0 +1,34 @@
+package com.wework.resource.dto.request;
+
+import com.wework.resource.entity.ResourceFeature;
+import com.wework.resource.entity.ResourceType;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.Set;
+
+/**
+ * [RESOURCE_006~007] 설비 등록/수정 요청
+ * */
+public record ResourceSaveRequestDto(
+        @NotBlank(message = "설비명은 필수입니다.")
+        @Size(max = 100)
+        String resourceName,            // 설비명
+
+        @NotNull(message = "설비 종류는 필수입니다.")
+        ResourceType resourceType,      // ROOM / EQUIPMENT / VEHICLE
+
+        @Min(0)
+        int capacity,                   // 수용 인원
+
+        @Size(max = 100)
+        String location,                // 위치
+
+        Set<ResourceFeature> features,  // 비품
+
+        @Pattern(regexp = "ACTIVE|INACTIVE")
+        String status                   // 상태 (미지정 시 ACTIVE)
+) { } // record end
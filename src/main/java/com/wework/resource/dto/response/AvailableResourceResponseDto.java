@@ -0,0 +1,29 @@
+package com.wework.resource.dto.response;
+
+import com.wework.resource.entity.ResourceFeature;
+import com.wework.resource.entity.ResourceType;
+import com.wework.resource.infra.index.AvailabilityIndex;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 빈 설비 검색 결과
+ * */
+public record AvailableResourceResponseDto(
+        long resourceId,                // 설비ID
+        String resourceName,            // 설비명
+        ResourceType resourceType,      // 설비 종류
+        int capacity,                   // 수용 인원
+        String location,                // 위치
+        Set<ResourceFeature> features,  // 비품
+        List<LocalDate> freeDates       // 요청 시간대가 비어 있는 날짜
+) {
+    public static AvailableResourceResponseDto from(AvailabilityIndex.Match match) {
+        ResourceResponseDto resource = ResourceResponseDto.from(match.resource());
+        return new AvailableResourceResponseDto(resource.resourceId(), resource.resourceName(),
+                resource.resourceType(), resource.capacity(), resource.location(),
+                resource.features(), match.freeDates());
+    } // func end
+} // record end
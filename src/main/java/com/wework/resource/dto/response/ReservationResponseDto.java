@@ -0,0 +1,39 @@
+package com.wework.resource.dto.response;
+
+import com.wework.resource.core.ReservationSeries;
+import com.wework.resource.core.ReservationTimeline;
+import com.wework.resource.entity.ReservationEntity;
+import com.wework.resource.mapper.ReservationRow;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 정보
+ * */
+public record ReservationResponseDto(
+        Long reservationId,             // 예약ID (반복 예약 회차면 null)
+        Long seriesId,                  // 반복 예약ID (단건 예약이면 null)
+        long resourceId,                // 설비ID
+        long empId,                     // 예약자 사번
+        String empName,                 // 예약자 이름 (목록 조회 시)
+        String title,                   // 용도
+        LocalDateTime startAt,          // 시작 시각
+        LocalDateTime endAt             // 종료 시각 (미포함)
+) {
+    public static ReservationResponseDto from(ReservationEntity reservation) {
+        return new ReservationResponseDto(reservation.getReservationId(), null, reservation.getResourceId(),
+                reservation.getEmpId(), null, reservation.getTitle(), reservation.getStartAt(), reservation.getEndAt());
+    } // func end
+
+    public static ReservationResponseDto from(ReservationRow row) {
+        return new ReservationResponseDto(row.getReservationId(), null, row.getResourceId(), row.getEmpId(),
+                row.getEmpName(), row.getTitle(), row.getStartAt(), row.getEndAt());
+    } // func end
+
+    public static ReservationResponseDto from(long resourceId, ReservationSeries series,
+                                              ReservationSeries.Occurrence occurrence) {
+        return new ReservationResponseDto(null, series.getSeriesId(), resourceId, series.getEmpId(),
+                series.getEmpName(), series.getTitle(), ReservationTimeline.timeOf(occurrence.startMinute()),
+                ReservationTimeline.timeOf(occurrence.endMinute()));
+    } // func end
+} // record end
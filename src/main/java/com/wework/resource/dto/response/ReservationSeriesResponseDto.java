@@ -0,0 +1,32 @@
+package com.wework.resource.dto.response;
+
+import com.wework.resource.core.RecurrenceRule;
+import com.wework.resource.entity.RecurrenceFrequency;
+import com.wework.resource.entity.ReservationSeriesEntity;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 반복 예약 정보
+ * */
+public record ReservationSeriesResponseDto(
+        long seriesId,                      // 반복 예약ID
+        long resourceId,                    // 설비ID
+        long empId,                         // 예약자 사번
+        String title,                       // 용도
+        RecurrenceFrequency frequency,      // 반복 주기
+        LocalDate firstDate,                // 첫 회차
+        LocalDate untilDate,                // 마지막 회차 기준일 (포함)
+        LocalTime startTime,                // 회차 시작 시각
+        LocalTime endTime,                  // 회차 종료 시각 (미포함)
+        long occurrences                    // 전체 회차 수 (취소 회차 포함)
+) {
+    public static ReservationSeriesResponseDto from(ReservationSeriesEntity series) {
+        RecurrenceRule rule = new RecurrenceRule(series.getFrequency(), series.getFirstDate(),
+                series.getUntilDate(), series.getStartTime(), series.getEndTime());
+        return new ReservationSeriesResponseDto(series.getSeriesId(), series.getResourceId(), series.getEmpId(),
+                series.getTitle(), series.getFrequency(), series.getFirstDate(), series.getUntilDate(),
+                series.getStartTime(), series.getEndTime(), rule.count());
+    } // func end
+} // record end
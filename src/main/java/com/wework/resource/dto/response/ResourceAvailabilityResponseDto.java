@@ -0,0 +1,19 @@
+package com.wework.resource.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * 설비 하루 가용 시간
+ * */
+public record ResourceAvailabilityResponseDto(
+        long resourceId,        // 설비ID
+        LocalDate date,         // 날짜
+        List<Period> free       // 빈 시간대 (15분 단위로 연속 구간 병합)
+) {
+    /**
+     * [start, end) – 자정까지 비어 있으면 end = 00:00
+     * */
+    public record Period(LocalTime start, LocalTime end) { } // record end
+} // record end
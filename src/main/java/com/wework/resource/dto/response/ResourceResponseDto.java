@@ -0,0 +1,26 @@
+package com.wework.resource.dto.response;
+
+import com.wework.resource.entity.ResourceEntity;
+import com.wework.resource.entity.ResourceFeature;
+import com.wework.resource.entity.ResourceType;
+
+import java.util.Set;
+
+/**
+ * 설비 정보
+ * */
+public record ResourceResponseDto(
+        long resourceId,                // 설비ID
+        String resourceName,            // 설비명
+        ResourceType resourceType,      // 설비 종류
+        int capacity,                   // 수용 인원
+        String location,                // 위치
+        Set<ResourceFeature> features,  // 비품
+        String status                   // 상태
+) {
+    public static ResourceResponseDto from(ResourceEntity resource) {
+        return new ResourceResponseDto(resource.getResourceId(), resource.getResourceName(),
+                resource.getResourceType(), resource.getCapacity(), resource.getLocation(),
+                ResourceFeature.parse(resource.getFeatures()), resource.getStatus());
+    } // func end
+} // record end
@@ -0,0 +1,10 @@
+package com.wework.resource.entity;
+
+/**
+ * 반복 예약 주기
+ * */
+public enum RecurrenceFrequency {
+    WEEKLY,         // 매주 (첫 날짜와 같은 요일)
+    BIWEEKLY,       // 격주
+    MONTHLY         // 매월 (첫 날짜와 같은 일자, 없는 달은 말일)
+} // enum end
@@ -0,0 +1,51 @@
+package com.wework.resource.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@Table(name = "reservation")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Setter
+public class ReservationEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reservation_id")
+    private Long reservationId;             // 예약ID(PK)
+
+    @Column(name = "resource_id", nullable = false)
+    private long resourceId;                // 설비ID(FK)
+
+    @Column(name = "emp_id", nullable = false)
+    private long empId;                     // 예약자 사번(FK)
+
+    @Column(nullable = false, length = 200)
+    private String title;                   // 용도
+
+    @Column(name = "start_at", nullable = false)
+    private LocalDateTime startAt;          // 시작 시각
+
+    @Column(name = "end_at", nullable = false)
+    private LocalDateTime endAt;            // 종료 시각 (미포함)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReservationStatus status;       // 예약 상태
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;        // 예약일
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;        // 수정일
+
+} // class end
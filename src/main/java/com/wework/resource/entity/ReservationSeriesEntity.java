@@ -0,0 +1,63 @@
+package com.wework.resource.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+@Getter
+@Entity
+@Table(name = "reservation_series")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Setter
+public class ReservationSeriesEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "series_id")
+    private Long seriesId;                      // 반복 예약ID(PK)
+
+    @Column(name = "resource_id", nullable = false)
+    private long resourceId;                    // 설비ID(FK)
+
+    @Column(name = "emp_id", nullable = false)
+    private long empId;                         // 예약자 사번(FK)
+
+    @Column(nullable = false, length = 200)
+    private String title;                       // 용도
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RecurrenceFrequency frequency;      // 반복 주기
+
+    @Column(name = "first_date", nullable = false)
+    private LocalDate firstDate;                // 첫 회차
+
+    @Column(name = "until_date", nullable = false)
+    private LocalDate untilDate;                // 마지막 회차 기준일 (포함)
+
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;                // 회차 시작 시각
+
+    @Column(name = "end_time", nullable = false)
+    private LocalTime endTime;                  // 회차 종료 시각 (미포함)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReservationStatus status;           // 상태
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;            // 예약일
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;            // 수정일
+
+} // class end
@@ -0,0 +1,9 @@
+package com.wework.resource.entity;
+
+/**
+ * 예약 상태
+ * */
+public enum ReservationStatus {
+    RESERVED,       // 예약됨 (슬롯 점유)
+    CANCELLED       // 취소 (슬롯 해제)
+} // enum end
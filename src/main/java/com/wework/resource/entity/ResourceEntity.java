@@ -0,0 +1,51 @@
+package com.wework.resource.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@Table(name = "resource")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Setter
+public class ResourceEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "resource_id")
+    private Long resourceId;                // 설비ID(PK)
+
+    @Column(name = "resource_name", nullable = false, length = 100)
+    private String resourceName;            // 설비명
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "resource_type", nullable = false, length = 20)
+    private ResourceType resourceType;      // 설비 종류
+
+    @Column(nullable = false)
+    private int capacity;                   // 수용 인원
+
+    @Column(length = 100)
+    private String location;                // 위치
+
+    @Column(length = 255)
+    private String features;                // 비품 (콤마 구분, ResourceFeature)
+
+    @Column(nullable = false, length = 20)
+    private String status;                  // ACTIVE / INACTIVE
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;        // 생성일
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;        // 수정일
+
+} // class end
@@ -0,0 +1,48 @@
+package com.wework.resource.entity;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 설비 비품 (가용 검색 필터)
+ * - resource.features 에 콤마 구분으로 저장, 색인에서는 ordinal 비트마스크로 비교
+ * */
+public enum ResourceFeature {
+    PROJECTOR,      // 빔프로젝터
+    DISPLAY,        // 대형 모니터/TV
+    VIDEO_CONF,     // 화상회의 장비
+    WHITEBOARD,     // 화이트보드
+    PHONE;          // 회의용 전화
+
+    /**
+     * "A,B" → EnumSet (빈 값이면 빈 집합)
+     * */
+    public static Set<ResourceFeature> parse(String csv) {
+        EnumSet<ResourceFeature> features = EnumSet.noneOf(ResourceFeature.class);
+        if (csv == null || csv.isBlank()) return features;
+        for (String token : csv.split(",")) {
+            if (!token.isBlank()) features.add(ResourceFeature.valueOf(token.trim()));
+        }
+        return features;
+    } // func end
+
+    /**
+     * 집합 → "A,B" (빈 집합이면 null)
+     * */
+    public static String format(Set<ResourceFeature> features) {
+        if (features == null || features.isEmpty()) return null;
+        return String.join(",", EnumSet.copyOf(features).stream().map(Enum::name).toList());
+    } // func end
+
+    /**
+     * 집합 → 비트마스크
+     * */
+    public static long mask(Set<ResourceFeature> features) {
+        long mask = 0;
+        if (features != null) {
+            for (ResourceFeature feature : features) mask |= 1L << feature.ordinal();
+        }
+        return mask;
+    } // func end
+
+} // enum end
@@ -0,0 +1,10 @@
+package com.wework.resource.entity;
+
+/**
+ * 설비 종류
+ * */
+public enum ResourceType {
+    ROOM,           // 회의실
+    EQUIPMENT,      // 장비
+    VEHICLE         // 차량
+} // enum end
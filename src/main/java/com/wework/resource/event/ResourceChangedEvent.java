@@ -0,0 +1,6 @@
+package com.wework.resource.event;
+
+/**
+ * 설비 등록/수정 (커밋 후 가용 색인 재적재)
+ * */
+public record ResourceChangedEvent(long resourceId) { } // record end
@@ -0,0 +1,326 @@
+package com.wework.resource.infra.index;
+
+import com.wework.resource.core.ReservationSeries;
+import com.wework.resource.core.ReservationTimeline;
+import com.wework.resource.core.SlotMask;
+import com.wework.resource.entity.ResourceEntity;
+import com.wework.resource.entity.ResourceFeature;
+import com.wework.resource.entity.ResourceType;
+import com.wework.resource.event.ResourceChangedEvent;
+import com.wework.resource.mapper.ReservationMapper;
+import com.wework.resource.mapper.ReservationRow;
+import com.wework.resource.mapper.ReservationSeriesMapper;
+import com.wework.resource.mapper.ReservationSeriesRow;
+import com.wework.resource.repository.ResourceRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 설비 가용 시간 비트셋 색인 (오늘부터 horizonDays 일)
+ *
+ * <p>설비마다 하루 96 슬롯(15분) = long 2개, horizonDays 일치를 AtomicLongArray 하나로 보관한다.
+ * "내일 14:00~15:30 8인 이상 회의실" 검색은 설비당 (busy &amp; query) word 연산 2회이고,
+ * 여러 날 검색도 날짜 수만큼 반복할 뿐 예약 행을 읽지 않는다.
+ *
+ * <p>갱신</p>
+ * <P>1) 예약/취소 커밋 직후 해당 슬롯 비트를 OR / AND-NOT (트랜잭션 안에서 호출하면 커밋 후 반영, 롤백되면 버림)</P>
+ * <P>2) 주기적으로 DB 에서 전체 재적재 → 교체 (날짜 이동 + 다른 노드 변경 반영)</P>
+ * <P>3) 재적재 중 들어온 변경은 기록해 두었다가 새 색인에 다시 반영한 뒤 교체 (반영은 멱등)</P>
+ *
+ * <p>검색 결과는 후보일 뿐이며, 실제 예약은 {@link ReservationIndex} + 슬롯 PK 가 최종 판단한다.
+ * */
+@Component
+@Log4j2
+public class AvailabilityIndex {
+
+    private final ResourceRepository resourceRepository;
+    private final ReservationMapper reservationMapper;
+    private final ReservationSeriesMapper reservationSeriesMapper;
+    private final int horizonDays;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    // 변경 반영(read) ↔ 색인 교체(write)
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    // 재적재 직렬화
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // 재적재 중 들어온 변경 (재적재 중이 아니면 null)
+    private volatile Queue<Change> pending;
+
+    /**
+     * 설비 1개 (속성 + 기간 전체 점유 비트)
+     * */
+    private record ResourceSlots(ResourceEntity resource, long featureMask, AtomicLongArray busy) { }
+
+    /**
+     * 색인 스냅샷 [baseDate, baseDate + days)
+     * */
+    private record Snapshot(LocalDate baseDate, int days, Map<Long, ResourceSlots> byId) { }
+
+    /**
+     * 점유 / 해제 변경
+     * */
+    private record Change(long resourceId, LocalDateTime startAt, LocalDateTime endAt, boolean occupy) { }
+
+    /**
+     * 검색 결과 1건 (조건을 만족하는 날짜)
+     * */
+    public record Match(ResourceEntity resource, List<LocalDate> freeDates) { }
+
+    public AvailabilityIndex(ResourceRepository resourceRepository, ReservationMapper reservationMapper,
+                             ReservationSeriesMapper reservationSeriesMapper,
+                             @Value("${availability.horizon-days:90}") int horizonDays) {
+        this.resourceRepository = resourceRepository;
+        this.reservationMapper = reservationMapper;
+        this.reservationSeriesMapper = reservationSeriesMapper;
+        this.horizonDays = horizonDays;
+    } // func end
+
+    @PostConstruct
+    public void init() {
+        rebuild();
+    } // func end
+
+    /**
+     * 예약 점유 반영
+     * */
+    public void occupy(long resourceId, LocalDateTime startAt, LocalDateTime endAt) {
+        applyAfterCommit(List.of(new Change(resourceId, startAt, endAt, true)));
+    } // func end
+
+    /**
+     * 예약 해제 반영 (한 설비의 예약은 겹치지 않으므로 다른 예약 비트를 지우지 않는다)
+     * */
+    public void release(long resourceId, LocalDateTime startAt, LocalDateTime endAt) {
+        applyAfterCommit(List.of(new Change(resourceId, startAt, endAt, false)));
+    } // func end
+
+    /**
+     * 반복 예약 회차 중 from 이후(포함) + 색인 기간 안의 회차 점유 / 해제
+     * - 회차는 호출 시점의 규칙으로 펼친다 (커밋 전에 색인의 규칙이 바뀌어도 영향 없음)
+     * */
+    public void applySeries(long resourceId, ReservationSeries series, LocalDate from, boolean occupy) {
+        Snapshot snapshot = current.get();
+        LocalDate start = from.isAfter(snapshot.baseDate()) ? from : snapshot.baseDate();
+        List<Change> changes = new ArrayList<>();
+        for (ReservationSeries.Occurrence occurrence : series.occurrences(
+                ReservationTimeline.minuteOf(start.atStartOfDay()),
+                ReservationTimeline.minuteOf(snapshot.baseDate().plusDays(snapshot.days()).atStartOfDay()))) {
+            changes.add(new Change(resourceId, ReservationTimeline.timeOf(occurrence.startMinute()),
+                    ReservationTimeline.timeOf(occurrence.endMinute()), occupy));
+        }
+        applyAfterCommit(changes);
+    } // func end
+
+    /**
+     * 조건에 맞고 [startMinute, endMinute) 가 비어 있는 설비 검색
+     * @param allDays true : 모든 날짜에 비어 있어야 함 / false : 하루라도 비어 있으면 포함
+     * */
+    public List<Match> search(LocalDate from, int days, int startMinute, int endMinute,
+                              ResourceType type, int minCapacity, Set<ResourceFeature> features, boolean allDays) {
+        Snapshot snapshot = current.get();
+        long dayOffset = ChronoUnit.DAYS.between(snapshot.baseDate(), from);
+        if (dayOffset < 0 || dayOffset + days > snapshot.days()) {
+            throw new IllegalArgumentException("검색 가능 기간은 " + snapshot.baseDate() + " 부터 "
+                    + snapshot.days() + "일입니다.");
+        }
+
+        // [1] 시간대 마스크 (종료가 슬롯 중간이면 올림)
+        long[] query = SlotMask.of(SlotMask.slotOf(startMinute),
+                (endMinute + SlotMask.SLOT_MINUTES - 1) / SlotMask.SLOT_MINUTES);
+        long required = ResourceFeature.mask(features);
+
+        // [2] 설비 속성 필터 → 날짜별 word AND
+        List<Match> matches = new ArrayList<>();
+        for (ResourceSlots slots : snapshot.byId().values()) {
+            ResourceEntity resource = slots.resource();
+            if (!"ACTIVE".equals(resource.getStatus())) continue;
+            if (type != null && resource.getResourceType() != type) continue;
+            if (resource.getCapacity() < minCapacity) continue;
+            if ((slots.featureMask() & required) != required) continue;
+
+            List<LocalDate> freeDates = new ArrayList<>(days);
+            for (int d = 0; d < days; d++) {
+                int base = (int) (dayOffset + d) * SlotMask.WORDS_PER_DAY;
+                long conflict = 0;
+                for (int w = 0; w < SlotMask.WORDS_PER_DAY; w++) {
+                    conflict |= slots.busy().get(base + w) & query[w];
+                }
+                if (conflict == 0) freeDates.add(from.plusDays(d));
+            }
+            if (allDays ? freeDates.size() == days : !freeDates.isEmpty()) {
+                matches.add(new Match(resource, freeDates));
+            }
+        }
+
+        // [3] 필요한 인원에 가장 맞는(작은) 설비부터
+        matches.sort(Comparator.comparingInt((Match m) -> m.resource().getCapacity())
+                .thenComparing(m -> m.resource().getResourceName()));
+        return matches;
+    } // func end
+
+    /**
+     * 설비 하루 점유 슬롯 (bit i = 00:00 + 15분 × i)
+     * */
+    public long[] busySlots(long resourceId, LocalDate date) {
+        Snapshot snapshot = current.get();
+        long dayOffset = ChronoUnit.DAYS.between(snapshot.baseDate(), date);
+        ResourceSlots slots = snapshot.byId().get(resourceId);
+        if (slots == null || dayOffset < 0 || dayOffset >= snapshot.days()) {
+            throw new IllegalArgumentException("검색 가능 기간은 " + snapshot.baseDate() + " 부터 "
+                    + snapshot.days() + "일입니다.");
+        }
+        long[] words = new long[SlotMask.WORDS_PER_DAY];
+        for (int w = 0; w < words.length; w++) {
+            words[w] = slots.busy().get((int) dayOffset * SlotMask.WORDS_PER_DAY + w);
+        }
+        return words;
+    } // func end
+
+    /**
+     * 설비 등록/수정 커밋 후 재적재
+     * */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onResourceChanged(ResourceChangedEvent event) {
+        rebuild();
+    } // func end
+
+    /**
+     * 전체 재적재 후 교체
+     * */
+    @Scheduled(fixedDelayString = "${availability.rebuild-interval-ms:300000}",
+            initialDelayString = "${availability.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            pending = new ConcurrentLinkedQueue<>();
+            Snapshot next = load();
+            swapLock.writeLock().lock();
+            try {
+                for (Change change : pending) {
+                    applyTo(next, change);
+                }
+                current.set(next);
+            } finally {
+                pending = null;
+                swapLock.writeLock().unlock();
+            }
+            log.info("[AVAILABILITY] index rebuilt. base={} days={} resources={}",
+                    next.baseDate(), next.days(), next.byId().size());
+        } catch (RuntimeException e) {
+            pending = null;
+            if (current.get() == null) throw e;
+            log.warn("[AVAILABILITY] index rebuild failed (keep previous)", e);
+        } finally {
+            rebuildLock.unlock();
+        }
+    } // func end
+
+    /**
+     * 트랜잭션 안이면 커밋 후 반영 (롤백되면 버림), 아니면 즉시 반영
+     * - 커밋은 설비 잠금 안에서 일어나므로 같은 설비의 변경 순서는 유지된다
+     * */
+    private void applyAfterCommit(List<Change> changes) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    changes.forEach(AvailabilityIndex.this::apply);
+                } // func end
+            });
+            return;
+        }
+        changes.forEach(this::apply);
+    } // func end
+
+    private void apply(Change change) {
+        swapLock.readLock().lock();
+        try {
+            Snapshot snapshot = current.get();
+            if (snapshot != null) applyTo(snapshot, change);
+            Queue<Change> queue = pending;
+            if (queue != null) queue.add(change);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    } // func end
+
+    /**
+     * 설비 + 기간 내 유효 예약 + 반복 예약 회차 적재
+     * */
+    private Snapshot load() {
+        LocalDate baseDate = LocalDate.now();
+        Map<Long, ResourceSlots> byId = new LinkedHashMap<>();
+        for (ResourceEntity resource : resourceRepository.findAll()) {
+            byId.put(resource.getResourceId(), new ResourceSlots(resource,
+                    ResourceFeature.mask(ResourceFeature.parse(resource.getFeatures())),
+                    new AtomicLongArray(horizonDays * SlotMask.WORDS_PER_DAY)));
+        }
+        Snapshot snapshot = new Snapshot(baseDate, horizonDays, byId);
+        List<ReservationRow> rows = reservationMapper.selectAllByPeriod(baseDate.atStartOfDay(),
+                baseDate.plusDays(horizonDays).atStartOfDay());
+        for (ReservationRow row : rows) {
+            applyTo(snapshot, new Change(row.getResourceId(), row.getStartAt(), row.getEndAt(), true));
+        }
+        long from = ReservationTimeline.minuteOf(baseDate.atStartOfDay());
+        long to = ReservationTimeline.minuteOf(baseDate.plusDays(horizonDays).atStartOfDay());
+        for (ReservationSeriesRow row : reservationSeriesMapper.selectActive(null, baseDate)) {
+            for (ReservationSeries.Occurrence occurrence : row.toSeries().occurrences(from, to)) {
+                applyTo(snapshot, new Change(row.getResourceId(), ReservationTimeline.timeOf(occurrence.startMinute()),
+                        ReservationTimeline.timeOf(occurrence.endMinute()), true));
+            }
+        }
+        return snapshot;
+    } // func end
+
+    /**
+     * 변경을 날짜별 슬롯 비트로 반영 (여러 날에 걸친 예약 포함, 색인 기간 밖은 무시)
+     * */
+    private static void applyTo(Snapshot snapshot, Change change) {
+        ResourceSlots slots = snapshot.byId().get(change.resourceId());
+        if (slots == null) return;
+        LocalDate startDate = change.startAt().toLocalDate();
+        LocalDate endDate = change.endAt().toLocalDate();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            long dayOffset = ChronoUnit.DAYS.between(snapshot.baseDate(), date);
+            if (dayOffset < 0 || dayOffset >= snapshot.days()) continue;
+            int fromSlot = date.equals(startDate) ? SlotMask.slotOf(minuteOfDay(change.startAt())) : 0;
+            int toSlot = date.equals(endDate) ? SlotMask.slotOf(minuteOfDay(change.endAt())) : SlotMask.SLOTS_PER_DAY;
+            if (fromSlot >= toSlot) continue;
+            int base = (int) dayOffset * SlotMask.WORDS_PER_DAY;
+            for (int w = 0; w < SlotMask.WORDS_PER_DAY; w++) {
+                long mask = SlotMask.word(w, fromSlot, toSlot);
+                if (mask == 0) continue;
+                if (change.occupy()) slots.busy().accumulateAndGet(base + w, mask, (a, b) -> a | b);
+                else slots.busy().accumulateAndGet(base + w, mask, (a, b) -> a & ~b);
+            }
+        }
+    } // func end
+
+    private static int minuteOfDay(LocalDateTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    } // func end
+
+} // class end
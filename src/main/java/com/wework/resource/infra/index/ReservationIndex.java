@@ -0,0 +1,166 @@
+package com.wework.resource.infra.index;
+
+import com.wework.global.exception.ConflictException;
+import com.wework.resource.core.ReservationTimeline;
+import com.wework.resource.core.StripedLocks;
+import com.wework.resource.mapper.ReservationMapper;
+import com.wework.resource.mapper.ReservationRow;
+import com.wework.resource.mapper.ReservationSeriesMapper;
+import com.wework.resource.mapper.ReservationSeriesRow;
+import com.wework.resource.repository.ReservationJdbcRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 설비별 예약 구간 색인 (메모리) + 설비별 잠금
+ *
+ * <p>처리 흐름</p>
+ * <P>1) 설비에 처음 접근할 때 DB 에서 예약 버전 + 유효 예약(종료 전) + 반복 예약 규칙을 읽어 {@link ReservationTimeline} 적재</P>
+ * <P>2) 예약/취소는 {@link #withLockedTimeline} 안에서 처리 : 노드 잠금 → 트랜잭션 시작 → 설비 행 잠금(FOR UPDATE)
+ *       → 버전이 다르면 색인 재적재 → 충돌 확인 → DB 반영 + 버전 증가 → 커밋</P>
+ * <P>3) 조회는 {@link #withTimeline} (노드 잠금만), 주기적으로 적재된 설비를 DB 기준으로 다시 읽어 다른 노드의 변경을 반영</P>
+ *
+ * <p>노드 잠금은 설비ID 기준 stripe 잠금이라 서로 다른 설비의 예약은 병렬로 처리되고,
+ * 같은 설비의 예약은 노드 안에서 먼저 줄을 선 뒤 DB 커넥션을 잡는다.
+ * 여러 노드의 변경은 설비 행 잠금으로 직렬화되며, 잠금과 함께 읽은 버전이 색인 버전과 같을 때만 색인을 그대로 믿는다.
+ * 따라서 단건 / 반복 예약 모두 다른 노드에서 방금 커밋된 예약과 겹치게 저장되지 않는다.
+ * */
+@Component
+@Log4j2
+public class ReservationIndex {
+
+    // 이미 끝난 예약은 충돌 판단에 필요 없음 (적재/정리 기준 여유)
+    private static final int KEEP_PAST_MINUTES = 60;
+    // 반복 예약은 기간 조회(최대 31일)를 위해 종료 후에도 보관
+    private static final int KEEP_PAST_SERIES_DAYS = 31;
+
+    private final ReservationMapper reservationMapper;
+    private final ReservationSeriesMapper reservationSeriesMapper;
+    private final ReservationJdbcRepository reservationJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StripedLocks locks;
+    private final Map<Long, ReservationTimeline> timelines = new ConcurrentHashMap<>();
+
+    public ReservationIndex(ReservationMapper reservationMapper,
+                            ReservationSeriesMapper reservationSeriesMapper,
+                            ReservationJdbcRepository reservationJdbcRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${reservation.lock-stripes:64}") int lockStripes) {
+        this.reservationMapper = reservationMapper;
+        this.reservationSeriesMapper = reservationSeriesMapper;
+        this.reservationJdbcRepository = reservationJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.locks = new StripedLocks(lockStripes);
+    } // func end
+
+    /**
+     * 설비 잠금을 잡고 색인으로 조회 (색인이 없으면 DB 에서 적재)
+     * - 다른 노드의 최근 변경은 재적재 주기만큼 늦게 보일 수 있음 → 예약 변경에는 {@link #withLockedTimeline}
+     * */
+    public <T> T withTimeline(long resourceId, Function<ReservationTimeline, T> work) {
+        ReentrantLock lock = locks.get(resourceId);
+        lock.lock();
+        try {
+            ReservationTimeline timeline = timelines.get(resourceId);
+            if (timeline == null) {
+                timeline = load(resourceId, reservationJdbcRepository.selectVersion(resourceId));
+                timelines.put(resourceId, timeline);
+            }
+            return work.apply(timeline);
+        } finally {
+            lock.unlock();
+        }
+    } // func end
+
+    /**
+     * 예약 변경 (노드 잠금 + 트랜잭션 + 설비 행 잠금 안에서 최신 색인으로 작업)
+     * <P>1) 노드 잠금 (같은 설비 요청은 DB 커넥션을 잡기 전에 노드 안에서 대기)</P>
+     * <P>2) 설비 행 SELECT ... FOR UPDATE → 예약 버전이 색인과 다르면 DB 에서 재적재</P>
+     * <P>3) work : 충돌 확인 → DB 반영 → 색인 반영</P>
+     * <P>4) 버전 증가 후 커밋 – 실패(롤백)하면 색인을 폐기하여 다음 접근 때 DB 기준으로 재적재</P>
+     * */
+    public <T> T withLockedTimeline(long resourceId, Function<ReservationTimeline, T> work) {
+        ReentrantLock lock = locks.get(resourceId);
+        lock.lock();
+        try {
+            return transactionTemplate.execute(status -> {
+                long version = reservationJdbcRepository.lockResource(resourceId);
+                ReservationTimeline timeline = timelines.get(resourceId);
+                if (timeline == null || timeline.version() != version) {
+                    if (timeline != null) {
+                        log.debug("[RESERVATION] timeline stale, reloading. resourceId={} version={}->{}",
+                                resourceId, timeline.version(), version);
+                    }
+                    timeline = load(resourceId, version);
+                    timelines.put(resourceId, timeline);
+                }
+                T result = work.apply(timeline);
+                reservationJdbcRepository.increaseVersion(resourceId);
+                timeline.setVersion(version + 1);
+                return result;
+            });
+        } catch (ConflictException e) {
+            // 충돌로 거절 – 색인은 바뀌지 않았음
+            throw e;
+        } catch (RuntimeException e) {
+            // 커밋 실패 등 – 색인이 DB 보다 앞서 있을 수 있으므로 폐기
+            timelines.remove(resourceId);
+            throw e;
+        } finally {
+            lock.unlock();
+        }
+    } // func end
+
+    /**
+     * 색인 폐기 (다음 접근 시 DB 에서 재적재) – 잠금을 잡은 상태에서 호출
+     * */
+    public void invalidate(long resourceId) {
+        timelines.remove(resourceId);
+    } // func end
+
+    /**
+     * 적재된 설비 색인을 DB 기준으로 재적재 (다른 노드 변경 반영 + 지난 예약 정리)
+     * */
+    @Scheduled(fixedDelayString = "${reservation.resync-interval-ms:60000}")
+    public void resync() {
+        for (Long resourceId : List.copyOf(timelines.keySet())) {
+            ReentrantLock lock = locks.get(resourceId);
+            lock.lock();
+            try {
+                // 버전을 먼저 읽음 – 적재 중 다른 노드가 커밋하면 색인이 버전보다 최신이 되어 다음 변경 때 한 번 더 적재될 뿐
+                timelines.put(resourceId, load(resourceId, reservationJdbcRepository.selectVersion(resourceId)));
+            } catch (RuntimeException e) {
+                timelines.remove(resourceId);
+                log.warn("[RESERVATION] timeline resync failed. resourceId={}", resourceId, e);
+            } finally {
+                lock.unlock();
+            }
+        }
+    } // func end
+
+    private ReservationTimeline load(long resourceId, long version) {
+        ReservationTimeline timeline = new ReservationTimeline(version);
+        LocalDateTime since = LocalDateTime.now().minusMinutes(KEEP_PAST_MINUTES);
+        for (ReservationRow row : reservationMapper.selectActive(resourceId, since)) {
+            timeline.add(new ReservationTimeline.Booking(row.getReservationId(),
+                    ReservationTimeline.minuteOf(row.getStartAt()), ReservationTimeline.minuteOf(row.getEndAt())));
+        }
+        for (ReservationSeriesRow row : reservationSeriesMapper.selectActive(resourceId,
+                since.toLocalDate().minusDays(KEEP_PAST_SERIES_DAYS))) {
+            timeline.addSeries(row.toSeries());
+        }
+        return timeline;
+    } // func end
+
+} // class end
@@ -0,0 +1,25 @@
+package com.wework.resource.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface ReservationMapper {
+
+    // 설비의 유효 예약 (종료가 since 이후, 색인 적재용)
+    List<ReservationRow> selectActive(@Param("resourceId") long resourceId,
+                                      @Param("since") LocalDateTime since);
+
+    // 전체 설비의 기간 내 유효 예약 (가용 색인 적재용)
+    List<ReservationRow> selectAllByPeriod(@Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to);
+
+    // [RESOURCE_003] 설비의 기간 내 예약 ([from, to) 와 겹치는 예약, 시작순)
+    List<ReservationRow> selectByPeriod(@Param("resourceId") long resourceId,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
+
+} // interface end
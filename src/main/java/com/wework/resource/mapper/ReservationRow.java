@@ -0,0 +1,23 @@
+package com.wework.resource.mapper;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 1행
+ * */
+@Getter
+@Setter
+public class ReservationRow {
+
+    private Long reservationId;         // 예약ID
+    private Long resourceId;            // 설비ID
+    private Long empId;                 // 예약자 사번
+    private String empName;             // 예약자 이름
+    private String title;               // 용도
+    private LocalDateTime startAt;      // 시작 시각
+    private LocalDateTime endAt;        // 종료 시각 (미포함)
+
+} // class end
@@ -0,0 +1,16 @@
+package com.wework.resource.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Mapper
+public interface ReservationSeriesMapper {
+
+    // 유효 반복 예약 + 취소 회차 (종료일이 since 이후, resourceId 가 null 이면 전체 설비)
+    List<ReservationSeriesRow> selectActive(@Param("resourceId") Long resourceId,
+                                            @Param("since") LocalDate since);
+
+} // interface end
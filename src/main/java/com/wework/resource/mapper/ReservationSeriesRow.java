@@ -0,0 +1,40 @@
+package com.wework.resource.mapper;
+
+import com.wework.resource.core.RecurrenceRule;
+import com.wework.resource.core.ReservationSeries;
+import com.wework.resource.entity.RecurrenceFrequency;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * 반복 예약 1행 (+ 취소된 회차 날짜)
+ * */
+@Getter
+@Setter
+public class ReservationSeriesRow {
+
+    private Long seriesId;                      // 반복 예약ID
+    private Long resourceId;                    // 설비ID
+    private Long empId;                         // 예약자 사번
+    private String empName;                     // 예약자 이름
+    private String title;                       // 용도
+    private RecurrenceFrequency frequency;      // 반복 주기
+    private LocalDate firstDate;                // 첫 회차
+    private LocalDate untilDate;                // 마지막 회차 기준일 (포함)
+    private LocalTime startTime;                // 회차 시작 시각
+    private LocalTime endTime;                  // 회차 종료 시각 (미포함)
+    private List<LocalDate> cancelledDates = new ArrayList<>();    // 취소된 회차
+
+    public ReservationSeries toSeries() {
+        return new ReservationSeries(seriesId, empId, empName, title,
+                new RecurrenceRule(frequency, firstDate, untilDate, startTime, endTime),
+                new HashSet<>(cancelledDates));
+    } // func end
+
+} // class end
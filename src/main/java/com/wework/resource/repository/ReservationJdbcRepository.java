@@ -0,0 +1,147 @@
+package com.wework.resource.repository;
+
+import com.wework.resource.core.SlotMask;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 예약 JDBC 저장소 (예약 행 + 점유 슬롯을 한 트랜잭션으로 반영)
+ *
+ * <p>이중 예약 방어 (노드 간)
+ * <ul>
+ *   <li>설비 행 잠금({@link #lockResource}) – 단건 / 반복 예약 변경은 같은 설비 행을 FOR UPDATE 로 잡은 트랜잭션 안에서만 일어난다.
+ *       잠금과 함께 읽은 reservation_version 이 색인의 버전과 다르면 다른 노드의 변경이 있었으므로 색인을 다시 적재한 뒤 확인한다.</li>
+ *   <li>reservation_slot PK(resource_id, slot_start) – 단건 예약끼리의 추가 방어. 겹치면 DuplicateKeyException 으로 전체가 롤백된다.
+ *       반복 예약은 슬롯 행을 만들지 않으므로 설비 행 잠금이 유일한 DB 방어선이다.</li>
+ * </ul>
+ * <p>MySQL 에서는 <code>rewriteBatchedStatements=true</code> 로 슬롯 배치가 multi-row INSERT 1건이 된다.
+ * */
+@Repository
+@RequiredArgsConstructor
+public class ReservationJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_RESERVATION = """
+            INSERT INTO reservation (resource_id, emp_id, title, start_at, end_at, status)
+            VALUES (?, ?, ?, ?, ?, 'RESERVED')
+            """;
+
+    private static final String INSERT_SLOT = """
+            INSERT INTO reservation_slot (resource_id, slot_start, reservation_id)
+            VALUES (?, ?, ?)
+            """;
+
+    private static final String CANCEL_RESERVATION = """
+            UPDATE reservation SET status = 'CANCELLED'
+            WHERE reservation_id = ? AND status = 'RESERVED'
+            """;
+
+    private static final String DELETE_SLOTS = "DELETE FROM reservation_slot WHERE reservation_id = ?";
+
+    private static final String LOCK_RESOURCE = "SELECT reservation_version FROM resource WHERE resource_id = ? FOR UPDATE";
+
+    private static final String SELECT_VERSION = "SELECT reservation_version FROM resource WHERE resource_id = ?";
+
+    // updated_at 은 설비 정보 수정 시각이므로 유지
+    private static final String INCREASE_VERSION = """
+            UPDATE resource SET reservation_version = reservation_version + 1, updated_at = updated_at
+            WHERE resource_id = ?
+            """;
+
+    private static final String INSERT_SERIES_EXCEPTION = """
+            INSERT INTO reservation_series_exception (series_id, occurrence_date, created_by)
+            VALUES (?, ?, ?)
+            """;
+
+    /**
+     * 설비 행 잠금 (트랜잭션 종료까지) → 현재 예약 버전
+     * - 호출하는 쪽 트랜잭션 안에서만 사용
+     * */
+    public long lockResource(long resourceId) {
+        Long version = jdbcTemplate.queryForObject(LOCK_RESOURCE, Long.class, resourceId);
+        return Objects.requireNonNull(version);
+    } // func end
+
+    /**
+     * 현재 예약 버전 (잠금 없음 – 색인 적재 전 기록용)
+     * */
+    public long selectVersion(long resourceId) {
+        Long version = jdbcTemplate.queryForObject(SELECT_VERSION, Long.class, resourceId);
+        return Objects.requireNonNull(version);
+    } // func end
+
+    /**
+     * 예약 버전 증가 (설비 행 잠금을 잡은 트랜잭션 안에서 – 다른 노드 색인이 다음 변경 때 재적재되도록)
+     * */
+    public void increaseVersion(long resourceId) {
+        jdbcTemplate.update(INCREASE_VERSION, resourceId);
+    } // func end
+
+    /**
+     * 예약 + 슬롯 저장 → 예약ID
+     * - 슬롯 충돌 시 DuplicateKeyException (전체 롤백)
+     * */
+    @Transactional
+    public long insert(long resourceId, long empId, String title, LocalDateTime startAt, LocalDateTime endAt) {
+        // [1] 예약 행
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(INSERT_RESERVATION, new String[]{"reservation_id"});
+            ps.setLong(1, resourceId);
+            ps.setLong(2, empId);
+            ps.setString(3, title);
+            ps.setTimestamp(4, Timestamp.valueOf(startAt));
+            ps.setTimestamp(5, Timestamp.valueOf(endAt));
+            return ps;
+        }, keyHolder);
+        long reservationId = Objects.requireNonNull(keyHolder.getKey()).longValue();
+
+        // [2] 점유 슬롯
+        List<Object[]> slots = new ArrayList<>();
+        for (LocalDateTime slot = startAt; slot.isBefore(endAt); slot = slot.plusMinutes(SlotMask.SLOT_MINUTES)) {
+            slots.add(new Object[]{resourceId, Timestamp.valueOf(slot), reservationId});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SLOT, slots);
+        return reservationId;
+    } // func end
+
+    /**
+     * 예약 취소 + 슬롯 해제
+     * @return 취소되었으면 true (이미 취소된 예약이면 false)
+     * */
+    @Transactional
+    public boolean cancel(long reservationId) {
+        if (jdbcTemplate.update(CANCEL_RESERVATION, reservationId) == 0) return false;
+        jdbcTemplate.update(DELETE_SLOTS, reservationId);
+        return true;
+    } // func end
+
+    /**
+     * 반복 예약 회차 취소 (예외 날짜 1행)
+     * @return 취소되었으면 true (이미 취소된 회차면 false)
+     * */
+    public boolean cancelOccurrence(long seriesId, LocalDate occurrenceDate, long empId) {
+        try {
+            jdbcTemplate.update(INSERT_SERIES_EXCEPTION, seriesId, Date.valueOf(occurrenceDate), empId);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    } // func end
+
+} // class end
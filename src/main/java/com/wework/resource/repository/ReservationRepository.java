@@ -0,0 +1,16 @@
+package com.wework.resource.repository;
+
+import com.wework.resource.entity.ReservationEntity;
+import com.wework.resource.entity.ReservationStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ReservationRepository extends JpaRepository<ReservationEntity, Long> {
+
+    // [1] 내 예약 (종료 전, 시작순)
+    List<ReservationEntity> findByEmpIdAndStatusAndEndAtAfterOrderByStartAt(long empId, ReservationStatus status,
+                                                                            LocalDateTime endAfter);
+
+} // interface end
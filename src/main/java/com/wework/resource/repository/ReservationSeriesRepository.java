@@ -0,0 +1,16 @@
+package com.wework.resource.repository;
+
+import com.wework.resource.entity.ReservationSeriesEntity;
+import com.wework.resource.entity.ReservationStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ReservationSeriesRepository extends JpaRepository<ReservationSeriesEntity, Long> {
+
+    // [1] 내 반복 예약 (종료 전, 첫 회차순)
+    List<ReservationSeriesEntity> findByEmpIdAndStatusAndUntilDateGreaterThanEqualOrderByFirstDate(
+            long empId, ReservationStatus status, LocalDate untilFrom);
+
+} // interface end
@@ -0,0 +1,20 @@
+package com.wework.resource.repository;
+
+import com.wework.resource.entity.ResourceEntity;
+import com.wework.resource.entity.ResourceType;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ResourceRepository extends JpaRepository<ResourceEntity, Long> {
+
+    // [1] 상태별 설비 (이름순)
+    List<ResourceEntity> findByStatusOrderByResourceName(String status);
+
+    // [2] 종류 + 상태별 설비 (이름순)
+    List<ResourceEntity> findByResourceTypeAndStatusOrderByResourceName(ResourceType resourceType, String status);
+
+    // [3] 설비명 중복 여부
+    boolean existsByResourceName(String resourceName);
+
+} // interface end
@@ -0,0 +1,230 @@
+package com.wework.resource.service;
+
+import com.wework.employee.entity.EmployeeEntity;
+import com.wework.employee.repository.EmployeeRepository;
+import com.wework.global.exception.ConflictException;
+import com.wework.global.exception.ForbiddenException;
+import com.wework.global.security.UserPrincipal;
+import com.wework.resource.core.RecurrenceRule;
+import com.wework.resource.core.ReservationSeries;
+import com.wework.resource.core.ReservationTimeline;
+import com.wework.resource.core.SlotMask;
+import com.wework.resource.dto.request.ReservationSeriesCreateRequestDto;
+import com.wework.resource.dto.response.ReservationSeriesResponseDto;
+import com.wework.resource.entity.ReservationSeriesEntity;
+import com.wework.resource.entity.ReservationStatus;
+import com.wework.resource.entity.ResourceEntity;
+import com.wework.resource.infra.index.AvailabilityIndex;
+import com.wework.resource.infra.index.ReservationIndex;
+import com.wework.resource.repository.ReservationJdbcRepository;
+import com.wework.resource.repository.ReservationSeriesRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 반복 예약 (매주 / 격주 / 매월)
+ *
+ * <p>회차를 행으로 만들지 않고 규칙 1행만 저장한다. 1년짜리 주간 회의도 INSERT 1건이다.
+ * <p>충돌 확인</p>
+ * <P>1) 기존 단건 예약 : 반복 기간 안의 예약마다 규칙으로 그 날짜 회차만 계산</P>
+ * <P>2) 기존 반복 예약 : 두 기간이 겹치는 날짜 범위만 펼쳐 상대 규칙으로 확인</P>
+ * <P>3) 이후 단건 예약 : 예약 구간이 걸친 7일 창만 펼쳐 확인 (창 단위 캐시)</P>
+ *
+ * <p>회차 취소는 예외 날짜 1행 INSERT, 반복 종료는 종료일 단축이다.
+ * <p>반복 예약은 슬롯 행을 만들지 않으므로 reservation_slot PK 로는 막을 수 없다.
+ * 대신 단건 예약과 같이 설비 행 잠금(FOR UPDATE) 트랜잭션 안에서 처리하고, 예약 버전이 다르면 색인을 DB 에서 다시 적재한 뒤
+ * 충돌을 확인한다({@link ReservationIndex#withLockedTimeline}). 다른 노드에서 방금 들어온 단건 / 반복 예약과도 겹치지 않는다.
+ * */
+@Service
+@Log4j2
+public class ReservationSeriesService {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private final ResourceService resourceService;
+    private final ReservationIndex reservationIndex;
+    private final AvailabilityIndex availabilityIndex;
+    private final ReservationSeriesRepository reservationSeriesRepository;
+    private final ReservationJdbcRepository reservationJdbcRepository;
+    private final EmployeeRepository employeeRepository;
+    private final long maxDays;
+
+    public ReservationSeriesService(ResourceService resourceService,
+                                    ReservationIndex reservationIndex,
+                                    AvailabilityIndex availabilityIndex,
+                                    ReservationSeriesRepository reservationSeriesRepository,
+                                    ReservationJdbcRepository reservationJdbcRepository,
+                                    EmployeeRepository employeeRepository,
+                                    @Value("${reservation.series.max-days:366}") long maxDays) {
+        this.resourceService = resourceService;
+        this.reservationIndex = reservationIndex;
+        this.availabilityIndex = availabilityIndex;
+        this.reservationSeriesRepository = reservationSeriesRepository;
+        this.reservationJdbcRepository = reservationJdbcRepository;
+        this.employeeRepository = employeeRepository;
+        this.maxDays = maxDays;
+    } // func end
+
+    /**
+     * [RESOURCE_011] 반복 예약
+     * */
+    public ReservationSeriesResponseDto reserve(long empId, ReservationSeriesCreateRequestDto requestDto) {
+        // [1] 검증
+        long resourceId = requestDto.resourceId();
+        RecurrenceRule rule = new RecurrenceRule(requestDto.frequency(), requestDto.firstDate(),
+                requestDto.untilDate(), requestDto.startTime(), requestDto.endTime());
+        validateRule(rule);
+        ResourceEntity resource = resourceService.getResource(resourceId);
+        if (!"ACTIVE".equals(resource.getStatus())) {
+            throw new IllegalStateException("사용 중지된 설비입니다.");
+        }
+        String empName = employeeRepository.findById(empId).map(EmployeeEntity::getName).orElse(null);
+
+        // [2~4] 설비 잠금(노드 + 설비 행) 안에서 충돌 확인 → 저장 → 색인 반영
+        ReservationSeriesEntity saved = reservationIndex.withLockedTimeline(resourceId, timeline -> {
+            ReservationSeries candidate = new ReservationSeries(0L, empId, null, requestDto.title(), rule, Set.of());
+            Optional<ReservationSeries.Occurrence> conflict = timeline.findConflict(candidate);
+            if (conflict.isPresent()) {
+                throw new ConflictException("이미 예약된 회차가 있습니다. ("
+                        + conflict.get().date().format(DATE_FORMAT) + " "
+                        + rule.startTime() + " ~ " + rule.endTime() + ")");
+            }
+            ReservationSeriesEntity entity = reservationSeriesRepository.save(ReservationSeriesEntity.builder()
+                    .resourceId(resourceId)
+                    .empId(empId)
+                    .title(requestDto.title())
+                    .frequency(rule.frequency())
+                    .firstDate(rule.firstDate())
+                    .untilDate(rule.untilDate())
+                    .startTime(rule.startTime())
+                    .endTime(rule.endTime())
+                    .status(ReservationStatus.RESERVED)
+                    .build());
+            ReservationSeries series = new ReservationSeries(entity.getSeriesId(), empId, empName,
+                    requestDto.title(), rule, Set.of());
+            timeline.addSeries(series);
+            availabilityIndex.applySeries(resourceId, series, LocalDate.now(), true);
+            return entity;
+        });
+
+        log.info("[RESERVATION] series reserved. id={} resourceId={} empId={} {} {}~{} {}-{}", saved.getSeriesId(),
+                resourceId, empId, rule.frequency(), rule.firstDate(), rule.untilDate(), rule.startTime(), rule.endTime());
+        return ReservationSeriesResponseDto.from(saved);
+    } // func end
+
+    /**
+     * [RESOURCE_012] 반복 종료 (시작 전 회차 모두 제거, 지난 회차는 유지)
+     * */
+    public void cancel(UserPrincipal principal, long seriesId) {
+        ReservationSeriesEntity entity = getOwnedSeries(principal, seriesId);
+        LocalDateTime now = LocalDateTime.now();
+        if (entity.getUntilDate().atTime(entity.getStartTime()).isBefore(now)) {
+            throw new IllegalStateException("이미 끝난 반복 예약입니다.");
+        }
+        // 오늘 회차가 이미 시작했으면 오늘까지, 아니면 어제까지 유지
+        LocalDate today = now.toLocalDate();
+        LocalDate untilDate = now.toLocalTime().isBefore(entity.getStartTime()) ? today.minusDays(1) : today;
+
+        reservationIndex.withLockedTimeline(entity.getResourceId(), timeline -> {
+            if (untilDate.isBefore(entity.getFirstDate())) entity.setStatus(ReservationStatus.CANCELLED);
+            else entity.setUntilDate(untilDate);
+            reservationSeriesRepository.save(entity);
+
+            ReservationSeries series = timeline.getSeries(seriesId);
+            if (series != null) {
+                availabilityIndex.applySeries(entity.getResourceId(), series, untilDate.plusDays(1), false);
+                timeline.truncateSeries(seriesId, untilDate);
+            }
+            return null;
+        });
+        log.info("[RESERVATION] series ended. id={} until={} by={}", seriesId, untilDate, principal.getEmpId());
+    } // func end
+
+    /**
+     * [RESOURCE_013] 반복 예약 회차 1건 취소
+     * */
+    public void cancelOccurrence(UserPrincipal principal, long seriesId, LocalDate date) {
+        ReservationSeriesEntity entity = getOwnedSeries(principal, seriesId);
+        RecurrenceRule rule = new RecurrenceRule(entity.getFrequency(), entity.getFirstDate(),
+                entity.getUntilDate(), entity.getStartTime(), entity.getEndTime());
+        if (!rule.occursOn(date)) {
+            throw new IllegalArgumentException("해당 날짜에는 회차가 없습니다.");
+        }
+        if (date.atTime(rule.startTime()).isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException("지난 회차는 취소할 수 없습니다.");
+        }
+
+        boolean cancelled = reservationIndex.withLockedTimeline(entity.getResourceId(), timeline -> {
+            if (!reservationJdbcRepository.cancelOccurrence(seriesId, date, principal.getEmpId())) return false;
+            timeline.cancelOccurrence(seriesId, date);
+            availabilityIndex.release(entity.getResourceId(), date.atTime(rule.startTime()), date.atTime(rule.endTime()));
+            return true;
+        });
+        if (!cancelled) {
+            throw new IllegalStateException("이미 취소된 회차입니다.");
+        }
+        log.info("[RESERVATION] series occurrence cancelled. id={} date={} by={}", seriesId, date, principal.getEmpId());
+    } // func end
+
+    /**
+     * [RESOURCE_014] 내 반복 예약 (종료 전)
+     * */
+    public List<ReservationSeriesResponseDto> getMySeries(long empId) {
+        return reservationSeriesRepository.findByEmpIdAndStatusAndUntilDateGreaterThanEqualOrderByFirstDate(
+                        empId, ReservationStatus.RESERVED, LocalDate.now()).stream()
+                .map(ReservationSeriesResponseDto::from)
+                .toList();
+    } // func end
+
+    /**
+     * 예약자 / SUPER_ADMIN 의 유효 반복 예약
+     * */
+    private ReservationSeriesEntity getOwnedSeries(UserPrincipal principal, long seriesId) {
+        ReservationSeriesEntity entity = reservationSeriesRepository.findById(seriesId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 반복 예약입니다."));
+        boolean superAdmin = principal.getAuthorities().stream()
+                .anyMatch(a -> "ROLE_SUPER_ADMIN".equals(a.getAuthority()));
+        if (entity.getEmpId() != principal.getEmpId() && !superAdmin) {
+            throw new ForbiddenException("본인 예약만 취소할 수 있습니다.");
+        }
+        if (entity.getStatus() != ReservationStatus.RESERVED) {
+            throw new IllegalStateException("이미 취소된 반복 예약입니다.");
+        }
+        return entity;
+    } // func end
+
+    /**
+     * 15분 단위 / 시작 &lt; 종료 / 첫 회차 과거 불가 / 최대 기간 / 회차 1건 이상
+     * */
+    private void validateRule(RecurrenceRule rule) {
+        if (!aligned(rule.startTime()) || !aligned(rule.endTime())) {
+            throw new IllegalArgumentException("예약은 " + SlotMask.SLOT_MINUTES + "분 단위로만 가능합니다.");
+        }
+        if (!rule.startTime().isBefore(rule.endTime())) {
+            throw new IllegalArgumentException("종료 시각은 시작 시각 이후여야 합니다.");
+        }
+        if (rule.firstDate().atTime(rule.startTime()).isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException("지난 시간은 예약할 수 없습니다.");
+        }
+        if (rule.untilDate().isBefore(rule.firstDate())
+                || ChronoUnit.DAYS.between(rule.firstDate(), rule.untilDate()) > maxDays) {
+            throw new IllegalArgumentException("반복 기간은 " + maxDays + "일 이내여야 합니다.");
+        }
+    } // func end
+
+    private static boolean aligned(LocalTime time) {
+        return time.getSecond() == 0 && time.getNano() == 0
+                && time.getMinute() % SlotMask.SLOT_MINUTES == 0;
+    } // func end
+
+} // class end
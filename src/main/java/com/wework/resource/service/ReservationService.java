@@ -0,0 +1,205 @@
+package com.wework.resource.service;
+
+import com.wework.global.exception.ConflictException;
+import com.wework.global.exception.ForbiddenException;
+import com.wework.global.security.UserPrincipal;
+import com.wework.resource.core.ReservationSeries;
+import com.wework.resource.core.ReservationTimeline;
+import com.wework.resource.core.SlotMask;
+import com.wework.resource.dto.request.ReservationCreateRequestDto;
+import com.wework.resource.dto.response.ReservationResponseDto;
+import com.wework.resource.entity.ReservationEntity;
+import com.wework.resource.entity.ReservationStatus;
+import com.wework.resource.entity.ResourceEntity;
+import com.wework.resource.infra.index.AvailabilityIndex;
+import com.wework.resource.infra.index.ReservationIndex;
+import com.wework.resource.mapper.ReservationMapper;
+import com.wework.resource.repository.ReservationJdbcRepository;
+import com.wework.resource.repository.ReservationRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 설비 예약
+ *
+ * <p>예약 처리 흐름</p>
+ * <P>1) 요청 검증 (15분 단위 / 과거 / 최대 길이 / 사용 중인 설비)</P>
+ * <P>2) 설비 잠금(노드) → 트랜잭션 + 설비 행 잠금(FOR UPDATE) → 다른 노드 변경이 있었으면 색인 재적재</P>
+ * <P>3) 메모리 색인으로 충돌 확인 O(log n) – 단건 예약 + 반복 예약 회차 (충돌 시 409)</P>
+ * <P>4) 예약 + 슬롯 INSERT (슬롯 PK 충돌 = 색인 불일치 → 색인 폐기 후 409) → 색인 반영 → 커밋 → 가용 시간 색인 반영 → 잠금 해제</P>
+ *
+ * <p>같은 설비의 예약은 노드 안에서는 노드 잠금으로, 노드 사이에서는 설비 행 잠금으로 직렬화된다.
+ * 충돌 확인에 쓰는 색인은 항상 설비 행의 예약 버전과 같은 시점의 DB 상태이므로, 반복 예약과의 충돌도 노드와 관계없이 막힌다.
+ * reservation_slot PK 는 단건 예약끼리의 추가 방어선이다 (반복 예약은 슬롯 행이 없음).
+ * */
+@Service
+@Log4j2
+public class ReservationService {
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final ResourceService resourceService;
+    private final ReservationIndex reservationIndex;
+    private final AvailabilityIndex availabilityIndex;
+    private final ReservationRepository reservationRepository;
+    private final ReservationJdbcRepository reservationJdbcRepository;
+    private final ReservationMapper reservationMapper;
+    private final long maxMinutes;
+
+    public ReservationService(ResourceService resourceService,
+                              ReservationIndex reservationIndex,
+                              AvailabilityIndex availabilityIndex,
+                              ReservationRepository reservationRepository,
+                              ReservationJdbcRepository reservationJdbcRepository,
+                              ReservationMapper reservationMapper,
+                              @Value("${reservation.max-minutes:10080}") long maxMinutes) {
+        this.resourceService = resourceService;
+        this.reservationIndex = reservationIndex;
+        this.availabilityIndex = availabilityIndex;
+        this.reservationRepository = reservationRepository;
+        this.reservationJdbcRepository = reservationJdbcRepository;
+        this.reservationMapper = reservationMapper;
+        this.maxMinutes = maxMinutes;
+    } // func end
+
+    /**
+     * [RESOURCE_004] 예약
+     * */
+    public ReservationResponseDto reserve(long empId, ReservationCreateRequestDto requestDto) {
+        // [1] 검증
+        long resourceId = requestDto.resourceId();
+        LocalDateTime startAt = requestDto.startAt();
+        LocalDateTime endAt = requestDto.endAt();
+        validatePeriod(startAt, endAt);
+        ResourceEntity resource = resourceService.getResource(resourceId);
+        if (!"ACTIVE".equals(resource.getStatus())) {
+            throw new IllegalStateException("사용 중지된 설비입니다.");
+        }
+
+        // [2~4] 설비 잠금(노드 + 설비 행) 안에서 충돌 확인 → 저장 → 색인 반영
+        long start = ReservationTimeline.minuteOf(startAt);
+        long end = ReservationTimeline.minuteOf(endAt);
+        long reservationId = reservationIndex.withLockedTimeline(resourceId, timeline -> {
+            Optional<ReservationTimeline.Booking> conflict = timeline.findConflict(start, end);
+            if (conflict.isPresent()) {
+                throw conflictOf(conflict.get().startMinute(), conflict.get().endMinute());
+            }
+            Optional<ReservationSeries.Occurrence> seriesConflict = timeline.findSeriesConflict(start, end);
+            if (seriesConflict.isPresent()) {
+                throw conflictOf(seriesConflict.get().startMinute(), seriesConflict.get().endMinute());
+            }
+            long id;
+            try {
+                id = reservationJdbcRepository.insert(resourceId, empId, requestDto.title(), startAt, endAt);
+            } catch (DuplicateKeyException e) {
+                reservationIndex.invalidate(resourceId);
+                log.warn("[RESERVATION] slot conflict not in index. resourceId={} {}~{}", resourceId, startAt, endAt);
+                throw new ConflictException("이미 예약된 시간입니다.");
+            }
+            timeline.add(new ReservationTimeline.Booking(id, start, end));
+            availabilityIndex.occupy(resourceId, startAt, endAt);
+            return id;
+        });
+
+        log.info("[RESERVATION] reserved. id={} resourceId={} empId={} {}~{}", reservationId, resourceId, empId, startAt, endAt);
+        return new ReservationResponseDto(reservationId, null, resourceId, empId, null, requestDto.title(), startAt, endAt);
+    } // func end
+
+    /**
+     * [RESOURCE_005] 예약 취소 (예약자 / SUPER_ADMIN)
+     * */
+    public void cancel(UserPrincipal principal, long reservationId) {
+        ReservationEntity reservation = reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 예약입니다."));
+        boolean superAdmin = principal.getAuthorities().stream()
+                .anyMatch(a -> "ROLE_SUPER_ADMIN".equals(a.getAuthority()));
+        if (reservation.getEmpId() != principal.getEmpId() && !superAdmin) {
+            throw new ForbiddenException("본인 예약만 취소할 수 있습니다.");
+        }
+        if (reservation.getStatus() != ReservationStatus.RESERVED) {
+            throw new IllegalStateException("이미 취소된 예약입니다.");
+        }
+
+        reservationIndex.withLockedTimeline(reservation.getResourceId(), timeline -> {
+            if (reservationJdbcRepository.cancel(reservationId)) {
+                timeline.remove(reservationId, ReservationTimeline.minuteOf(reservation.getStartAt()));
+                availabilityIndex.release(reservation.getResourceId(), reservation.getStartAt(), reservation.getEndAt());
+            }
+            return null;
+        });
+        log.info("[RESERVATION] cancelled. id={} by={}", reservationId, principal.getEmpId());
+    } // func end
+
+    /**
+     * [RESOURCE_003] 설비의 기간 내 예약 (단건 + 반복 예약 회차, 시작순)
+     * - 반복 예약 회차는 색인에서 조회 구간만 펼친다
+     * */
+    public List<ReservationResponseDto> getReservations(long resourceId, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to) || Duration.between(from, to).toDays() > 31) {
+            throw new IllegalArgumentException("조회 기간은 31일 이내여야 합니다.");
+        }
+        List<ReservationResponseDto> reservations = new ArrayList<>(reservationMapper.selectByPeriod(resourceId, from, to).stream()
+                .map(ReservationResponseDto::from)
+                .toList());
+        reservationIndex.withTimeline(resourceId, timeline -> {
+            for (ReservationSeries.Occurrence occurrence : timeline.seriesOccurrences(
+                    ReservationTimeline.minuteOf(from), ReservationTimeline.minuteOf(to))) {
+                reservations.add(ReservationResponseDto.from(resourceId,
+                        timeline.getSeries(occurrence.seriesId()), occurrence));
+            }
+            return null;
+        });
+        reservations.sort(Comparator.comparing(ReservationResponseDto::startAt));
+        return reservations;
+    } // func end
+
+    /**
+     * [RESOURCE_008] 내 예약 (종료 전)
+     * */
+    public List<ReservationResponseDto> getMyReservations(long empId) {
+        return reservationRepository.findByEmpIdAndStatusAndEndAtAfterOrderByStartAt(
+                        empId, ReservationStatus.RESERVED, LocalDateTime.now()).stream()
+                .map(ReservationResponseDto::from)
+                .toList();
+    } // func end
+
+    /**
+     * 15분 단위 / 시작 &lt; 종료 / 과거 불가 / 최대 길이
+     * */
+    private void validatePeriod(LocalDateTime startAt, LocalDateTime endAt) {
+        if (!aligned(startAt) || !aligned(endAt)) {
+            throw new IllegalArgumentException("예약은 " + SlotMask.SLOT_MINUTES + "분 단위로만 가능합니다.");
+        }
+        if (!startAt.isBefore(endAt)) {
+            throw new IllegalArgumentException("종료 시각은 시작 시각 이후여야 합니다.");
+        }
+        if (startAt.isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException("지난 시간은 예약할 수 없습니다.");
+        }
+        if (Duration.between(startAt, endAt).toMinutes() > maxMinutes) {
+            throw new IllegalArgumentException("예약 가능한 최대 시간을 넘었습니다.");
+        }
+    } // func end
+
+    private static boolean aligned(LocalDateTime time) {
+        return time.getSecond() == 0 && time.getNano() == 0
+                && time.getMinute() % SlotMask.SLOT_MINUTES == 0;
+    } // func end
+
+    private static ConflictException conflictOf(long startMinute, long endMinute) {
+        return new ConflictException("이미 예약된 시간입니다. ("
+                + ReservationTimeline.timeOf(startMinute).format(TIME_FORMAT) + " ~ "
+                + ReservationTimeline.timeOf(endMinute).format(TIME_FORMAT) + ")");
+    } // func end
+
+} // class end
@@ -0,0 +1,149 @@
+package com.wework.resource.service;
+
+import com.wework.resource.core.SlotMask;
+import com.wework.resource.dto.request.ResourceSaveRequestDto;
+import com.wework.resource.dto.response.AvailableResourceResponseDto;
+import com.wework.resource.dto.response.ResourceAvailabilityResponseDto;
+import com.wework.resource.dto.response.ResourceResponseDto;
+import com.wework.resource.entity.ResourceEntity;
+import com.wework.resource.entity.ResourceFeature;
+import com.wework.resource.entity.ResourceType;
+import com.wework.resource.event.ResourceChangedEvent;
+import com.wework.resource.infra.index.AvailabilityIndex;
+import com.wework.resource.repository.ResourceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 설비 관리 (회의실 / 장비 / 차량)
+ * */
+@Service
+@RequiredArgsConstructor
+public class ResourceService {
+
+    private final ResourceRepository resourceRepository;
+    private final AvailabilityIndex availabilityIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * [RESOURCE_001] 사용 중인 설비 목록 (종류 필터)
+     * */
+    @Transactional(readOnly = true)
+    public List<ResourceResponseDto> getResources(ResourceType resourceType) {
+        List<ResourceEntity> resources = resourceType == null
+                ? resourceRepository.findByStatusOrderByResourceName("ACTIVE")
+                : resourceRepository.findByResourceTypeAndStatusOrderByResourceName(resourceType, "ACTIVE");
+        return resources.stream().map(ResourceResponseDto::from).toList();
+    } // func end
+
+    /**
+     * [RESOURCE_002] 설비 상세
+     * */
+    @Transactional(readOnly = true)
+    public ResourceResponseDto getDetail(long resourceId) {
+        return ResourceResponseDto.from(getResource(resourceId));
+    } // func end
+
+    /**
+     * [RESOURCE_009] 빈 설비 검색 (date 부터 days 일, 매일 [start, end) 가 비어 있는 설비)
+     * - end 00:00 = 자정
+     * - allDays false 면 하루라도 비어 있는 설비 포함 (freeDates 로 구분)
+     * */
+    public List<AvailableResourceResponseDto> searchAvailable(LocalDate date, int days, LocalTime start, LocalTime end,
+                                                              ResourceType type, Integer capacity,
+                                                              Set<ResourceFeature> features, boolean allDays) {
+        if (days < 1 || days > 31) {
+            throw new IllegalArgumentException("검색 일수는 1~31일이어야 합니다.");
+        }
+        int startMinute = start.getHour() * 60 + start.getMinute();
+        int endMinute = end.equals(LocalTime.MIDNIGHT) ? 24 * 60 : end.getHour() * 60 + end.getMinute();
+        if (startMinute >= endMinute) {
+            throw new IllegalArgumentException("종료 시각은 시작 시각 이후여야 합니다.");
+        }
+        return availabilityIndex.search(date, days, startMinute, endMinute, type,
+                        capacity == null ? 0 : capacity, features, allDays).stream()
+                .map(AvailableResourceResponseDto::from)
+                .toList();
+    } // func end
+
+    /**
+     * [RESOURCE_010] 설비 하루 빈 시간대
+     * */
+    public ResourceAvailabilityResponseDto getAvailability(long resourceId, LocalDate date) {
+        long[] busy = availabilityIndex.busySlots(resourceId, date);
+        List<ResourceAvailabilityResponseDto.Period> free = new ArrayList<>();
+        int from = -1;
+        for (int slot = 0; slot <= SlotMask.SLOTS_PER_DAY; slot++) {
+            boolean isFree = slot < SlotMask.SLOTS_PER_DAY && (busy[slot >>> 6] & (1L << slot)) == 0;
+            if (isFree && from < 0) {
+                from = slot;
+            } else if (!isFree && from >= 0) {
+                free.add(new ResourceAvailabilityResponseDto.Period(timeOfSlot(from), timeOfSlot(slot)));
+                from = -1;
+            }
+        }
+        return new ResourceAvailabilityResponseDto(resourceId, date, free);
+    } // func end
+
+    /**
+     * [RESOURCE_006] 설비 등록
+     * */
+    @Transactional
+    public ResourceResponseDto create(ResourceSaveRequestDto requestDto) {
+        if (resourceRepository.existsByResourceName(requestDto.resourceName())) {
+            throw new IllegalArgumentException("이미 등록된 설비명입니다.");
+        }
+        ResourceEntity resource = resourceRepository.save(ResourceEntity.builder()
+                .resourceName(requestDto.resourceName())
+                .resourceType(requestDto.resourceType())
+                .capacity(requestDto.capacity())
+                .location(requestDto.location())
+                .features(ResourceFeature.format(requestDto.features()))
+                .status(requestDto.status() == null ? "ACTIVE" : requestDto.status())
+                .build());
+        eventPublisher.publishEvent(new ResourceChangedEvent(resource.getResourceId()));
+        return ResourceResponseDto.from(resource);
+    } // func end
+
+    /**
+     * [RESOURCE_007] 설비 수정 (INACTIVE 로 바꾸면 신규 예약 불가, 기존 예약은 유지)
+     * */
+    @Transactional
+    public ResourceResponseDto update(long resourceId, ResourceSaveRequestDto requestDto) {
+        ResourceEntity resource = getResource(resourceId);
+        if (!resource.getResourceName().equals(requestDto.resourceName())
+                && resourceRepository.existsByResourceName(requestDto.resourceName())) {
+            throw new IllegalArgumentException("이미 등록된 설비명입니다.");
+        }
+        resource.setResourceName(requestDto.resourceName());
+        resource.setResourceType(requestDto.resourceType());
+        resource.setCapacity(requestDto.capacity());
+        resource.setLocation(requestDto.location());
+        resource.setFeatures(ResourceFeature.format(requestDto.features()));
+        if (requestDto.status() != null) resource.setStatus(requestDto.status());
+        eventPublisher.publishEvent(new ResourceChangedEvent(resourceId));
+        return ResourceResponseDto.from(resource);
+    } // func end
+
+    /**
+     * 설비 조회 (없으면 400)
+     * */
+    @Transactional(readOnly = true)
+    public ResourceEntity getResource(long resourceId) {
+        return resourceRepository.findById(resourceId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 설비입니다."));
+    } // func end
+
+    private static LocalTime timeOfSlot(int slot) {
+        return LocalTime.MIDNIGHT.plusMinutes((long) slot * SlotMask.SLOT_MINUTES);
+    } // func end
+
+} // class end
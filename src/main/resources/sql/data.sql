@@ -142,3 +142,45 @@ INSERT INTO manager_scope (manager_emp_id, dept_id) VALUES
 (100004, 200005),  -- Sales manager -> 영업팀
 (100003, 200001),  -- (예시) Dev manager가 경영지원팀도 겸임
 (100004, 200003);  -- (예시) Sales manager가 재무팀 일부도 관리
+
+-- ---------------------------------------------------------
+-- 8) holiday
+-- - 2026년 법정 공휴일 (대체공휴일 포함) + 회사 휴일 예시
+-- ---------------------------------------------------------
+INSERT INTO holiday (holiday_date, holiday_name, holiday_type) VALUES
+('2026-01-01', '신정', 'PUBLIC'),
+('2026-02-16', '설날 연휴', 'PUBLIC'),
+('2026-02-17', '설날', 'PUBLIC'),
+('2026-02-18', '설날 연휴', 'PUBLIC'),
+('2026-03-01', '삼일절', 'PUBLIC'),
+('2026-03-02', '대체공휴일(삼일절)', 'PUBLIC'),
+('2026-05-01', '근로자의 날', 'COMPANY'),
+('2026-05-05', '어린이날', 'PUBLIC'),
+('2026-05-24', '부처님오신날', 'PUBLIC'),
+('2026-05-25', '대체공휴일(부처님오신날)', 'PUBLIC'),
+('2026-06-03', '전국동시지방선거', 'PUBLIC'),
+('2026-06-06', '현충일', 'PUBLIC'),
+('2026-08-15', '광복절', 'PUBLIC'),
+('2026-08-17', '대체공휴일(광복절)', 'PUBLIC'),
+('2026-09-24', '추석 연휴', 'PUBLIC'),
+('2026-09-25', '추석', 'PUBLIC'),
+('2026-09-26', '추석 연휴', 'PUBLIC'),
+('2026-09-28', '대체공휴일(추석)', 'PUBLIC'),
+('2026-10-03', '개천절', 'PUBLIC'),
+('2026-10-05', '대체공휴일(개천절)', 'PUBLIC'),
+('2026-10-09', '한글날', 'PUBLIC'),
+('2026-12-25', '성탄절', 'PUBLIC'),
+('2026-12-31', '창립기념일', 'COMPANY');
+
+-- ---------------------------------------------------------
+-- 9) resource
+-- - 회의실 / 장비 / 차량 예시
+-- ---------------------------------------------------------
+INSERT INTO resource (resource_name, resource_type, capacity, location, features) VALUES
+('대회의실',     'ROOM',      20, '본관 5층',        'PROJECTOR,VIDEO_CONF,WHITEBOARD,PHONE'),
+('중회의실 A',   'ROOM',       8, '본관 4층',        'DISPLAY,VIDEO_CONF,WHITEBOARD'),
+('중회의실 B',   'ROOM',       8, '본관 4층',        'PROJECTOR,WHITEBOARD'),
+('소회의실 1',   'ROOM',       4, '본관 3층',        'DISPLAY'),
+('소회의실 2',   'ROOM',       4, '본관 3층',        NULL),
+('빔프로젝터 1', 'EQUIPMENT',  0, '총무팀',          NULL),
+('업무용 차량 1', 'VEHICLE',    5, '지하 2층 주차장', NULL);
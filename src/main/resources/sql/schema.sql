@@ -6,6 +6,19 @@
 -- SET NAMES utf8mb4;
 
 -- FK 때문에 삭제 순서 중요
+DROP TABLE IF EXISTS security_audit_log;
+DROP TABLE IF EXISTS reservation_series_exception;
+DROP TABLE IF EXISTS reservation_series;
+DROP TABLE IF EXISTS reservation_slot;
+DROP TABLE IF EXISTS reservation;
+DROP TABLE IF EXISTS resource;
+DROP TABLE IF EXISTS document_revision;
+DROP TABLE IF EXISTS document_attachment;
+DROP TABLE IF EXISTS attachment_blob;
+DROP TABLE IF EXISTS approval_line;
+DROP TABLE IF EXISTS document;
+DROP TABLE IF EXISTS holiday;
+DROP TABLE IF EXISTS attendance;
 DROP TABLE IF EXISTS manager_scope;
 DROP TABLE IF EXISTS role_permission;
 DROP TABLE IF EXISTS employee_role;
@@ -61,6 +74,8 @@ CREATE TABLE employee (
   position   VARCHAR(10) NOT NULL,
   created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
   updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+  last_login_at DATETIME NULL,   -- 마지막 로그인 (메모리에 모아 주기적 배치 반영, updated_at 미변경)
+  last_seen_at  DATETIME NULL,   -- 마지막 활동 (인증된 요청, 반영 방식 동일)
 
   CONSTRAINT pk_employee PRIMARY KEY (emp_id),
   CONSTRAINT uk_employee_login_id UNIQUE (login_id),
@@ -173,3 +188,338 @@ CREATE TABLE manager_scope (
 
 CREATE INDEX idx_manager_scope_dept_id ON manager_scope(dept_id);
 
+-- =========================================================
+-- 8) attendance (근태 / 직원별 1일 1행, UK(emp_id, work_date))
+-- - 출퇴근 요청은 Redis 에서 중복 제거 후 write-behind 로 배치 적재
+-- =========================================================
+CREATE TABLE attendance (
+  att_id        BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+  emp_id        BIGINT UNSIGNED NOT NULL,
+  work_date     DATE NOT NULL,
+  check_in_at   DATETIME NULL,
+  check_out_at  DATETIME NULL,
+  created_at    DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at    DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+  CONSTRAINT pk_attendance PRIMARY KEY (att_id),
+  CONSTRAINT uk_attendance_emp_date UNIQUE (emp_id, work_date),
+
+  CONSTRAINT fk_attendance_emp
+    FOREIGN KEY (emp_id) REFERENCES employee(emp_id)
+    ON UPDATE CASCADE
+    ON DELETE CASCADE
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  AUTO_INCREMENT=500001;
+
+CREATE INDEX idx_attendance_work_date ON attendance(work_date, emp_id);   -- 기간 조회 + 내보내기 정렬(work_date, emp_id)
+
+-- =========================================================
+-- 9) holiday (공휴일 / 회사 휴일, 1일 1행)
+-- - 토/일은 저장하지 않음 (달력 계산에서 기본 휴무)
+-- - 앱에서는 연도별 비트셋 스냅샷으로 적재하여 조회
+-- =========================================================
+CREATE TABLE holiday (
+  holiday_date  DATE NOT NULL,
+  holiday_name  VARCHAR(100) NOT NULL,
+  holiday_type  VARCHAR(20) NOT NULL,   -- PUBLIC(법정 공휴일) / COMPANY(회사 휴일)
+  created_at    DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at    DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+  CONSTRAINT pk_holiday PRIMARY KEY (holiday_date)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4;
+
+-- =========================================================
+-- 10) document (결재 문서)
+-- - status : DRAFT(임시저장) → SUBMITTED(결재 진행) → APPROVED / REJECTED
+-- - version : JPA 낙관적 잠금 (동시 결재 충돌 감지)
+-- =========================================================
+CREATE TABLE document (
+  doc_id          BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+  drafter_emp_id  BIGINT UNSIGNED NOT NULL,
+  title           VARCHAR(200) NOT NULL,
+  content         MEDIUMTEXT NULL,
+  status          VARCHAR(20) NOT NULL DEFAULT 'DRAFT',
+  current_step    INT NOT NULL DEFAULT 0,       -- 진행 중인 결재 단계 (0: 상신 전)
+  version         BIGINT NOT NULL DEFAULT 0,
+  submitted_at    DATETIME NULL,
+  completed_at    DATETIME NULL,
+  created_at      DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at      DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+  CONSTRAINT pk_document PRIMARY KEY (doc_id),
+
+  CONSTRAINT fk_document_drafter
+    FOREIGN KEY (drafter_emp_id) REFERENCES employee(emp_id)
+    ON UPDATE CASCADE
+    ON DELETE RESTRICT
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  AUTO_INCREMENT=600001;
+
+CREATE INDEX idx_document_drafter ON document(drafter_emp_id, doc_id);
+
+-- =========================================================
+-- 11) approval_line (결재선 / 문서별 결재 단계)
+-- - status : WAITING(대기) → PENDING(결재 차례) → APPROVED / REJECTED
+-- =========================================================
+CREATE TABLE approval_line (
+  line_id          BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+  doc_id           BIGINT UNSIGNED NOT NULL,
+  step_no          INT NOT NULL,
+  approver_emp_id  BIGINT UNSIGNED NOT NULL,
+  status           VARCHAR(20) NOT NULL DEFAULT 'WAITING',
+  comment          VARCHAR(500) NULL,
+  acted_at         DATETIME NULL,
+  created_at       DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at       DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+  CONSTRAINT pk_approval_line PRIMARY KEY (line_id),
+  CONSTRAINT uk_approval_line_doc_step UNIQUE (doc_id, step_no),
+
+  CONSTRAINT fk_approval_line_doc
+    FOREIGN KEY (doc_id) REFERENCES document(doc_id)
+    ON UPDATE CASCADE
+    ON DELETE CASCADE,
+
+  CONSTRAINT fk_approval_line_approver
+    FOREIGN KEY (approver_emp_id) REFERENCES employee(emp_id)
+    ON UPDATE CASCADE
+    ON DELETE RESTRICT
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4;
+
+CREATE INDEX idx_approval_line_approver ON approval_line(approver_emp_id, status);   -- 결재함 재구성
+
+-- =========================================================
+-- 12) attachment_blob (첨부파일 실제 내용 / SHA-256 콘텐츠 주소)
+-- - 같은 내용의 파일은 1개만 저장 (중복 제거)
+-- - last_ref_at : 마지막 업로드 참조 시각 (미참조 정리 유예 판단)
+-- =========================================================
+CREATE TABLE attachment_blob (
+  sha256       CHAR(64) NOT NULL,
+  size_bytes   BIGINT NOT NULL,
+  last_ref_at  DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  created_at   DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+  CONSTRAINT pk_attachment_blob PRIMARY KEY (sha256)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4;
+
+-- =========================================================
+-- 13) document_attachment (문서별 첨부파일 → blob 참조)
+-- =========================================================
+CREATE TABLE document_attachment (
+  attach_id     BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+  doc_id        BIGINT UNSIGNED NOT NULL,
+  sha256        CHAR(64) NOT NULL,
+  file_name     VARCHAR(255) NOT NULL,
+  content_type  VARCHAR(100) NOT NULL,
+  size_bytes    BIGINT NOT NULL,
+  uploaded_by   BIGINT UNSIGNED NOT NULL,
+  created_at    DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+  CONSTRAINT pk_document_attachment PRIMARY KEY (attach_id),
+
+  CONSTRAINT fk_document_attachment_doc
+    FOREIGN KEY (doc_id) REFERENCES document(doc_id)
+    ON UPDATE CASCADE
+    ON DELETE CASCADE,
+
+  CONSTRAINT fk_document_attachment_blob
+    FOREIGN KEY (sha256) REFERENCES attachment_blob(sha256)
+    ON UPDATE RESTRICT
+    ON DELETE RESTRICT
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  AUTO_INCREMENT=700001;
+
+CREATE INDEX idx_document_attachment_doc ON document_attachment(doc_id);
+CREATE INDEX idx_document_attachment_sha ON document_attachment(sha256);   -- 미참조 blob 정리
+
+-- =========================================================
+-- 14) document_revision (문서 본문 버전 이력)
+-- - kind = SNAPSHOT : payload = deflate(전체 본문)
+-- - kind = DELTA    : payload = deflate(직전 버전 → 이 버전 줄 단위 편집)
+-- - 최신 본문은 document.content 에 그대로 있으므로 최신 조회는 이 테이블을 읽지 않는다
+-- =========================================================
+CREATE TABLE document_revision (
+  revision_id   BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+  doc_id        BIGINT UNSIGNED NOT NULL,
+  rev_no        INT NOT NULL,                -- 문서별 버전 번호 (1부터)
+  kind          VARCHAR(10) NOT NULL,        -- SNAPSHOT / DELTA
+  title         VARCHAR(200) NOT NULL,
+  payload       MEDIUMBLOB NOT NULL,
+  raw_size      INT NOT NULL,                -- 압축 전 본문 크기 (UTF-8 bytes)
+  stored_size   INT NOT NULL,                -- payload 크기
+  created_by    BIGINT UNSIGNED NOT NULL,
+  created_at    DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+  CONSTRAINT pk_document_revision PRIMARY KEY (revision_id),
+  CONSTRAINT uk_document_revision_doc_rev UNIQUE (doc_id, rev_no),
+
+  CONSTRAINT fk_document_revision_doc
+    FOREIGN KEY (doc_id) REFERENCES document(doc_id)
+    ON UPDATE CASCADE
+    ON DELETE CASCADE
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4;
+
+-- =========================================================
+-- 15) resource (예약 가능한 설비 : 회의실 / 장비 / 차량)
+-- - 단건 / 반복 예약 변경은 이 행을 SELECT ... FOR UPDATE 로 잠근 트랜잭션 안에서 처리 (노드 간 직렬화)
+-- - reservation_version : 예약 변경마다 +1, 노드 색인이 이 값과 다르면 다시 적재 후 충돌 확인
+-- =========================================================
+CREATE TABLE resource (
+  resource_id    BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+  resource_name  VARCHAR(100) NOT NULL,
+  resource_type  VARCHAR(20) NOT NULL,           -- ROOM / EQUIPMENT / VEHICLE
+  capacity       INT NOT NULL DEFAULT 0,         -- 수용 인원 (회의실)
+  location       VARCHAR(100) NULL,
+  features       VARCHAR(255) NULL,              -- 비품 (콤마 구분 : PROJECTOR,DISPLAY,VIDEO_CONF,WHITEBOARD,PHONE)
+  status         VARCHAR(20) NOT NULL DEFAULT 'ACTIVE',   -- ACTIVE / INACTIVE
+  reservation_version BIGINT UNSIGNED NOT NULL DEFAULT 0, -- 예약 변경 버전
+  created_at     DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at     DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+  CONSTRAINT pk_resource PRIMARY KEY (resource_id),
+  CONSTRAINT uk_resource_name UNIQUE (resource_name)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  AUTO_INCREMENT=800001;
+
+-- =========================================================
+-- 16) reservation (설비 예약)
+-- =========================================================
+CREATE TABLE reservation (
+  reservation_id  BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+  resource_id     BIGINT UNSIGNED NOT NULL,
+  emp_id          BIGINT UNSIGNED NOT NULL,
+  title           VARCHAR(200) NOT NULL,
+  start_at        DATETIME NOT NULL,
+  end_at          DATETIME NOT NULL,               -- 종료 시각 (미포함)
+  status          VARCHAR(20) NOT NULL DEFAULT 'RESERVED',   -- RESERVED / CANCELLED
+  created_at      DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at      DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+  CONSTRAINT pk_reservation PRIMARY KEY (reservation_id),
+
+  CONSTRAINT fk_reservation_resource
+    FOREIGN KEY (resource_id) REFERENCES resource(resource_id)
+    ON UPDATE CASCADE
+    ON DELETE RESTRICT,
+
+  CONSTRAINT fk_reservation_emp
+    FOREIGN KEY (emp_id) REFERENCES employee(emp_id)
+    ON UPDATE CASCADE
+    ON DELETE RESTRICT
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  AUTO_INCREMENT=900001;
+
+CREATE INDEX idx_reservation_resource_end ON reservation(resource_id, end_at);   -- 설비별 기간 조회 / 색인 적재
+CREATE INDEX idx_reservation_emp ON reservation(emp_id, start_at);               -- 내 예약
+
+-- =========================================================
+-- 17) reservation_slot (단건 예약 점유 슬롯)
+-- - 예약 1건 = 15분 슬롯 N행, PK(resource_id, slot_start) 로 단건 예약끼리 같은 슬롯 중복 점유 불가
+-- - 반복 예약은 슬롯 행이 없음 → 반복 예약과의 충돌은 resource 행 잠금 + reservation_version 으로 방어
+-- - 취소 시 삭제
+-- =========================================================
+CREATE TABLE reservation_slot (
+  resource_id     BIGINT UNSIGNED NOT NULL,
+  slot_start      DATETIME NOT NULL,
+  reservation_id  BIGINT UNSIGNED NOT NULL,
+
+  CONSTRAINT pk_reservation_slot PRIMARY KEY (resource_id, slot_start),
+
+  CONSTRAINT fk_reservation_slot_reservation
+    FOREIGN KEY (reservation_id) REFERENCES reservation(reservation_id)
+    ON UPDATE CASCADE
+    ON DELETE CASCADE
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4;
+
+CREATE INDEX idx_reservation_slot_reservation ON reservation_slot(reservation_id);
+
+-- =========================================================
+-- 18) reservation_series (반복 예약 규칙)
+-- - 회차를 행으로 저장하지 않고 규칙만 저장, 조회/충돌 확인 구간만 펼쳐서 사용
+-- - 회차는 first_date 부터 until_date 까지 frequency 간격, 매 회차 [start_time, end_time)
+-- =========================================================
+CREATE TABLE reservation_series (
+  series_id       BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+  resource_id     BIGINT UNSIGNED NOT NULL,
+  emp_id          BIGINT UNSIGNED NOT NULL,
+  title           VARCHAR(200) NOT NULL,
+  frequency       VARCHAR(20) NOT NULL,            -- WEEKLY / BIWEEKLY / MONTHLY
+  first_date      DATE NOT NULL,                   -- 첫 회차
+  until_date      DATE NOT NULL,                   -- 마지막 회차 기준일 (포함)
+  start_time      TIME NOT NULL,
+  end_time        TIME NOT NULL,                   -- 종료 시각 (미포함, 같은 날)
+  status          VARCHAR(20) NOT NULL DEFAULT 'RESERVED',   -- RESERVED / CANCELLED
+  created_at      DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at      DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+  CONSTRAINT pk_reservation_series PRIMARY KEY (series_id),
+
+  CONSTRAINT fk_reservation_series_resource
+    FOREIGN KEY (resource_id) REFERENCES resource(resource_id)
+    ON UPDATE CASCADE
+    ON DELETE RESTRICT,
+
+  CONSTRAINT fk_reservation_series_emp
+    FOREIGN KEY (emp_id) REFERENCES employee(emp_id)
+    ON UPDATE CASCADE
+    ON DELETE RESTRICT
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  AUTO_INCREMENT=950001;
+
+CREATE INDEX idx_reservation_series_resource_until ON reservation_series(resource_id, until_date);   -- 색인 적재
+CREATE INDEX idx_reservation_series_emp ON reservation_series(emp_id, until_date);                   -- 내 반복 예약
+
+-- =========================================================
+-- 19) reservation_series_exception (반복 예약 회차 취소)
+-- - 취소된 회차 날짜 1행 (회차 취소 = INSERT 1건)
+-- =========================================================
+CREATE TABLE reservation_series_exception (
+  series_id        BIGINT UNSIGNED NOT NULL,
+  occurrence_date  DATE NOT NULL,
+  created_by       BIGINT UNSIGNED NOT NULL,
+  created_at       DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+  CONSTRAINT pk_reservation_series_exception PRIMARY KEY (series_id, occurrence_date),
+
+  CONSTRAINT fk_reservation_series_exception_series
+    FOREIGN KEY (series_id) REFERENCES reservation_series(series_id)
+    ON UPDATE CASCADE
+    ON DELETE CASCADE
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4;
+
+-- =========================================================
+-- 20) security_audit_log (보안 감사 로그, 추가 전용)
+-- - 로그인 / 로그인 실패 / 로그아웃 / 강제 로그아웃 / 잠금·해제 / 비밀번호 재설정
+-- - 요청 경로에서는 메모리 큐에만 넣고, 백그라운드에서 배치 INSERT (UPDATE / DELETE 없음)
+-- - 직원이 삭제되어도 기록이 남도록 FK 없음
+-- =========================================================
+CREATE TABLE security_audit_log (
+  audit_id        BIGINT UNSIGNED NOT NULL AUTO_INCREMENT,
+  event_type      VARCHAR(30) NOT NULL,            -- LOGIN_SUCCESS / LOGIN_FAILURE / LOGOUT / FORCE_LOGOUT / ACCOUNT_LOCK / ACCOUNT_UNLOCK / PASSWORD_RESET
+  actor_emp_id    BIGINT UNSIGNED NULL,            -- 수행자 (로그인 전 요청이면 NULL)
+  target_emp_id   BIGINT UNSIGNED NULL,            -- 대상 직원 (알 수 없으면 NULL)
+  login_id        VARCHAR(50) NULL,                -- 대상 로그인 ID (로그인 실패는 입력값)
+  client_ip       VARCHAR(45) NULL,
+  detail          VARCHAR(500) NULL,
+  occurred_at     DATETIME(3) NOT NULL,            -- 발생 시각 (INSERT 시각 아님)
+
+  CONSTRAINT pk_security_audit_log PRIMARY KEY (audit_id)
+) ENGINE=InnoDB
+  DEFAULT CHARSET=utf8mb4
+  AUTO_INCREMENT=960001;
+
+CREATE INDEX idx_security_audit_log_occurred ON security_audit_log(occurred_at);                          -- 기간 조회
+CREATE INDEX idx_security_audit_log_target ON security_audit_log(target_emp_id, occurred_at);             -- 직원별
+CREATE INDEX idx_security_audit_log_type ON security_audit_log(event_type, occurred_at);                  -- 유형별
@@ -0,0 +1,85 @@
+package com.wework.analytics.core;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 열 지향 사실 테이블 – 필터 / 그룹 / 합계 (분할 단위를 넘는 행 수로 병렬 스캔 포함)
+ * */
+class FactTableTest {
+
+    private static final int ROWS = 200_000;
+    private static final List<String> DEPTS = List.of("A", "B", "C", "D");
+
+    private static ForkJoinPool pool;
+    private static FactTable table;
+
+    @BeforeAll
+    static void load() {
+        pool = new ForkJoinPool(4);
+        // 행 i : dept = DEPTS[i % 4], month = 짝수/홀수, late = i % 2, minutes = i % 10
+        FactTable.Builder builder = FactTable.builder("t", List.of("dept", "month"), List.of("late", "minutes"));
+        for (int i = 0; i < ROWS; i++) {
+            builder.add(new String[]{DEPTS.get(i % 4), i % 2 == 0 ? "2026-01" : "2026-02"},
+                    new int[]{i % 2, i % 10});
+        }
+        table = builder.build();
+    } // func end
+
+    @AfterAll
+    static void shutdown() {
+        pool.shutdown();
+    } // func end
+
+    @Test
+    void totalWithoutFilter() {
+        List<FactTable.Group> groups = table.aggregate(Map.of(), List.of(), List.of("late", "minutes"), pool);
+        assertThat(groups).hasSize(1);
+        assertThat(groups.get(0).keys()).isEmpty();
+        assertThat(groups.get(0).count()).isEqualTo(ROWS);
+        assertThat(groups.get(0).sums()).containsExactly(ROWS / 2, ROWS / 10 * 45L);
+    } // func end
+
+    @Test
+    void filterAndGroup() {
+        List<FactTable.Group> groups = table.aggregate(Map.of("dept", Set.of("A", "B", "unknown")),
+                List.of("dept", "month"), List.of("late"), pool);
+        // A = 짝수 행 (2026-01, late 0), B = 홀수 행 (2026-02, late 1)
+        assertThat(groups).hasSize(2);
+        for (FactTable.Group group : groups) {
+            assertThat(group.count()).isEqualTo(ROWS / 4);
+            if (group.keys().get(0).equals("A")) {
+                assertThat(group.keys()).containsExactly("A", "2026-01");
+                assertThat(group.sums()).containsExactly(0L);
+            } else {
+                assertThat(group.keys()).containsExactly("B", "2026-02");
+                assertThat(group.sums()).containsExactly(ROWS / 4L);
+            }
+        }
+    } // func end
+
+    @Test
+    void emptyOrUnknownFilterMatchesNothing() {
+        assertThat(table.aggregate(Map.of("dept", Set.of()), List.of(), List.of(), pool)).isEmpty();
+        assertThat(table.aggregate(Map.of("month", Set.of("2030-01")), List.of("dept"), List.of(), pool)).isEmpty();
+    } // func end
+
+    @Test
+    void unknownColumnsAreRejected() {
+        assertThatThrownBy(() -> table.aggregate(Map.of(), List.of("nope"), List.of(), pool))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> table.aggregate(Map.of(), List.of(), List.of("nope"), pool))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(table.values("dept")).containsExactlyElementsOf(DEPTS);
+    } // func end
+
+} // class end
@@ -0,0 +1,88 @@
+package com.wework.attendance.calc;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 근무시간 계산 – 1일 규칙 (WorkRule) 과 월 합계
+ *
+ * <P>1) 지각 유예 / 휴게 겹침 / 조퇴 / 연장</P>
+ * <P>2) 퇴근 누락은 미완료 일자, 자정을 넘긴 퇴근은 같은 근무일</P>
+ * <P>3) 주말 / 휴일 출근은 휴일 근로 (지각 / 조퇴 / 연장 없음)</P>
+ * */
+class WorkHoursCalculatorTest {
+
+    // 09:00~18:00, 휴게 12:00~13:00, 소정 480분, 유예 5분
+    private static final WorkRule RULE = WorkRule.of("09:00", "18:00", "12:00", "13:00", 480, 5);
+    private static final YearMonth MONTH = YearMonth.of(2026, 3);     // 3/1 일요일, 3/2 대체공휴일 가정
+    private static final int WORKDAYS = WorkHoursCalculator.workdayMask(MONTH,
+            d -> d.getDayOfWeek().getValue() < 6 && d.getDayOfMonth() != 2);
+
+    @Test
+    void dayRules() {
+        assertThat(RULE.lateMinutes(9 * 60 + 5)).as("within grace").isZero();
+        assertThat(RULE.lateMinutes(9 * 60 + 6)).isEqualTo(6);
+        assertThat(RULE.workedMinutes(9 * 60, 18 * 60)).isEqualTo(480);
+        assertThat(RULE.workedMinutes(12 * 60 + 30, 15 * 60)).as("half of the break").isEqualTo(120);
+        assertThat(RULE.workedMinutes(13 * 60, 15 * 60)).as("after the break").isEqualTo(120);
+        assertThat(RULE.earlyLeaveMinutes(17 * 60)).isEqualTo(60);
+        assertThat(RULE.earlyLeaveMinutes(19 * 60)).isZero();
+        assertThat(RULE.overtimeMinutes(540)).isEqualTo(60);
+        assertThat(RULE.overtimeMinutes(400)).isZero();
+    } // func end
+
+    @Test
+    void workdayMask() {
+        assertThat(WORKDAYS & 0b11).as("3/1 일요일, 3/2 휴일").isZero();
+        assertThat(Integer.bitCount(WORKDAYS)).isEqualTo(21);
+        assertThat(WORKDAYS >>> MONTH.lengthOfMonth()).isZero();
+    } // func end
+
+    @Test
+    void monthSummary() {
+        EmployeeMonthPunches punches = new EmployeeMonthPunches(1L, 10L, MONTH);
+        punches.put(day(3), at(3, 9, 0), at(3, 18, 0));         // 정상
+        punches.put(day(4), at(4, 9, 20), at(4, 17, 0));        // 지각 20 / 조퇴 60
+        punches.put(day(5), at(5, 8, 30), null);                // 퇴근 누락
+        punches.put(day(6), at(6, 9, 0), at(7, 1, 0));          // 자정 넘김 → 연장 420
+
+        WorkSummary summary = WorkHoursCalculator.calculate(punches, RULE, WORKDAYS);
+        assertThat(summary.workDays()).isEqualTo(4);
+        assertThat(summary.lateCount()).isEqualTo(1);
+        assertThat(summary.lateMinutes()).isEqualTo(20);
+        assertThat(summary.earlyLeaveMinutes()).isEqualTo(60);
+        assertThat(summary.incompleteDays()).isEqualTo(1);
+        assertThat(summary.workedMinutes()).isEqualTo(480 + 400 + 900);
+        assertThat(summary.overtimeMinutes()).isEqualTo(420);
+        assertThat(summary.holidayWorkMinutes()).isZero();
+    } // func end
+
+    @Test
+    void weekendAndHolidayAreHolidayWork() {
+        EmployeeMonthPunches punches = new EmployeeMonthPunches(1L, 10L, MONTH);
+        punches.put(day(2), at(2, 11, 0), at(2, 15, 0));        // 휴일 : 늦은 출근 / 이른 퇴근
+        punches.put(day(7), at(7, 10, 0), at(7, 22, 0));        // 토요일 : 12시간
+
+        WorkSummary summary = WorkHoursCalculator.calculate(punches, RULE, WORKDAYS);
+        assertThat(summary.workDays()).isEqualTo(2);
+        assertThat(summary.lateCount()).isZero();
+        assertThat(summary.earlyLeaveMinutes()).isZero();
+        assertThat(summary.overtimeMinutes()).isZero();
+        assertThat(summary.holidayWorkMinutes()).isEqualTo(180 + 660);
+        assertThat(summary.workedMinutes()).isEqualTo(summary.holidayWorkMinutes());
+    } // func end
+
+    private static LocalDate day(int dayOfMonth) {
+        return MONTH.atDay(dayOfMonth);
+    } // func end
+
+    private static LocalDateTime at(int dayOfMonth, int hour, int minute) {
+        return MONTH.atDay(dayOfMonth).atTime(hour, minute);
+    } // func end
+
+} // class end
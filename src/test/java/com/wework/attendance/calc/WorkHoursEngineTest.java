@@ -0,0 +1,126 @@
+package com.wework.attendance.calc;
+
+import com.wework.attendance.mapper.AttendanceCalcMapper;
+import com.wework.attendance.mapper.AttendanceDayRow;
+import com.wework.calendar.core.BusinessCalendar;
+import com.wework.calendar.service.BusinessCalendarService;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 근무시간 엔진 (DB 없이 mapper / 영업일 달력을 흉내 냄)
+ *
+ * <P>1) 휴일이 등록되면 그 달 캐시는 다시 계산되어 휴일 근로로 집계</P>
+ * <P>2) 캐시 상한을 넘으면 가장 오래된 월부터 제거</P>
+ * <P>3) 월 집계는 권한 범위 부서만 조회</P>
+ * */
+class WorkHoursEngineTest {
+
+    private static final YearMonth MARCH = YearMonth.of(2026, 3);
+    private static final LocalDate TUESDAY = MARCH.atDay(3);
+
+    private final AttendanceCalcMapper mapper = mock(AttendanceCalcMapper.class);
+    private final BusinessCalendarService calendarService = mock(BusinessCalendarService.class);
+    private final List<AttendanceDayRow> rows = new ArrayList<>();
+    private WorkHoursEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        when(calendarService.calendar()).thenReturn(BusinessCalendar.of(List.of()));
+        doAnswer(invocation -> {
+            LocalDate from = invocation.getArgument(0);
+            LocalDate to = invocation.getArgument(1);
+            Long empId = invocation.getArgument(2);
+            List<Long> deptIds = invocation.getArgument(3);
+            ResultHandler<AttendanceDayRow> handler = invocation.getArgument(4);
+            DefaultResultContext<AttendanceDayRow> context = new DefaultResultContext<>();
+            for (AttendanceDayRow row : rows) {
+                if (row.getWorkDate().isBefore(from) || row.getWorkDate().isAfter(to)) continue;
+                if (empId != null && !empId.equals(row.getEmpId())) continue;
+                if (deptIds != null && !deptIds.contains(row.getDeptId())) continue;
+                context.nextResultObject(row);
+                handler.handleResult(context);
+            }
+            return null;
+        }).when(mapper).streamPunches(any(), any(), any(), any(), any());
+        engine = new WorkHoursEngine(mapper, calendarService, "09:00", "18:00", "12:00", "13:00", 480, 0, 1, 2);
+    } // func end
+
+    @AfterEach
+    void shutdown() {
+        engine.shutdown();
+    } // func end
+
+    @Test
+    void holidayRegistrationRecalculatesTheMonth() {
+        punch(1L, 10L, TUESDAY, 9, 19);
+        assertThat(engine.summarize(1L, MARCH).overtimeMinutes()).isEqualTo(60);
+        engine.summarize(1L, MARCH);
+        verify(mapper, times(1)).streamPunches(any(), any(), eq(1L), isNull(), any());
+
+        when(calendarService.calendar()).thenReturn(BusinessCalendar.of(
+                List.of(new BusinessCalendar.Holiday(TUESDAY, "임시공휴일", "COMPANY"))));
+        WorkSummary summary = engine.summarize(1L, MARCH);
+        assertThat(summary.overtimeMinutes()).isZero();
+        assertThat(summary.holidayWorkMinutes()).isEqualTo(540);
+        verify(mapper, times(2)).streamPunches(any(), any(), eq(1L), isNull(), any());
+    } // func end
+
+    @Test
+    void oldestMonthEvictedWhenFull() {
+        punch(1L, 10L, LocalDate.of(2026, 1, 6), 9, 18);
+        punch(1L, 10L, LocalDate.of(2026, 2, 3), 9, 18);
+        punch(1L, 10L, TUESDAY, 9, 18);
+        engine.summarize(1L, YearMonth.of(2026, 1));
+        engine.summarize(1L, YearMonth.of(2026, 2));
+        engine.summarize(1L, MARCH);          // 상한 2 → 1월 제거
+        clearInvocations(mapper);
+
+        engine.summarize(1L, MARCH);
+        engine.summarize(1L, YearMonth.of(2026, 2));
+        verify(mapper, never()).streamPunches(any(), any(), any(), any(), any());
+        engine.summarize(1L, YearMonth.of(2026, 1));
+        verify(mapper, times(1)).streamPunches(any(), any(), any(), any(), any());
+    } // func end
+
+    @Test
+    void monthSummaryLoadsOnlyScopeDepartments() {
+        punch(1L, 10L, TUESDAY, 9, 18);
+        punch(2L, 20L, TUESDAY, 9, 18);
+        List<WorkSummary> summaries = engine.summarizeMonth(MARCH, List.of(20L));
+        assertThat(summaries).extracting(WorkSummary::empId).containsExactly(2L);
+        verify(mapper).streamPunches(any(), any(), isNull(), eq(List.of(20L)), any());
+        assertThat(engine.summarizeMonth(MARCH, null)).extracting(WorkSummary::empId).containsExactly(1L, 2L);
+    } // func end
+
+    private void punch(long empId, long deptId, LocalDate date, int inHour, int outHour) {
+        AttendanceDayRow row = new AttendanceDayRow();
+        row.setEmpId(empId);
+        row.setDeptId(deptId);
+        row.setWorkDate(date);
+        row.setCheckInAt(date.atTime(inHour, 0));
+        row.setCheckOutAt(date.atTime(outHour, 0));
+        rows.add(row);
+    } // func end
+
+} // class end
@@ -0,0 +1,69 @@
+package com.wework.attendance.infra.export;
+
+import com.wework.attendance.mapper.AttendanceExportRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * XLSX 출력기 – 성공 / 출력 실패 모두 close 후 SXSSF 임시 파일이 남지 않는다
+ * */
+class XlsxAttendanceExportWriterTest {
+
+    private static final File POI_TEMP = new File(System.getProperty("java.io.tmpdir"), "poifiles");
+    private static final int ROWS = 1_000;   // ROW_WINDOW 보다 많게 → 임시 파일로 내려감
+
+    @Test
+    void temporaryFilesRemovedAfterSuccess() throws IOException {
+        int before = tempFiles();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (XlsxAttendanceExportWriter writer = new XlsxAttendanceExportWriter(out)) {
+            writeRows(writer);
+            writer.finish();
+        }
+        assertThat(out.size()).isPositive();
+        assertThat(tempFiles()).isEqualTo(before);
+    } // func end
+
+    @Test
+    void temporaryFilesRemovedWhenOutputFails() {
+        int before = tempFiles();
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("client closed");
+            } // func end
+        };
+        assertThatThrownBy(() -> {
+            try (XlsxAttendanceExportWriter writer = new XlsxAttendanceExportWriter(broken)) {
+                writeRows(writer);
+                writer.finish();
+            }
+        }).isInstanceOf(IOException.class);
+        assertThat(tempFiles()).isEqualTo(before);
+    } // func end
+
+    private static void writeRows(XlsxAttendanceExportWriter writer) {
+        writer.writeHeader();
+        for (int i = 0; i < ROWS; i++) {
+            AttendanceExportRow row = new AttendanceExportRow();
+            row.setEmpId(100_000L + i);
+            row.setLoginId("user" + i);
+            row.setWorkDate(LocalDate.of(2026, 3, 2));
+            writer.writeRow(row);
+        }
+    } // func end
+
+    private static int tempFiles() {
+        String[] names = POI_TEMP.list();
+        return names == null ? 0 : names.length;
+    } // func end
+
+} // class end
@@ -0,0 +1,110 @@
+package com.wework.attendance.service;
+
+import com.wework.attendance.infra.redis.AttendancePunch;
+import com.wework.attendance.infra.redis.AttendancePunchStore;
+import com.wework.attendance.repository.AttendanceJdbcRepository;
+import com.wework.support.IntegrationTestSupport;
+import io.lettuce.core.cluster.SlotHash;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [ATTENDANCE_001 / ATTENDANCE_002] 출퇴근 write-behind (journal shard)
+ *
+ * <P>1) 직원마다 다른 shard 로 적재된 출퇴근이 모두 DB 에 반영된다</P>
+ * <P>2) 출퇴근 키는 모두 shard hash tag 를 가지며, 중복 제거 키와 journal 은 같은 slot 이다</P>
+ * <P>3) attendance.redis.legacy-keys=true 이면 이전 형식 journal / 출근 키도 처리된다</P>
+ * */
+class AttendanceWriteBehindFlusherTest extends IntegrationTestSupport {
+
+    private static final long FIRST_EMP_ID = 100001L;
+    private static final int EMPLOYEES = 10;
+    private static final Pattern TAGGED_KEY = Pattern.compile("attendance:\\{j(\\d+)}:(punch:\\w+:[\\d-]+:(\\d+)|journal|inflight:.+)");
+
+    @Autowired private AttendanceService attendanceService;
+    @Autowired private AttendanceWriteBehindFlusher flusher;
+    @Autowired private AttendancePunchStore punchStore;
+    @Autowired private AttendanceJdbcRepository attendanceJdbcRepository;
+    @Autowired private ApplicationEventPublisher eventPublisher;
+    @Autowired private StringRedisTemplate stringRedisTemplate;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void punchesOnEveryShardReachTheDatabase() {
+        // [1] 출근 10명 + 퇴근 5명
+        for (int i = 0; i < EMPLOYEES; i++) attendanceService.checkIn(FIRST_EMP_ID + i);
+        for (int i = 0; i < EMPLOYEES / 2; i++) attendanceService.checkOut(FIRST_EMP_ID + i);
+        drain(flusher);
+        assertThat(punchStore.journalSize()).as("every shard journal drained").isZero();
+
+        // [2] DB 반영
+        LocalDate today = LocalDate.now(AttendancePunch.ZONE);
+        assertThat(count("check_in_at IS NOT NULL", today)).isEqualTo(EMPLOYEES);
+        assertThat(count("check_out_at IS NOT NULL", today)).isEqualTo(EMPLOYEES / 2);
+
+        // [3] 키 형식 (hash tag / slot)
+        Set<String> keys = stringRedisTemplate.keys("attendance:*");
+        assertThat(keys).isNotEmpty();
+        for (String key : keys) {
+            Matcher m = TAGGED_KEY.matcher(key);
+            assertThat(m.matches()).as("tagged key %s", key).isTrue();
+            int shard = Integer.parseInt(m.group(1));
+            if (m.group(3) != null) {
+                assertThat(shard).as("shard of %s", key).isEqualTo(AttendancePunchStore.shardOf(Long.parseLong(m.group(3))));
+            }
+            assertThat(SlotHash.getSlot(key)).as("slot of %s", key)
+                    .isEqualTo(SlotHash.getSlot("attendance:{j" + shard + "}:journal"));
+        }
+    } // func end
+
+    @Test
+    void legacyJournalAndPunchKeysAreRead() {
+        long empId = FIRST_EMP_ID + 2;
+        LocalDate legacyDay = LocalDate.now(AttendancePunch.ZONE).minusDays(1);
+        LocalDate clockOutDay = legacyDay.minusDays(1);
+        long millis = System.currentTimeMillis() - 86_400_000L;
+        AttendancePunchStore legacyStore = new AttendancePunchStore(stringRedisTemplate, true);
+        AttendanceWriteBehindFlusher legacyFlusher = new AttendanceWriteBehindFlusher(legacyStore,
+                attendanceJdbcRepository, eventPublisher, "legacy-test", 500, 20);
+
+        // [1] 전환 전 노드가 쌓은 journal
+        stringRedisTemplate.opsForList().rightPush("attendance:journal",
+                new AttendancePunch(AttendancePunch.TYPE_IN, empId, legacyDay, millis).encode());
+
+        // [2] 전환 전 출근 → 전환 후 퇴근
+        stringRedisTemplate.opsForValue().set("attendance:punch:IN:" + clockOutDay + ":" + empId, String.valueOf(millis));
+        AttendancePunchStore.PunchResult out = legacyStore.punch(
+                new AttendancePunch(AttendancePunch.TYPE_OUT, empId, clockOutDay, millis + 3_600_000L));
+        assertThat(out.status()).as("clock-out accepted after legacy clock-in").isEqualTo(1);
+
+        drain(legacyFlusher);
+        assertThat(stringRedisTemplate.opsForList().size("attendance:journal")).as("legacy journal drained").isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM attendance WHERE emp_id = ? AND work_date = ? AND check_in_at IS NOT NULL",
+                Integer.class, empId, Date.valueOf(legacyDay))).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM attendance WHERE emp_id = ? AND work_date = ? AND check_out_at IS NOT NULL",
+                Integer.class, empId, Date.valueOf(clockOutDay))).isEqualTo(1);
+    } // func end
+
+    private void drain(AttendanceWriteBehindFlusher target) {
+        for (int i = 0; i < 5; i++) target.flush();
+    } // func end
+
+    private int count(String condition, LocalDate workDate) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attendance WHERE emp_id BETWEEN ? AND ? AND work_date = ? AND "
+                + condition, Integer.class, FIRST_EMP_ID, FIRST_EMP_ID + EMPLOYEES - 1, Date.valueOf(workDate));
+    } // func end
+
+} // class end
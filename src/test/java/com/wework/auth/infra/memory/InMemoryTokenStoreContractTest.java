@@ -0,0 +1,100 @@
+package com.wework.auth.infra.memory;
+
+import com.wework.auth.infra.token.TokenStore;
+import com.wework.auth.infra.token.TokenStoreContractTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * InMemoryTokenStore 공통 규칙 검증 + 메모리 구현체 전용 검사 (타이밍 휠 만료 / 스냅숏 복원)
+ *
+ * <p>스케줄러 없이 만들므로 휠 진행({@link InMemoryTokenStore#expire()})은 직접 호출한다.
+ * */
+class InMemoryTokenStoreContractTest extends TokenStoreContractTest {
+
+    private static final long TICK_MS = 100;
+
+    @TempDir
+    Path dir;
+
+    @Override
+    protected TokenStore createStore() {
+        return new InMemoryTokenStore(TICK_MS, dir.resolve("tokens.snapshot").toString());
+    } // func end
+
+    @Override
+    protected void expire() {
+        ((InMemoryTokenStore) store).expire();
+    } // func end
+
+    @Test
+    void wheelExpiryFreesEntries() throws Exception {
+        InMemoryTokenStore memory = new InMemoryTokenStore(TICK_MS, "");
+        for (int i = 0; i < 1_000; i++) memory.blacklistAccess(nextEmpId(), jti(), 1);
+        memory.storeRefresh(jti(), nextEmpId(), 60);
+        assertThat(memory.size()).as("entries stored").isEqualTo(1_002);
+        Thread.sleep(1_300);
+        memory.expire();
+        assertThat(memory.size()).as("expired entries removed without reads").isEqualTo(2);
+    } // func end
+
+    @Test
+    void snapshotRestore() throws Exception {
+        Path snapshot = dir.resolve("tokens.snapshot");
+        InMemoryTokenStore memory = (InMemoryTokenStore) store;
+        long empId = nextEmpId();
+        String refreshJti = jti();
+        String accessJti = jti();
+        String shortJti = jti();
+        String loginId = loginId();
+        memory.storeRefresh(refreshJti, empId, 60);
+        memory.storeAccessJti(empId, accessJti, 60);
+        memory.blacklistAccess(empId, shortJti, 1);
+        memory.increaseLoginFail(loginId, 60);
+        memory.close();
+        assertThat(snapshot).as("snapshot written").exists();
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            assertThat(Files.getPosixFilePermissions(snapshot)).as("rw-------")
+                    .containsExactlyInAnyOrder(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE);
+        }
+
+        Thread.sleep(1_200);
+        InMemoryTokenStore restored = new InMemoryTokenStore(TICK_MS, snapshot.toString());
+        assertThat(restored.existsRefresh(empId, refreshJti)).as("refresh restored").isTrue();
+        assertThat(restored.isBlacklisted(empId, shortJti)).as("expired entry not restored").isFalse();
+        assertThat(restored.getLoginFailCount(loginId)).as("login fail count restored").isEqualTo(1);
+        restored.blacklistAccessByEmpId(empId);
+        assertThat(restored.isBlacklisted(empId, accessJti)).as("current access restored").isTrue();
+    } // func end
+
+    @Test
+    void wheelScheduledDuringAdvanceIsNotLost() throws Exception {
+        TimingWheel<Integer> wheel = new TimingWheel<>(1, 0);
+        int threads = 4;
+        int perThread = 5_000;
+        Thread[] writers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int base = t * perThread;
+            writers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) wheel.schedule(base + i, 1 + (i % 200));
+            });
+            writers[t].start();
+        }
+        // 예약과 진행을 겹쳐서 실행
+        int expired = 0;
+        for (long now = 1; now <= 100; now++) expired += wheel.advance(now).size();
+        for (Thread writer : writers) writer.join();
+        expired += wheel.advance(300).size();
+
+        assertThat(expired).as("every scheduled item expires once").isEqualTo(threads * perThread);
+        assertThat(wheel.size()).isZero();
+    } // func end
+
+} // class end
@@ -0,0 +1,48 @@
+package com.wework.auth.infra.redis;
+
+import com.wework.auth.infra.token.TokenStore;
+import com.wework.auth.infra.token.TokenStoreContractTest;
+import com.wework.global.config.RedisConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+
+/**
+ * RedisTokenStore 공통 규칙 검증 (내장 Redis, 애플리케이션과 같은 RedisConfig 구성)
+ * */
+class RedisTokenStoreContractTest extends TokenStoreContractTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory factory;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+        factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        factory.afterPropertiesSet();
+        factory.start();
+    } // func end
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        if (factory != null) factory.destroy();
+        if (redisServer != null) redisServer.stop();
+    } // func end
+
+    @Override
+    protected TokenStore createStore() {
+        return new RedisTokenStore(new RedisConfig().redisTemplate(factory), new StringRedisTemplate(factory),
+                new RedisCircuitBreaker(5, 5000), RedisTokenStore.BlacklistPolicy.FAIL_OPEN, false, 10_000, 1800);
+    } // func end
+
+} // class end
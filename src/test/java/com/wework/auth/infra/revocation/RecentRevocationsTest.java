@@ -0,0 +1,82 @@
+package com.wework.auth.infra.revocation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 최근 무효화 목록 – 만료 순 일괄 정리
+ *
+ * <P>1) 최대 개수를 넘으면 만료가 이른 항목부터 1/16 여유가 생길 때까지 버린다</P>
+ * <P>2) 만료를 늘린 항목은 이전 만료 시각 기준으로 버려지지 않는다</P>
+ * <P>3) 동시에 추가해도 최대 개수를 넘지 않는다</P>
+ * */
+class RecentRevocationsTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    @Test
+    void evictsEarliestExpiryInBatches() {
+        long now = System.currentTimeMillis();
+        RecentRevocations revocations = new RecentRevocations(64);
+        for (int i = 0; i < 64; i++) revocations.add("jti-" + i, now + HOUR + i);
+        assertThat(revocations.size()).isEqualTo(64);
+
+        revocations.add("late", now + 2 * HOUR);
+        assertThat(revocations.size()).as("evicted down to max - max/16").isEqualTo(60);
+        assertThat(revocations.contains("jti-0")).isFalse();
+        assertThat(revocations.contains("jti-4")).isFalse();
+        assertThat(revocations.contains("jti-5")).isTrue();
+        assertThat(revocations.contains("late")).isTrue();
+    } // func end
+
+    @Test
+    void extendedExpiryIsKept() {
+        long now = System.currentTimeMillis();
+        RecentRevocations revocations = new RecentRevocations(16);
+        revocations.add("extended", now + HOUR);
+        revocations.add("extended", now + 3 * HOUR);
+        revocations.add("extended", now + 2 * HOUR);     // 더 이른 만료는 무시
+        for (int i = 0; i < 16; i++) revocations.add("jti-" + i, now + 2 * HOUR + i);
+
+        assertThat(revocations.size()).isEqualTo(15);
+        assertThat(revocations.contains("extended")).isTrue();
+        assertThat(revocations.contains("jti-0")).isFalse();
+    } // func end
+
+    @Test
+    void expiredEntriesAreIgnored() {
+        RecentRevocations revocations = new RecentRevocations(8);
+        revocations.add("past", System.currentTimeMillis() - 1);
+        revocations.add(null, System.currentTimeMillis() + HOUR);
+        assertThat(revocations.size()).isZero();
+        assertThat(revocations.contains("past")).isFalse();
+        assertThat(revocations.contains(null)).isFalse();
+    } // func end
+
+    @Test
+    void concurrentAddsStayBounded() throws Exception {
+        long now = System.currentTimeMillis();
+        RecentRevocations revocations = new RecentRevocations(1_000);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> results = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            results.add(executor.submit(() -> {
+                for (int i = 0; i < 50_000; i++) revocations.add(thread + "-" + i, now + HOUR + i);
+            }));
+        }
+        for (Future<?> result : results) result.get();
+        executor.shutdown();
+
+        assertThat(revocations.size()).isLessThanOrEqualTo(1_000);
+        assertThat(revocations.contains("0-49999")).isTrue();
+    } // func end
+
+} // class end
@@ -0,0 +1,202 @@
+package com.wework.auth.infra.token;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * TokenStore 구현체 공통 규칙
+ *
+ * <p>구현체마다 이 클래스를 상속해 {@link #createStore()} 만 구현하면 같은 검사를 모두 통과해야 한다.
+ * (Refresh Token / 강제 로그아웃 / 블랙리스트 / TTL / 로그인 실패 / 비밀번호 재설정 / 동시 삭제)
+ * */
+public abstract class TokenStoreContractTest {
+
+    // 검사마다 다른 사번 / 로그인 아이디를 써서 서로 영향이 없도록 함
+    private static final AtomicLong EMP_SEQ = new AtomicLong(900_000);
+
+    protected TokenStore store;
+
+    /**
+     * 검사 대상 (검사마다 호출)
+     * */
+    protected abstract TokenStore createStore() throws Exception;
+
+    /**
+     * TTL 검사 전 만료 처리 (스케줄러 없이 만든 구현체는 여기서 직접 진행)
+     * */
+    protected void expire() {
+    } // func end
+
+    @BeforeEach
+    void setUpStore() throws Exception {
+        store = createStore();
+    } // func end
+
+    @Test
+    void refreshStoreExistsDelete() {
+        long empId = nextEmpId();
+        String jti = jti();
+        store.storeRefresh(jti, empId, 60);
+        assertThat(store.existsRefresh(empId, jti)).as("stored refresh exists").isTrue();
+        assertThat(store.existsRefresh(empId + 1, jti)).as("refresh is scoped to empId").isFalse();
+        assertThat(store.deleteRefresh(empId, jti)).as("first delete returns true").isTrue();
+        assertThat(store.deleteRefresh(empId, jti)).as("second delete returns false").isFalse();
+        assertThat(store.existsRefresh(empId, jti)).as("deleted refresh is gone").isFalse();
+    } // func end
+
+    @Test
+    void deleteKeepsNewerCurrentRefresh() {
+        long empId = nextEmpId();
+        String oldJti = jti();
+        String newJti = jti();
+        store.storeRefresh(oldJti, empId, 60);
+        store.storeRefresh(newJti, empId, 60);
+        assertThat(store.deleteRefresh(empId, oldJti)).as("old refresh deleted").isTrue();
+        // 최신 기록이 새 토큰을 가리키므로 강제 로그아웃이 새 토큰을 지워야 함
+        store.deleteRefreshByEmpId(empId);
+        assertThat(store.existsRefresh(empId, newJti)).as("force logout removes the newer refresh").isFalse();
+    } // func end
+
+    @Test
+    void deleteRefreshByEmpId() {
+        long empId = nextEmpId();
+        String jti = jti();
+        store.deleteRefreshByEmpId(empId);      // 세션 없음 → 예외 없이 무시
+        store.storeRefresh(jti, empId, 60);
+        store.deleteRefreshByEmpId(empId);
+        assertThat(store.existsRefresh(empId, jti)).as("current refresh removed").isFalse();
+        assertThat(store.deleteRefresh(empId, jti)).as("nothing left to delete").isFalse();
+    } // func end
+
+    @Test
+    void blacklistAccessByEmpId() {
+        long empId = nextEmpId();
+        String jti = jti();
+        store.blacklistAccessByEmpId(empId);    // 기록 없음 → 무시
+        store.storeAccessJti(empId, jti, 60);
+        assertThat(store.isBlacklisted(empId, jti)).as("not blacklisted before force logout").isFalse();
+        store.blacklistAccessByEmpId(empId);
+        assertThat(store.isBlacklisted(empId, jti)).as("blacklisted after force logout").isTrue();
+    } // func end
+
+    @Test
+    void blacklistAccess() {
+        long empId = nextEmpId();
+        String jti = jti();
+        store.blacklistAccess(empId, jti, 60);
+        assertThat(store.isBlacklisted(empId, jti)).as("blacklisted after logout").isTrue();
+        assertThat(store.isBlacklisted(empId, jti())).as("other jti not blacklisted").isFalse();
+    } // func end
+
+    @Test
+    void ttlExpiry() throws Exception {
+        long empId = nextEmpId();
+        String refreshJti = jti();
+        String accessJti = jti();
+        String loginId = loginId();
+        store.storeRefresh(refreshJti, empId, 1);
+        store.blacklistAccess(empId, accessJti, 1);
+        store.storePwRestOtp(loginId, "123456", 1);
+        store.increaseLoginFail(loginId, 1);
+        Thread.sleep(2_500);
+        expire();
+        assertThat(store.existsRefresh(empId, refreshJti)).as("refresh expired").isFalse();
+        assertThat(store.isBlacklisted(empId, accessJti)).as("blacklist expired").isFalse();
+        assertThat(store.getPwRestOtp(loginId)).as("otp expired").isNull();
+        assertThat(store.getLoginFailCount(loginId)).as("login fail count expired").isZero();
+        assertThat(store.deleteRefresh(empId, refreshJti)).as("expired refresh cannot be deleted").isFalse();
+    } // func end
+
+    @Test
+    void loginFailCount() {
+        String loginId = loginId();
+        assertThat(store.getLoginFailCount(loginId)).as("starts at 0").isZero();
+        assertThat(store.increaseLoginFail(loginId, 60)).as("first failure").isEqualTo(1);
+        assertThat(store.increaseLoginFail(loginId, 60)).as("second failure").isEqualTo(2);
+        assertThat(store.getLoginFailCount(loginId)).isEqualTo(2);
+        store.clearLoginFail(loginId);
+        assertThat(store.getLoginFailCount(loginId)).as("cleared").isZero();
+    } // func end
+
+    @Test
+    void loginFailTtlStartsAtFirstFailure() throws Exception {
+        String loginId = loginId();
+        store.increaseLoginFail(loginId, 2);
+        Thread.sleep(1_200);
+        store.increaseLoginFail(loginId, 2);    // TTL 을 늘리지 않아야 함
+        Thread.sleep(1_300);
+        expire();
+        assertThat(store.getLoginFailCount(loginId)).as("window starts at the first failure").isZero();
+    } // func end
+
+    @Test
+    void passwordResetOtpAndToken() {
+        String loginId = loginId();
+        store.storePwRestOtp(loginId, "654321", 60);
+        assertThat(store.getPwRestOtp(loginId)).isEqualTo("654321");
+        store.deletePwRestOtp(loginId);
+        assertThat(store.getPwRestOtp(loginId)).as("otp deleted").isNull();
+        store.storePwStoreToken(loginId, "reset-token", 60);
+        assertThat(store.getPwResetToken(loginId)).isEqualTo("reset-token");
+        store.deletePwResetToken(loginId);
+        assertThat(store.getPwResetToken(loginId)).as("reset token deleted").isNull();
+    } // func end
+
+    @Test
+    void concurrentDeleteRefreshHasOneWinner() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < 20; round++) {
+                long empId = nextEmpId();
+                String jti = jti();
+                store.storeRefresh(jti, empId, 60);
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    Callable<Boolean> task = () -> {
+                        start.await();
+                        return store.deleteRefresh(empId, jti);
+                    };
+                    results.add(executor.submit(task));
+                }
+                start.countDown();
+                int winners = 0;
+                for (Future<Boolean> result : results) if (result.get()) winners++;
+                assertThat(winners).as("exactly one reissue wins (round %d)", round).isEqualTo(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    } // func end
+
+    @Test
+    void ensureAvailable() {
+        store.ensureAvailable();
+    } // func end
+
+    protected static long nextEmpId() {
+        return EMP_SEQ.incrementAndGet();
+    } // func end
+
+    protected static String jti() {
+        return UUID.randomUUID().toString();
+    } // func end
+
+    protected static String loginId() {
+        return "contract_" + EMP_SEQ.incrementAndGet();
+    } // func end
+
+} // class end
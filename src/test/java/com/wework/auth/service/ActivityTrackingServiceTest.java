@@ -0,0 +1,102 @@
+package com.wework.auth.service;
+
+import com.wework.auth.dto.response.ActivityStatsResponseDto;
+import com.wework.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [AUTH_038] 마지막 활동 시각 기록 병합 (DB 쓰기량이 요청 수와 무관한지)
+ *
+ * <p>여러 스레드가 직원 10명의 활동을 기록하는 동안 반영을 여러 번 실행한 뒤
+ * <P>1) 기록 호출은 모두 집계된다</P>
+ * <P>2) UPDATE 문 수 ≤ 반영 주기 수 (직원이 500명 이하이므로 주기당 1문장)</P>
+ * <P>3) 반영 행 수 ≤ 직원 수 × 반영 주기 수 (요청 수와 무관)</P>
+ * <P>4) 직원 행의 last_seen_at / last_login_at 이 실제로 반영된다</P>
+ * */
+class ActivityTrackingServiceTest extends IntegrationTestSupport {
+
+    private static final long FIRST_EMP_ID = 100001L;
+    private static final int EMPLOYEES = 10;
+    private static final int THREADS = 8;
+    private static final int RECORDS_PER_THREAD = 5_000;
+    private static final int FLUSHES = 5;
+
+    @Autowired
+    private ActivityTrackingService activityTrackingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void writesScaleWithFlushesNotRequests() throws Exception {
+        LocalDateTime startedAt = LocalDateTime.now().withNano(0);
+        ActivityStatsResponseDto before = activityTrackingService.getStats();
+
+        // [1] 기록 (로그인 1건 + 인증된 요청 다수) + 중간 반영
+        activityTrackingService.recordLogin(FIRST_EMP_ID);
+        CountDownLatch ready = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                ready.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < RECORDS_PER_THREAD; i++) {
+                    activityTrackingService.recordSeen(FIRST_EMP_ID + random.nextInt(EMPLOYEES));
+                }
+                return null;
+            }));
+        }
+        ready.countDown();
+        for (int i = 0; i < FLUSHES; i++) {
+            activityTrackingService.flush();
+            Thread.sleep(20);
+        }
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+        activityTrackingService.flush();
+
+        // [2] 통계 비교 (예약 실행된 반영이 섞여도 부등식은 성립)
+        ActivityStatsResponseDto after = activityTrackingService.getStats();
+        long recorded = after.recorded() - before.recorded();
+        long flushes = after.flushes() - before.flushes();
+        long statements = after.statements() - before.statements();
+        long rows = after.rowsWritten() - before.rowsWritten();
+        long requests = 1L + (long) THREADS * RECORDS_PER_THREAD;
+
+        assertThat(recorded).isEqualTo(requests);
+        assertThat(after.pending()).isZero();
+        assertThat(flushes).isPositive();
+        assertThat(statements).isLessThanOrEqualTo(flushes);
+        assertThat(rows).isLessThanOrEqualTo((long) EMPLOYEES * flushes);
+        assertThat(rows).isLessThan(requests / 100);
+
+        // [3] DB 반영 확인
+        Timestamp lastLoginAt = jdbcTemplate.queryForObject(
+                "SELECT last_login_at FROM employee WHERE emp_id = ?", Timestamp.class, FIRST_EMP_ID);
+        assertThat(lastLoginAt).isNotNull();
+        assertThat(lastLoginAt.toLocalDateTime()).isAfterOrEqualTo(startedAt);
+        Integer seen = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM employee WHERE emp_id BETWEEN ? AND ? AND last_seen_at >= ?", Integer.class,
+                FIRST_EMP_ID, FIRST_EMP_ID + EMPLOYEES - 1, Timestamp.valueOf(startedAt));
+        assertThat(seen).isEqualTo(EMPLOYEES);
+    } // func end
+
+} // class end
@@ -0,0 +1,80 @@
+package com.wework.calendar.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 영업일 달력 (주말 + 등록 휴일 제외)
+ *
+ * <P>1) 근무일 여부 / 다음 근무일 (연말 넘김 포함)</P>
+ * <P>2) 근무일 수와 n 근무일 후 날짜가 서로 맞물린다 (양수 / 음수 / 연도 경계)</P>
+ * <P>3) 탐색 범위(MAX_SPAN_YEARS)를 넘는 요청은 거절</P>
+ * */
+class BusinessCalendarTest {
+
+    // 2026-10-02 금 / 10-05 월 휴일 / 10-09 금 휴일
+    private static final LocalDate FRIDAY = LocalDate.of(2026, 10, 2);
+    private static final BusinessCalendar CALENDAR = BusinessCalendar.of(List.of(
+            new BusinessCalendar.Holiday(LocalDate.of(2026, 10, 5), "대체공휴일", "PUBLIC"),
+            new BusinessCalendar.Holiday(LocalDate.of(2026, 10, 9), "한글날", "PUBLIC"),
+            new BusinessCalendar.Holiday(LocalDate.of(2027, 1, 1), "신정", "PUBLIC")));
+
+    @Test
+    void workdayAndNextWorkday() {
+        assertThat(CALENDAR.isWorkday(FRIDAY)).isTrue();
+        assertThat(CALENDAR.isWorkday(FRIDAY.plusDays(1))).as("saturday").isFalse();
+        assertThat(CALENDAR.isWorkday(LocalDate.of(2026, 10, 5))).as("holiday").isFalse();
+        assertThat(CALENDAR.nextWorkday(FRIDAY)).isEqualTo(LocalDate.of(2026, 10, 6));
+        // 2026-12-31 목 → 2027-01-01 금 휴일 → 01-04 월
+        assertThat(CALENDAR.nextWorkday(LocalDate.of(2026, 12, 31))).isEqualTo(LocalDate.of(2027, 1, 4));
+    } // func end
+
+    @Test
+    void businessDaysBetween() {
+        // [10-02, 10-12) : 02, 06, 07, 08
+        assertThat(CALENDAR.businessDaysBetween(FRIDAY, LocalDate.of(2026, 10, 12))).isEqualTo(4);
+        assertThat(CALENDAR.businessDaysBetween(LocalDate.of(2026, 10, 12), FRIDAY)).isEqualTo(-4);
+        assertThat(CALENDAR.businessDaysBetween(FRIDAY, FRIDAY)).isZero();
+    } // func end
+
+    @Test
+    void plusBusinessDays() {
+        assertThat(CALENDAR.plusBusinessDays(FRIDAY, 0)).isEqualTo(FRIDAY);
+        assertThat(CALENDAR.plusBusinessDays(FRIDAY, 1)).isEqualTo(LocalDate.of(2026, 10, 6));
+        assertThat(CALENDAR.plusBusinessDays(FRIDAY, 4)).as("skips 10-09").isEqualTo(LocalDate.of(2026, 10, 12));
+        assertThat(CALENDAR.plusBusinessDays(LocalDate.of(2026, 10, 6), -1)).isEqualTo(FRIDAY);
+        assertThat(CALENDAR.plusBusinessDays(LocalDate.of(2026, 12, 31), 1)).isEqualTo(LocalDate.of(2027, 1, 4));
+        assertThat(CALENDAR.plusBusinessDays(LocalDate.of(2027, 1, 4), -1)).isEqualTo(LocalDate.of(2026, 12, 31));
+    } // func end
+
+    @Test
+    void plusAndBetweenAgreeAcrossYears() {
+        for (int n : new int[]{1, 17, 250, 600, -1, -17, -250, -600}) {
+            LocalDate result = CALENDAR.plusBusinessDays(FRIDAY, n);
+            assertThat(CALENDAR.isWorkday(result)).as("n=%d", n).isTrue();
+            // n > 0 : (date, result] 구간 / n < 0 : [result, date) 구간
+            int counted = n > 0
+                    ? CALENDAR.businessDaysBetween(FRIDAY.plusDays(1), result.plusDays(1))
+                    : -CALENDAR.businessDaysBetween(result, FRIDAY);
+            assertThat(counted).as("n=%d", n).isEqualTo(n);
+        }
+    } // func end
+
+    @Test
+    void searchSpanIsCapped() {
+        assertThatThrownBy(() -> CALENDAR.plusBusinessDays(FRIDAY, Integer.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CALENDAR.plusBusinessDays(FRIDAY, Integer.MIN_VALUE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CALENDAR.businessDaysBetween(FRIDAY, LocalDate.of(3000, 1, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 범위 안 (약 90년)
+        assertThat(CALENDAR.plusBusinessDays(FRIDAY, 23_000).getYear()).isBetween(2100, 2126);
+    } // func end
+
+} // class end
@@ -0,0 +1,53 @@
+package com.wework.calendar.service;
+
+import com.wework.calendar.dto.request.HolidayUpsertRequestDto;
+import com.wework.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * [CALENDAR_006 / CALENDAR_007] 휴일 등록 / 삭제 → 스냅샷 교체
+ *
+ * <P>1) 등록 즉시 근무일 여부 / 다음 근무일 / 근무일 수에 반영 (근무시간 엔진도 이 스냅샷을 읽는다)</P>
+ * <P>2) 삭제하면 원래대로, 없는 휴일 삭제는 거절</P>
+ * <P>3) 탐색 범위를 넘는 n 근무일 요청은 거절</P>
+ * */
+class BusinessCalendarServiceTest extends IntegrationTestSupport {
+
+    // 다른 테스트 데이터와 겹치지 않는 먼 미래의 화요일 / 수요일
+    private static final LocalDate TUESDAY = LocalDate.of(2031, 3, 11);
+    private static final LocalDate WEDNESDAY = LocalDate.of(2031, 3, 12);
+
+    @Autowired private BusinessCalendarService businessCalendarService;
+
+    @Test
+    void holidayUpsertAndDeleteSwapSnapshot() {
+        assertThat(businessCalendarService.isWorkday(WEDNESDAY)).isTrue();
+        try {
+            businessCalendarService.upsertHoliday(new HolidayUpsertRequestDto(WEDNESDAY, "창립기념일", "COMPANY"));
+            assertThat(businessCalendarService.isWorkday(WEDNESDAY)).isFalse();
+            assertThat(businessCalendarService.nextWorkday(TUESDAY)).isEqualTo(WEDNESDAY.plusDays(1));
+            assertThat(businessCalendarService.businessDaysBetween(TUESDAY, TUESDAY.plusDays(7))).isEqualTo(4);
+            assertThat(businessCalendarService.getHolidays(TUESDAY, WEDNESDAY)).hasSize(1);
+        } finally {
+            businessCalendarService.deleteHoliday(WEDNESDAY);
+        }
+        assertThat(businessCalendarService.isWorkday(WEDNESDAY)).isTrue();
+        assertThat(businessCalendarService.businessDaysBetween(TUESDAY, TUESDAY.plusDays(7))).isEqualTo(5);
+        assertThatThrownBy(() -> businessCalendarService.deleteHoliday(WEDNESDAY))
+                .isInstanceOf(IllegalArgumentException.class);
+    } // func end
+
+    @Test
+    void plusBusinessDaysSpanIsCapped() {
+        assertThat(businessCalendarService.getPlusBusinessDays(TUESDAY, 2).to()).isEqualTo(TUESDAY.plusDays(2));
+        assertThatThrownBy(() -> businessCalendarService.getPlusBusinessDays(TUESDAY, 1_000_000))
+                .isInstanceOf(IllegalArgumentException.class);
+    } // func end
+
+} // class end
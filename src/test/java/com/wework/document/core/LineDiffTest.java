@@ -0,0 +1,128 @@
+package com.wework.document.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 줄 단위 차이 (편집 구간이 a → b 를 빠짐없이 덮는지 + 경계 입력)
+ * */
+class LineDiffTest {
+
+    @Test
+    void emptyInputs() {
+        assertThat(LineDiff.lines(null)).containsExactly("");
+        assertThat(LineDiff.lines("")).containsExactly("");
+        List<LineDiff.Edit> edits = LineDiff.diff(LineDiff.lines(""), LineDiff.lines(""));
+        assertThat(edits).containsExactly(new LineDiff.Edit(LineDiff.Op.EQUAL, 0, 0, 1));
+    } // func end
+
+    @Test
+    void identicalInputsAreOneEqual() {
+        String[] a = LineDiff.lines("a\nb\n\nc\n");
+        assertThat(LineDiff.diff(a, a.clone())).containsExactly(new LineDiff.Edit(LineDiff.Op.EQUAL, 0, 0, a.length));
+    } // func end
+
+    @Test
+    void allChangedIsDeleteThenInsert() {
+        String[] a = {"a", "b", "c"};
+        String[] b = {"x", "y"};
+        assertThat(LineDiff.diff(a, b)).containsExactly(
+                new LineDiff.Edit(LineDiff.Op.DELETE, 0, 0, 3),
+                new LineDiff.Edit(LineDiff.Op.INSERT, 3, 0, 2));
+    } // func end
+
+    @Test
+    void crlfStaysOnTheLine() {
+        // "\r" 는 줄 내용에 남으므로 줄바꿈 방식만 바뀌어도 줄바꿈이 붙은 줄은 모두 다름
+        String[] crlf = LineDiff.lines("a\r\nb\r\nc");
+        assertThat(crlf).containsExactly("a\r", "b\r", "c");
+        assertThat(LineDiff.diff(crlf, LineDiff.lines("a\nb\nc"))).containsExactly(
+                new LineDiff.Edit(LineDiff.Op.DELETE, 0, 0, 2),
+                new LineDiff.Edit(LineDiff.Op.INSERT, 2, 0, 2),
+                new LineDiff.Edit(LineDiff.Op.EQUAL, 2, 2, 1));
+        assertCovers(crlf, LineDiff.lines("a\r\nB\r\nc"));
+    } // func end
+
+    @Test
+    void insertAndDeleteInTheMiddle() {
+        String[] a = {"1", "2", "3", "4", "5"};
+        String[] b = {"1", "2", "x", "4", "5", "6"};
+        assertThat(LineDiff.diff(a, b)).containsExactly(
+                new LineDiff.Edit(LineDiff.Op.EQUAL, 0, 0, 2),
+                new LineDiff.Edit(LineDiff.Op.DELETE, 2, 2, 1),
+                new LineDiff.Edit(LineDiff.Op.INSERT, 3, 2, 1),
+                new LineDiff.Edit(LineDiff.Op.EQUAL, 3, 3, 2),
+                new LineDiff.Edit(LineDiff.Op.INSERT, 5, 5, 1));
+    } // func end
+
+    @Test
+    void overMaxEditsFallsBackToReplace() {
+        String[] a = {"s", "a1", "a2", "a3", "e"};
+        String[] b = {"s", "b1", "a2", "b3", "e"};
+        assertThat(LineDiff.diff(a, b, 1)).containsExactly(
+                new LineDiff.Edit(LineDiff.Op.EQUAL, 0, 0, 1),
+                new LineDiff.Edit(LineDiff.Op.DELETE, 1, 1, 3),
+                new LineDiff.Edit(LineDiff.Op.INSERT, 4, 1, 3),
+                new LineDiff.Edit(LineDiff.Op.EQUAL, 4, 4, 1));
+        assertCovers(a, b);
+    } // func end
+
+    @Test
+    void randomEditsCoverBothSides() {
+        Random random = new Random(35);
+        for (int round = 0; round < 500; round++) {
+            String[] a = randomLines(random);
+            String[] b = mutate(random, a);
+            assertCovers(a, b);
+        }
+    } // func end
+
+    /**
+     * 편집 구간이 a, b 를 순서대로 빠짐없이 덮고, EQUAL 구간은 실제로 같은지 확인
+     * */
+    private static void assertCovers(String[] a, String[] b) {
+        int x = 0;
+        int y = 0;
+        for (LineDiff.Edit edit : LineDiff.diff(a, b)) {
+            assertThat(edit.count()).isPositive();
+            assertThat(edit.aStart()).isEqualTo(x);
+            assertThat(edit.bStart()).isEqualTo(y);
+            switch (edit.op()) {
+                case EQUAL -> {
+                    for (int i = 0; i < edit.count(); i++) assertThat(a[x + i]).isEqualTo(b[y + i]);
+                    x += edit.count();
+                    y += edit.count();
+                }
+                case DELETE -> x += edit.count();
+                case INSERT -> y += edit.count();
+            }
+        }
+        assertThat(x).isEqualTo(a.length);
+        assertThat(y).isEqualTo(b.length);
+    } // func end
+
+    private static String[] randomLines(Random random) {
+        String[] lines = new String[random.nextInt(30)];
+        for (int i = 0; i < lines.length; i++) lines[i] = String.valueOf((char) ('a' + random.nextInt(5)));
+        return lines;
+    } // func end
+
+    private static String[] mutate(Random random, String[] a) {
+        List<String> b = new ArrayList<>(List.of(a));
+        for (int i = random.nextInt(6); i > 0; i--) {
+            int at = b.isEmpty() ? 0 : random.nextInt(b.size());
+            switch (random.nextInt(3)) {
+                case 0 -> b.add(at, "n" + random.nextInt(3));
+                case 1 -> { if (!b.isEmpty()) b.remove(at); }
+                default -> { if (!b.isEmpty()) b.set(at, "m" + random.nextInt(3)); }
+            }
+        }
+        return b.toArray(String[]::new);
+    } // func end
+
+} // class end
@@ -0,0 +1,93 @@
+package com.wework.document.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 버전 본문 인코딩 왕복 (스냅샷 / 델타)
+ * */
+class RevisionCodecTest {
+
+    @Test
+    void snapshotRoundTrip() {
+        for (String content : new String[]{"", "한 줄", "a\r\nb\r\n", "\n\n", "끝 줄바꿈\n"}) {
+            assertThat(RevisionCodec.decodeSnapshot(RevisionCodec.encodeSnapshot(content))).isEqualTo(content);
+        }
+        assertThat(RevisionCodec.decodeSnapshot(RevisionCodec.encodeSnapshot(null))).isEmpty();
+    } // func end
+
+    @Test
+    void deltaFromAndToEmpty() {
+        assertRoundTrip("", "");
+        assertRoundTrip("", "새 본문\n둘째 줄");
+        assertRoundTrip("기존 본문\n둘째 줄", "");
+        assertThat(RevisionCodec.applyDelta(null, RevisionCodec.encodeDelta(null, "작성"))).isEqualTo("작성");
+    } // func end
+
+    @Test
+    void identicalDeltaIsOneCopy() {
+        String content = "제목\n\n본문 1\n본문 2\n";
+        byte[] delta = RevisionCodec.encodeDelta(content, content);
+        assertThat(RevisionCodec.applyDelta(content, delta)).isEqualTo(content);
+        assertThat(delta.length).isLessThan(RevisionCodec.encodeSnapshot(content).length);
+    } // func end
+
+    @Test
+    void allChangedDelta() {
+        assertRoundTrip("a\nb\nc", "x\ny\nz\nw");
+        assertRoundTrip("한글 1\n한글 2", "ＡＢＣ\n😀");
+    } // func end
+
+    @Test
+    void crlfAndTrailingNewlinePreserved() {
+        assertRoundTrip("a\r\nb\r\nc\r\n", "a\r\nB\r\nc\r\n");
+        assertRoundTrip("a\r\nb\r\n", "a\nb\n");
+        assertRoundTrip("a\nb", "a\nb\n");
+        assertRoundTrip("a\nb\n", "a\nb");
+        assertRoundTrip("\r\n", "\n");
+    } // func end
+
+    @Test
+    void randomEditsRoundTrip() {
+        Random random = new Random(35);
+        String base = text(random, 200);
+        for (int round = 0; round < 200; round++) {
+            StringBuilder target = new StringBuilder(base);
+            for (int i = random.nextInt(5); i >= 0; i--) {
+                int at = random.nextInt(target.length() + 1);
+                if (random.nextBoolean() && at < target.length()) target.deleteCharAt(at);
+                else target.insert(at, random.nextBoolean() ? "\n" : "z\r\n");
+            }
+            assertRoundTrip(base, target.toString());
+            base = target.toString();
+        }
+    } // func end
+
+    @Test
+    void rawSizeIsUtf8Bytes() {
+        assertThat(RevisionCodec.rawSize(null)).isZero();
+        assertThat(RevisionCodec.rawSize("가a")).isEqualTo("가a".getBytes(StandardCharsets.UTF_8).length);
+    } // func end
+
+    @Test
+    void corruptedDeltaRejected() {
+        byte[] snapshot = RevisionCodec.encodeSnapshot("\u0001\u0007");
+        assertThatThrownBy(() -> RevisionCodec.applyDelta("a", snapshot)).isInstanceOf(IllegalStateException.class);
+    } // func end
+
+    private static void assertRoundTrip(String base, String target) {
+        assertThat(RevisionCodec.applyDelta(base, RevisionCodec.encodeDelta(base, target))).isEqualTo(target);
+    } // func end
+
+    private static String text(Random random, int lines) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < lines; i++) text.append("line ").append(random.nextInt(20)).append(i % 7 == 0 ? "\r\n" : "\n");
+        return text.toString();
+    } // func end
+
+} // class end
@@ -0,0 +1,116 @@
+package com.wework.document.infra.redis;
+
+import com.wework.support.IntegrationTestSupport;
+import io.lettuce.core.cluster.SlotHash;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [DOCUMENT_009 ~ DOCUMENT_011] 결재함 인덱스 (결재자별 hash tag)
+ *
+ * <P>1) 결재 차례 반영은 결재자마다 적용되고, 낮은 버전은 무시된다</P>
+ * <P>2) 결재자 1명의 키는 모두 같은 slot 이다</P>
+ * <P>3) 재구성은 이전 형식 미열람 표시를 옮기고 이전 형식 키를 지운다</P>
+ * <P>4) 재구성 중(DB 조회 ~ 교체) 반영된 결재 차례 변경은 교체 후에도 유지되고, 교체 후 늦게 온 낮은 버전은 무시된다</P>
+ * */
+class ApprovalInboxStoreTest extends IntegrationTestSupport {
+
+    // 실제 문서 / 직원과 겹치지 않는 번호 (인덱스만 다룸)
+    private static final long DOC_ID = 990_001L;
+    private static final long FIRST = 990_101L;
+    private static final long SECOND = 990_102L;
+
+    @Autowired private ApprovalInboxStore approvalInboxStore;
+    @Autowired private StringRedisTemplate stringRedisTemplate;
+
+    @Test
+    void applyMovesPendingBetweenApproversInVersionOrder() {
+        List<Long> approvers = List.of(FIRST, SECOND);
+        assertThat(approvalInboxStore.apply(DOC_ID, 1, approvers, FIRST, 1_000)).isTrue();
+        assertThat(approvalInboxStore.apply(DOC_ID, 3, approvers, SECOND, 3_000)).isTrue();
+        // 늦게 도착한 이전 버전 (동시 승인)
+        assertThat(approvalInboxStore.apply(DOC_ID, 2, approvers, FIRST, 2_000)).as("stale version ignored").isFalse();
+
+        assertThat(approvalInboxStore.range(FIRST, 0, 10)).isEmpty();
+        assertThat(approvalInboxStore.range(SECOND, 0, 10)).containsExactly(DOC_ID);
+        assertThat(approvalInboxStore.unreadCount(SECOND)).isEqualTo(1);
+
+        Set<String> keys = stringRedisTemplate.keys("approval:{" + SECOND + "}:*");
+        assertThat(keys).hasSize(3);
+        for (String key : keys) {
+            assertThat(SlotHash.getSlot(key)).as("slot of %s", key)
+                    .isEqualTo(SlotHash.getSlot("approval:{" + SECOND + "}:inbox"));
+        }
+    } // func end
+
+    @Test
+    void rebuildMigratesLegacyUnread() {
+        long empId = 990_201L;
+        stringRedisTemplate.opsForZSet().add("approval:inbox:" + empId, "11", 1);
+        stringRedisTemplate.opsForSet().add("approval:unread:" + empId, "11", "12");
+        assertThat(approvalInboxStore.isBuilt(empId)).isFalse();
+
+        String token = approvalInboxStore.beginRebuild(empId);
+        assertThat(approvalInboxStore.rebuild(empId, token, List.of(pending(11, 1_000, 1), pending(13, 2_000, 1)))).isTrue();
+
+        assertThat(approvalInboxStore.isBuilt(empId)).isTrue();
+        assertThat(approvalInboxStore.range(empId, 0, 10)).containsExactly(11L, 13L);
+        assertThat(approvalInboxStore.unreadCount(empId)).as("only still-pending legacy unread kept").isEqualTo(1);
+        assertThat(stringRedisTemplate.hasKey("approval:inbox:" + empId)).isFalse();
+        assertThat(stringRedisTemplate.hasKey("approval:unread:" + empId)).isFalse();
+    } // func end
+
+    @Test
+    void transitionsDuringRebuildSurviveTheSwap() {
+        long empId = 990_301L;
+        List<Long> approvers = List.of(empId);
+        approvalInboxStore.apply(31, 1, approvers, empId, 1_000);     // 재구성 전부터 결재 대기
+
+        // [1] 재구성 시작 → (DB 조회 : 31 v1 대기 / 32 없음) → 그 사이 31 승인(v2), 32 결재 차례(v4)
+        String token = approvalInboxStore.beginRebuild(empId);
+        List<ApprovalInboxStore.PendingDoc> snapshot = List.of(pending(31, 1_000, 1));
+        approvalInboxStore.apply(31, 2, approvers, null, 2_000);
+        approvalInboxStore.apply(32, 4, approvers, empId, 3_000);
+
+        // [2] 교체 – 재구성 중 반영된 문서는 실시간 결과 유지
+        assertThat(approvalInboxStore.rebuild(empId, token, snapshot)).isTrue();
+        assertThat(approvalInboxStore.range(empId, 0, 10)).containsExactly(32L);
+        assertThat(approvalInboxStore.unreadCount(empId)).isEqualTo(1);
+        assertThat(stringRedisTemplate.hasKey("approval:{" + empId + "}:dirty")).as("dirty set cleared").isFalse();
+    } // func end
+
+    @Test
+    void rebuildRecordsDocVersion() {
+        long empId = 990_401L;
+        String token = approvalInboxStore.beginRebuild(empId);
+        assertThat(approvalInboxStore.rebuild(empId, token, List.of(pending(41, 1_000, 3)))).isTrue();
+
+        // 교체 후 늦게 도착한 이전 버전 (결재 차례가 아니었던 시점)은 무시
+        assertThat(approvalInboxStore.apply(41, 2, List.of(empId), null, 500)).isFalse();
+        assertThat(approvalInboxStore.range(empId, 0, 10)).containsExactly(41L);
+        assertThat(approvalInboxStore.apply(41, 4, List.of(empId), null, 2_000)).isTrue();
+        assertThat(approvalInboxStore.range(empId, 0, 10)).isEmpty();
+    } // func end
+
+    @Test
+    void supersededRebuildDoesNotSwap() {
+        long empId = 990_501L;
+        String first = approvalInboxStore.beginRebuild(empId);
+        String second = approvalInboxStore.beginRebuild(empId);
+        assertThat(approvalInboxStore.rebuild(empId, first, List.of(pending(51, 1_000, 1)))).isFalse();
+        assertThat(approvalInboxStore.isBuilt(empId)).isFalse();
+        assertThat(approvalInboxStore.rebuild(empId, second, List.of(pending(51, 1_000, 1)))).isTrue();
+        assertThat(approvalInboxStore.range(empId, 0, 10)).containsExactly(51L);
+    } // func end
+
+    private static ApprovalInboxStore.PendingDoc pending(long docId, long since, long version) {
+        return new ApprovalInboxStore.PendingDoc(docId, since, version);
+    } // func end
+
+} // class end
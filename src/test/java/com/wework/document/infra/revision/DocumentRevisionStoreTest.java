@@ -0,0 +1,74 @@
+package com.wework.document.infra.revision;
+
+import com.wework.document.dto.request.DocumentSaveRequestDto;
+import com.wework.document.entity.DocumentRevisionEntity;
+import com.wework.document.entity.RevisionKind;
+import com.wework.document.mapper.DocumentRevisionMapper;
+import com.wework.document.repository.DocumentRevisionRepository;
+import com.wework.document.service.DocumentService;
+import com.wework.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 문서 버전 복원 – 스냅샷 주기 경계
+ *
+ * <P>1) (rev - 1) % 주기 == 0 인 버전은 스냅샷, 나머지는 델타로 저장된다</P>
+ * <P>2) 모든 버전이 저장 시점의 본문으로 복원된다 (스냅샷 직전 / 직후 / 마지막 델타 포함)</P>
+ * <P>3) 없는 버전은 거절된다</P>
+ * */
+class DocumentRevisionStoreTest extends IntegrationTestSupport {
+
+    private static final long DRAFTER = 100002L;
+    private static final int INTERVAL = 4;
+
+    @Autowired private DocumentService documentService;
+    @Autowired private DocumentRevisionRepository documentRevisionRepository;
+    @Autowired private DocumentRevisionMapper documentRevisionMapper;
+
+    @Test
+    void reconstructsEveryRevisionAcrossSnapshots() {
+        DocumentRevisionStore store = new DocumentRevisionStore(documentRevisionRepository, documentRevisionMapper, INTERVAL);
+        String first = body(0);
+        long docId = documentService.create(DRAFTER, new DocumentSaveRequestDto("revision", first, List.of(100005L))).docId();
+
+        // [1] 버전 1 (작성) + 2 ~ 11 (본문 일부 수정, 중간에 CRLF / 빈 본문 포함)
+        List<String> contents = new ArrayList<>(List.of(first));
+        for (int rev = 2; rev <= 11; rev++) {
+            String previous = contents.get(contents.size() - 1);
+            String next = rev == 6 ? "" : rev == 8 ? body(rev).replace("\n", "\r\n") : body(rev);
+            assertThat(store.append(docId, "revision", previous, "revision", next, DRAFTER)).isEqualTo(rev);
+            contents.add(next);
+        }
+        assertThat(store.append(docId, "revision", contents.get(10), "revision", contents.get(10), DRAFTER))
+                .as("unchanged content keeps the latest revision").isEqualTo(11);
+
+        // [2] 저장 형식 : 1, 5, 9 는 주기 스냅샷 / 일부만 바뀐 버전은 델타
+        // - 빈 본문 전후(6, 7) / 줄바꿈 방식 변경(8)은 델타가 더 커서 스냅샷이 될 수 있음
+        List<RevisionKind> kinds = documentRevisionRepository.findByDocIdAndRevNoBetweenOrderByRevNo(docId, 1, 11)
+                .stream().map(DocumentRevisionEntity::getKind).toList();
+        for (int rev : new int[]{1, 5, 9}) assertThat(kinds.get(rev - 1)).as("rev %d", rev).isEqualTo(RevisionKind.SNAPSHOT);
+        for (int rev : new int[]{2, 3, 4, 10, 11}) assertThat(kinds.get(rev - 1)).as("rev %d", rev).isEqualTo(RevisionKind.DELTA);
+
+        // [3] 복원
+        for (int rev = 1; rev <= 11; rev++) {
+            assertThat(store.reconstruct(docId, rev).content()).as("rev %d", rev).isEqualTo(contents.get(rev - 1));
+        }
+        assertThatThrownBy(() -> store.reconstruct(docId, 12)).isInstanceOf(IllegalArgumentException.class);
+    } // func end
+
+    private static String body(int rev) {
+        StringBuilder body = new StringBuilder();
+        for (int line = 0; line < 40; line++) {
+            body.append("문단 ").append(line).append(line == rev ? " 수정" : "").append('\n');
+        }
+        return body.toString();
+    } // func end
+
+} // class end
@@ -0,0 +1,78 @@
+package com.wework.document.service;
+
+import com.wework.document.dto.request.ApprovalActionRequestDto;
+import com.wework.document.dto.request.DocumentSaveRequestDto;
+import com.wework.document.dto.response.InboxCountResponseDto;
+import com.wework.document.infra.redis.ApprovalInboxStore;
+import com.wework.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [DOCUMENT_009 / DOCUMENT_010] 결재함 첫 조회 시 DB 기준 구성
+ *
+ * <P>1) "built" 표시가 없는 결재함은 첫 조회 때 DB 기준으로 구성된다</P>
+ * <P>2) 같은 직원의 첫 조회가 동시에 몰려도 모두 DB 와 같은 건수를 받는다 (밀린 조회는 결재선 테이블에서 직접)</P>
+ * <P>3) 구성 후 결재 차례 변경이 인덱스에 이어서 반영된다</P>
+ * */
+class ApprovalInboxServiceTest extends IntegrationTestSupport {
+
+    private static final long DRAFTER = 100002L;
+    private static final long FIRST = 100005L;
+    private static final long SECOND = 100006L;
+    private static final int READERS = 8;
+
+    @Autowired private DocumentService documentService;
+    @Autowired private ApprovalInboxService approvalInboxService;
+    @Autowired private ApprovalInboxStore approvalInboxStore;
+    @Autowired private StringRedisTemplate stringRedisTemplate;
+
+    @Test
+    void firstReadBuildsFromDatabase() throws Exception {
+        // [1] 상신 (인덱스 반영 후 Redis 유실을 흉내 냄)
+        long docId = documentService.create(DRAFTER,
+                new DocumentSaveRequestDto("inbox", "body", List.of(FIRST, SECOND))).docId();
+        documentService.submit(DRAFTER, docId);
+        stringRedisTemplate.delete(List.of("approval:{" + FIRST + "}:inbox", "approval:{" + FIRST + "}:unread",
+                "approval:{" + FIRST + "}:built", "approval:{" + FIRST + "}:docver:" + docId));
+        long expected = approvalInboxService.getCounts(FIRST).pending();
+        stringRedisTemplate.delete("approval:{" + FIRST + "}:built");
+
+        // [2] 동시 첫 조회
+        ExecutorService executor = Executors.newFixedThreadPool(READERS);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<InboxCountResponseDto>> results = new ArrayList<>();
+        for (int i = 0; i < READERS; i++) {
+            results.add(executor.submit(() -> {
+                ready.await();
+                return approvalInboxService.getCounts(FIRST);
+            }));
+        }
+        ready.countDown();
+        for (Future<InboxCountResponseDto> result : results) {
+            assertThat(result.get(1, TimeUnit.MINUTES).pending()).isEqualTo(expected);
+        }
+        executor.shutdown();
+        assertThat(expected).isPositive();
+        assertThat(approvalInboxStore.isBuilt(FIRST)).isTrue();
+        assertThat(approvalInboxService.getInbox(FIRST, 0, 100)).extracting("docId").contains(docId);
+
+        // [3] 승인 → 다음 결재자로 이동
+        long before = approvalInboxService.getCounts(SECOND).pending();
+        documentService.approve(FIRST, docId, new ApprovalActionRequestDto(null, null));
+        assertThat(approvalInboxService.getCounts(FIRST).pending()).isEqualTo(expected - 1);
+        assertThat(approvalInboxService.getCounts(SECOND).pending()).isEqualTo(before + 1);
+    } // func end
+
+} // class end
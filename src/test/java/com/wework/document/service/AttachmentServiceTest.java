@@ -0,0 +1,129 @@
+package com.wework.document.service;
+
+import com.wework.document.infra.storage.ContentAddressedStore;
+import com.wework.document.repository.AttachmentBlobJdbcRepository;
+import com.wework.document.repository.DocumentAttachmentRepository;
+import com.wework.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [DOCUMENT_012] 미참조 blob 정리 vs 같은 내용 업로드
+ *
+ * <P>1) 유예 시간이 지난 미참조 blob 은 행과 파일을 함께 삭제</P>
+ * <P>2) 정리가 파일을 지우는 중 같은 해시 업로드가 오면, 업로드는 정리 커밋까지 대기한 뒤 파일을 다시 저장한다</P>
+ * */
+class AttachmentServiceTest extends IntegrationTestSupport {
+
+    @Autowired private DocumentService documentService;
+    @Autowired private DocumentAttachmentRepository documentAttachmentRepository;
+    @Autowired private AttachmentBlobJdbcRepository attachmentBlobJdbcRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void oldOrphanIsRemoved() throws IOException {
+        BlockingStore store = new BlockingStore(false);
+        String sha256 = storeOrphan(store, "orphan-only");
+
+        service(store).sweepOrphans();
+        assertThat(Files.exists(store.path(sha256))).isFalse();
+        assertThat(blobRows(sha256)).isZero();
+    } // func end
+
+    @Test
+    void uploadDuringSweepKeepsTheFile() throws Exception {
+        BlockingStore store = new BlockingStore(true);
+        byte[] content = "dedup-during-sweep".getBytes(StandardCharsets.UTF_8);
+        String sha256 = storeOrphan(store, "dedup-during-sweep");
+
+        // [1] 정리 : 행 삭제 후 파일 삭제 직전에 멈춤 (트랜잭션 진행 중)
+        CompletableFuture<Void> sweep = CompletableFuture.runAsync(() -> service(store).sweepOrphans());
+        assertThat(store.deleting.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // [2] 같은 내용 업로드 – 참조 갱신이 정리 커밋까지 대기
+        ContentAddressedStore.Upload upload = store.receive(new ByteArrayInputStream(content), 1024);
+        CompletableFuture<Boolean> uploaded = CompletableFuture.supplyAsync(() -> {
+            try {
+                attachmentBlobJdbcRepository.touch(upload.sha256(), upload.size());
+                return store.commit(upload);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(300);
+        assertThat(uploaded).as("touch waits for the sweep transaction").isNotDone();
+
+        // [3] 정리 커밋 → 업로드는 파일이 없으므로 새로 저장
+        store.proceed.countDown();
+        sweep.get(10, TimeUnit.SECONDS);
+        assertThat(uploaded.get(10, TimeUnit.SECONDS)).as("stored again, not deduplicated").isTrue();
+        assertThat(Files.exists(store.path(sha256))).isTrue();
+        assertThat(blobRows(sha256)).isEqualTo(1);
+    } // func end
+
+    private AttachmentService service(ContentAddressedStore store) {
+        return new AttachmentService(documentService, documentAttachmentRepository, attachmentBlobJdbcRepository,
+                store, transactionManager, 1024, 60);
+    } // func end
+
+    /**
+     * 파일 저장 + 유예 시간이 지난 blob 행 (첨부 참조 없음)
+     * */
+    private String storeOrphan(ContentAddressedStore store, String text) throws IOException {
+        ContentAddressedStore.Upload upload = store.receive(
+                new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), 1024);
+        store.commit(upload);
+        jdbcTemplate.update("INSERT INTO attachment_blob (sha256, size_bytes, last_ref_at) "
+                + "VALUES (?, ?, TIMESTAMPADD(DAY, -1, CURRENT_TIMESTAMP))", upload.sha256(), upload.size());
+        return upload.sha256();
+    } // func end
+
+    private int blobRows(String sha256) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attachment_blob WHERE sha256 = ?",
+                Integer.class, sha256);
+    } // func end
+
+    /**
+     * 파일 삭제 직전에 멈출 수 있는 저장소
+     * */
+    private static final class BlockingStore extends ContentAddressedStore {
+
+        private final boolean block;
+        private final CountDownLatch deleting = new CountDownLatch(1);
+        private final CountDownLatch proceed = new CountDownLatch(1);
+
+        BlockingStore(boolean block) throws IOException {
+            super("build/test-data/attachments-sweep");
+            this.block = block;
+        } // func end
+
+        @Override
+        public void delete(String sha256) throws IOException {
+            if (block) {
+                deleting.countDown();
+                try {
+                    if (!proceed.await(10, TimeUnit.SECONDS)) throw new IOException("timed out");
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            super.delete(sha256);
+        } // func end
+
+    } // class end
+
+} // class end
@@ -0,0 +1,68 @@
+package com.wework.document.service;
+
+import com.wework.auth.service.AdminAuthService;
+import com.wework.document.dto.request.DocumentSaveRequestDto;
+import com.wework.global.security.UserPrincipal;
+import com.wework.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [DOCUMENT_016] 검색 권한 – 관리 부서 기준은 기안자의 현재 부서
+ *
+ * <P>1) 상신한 문서는 기안자 부서를 관리하는 직원에게 검색된다</P>
+ * <P>2) 기안자가 부서를 옮기면 이전 부서 관리자에게서는 사라지고 새 부서 관리자에게 검색된다 (건수 포함)</P>
+ * */
+class DocumentSearchServiceTest extends IntegrationTestSupport {
+
+    private static final long DRAFTER = 100008L;        // 개발팀 (200004)
+    private static final long APPROVER = 100009L;
+    private static final long DEV_MANAGER = 100003L;    // 관리 부서 : 200004, 200001
+    private static final long SALES_MANAGER = 100004L;  // 관리 부서 : 200005, 200003
+    private static final long DEV_DEPT = 200004L;
+    private static final long SALES_DEPT = 200005L;
+    private static final String KEYWORD = "deptmovecheck";
+
+    @Autowired private DocumentService documentService;
+    @Autowired private DocumentSearchService documentSearchService;
+    @Autowired private AdminAuthService adminAuthService;
+
+    @Test
+    void managerScopeFollowsDrafterDepartment() throws Exception {
+        long docId = documentService.create(DRAFTER,
+                new DocumentSaveRequestDto(KEYWORD + " 출장 보고", "본문", List.of(APPROVER))).docId();
+        documentService.submit(DRAFTER, docId);
+        awaitHits(() -> hits(DEV_MANAGER), 1);
+        assertThat(hits(SALES_MANAGER)).isZero();
+
+        try {
+            adminAuthService.changeDepartment(DRAFTER, SALES_DEPT);
+            awaitHits(() -> hits(SALES_MANAGER), 1);
+            assertThat(hits(DEV_MANAGER)).as("previous dept manager no longer sees it").isZero();
+            assertThat(hits(APPROVER)).as("approver still sees it").isEqualTo(1);
+        } finally {
+            adminAuthService.changeDepartment(DRAFTER, DEV_DEPT);
+        }
+    } // func end
+
+    private long hits(long empId) {
+        UserPrincipal principal = new UserPrincipal(empId, "search" + empId, "", true,
+                List.of(new SimpleGrantedAuthority("ROLE_MANAGER")));
+        return documentSearchService.search(principal, KEYWORD, null, 0, 10).total();
+    } // func end
+
+    private static void awaitHits(LongSupplier hits, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (hits.getAsLong() != expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(hits.getAsLong()).isEqualTo(expected);
+    } // func end
+
+} // class end
@@ -0,0 +1,22 @@
+package com.wework.global.config;
+
+import com.wework.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스케줄러 스레드 수 – 긴 @Scheduled 작업이 짧은 주기 flush 를 막지 않도록 여러 스레드
+ * */
+class SchedulingConfigTest extends IntegrationTestSupport {
+
+    @Autowired private ThreadPoolTaskScheduler taskScheduler;
+
+    @Test
+    void schedulerHasSeveralThreads() {
+        assertThat(taskScheduler.getScheduledThreadPoolExecutor().getCorePoolSize()).isEqualTo(8);
+    } // func end
+
+} // class end
@@ -0,0 +1,27 @@
+package com.wework.global.config;
+
+import org.apache.catalina.connector.Connector;
+import org.apache.coyote.AbstractProtocol;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tomcat 최대 연결 수 – 스트림 상한 합계보다 커야 API 요청이 들어올 자리가 남는다
+ * */
+class TomcatConfigTest {
+
+    @Test
+    void maxConnectionsCoversStreamCaps() {
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory();
+        new TomcatConfig().tomcatConnectionCustomizer(22000).customize(factory);
+
+        Connector connector = new Connector();
+        factory.getTomcatConnectorCustomizers().forEach(customizer -> customizer.customize(connector));
+        assertThat(((AbstractProtocol<?>) connector.getProtocolHandler()).getMaxConnections())
+                .isEqualTo(22000)
+                .isGreaterThan(10000 + 10000);
+    } // func end
+
+} // class end
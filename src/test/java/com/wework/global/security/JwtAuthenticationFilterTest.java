@@ -0,0 +1,71 @@
+package com.wework.global.security;
+
+import com.wework.auth.infra.token.TokenStore;
+import com.wework.auth.service.AdminAuthService;
+import com.wework.support.IntegrationTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [AUTH_034] 계정 잠금 후 남아 있는 access 토큰
+ *
+ * <P>1) 잠금 전에 발급된 access 토큰은 잠금 즉시 401 (블랙리스트)</P>
+ * <P>2) 블랙리스트에 없는 토큰이라도 계정이 INACTIVE 면 401 (상태 확인)</P>
+ * */
+class JwtAuthenticationFilterTest extends IntegrationTestSupport {
+
+    private static final long EMP_ID = 100006L;
+    private static final String LOGIN_ID = "wk_fin1";
+
+    @Autowired private JwtAuthenticationFilter jwtAuthenticationFilter;
+    @Autowired private JwtTokenProvider jwtTokenProvider;
+    @Autowired private TokenStore tokenStore;
+    @Autowired private AdminAuthService adminAuthService;
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    } // func end
+
+    @Test
+    void lockedAccountIsRejected() throws Exception {
+        String issued = issue();
+        assertThat(filter(issued)).isEqualTo(200);
+
+        try {
+            adminAuthService.lockAccount(EMP_ID);
+            assertThat(filter(issued)).as("token issued before lock").isEqualTo(401);
+            assertThat(filter(jwtTokenProvider.createAccessToken(EMP_ID, LOGIN_ID).token()))
+                    .as("not blacklisted, account inactive").isEqualTo(401);
+        } finally {
+            adminAuthService.unlockAccount(EMP_ID);
+        }
+        assertThat(filter(issue())).isEqualTo(200);
+    } // func end
+
+    private String issue() {
+        JwtTokenProvider.TokenWithMeta access = jwtTokenProvider.createAccessToken(EMP_ID, LOGIN_ID);
+        tokenStore.storeAccessJti(EMP_ID, access.jti(), access.ttlSeconds());
+        return access.token();
+    } // func end
+
+    private int filter(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/account/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        jwtAuthenticationFilter.doFilter(request, response, new MockFilterChain());
+        if (response.getStatus() == 200) {
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        }
+        return response.getStatus();
+    } // func end
+
+} // class end
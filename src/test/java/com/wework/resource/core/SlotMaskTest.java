@@ -0,0 +1,57 @@
+package com.wework.resource.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 15분 슬롯 비트마스크 (word 경계 / 하루 전체 / 빈 구간)
+ * */
+class SlotMaskTest {
+
+    @Test
+    void constants() {
+        assertThat(SlotMask.SLOTS_PER_DAY).isEqualTo(96);
+        assertThat(SlotMask.WORDS_PER_DAY).isEqualTo(2);
+    } // func end
+
+    @Test
+    void rangeInsideFirstWord() {
+        // 09:00 ~ 10:30 = 슬롯 36..41
+        long[] mask = SlotMask.of(SlotMask.slotOf(9 * 60), SlotMask.slotOf(10 * 60 + 30));
+        assertThat(mask[0]).isEqualTo(0b111111L << 36);
+        assertThat(mask[1]).isZero();
+    } // func end
+
+    @Test
+    void rangeAcrossWordBoundary() {
+        // 슬롯 62..65 → word0 bit 62,63 / word1 bit 0,1
+        long[] mask = SlotMask.of(62, 66);
+        assertThat(mask[0]).isEqualTo(0b11L << 62);
+        assertThat(mask[1]).isEqualTo(0b11L);
+    } // func end
+
+    @Test
+    void fullWordAndFullDay() {
+        assertThat(SlotMask.word(0, 0, 64)).isEqualTo(-1L);
+        long[] day = SlotMask.of(0, SlotMask.SLOTS_PER_DAY);
+        assertThat(day[0]).isEqualTo(-1L);
+        assertThat(day[1]).isEqualTo((1L << 32) - 1);
+        assertThat(Long.bitCount(day[0]) + Long.bitCount(day[1])).isEqualTo(SlotMask.SLOTS_PER_DAY);
+    } // func end
+
+    @Test
+    void emptyRange() {
+        assertThat(SlotMask.of(40, 40)).containsExactly(0L, 0L);
+        assertThat(SlotMask.word(1, 10, 20)).as("range outside the word").isZero();
+    } // func end
+
+    @Test
+    void slotOfRoundsDown() {
+        assertThat(SlotMask.slotOf(0)).isZero();
+        assertThat(SlotMask.slotOf(14)).isZero();
+        assertThat(SlotMask.slotOf(15)).isEqualTo(1);
+        assertThat(SlotMask.slotOf(24 * 60)).isEqualTo(SlotMask.SLOTS_PER_DAY);
+    } // func end
+
+} // class end
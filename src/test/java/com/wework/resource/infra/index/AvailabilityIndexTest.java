@@ -0,0 +1,140 @@
+package com.wework.resource.infra.index;
+
+import com.wework.resource.core.SlotMask;
+import com.wework.resource.entity.ResourceEntity;
+import com.wework.resource.entity.ResourceType;
+import com.wework.resource.mapper.ReservationMapper;
+import com.wework.resource.mapper.ReservationRow;
+import com.wework.resource.mapper.ReservationSeriesMapper;
+import com.wework.resource.repository.ResourceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 가용 시간 비트셋 색인 (DB 없이 mapper 를 흉내 냄)
+ *
+ * <P>1) 커밋 후 반영 / 롤백 시 버림</P>
+ * <P>2) 재적재 중 들어온 점유 / 해제가 새 색인에 다시 반영됨</P>
+ * <P>3) 자정을 넘는 예약 / 검색 결과</P>
+ * */
+class AvailabilityIndexTest {
+
+    private static final long RESOURCE_ID = 1L;
+
+    private final ReservationMapper reservationMapper = mock(ReservationMapper.class);
+    private final LocalDate tomorrow = LocalDate.now().plusDays(1);
+    private AvailabilityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        ResourceRepository resourceRepository = mock(ResourceRepository.class);
+        when(resourceRepository.findAll()).thenReturn(List.of(ResourceEntity.builder()
+                .resourceId(RESOURCE_ID).resourceName("A").resourceType(ResourceType.ROOM)
+                .capacity(8).features("").status("ACTIVE").build()));
+        when(reservationMapper.selectAllByPeriod(any(), any())).thenReturn(List.of());
+        index = new AvailabilityIndex(resourceRepository, reservationMapper, mock(ReservationSeriesMapper.class), 7);
+        index.init();
+    } // func end
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    } // func end
+
+    @Test
+    void appliedOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        index.occupy(RESOURCE_ID, at(tomorrow, 9, 0), at(tomorrow, 10, 0));
+        assertThat(busy(tomorrow)).as("not visible before commit").isZero();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        assertThat(busy(tomorrow)).isEqualTo(SlotMask.of(36, 40)[0]);
+    } // func end
+
+    @Test
+    void discardedOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        index.occupy(RESOURCE_ID, at(tomorrow, 9, 0), at(tomorrow, 10, 0));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertThat(busy(tomorrow)).isZero();
+    } // func end
+
+    @Test
+    void changesDuringRebuildAreReplayed() throws Exception {
+        // 재적재가 읽는 DB 상태 : 10:00~11:00 예약 1건 (읽은 직후 취소됨)
+        ReservationRow row = new ReservationRow();
+        row.setResourceId(RESOURCE_ID);
+        row.setStartAt(at(tomorrow, 10, 0));
+        row.setEndAt(at(tomorrow, 11, 0));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        when(reservationMapper.selectAllByPeriod(any(), any())).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                loading.countDown();
+                assertThat(proceed.await(10, TimeUnit.SECONDS)).isTrue();
+            }
+            return List.of(row);
+        });
+
+        Thread rebuild = new Thread(index::rebuild);
+        rebuild.start();
+        assertThat(loading.await(10, TimeUnit.SECONDS)).isTrue();
+        // 재적재가 DB 를 읽은 뒤 커밋된 변경
+        index.release(RESOURCE_ID, at(tomorrow, 10, 0), at(tomorrow, 11, 0));
+        index.occupy(RESOURCE_ID, at(tomorrow, 14, 0), at(tomorrow, 15, 0));
+        proceed.countDown();
+        rebuild.join(10_000);
+
+        assertThat(busy(tomorrow)).as("released slot free, occupied slot busy").isEqualTo(SlotMask.of(56, 60)[0]);
+    } // func end
+
+    @Test
+    void reservationAcrossMidnight() {
+        index.occupy(RESOURCE_ID, at(tomorrow, 23, 0), at(tomorrow.plusDays(1), 1, 0));
+        assertThat(index.busySlots(RESOURCE_ID, tomorrow)[1]).isEqualTo(SlotMask.of(92, 96)[1]);
+        assertThat(index.busySlots(RESOURCE_ID, tomorrow.plusDays(1))[0]).isEqualTo(SlotMask.of(0, 4)[0]);
+    } // func end
+
+    @Test
+    void searchSkipsBusyDates() {
+        index.occupy(RESOURCE_ID, at(tomorrow, 14, 0), at(tomorrow, 15, 0));
+        List<AvailabilityIndex.Match> any = index.search(tomorrow, 2, 14 * 60, 15 * 60, ResourceType.ROOM, 4, Set.of(), false);
+        assertThat(any).hasSize(1);
+        assertThat(any.get(0).freeDates()).containsExactly(tomorrow.plusDays(1));
+        assertThat(index.search(tomorrow, 2, 14 * 60, 15 * 60, null, 0, Set.of(), true)).isEmpty();
+        assertThat(index.search(tomorrow, 2, 15 * 60, 16 * 60, null, 9, Set.of(), false)).as("capacity filter").isEmpty();
+    } // func end
+
+    private long busy(LocalDate date) {
+        return index.busySlots(RESOURCE_ID, date)[0];
+    } // func end
+
+    private static LocalDateTime at(LocalDate date, int hour, int minute) {
+        return date.atTime(LocalTime.of(hour, minute));
+    } // func end
+
+} // class end
@@ -0,0 +1,124 @@
+package com.wework.resource.service;
+
+import com.wework.global.exception.ConflictException;
+import com.wework.global.security.UserPrincipal;
+import com.wework.resource.core.ReservationTimeline;
+import com.wework.resource.dto.request.ReservationCreateRequestDto;
+import com.wework.resource.dto.response.ReservationResponseDto;
+import com.wework.resource.infra.index.ReservationIndex;
+import com.wework.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * [RESOURCE_004~005] 예약 경합 (이중 예약 / 색인-DB 일치)
+ *
+ * <p>회의실 3개의 3시간 구간에 여러 스레드가 무작위 구간(15~60분) 예약과 취소를 동시에 섞어 보낸 뒤
+ * <P>1) 회의실마다 겹치는 예약이 없어야 한다</P>
+ * <P>2) DB 의 예약이 모두 색인에 있고, 색인에는 DB 에 없는 예약이 없어야 한다</P>
+ * */
+class ReservationContentionTest extends IntegrationTestSupport {
+
+    private static final long EMP_ID = 100001L;
+    private static final long[] RESOURCE_IDS = {800001L, 800002L, 800003L};
+    private static final int WINDOW_SLOTS = 12;        // 09:00 ~ 12:00 (15분 × 12)
+    private static final int THREADS = 16;
+    private static final int REQUESTS_PER_THREAD = 60;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationIndex reservationIndex;
+
+    @Test
+    void concurrentReserveAndCancelNeverDoubleBooks() throws Exception {
+        // 다른 테스트와 겹치지 않도록 3주 뒤 화요일
+        LocalDateTime windowStart = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.TUESDAY))
+                .plusWeeks(3).atTime(9, 0);
+        LocalDateTime windowEnd = windowStart.plusMinutes(15L * WINDOW_SLOTS);
+        UserPrincipal principal = new UserPrincipal(EMP_ID, "admin", "", true,
+                List.of(new SimpleGrantedAuthority("ROLE_SUPER_ADMIN")));
+
+        // [1] 예약 70% / 취소 30% 동시 실행 (409 는 정상 경합 결과)
+        Queue<Long> booked = new ConcurrentLinkedQueue<>();
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                ready.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    if (random.nextInt(10) < 3) {
+                        Long reservationId = booked.poll();
+                        if (reservationId != null) {
+                            reservationService.cancel(principal, reservationId);
+                            continue;
+                        }
+                    }
+                    long resourceId = RESOURCE_IDS[random.nextInt(RESOURCE_IDS.length)];
+                    int startSlot = random.nextInt(WINDOW_SLOTS);
+                    int endSlot = Math.min(WINDOW_SLOTS, startSlot + 1 + random.nextInt(4));
+                    try {
+                        ReservationResponseDto response = reservationService.reserve(EMP_ID,
+                                new ReservationCreateRequestDto(resourceId, "contention",
+                                        windowStart.plusMinutes(15L * startSlot),
+                                        windowStart.plusMinutes(15L * endSlot)));
+                        booked.add(response.reservationId());
+                        reserved.incrementAndGet();
+                    } catch (ConflictException e) {
+                        conflicts.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        ready.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);       // 예약/취소 중 예외가 있으면 여기서 실패
+        }
+        executor.shutdown();
+        assertThat(reserved.get()).isPositive();
+        assertThat(conflicts.get()).isPositive();
+
+        for (long resourceId : RESOURCE_IDS) {
+            // [2] 겹침 없음 (DB 기준, 시작순)
+            List<ReservationResponseDto> rows = reservationService.getReservations(resourceId, windowStart, windowEnd);
+            for (int i = 1; i < rows.size(); i++) {
+                assertThat(rows.get(i - 1).endAt())
+                        .as("resource %d : %s overlaps %s", resourceId, rows.get(i - 1), rows.get(i))
+                        .isBeforeOrEqualTo(rows.get(i).startAt());
+            }
+
+            // [3] 색인 = DB
+            List<Long> dbIds = rows.stream().map(ReservationResponseDto::reservationId).sorted().toList();
+            List<Long> indexIds = reservationIndex.withTimeline(resourceId, timeline ->
+                    timeline.overlapping(ReservationTimeline.minuteOf(windowStart), ReservationTimeline.minuteOf(windowEnd))
+                            .stream().map(ReservationTimeline.Booking::reservationId).sorted().toList());
+            assertThat(indexIds).as("resource %d index", resourceId).isEqualTo(dbIds);
+        }
+    } // func end
+
+} // class end
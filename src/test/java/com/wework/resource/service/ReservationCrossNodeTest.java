@@ -0,0 +1,109 @@
+package com.wework.resource.service;
+
+import com.wework.employee.repository.EmployeeRepository;
+import com.wework.global.exception.ConflictException;
+import com.wework.resource.dto.request.ReservationCreateRequestDto;
+import com.wework.resource.dto.request.ReservationSeriesCreateRequestDto;
+import com.wework.resource.entity.RecurrenceFrequency;
+import com.wework.resource.infra.index.AvailabilityIndex;
+import com.wework.resource.infra.index.ReservationIndex;
+import com.wework.resource.mapper.ReservationMapper;
+import com.wework.resource.mapper.ReservationSeriesMapper;
+import com.wework.resource.repository.ReservationJdbcRepository;
+import com.wework.resource.repository.ReservationRepository;
+import com.wework.resource.repository.ReservationSeriesRepository;
+import com.wework.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * [RESOURCE_004 / RESOURCE_011] 노드 간 이중 예약 (단건 ↔ 반복 예약)
+ *
+ * <p>같은 DB 를 쓰는 두 번째 노드(B)를 색인 / 서비스만 따로 만들어 흉내 낸다.
+ * 두 노드 모두 색인을 적재한 뒤 A 가 예약하면 B 의 색인은 낡은 상태가 되고,
+ * B 가 겹치는 예약을 요청했을 때 설비 행 잠금 + 예약 버전 확인으로 409 가 나야 한다.
+ * (반복 예약은 reservation_slot 행이 없으므로 슬롯 PK 로는 막히지 않는 경우)
+ * */
+class ReservationCrossNodeTest extends IntegrationTestSupport {
+
+    private static final long EMP_ID = 100001L;
+    private static final long RESOURCE_ID = 800002L;
+
+    @Autowired private ReservationService reservationService;
+    @Autowired private ReservationSeriesService reservationSeriesService;
+    @Autowired private ResourceService resourceService;
+    @Autowired private AvailabilityIndex availabilityIndex;
+    @Autowired private ReservationRepository reservationRepository;
+    @Autowired private ReservationSeriesRepository reservationSeriesRepository;
+    @Autowired private ReservationJdbcRepository reservationJdbcRepository;
+    @Autowired private ReservationMapper reservationMapper;
+    @Autowired private ReservationSeriesMapper reservationSeriesMapper;
+    @Autowired private EmployeeRepository employeeRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private ReservationService reservationServiceB;
+    private ReservationSeriesService reservationSeriesServiceB;
+    // 다른 테스트와 겹치지 않도록 5주 뒤 수요일부터 4회
+    private final LocalDate firstDate = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.WEDNESDAY)).plusWeeks(5);
+
+    @BeforeEach
+    void createNodeB() {
+        ReservationIndex indexB = new ReservationIndex(reservationMapper, reservationSeriesMapper,
+                reservationJdbcRepository, transactionManager, 64);
+        reservationServiceB = new ReservationService(resourceService, indexB, availabilityIndex,
+                reservationRepository, reservationJdbcRepository, reservationMapper, 10080);
+        reservationSeriesServiceB = new ReservationSeriesService(resourceService, indexB, availabilityIndex,
+                reservationSeriesRepository, reservationJdbcRepository, employeeRepository, 366);
+
+        // 두 노드 모두 색인 적재 (이후 A 의 변경은 B 색인에 없음)
+        reservationService.getReservations(RESOURCE_ID, firstDate.atStartOfDay(), firstDate.plusDays(1).atStartOfDay());
+        reservationServiceB.getReservations(RESOURCE_ID, firstDate.atStartOfDay(), firstDate.plusDays(1).atStartOfDay());
+    } // func end
+
+    @Test
+    void seriesOnOtherNodeCannotOverlapSingle() {
+        LocalDate date = firstDate.plusWeeks(2);
+        reservationService.reserve(EMP_ID, single(date, LocalTime.of(13, 0), LocalTime.of(14, 0)));
+
+        assertThatThrownBy(() -> reservationSeriesServiceB.reserve(EMP_ID,
+                series(LocalTime.of(13, 30), LocalTime.of(14, 30))))
+                .isInstanceOf(ConflictException.class);
+    } // func end
+
+    @Test
+    void singleOnOtherNodeCannotOverlapSeries() {
+        reservationSeriesService.reserve(EMP_ID, series(LocalTime.of(15, 0), LocalTime.of(16, 0)));
+
+        assertThatThrownBy(() -> reservationServiceB.reserve(EMP_ID,
+                single(firstDate.plusWeeks(1), LocalTime.of(15, 15), LocalTime.of(15, 45))))
+                .isInstanceOf(ConflictException.class);
+    } // func end
+
+    @Test
+    void seriesOnOtherNodeCannotOverlapSeries() {
+        reservationSeriesService.reserve(EMP_ID, series(LocalTime.of(17, 0), LocalTime.of(18, 0)));
+
+        assertThatThrownBy(() -> reservationSeriesServiceB.reserve(EMP_ID,
+                series(LocalTime.of(17, 45), LocalTime.of(18, 30))))
+                .isInstanceOf(ConflictException.class);
+    } // func end
+
+    private ReservationCreateRequestDto single(LocalDate date, LocalTime startTime, LocalTime endTime) {
+        return new ReservationCreateRequestDto(RESOURCE_ID, "node-a", date.atTime(startTime), date.atTime(endTime));
+    } // func end
+
+    private ReservationSeriesCreateRequestDto series(LocalTime startTime, LocalTime endTime) {
+        return new ReservationSeriesCreateRequestDto(RESOURCE_ID, "series", RecurrenceFrequency.WEEKLY,
+                firstDate, firstDate.plusWeeks(3), startTime, endTime);
+    } // func end
+
+} // class end
@@ -0,0 +1,58 @@
+package com.wework.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+
+/**
+ * 통합 테스트 공통 (애플리케이션 전체 기동 – H2 + 내장 Redis, test 프로필)
+ *
+ * <p>내장 Redis 는 테스트 JVM 당 1개를 빈 포트로 띄우고 JVM 종료 시 내린다.
+ * 설정이 같은 테스트끼리는 Spring 컨텍스트도 캐시되어 한 번만 기동된다.
+ * */
+@SpringBootTest
+@ActiveProfiles("test")
+public abstract class IntegrationTestSupport {
+
+    private static final int REDIS_PORT = startRedis();
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.port", () -> REDIS_PORT);
+    } // func end
+
+    /**
+     * 내장 Redis 포트 (Redis 를 직접 다루는 테스트용)
+     * */
+    protected static int redisPort() {
+        return REDIS_PORT;
+    } // func end
+
+    private static int startRedis() {
+        try {
+            int port;
+            try (ServerSocket socket = new ServerSocket(0)) {
+                port = socket.getLocalPort();
+            }
+            RedisServer server = new RedisServer(port);
+            server.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    server.stop();
+                } catch (IOException ignored) {
+                    // JVM 종료 중
+                }
+            }));
+            return port;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Embedded Redis start failed", e);
+        }
+    } // func end
+
+} // class end